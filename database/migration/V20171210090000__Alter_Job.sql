@@ -0,0 +1,7 @@
+ALTER TABLE job
+  ADD COLUMN job_params VARCHAR(4000) NULL AFTER job_status,
+  ADD COLUMN lease_owner VARCHAR(100) NULL AFTER job_params,
+  ADD COLUMN lease_expire_dt_tm DATETIME NULL AFTER lease_owner;
+
+CREATE INDEX job_idx1 ON job (job_type, job_status);
+CREATE INDEX job_detail_idx1 ON job_detail (job_id, job_status);
@@ -0,0 +1,46 @@
+CREATE OR REPLACE VIEW _base_membership_summary AS
+  SELECT ms.membership_id
+    ,COALESCE(m.company_name, CONCAT_WS(', ', p.name_last, p.name_first)) AS membership_name
+    ,ms.entity_type_cd
+    ,m.member_id
+    ,mt.member_type_id
+    ,mt.member_type_meaning
+    ,m.company_name
+    ,ms.next_due_dt
+    ,m.owner_ident
+    ,m.greeting
+    ,m.in_care_of
+    ,p.title_cd
+    ,cv.codevalue_meaning AS title_meaning
+    ,cv.codevalue_display AS title_display
+    ,p.name_last
+    ,p.name_middle
+    ,p.name_first
+    ,NULLIF(CONCAT_WS(' ', p.name_first, p.name_last), '') AS name_full
+    ,m.join_dt
+    ,ms.close_reason_id
+    ,ms.close_reason_txt
+    ,ms.close_dt_tm
+    ,ms.active_ind
+    ,ms.updt_cnt AS membership_updt_cnt
+    ,ms.incremental_dues
+    ,(COALESCE((SELECT SUM(mt2.dues_amount)
+                  FROM member m2
+                      ,member_type mt2
+                 WHERE m2.membership_id = ms.membership_id
+                   AND m2.active_ind = 1
+                   AND mt2.prev_member_type_id = m2.member_type_id
+                   AND mt2.active_ind = 1
+                   AND mt2.beg_eff_dt <= NOW()
+                   AND (mt2.end_eff_dt IS NULL OR mt2.end_eff_dt >= NOW())), 0)
+      + COALESCE(ms.incremental_dues, 0)) AS calculated_dues
+    ,mb.balance
+    ,mb.last_payment_dt
+  FROM membership ms
+    INNER JOIN member m        ON (m.membership_id = ms.membership_id AND m.active_ind = 1)
+    INNER JOIN member_type mt  ON (mt.prev_member_type_id = m.member_type_id
+                                   AND mt.primary_ind = 1 AND mt.active_ind = 1
+                                   AND mt.beg_eff_dt <= NOW() AND (mt.end_eff_dt IS NULL OR mt.end_eff_dt >= NOW()))
+    LEFT OUTER JOIN person p   ON (p.person_id = m.person_id AND p.active_ind = 1)
+    LEFT OUTER JOIN codevalue cv ON (cv.codevalue_id = p.title_cd)
+    LEFT OUTER JOIN membership_balance mb ON (mb.membership_id = ms.membership_id);
@@ -0,0 +1,34 @@
+CREATE TABLE invoice_settlement (
+  transaction_id         BIGINT UNSIGNED NOT NULL,
+  membership_id          BIGINT UNSIGNED NOT NULL,
+  invoice_amount         DECIMAL(10,2) NOT NULL,
+  paid_amount            DECIMAL(10,2) NOT NULL,
+  open_ind               BOOLEAN NOT NULL,
+  updt_dt_tm             DATETIME NOT NULL,
+  CONSTRAINT invoice_settlement_pk PRIMARY KEY (transaction_id),
+  CONSTRAINT invoice_settlement_fk1 FOREIGN KEY (transaction_id) REFERENCES transaction (transaction_id),
+  CONSTRAINT invoice_settlement_fk2 FOREIGN KEY (membership_id) REFERENCES membership (membership_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX invoice_settlement_idx1 ON invoice_settlement (open_ind, membership_id);
+
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm)
+     SELECT iq.transaction_id
+           ,iq.membership_id
+           ,iq.invoice_amount
+           ,iq.paid_amount
+           ,CASE WHEN ABS(iq.invoice_amount) <> ABS(iq.paid_amount) THEN TRUE ELSE FALSE END
+           ,CURRENT_TIMESTAMP
+       FROM (SELECT t.transaction_id
+                   ,t.membership_id
+                   ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                                FROM transaction_entry te
+                               WHERE te.transaction_id = t.transaction_id
+                                 AND te.active_ind = 1), 0) AS invoice_amount
+                   ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                                FROM transaction_entry te
+                               WHERE te.related_transaction_id = t.transaction_id
+                                 AND te.active_ind = 1), 0) AS paid_amount
+               FROM transaction t
+              WHERE t.transaction_type_flag = 0
+                AND t.active_ind = 1) iq;
@@ -24,48 +24,23 @@ CREATE OR REPLACE VIEW _base_membership_summary AS
     ,ms.active_ind
     ,ms.updt_cnt AS membership_updt_cnt
     ,ms.incremental_dues
-    ,(COALESCE(SUM(mt2.dues_amount), 0) + COALESCE(ms.incremental_dues, 0)) AS calculated_dues
-    ,(SELECT SUM(te.transaction_entry_amount) AS balance
-      FROM transaction t
-        ,transaction_entry te
-      WHERE t.membership_id = ms.membership_id
-            AND t.active_ind = 1
-            AND te.transaction_id = t.transaction_id
-            AND te.transaction_entry_type_cd NOT IN (SELECT cv.codevalue_id FROM codevalue cv WHERE cv.codeset_id = 8 AND cv.codevalue_meaning = 'TRANS_SPECIAL_FUNDS')
-            AND te.active_ind = 1) AS balance
-    ,(SELECT MAX(t.transaction_dt) AS last_payment_dt
-      FROM transaction t
-      WHERE t.membership_id = ms.membership_id
-            AND t.transaction_type_flag = 1
-            AND t.active_ind = 1) AS last_payment_dt
+    ,(COALESCE((SELECT SUM(mt2.dues_amount)
+                  FROM member m2
+                      ,member_type mt2
+                 WHERE m2.membership_id = ms.membership_id
+                   AND m2.active_ind = 1
+                   AND mt2.prev_member_type_id = m2.member_type_id
+                   AND mt2.active_ind = 1
+                   AND mt2.beg_eff_dt <= NOW()
+                   AND (mt2.end_eff_dt IS NULL OR mt2.end_eff_dt >= NOW())), 0)
+      + COALESCE(ms.incremental_dues, 0)) AS calculated_dues
+    ,mb.balance
+    ,mb.last_payment_dt
   FROM membership ms
     INNER JOIN member m        ON (m.membership_id = ms.membership_id AND m.active_ind = 1)
     INNER JOIN member_type mt  ON (mt.prev_member_type_id = m.member_type_id
                                    AND mt.primary_ind = 1 AND mt.active_ind = 1
-                                   AND mt.beg_eff_dt < NOW() AND (mt.end_eff_dt IS NULL OR mt.end_eff_dt > NOW()))
-    INNER JOIN member m2       ON (m2.membership_id = ms.membership_id AND m2.active_ind = 1)
-    INNER JOIN member_type mt2 ON (mt2.prev_member_type_id = m2.member_type_id AND mt2.active_ind = 1
-                                   AND mt2.beg_eff_dt < NOW() AND (mt2.end_eff_dt IS NULL OR mt2.end_eff_dt > NOW()))
+                                   AND mt.beg_eff_dt <= NOW() AND (mt.end_eff_dt IS NULL OR mt.end_eff_dt >= NOW()))
     LEFT OUTER JOIN person p   ON (p.person_id = m.person_id AND p.active_ind = 1)
     LEFT OUTER JOIN codevalue cv ON (cv.codevalue_id = p.title_cd)
-  GROUP BY membership_id
-    ,membership_name
-    ,entity_type_cd
-    ,member_id
-    ,member_type_id
-    ,company_name
-    ,owner_ident
-    ,greeting
-    ,in_care_of
-    ,title_cd
-    ,name_last
-    ,name_middle
-    ,name_first
-    ,next_due_dt
-    ,join_dt
-    ,close_reason_id
-    ,close_reason_txt
-    ,close_dt_tm
-    ,active_ind
-    ,incremental_dues
-    ,membership_updt_cnt;
+    LEFT OUTER JOIN membership_balance mb ON (mb.membership_id = ms.membership_id);
@@ -0,0 +1,59 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.cagst.swkroa.internal.StatementDialect;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Generates a {@link SyntheticAssociation} into an existing database (one migrated to the current schema and holding
+ * its reference data), either directly or as CSV files to bulk-load into it, such as:
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar com.cagst.swkroa.benchmark.AssociationGenerator \
+ *     --url=jdbc:mysql://localhost/swkroa --username=swkroa --password=... \
+ *     --memberships=100000 --seed=1 [--dialect=MYSQL] [--csv=target/association]
+ * </pre>
+ *
+ * @author Craig Gaskill
+ */
+public final class AssociationGenerator {
+  private AssociationGenerator() {
+  }
+
+  public static void main(final String[] args) throws IOException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Invalid argument [" + arg + "], expected --name=value");
+      }
+
+      options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+    }
+
+    if (!options.containsKey("url")) {
+      throw new IllegalArgumentException("The --url of the database is required");
+    }
+
+    DataSource dataSource = new DriverManagerDataSource(
+        options.get("url"),
+        options.getOrDefault("username", ""),
+        options.getOrDefault("password", ""));
+
+    SyntheticAssociation association = new SyntheticAssociation(
+        Integer.parseInt(options.getOrDefault("memberships", "100000")),
+        Integer.parseInt(options.getOrDefault("members", "2")),
+        Integer.parseInt(options.getOrDefault("transactions", "5")),
+        Long.parseLong(options.getOrDefault("seed", "1")));
+
+    if (options.containsKey("csv")) {
+      association.writeCsv(dataSource, new File(options.get("csv")));
+    } else {
+      association.populate(dataSource, StatementDialect.valueOf(options.getOrDefault("dialect", "MYSQL")));
+    }
+  }
+}
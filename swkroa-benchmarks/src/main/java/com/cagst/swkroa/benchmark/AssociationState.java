@@ -0,0 +1,114 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.lang.reflect.Constructor;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.StatementDialect;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * The (in-memory) {@link SyntheticAssociation} shared by the benchmarks of a trial, sized by the {@code memberships},
+ * {@code membersPerMembership} and {@code transactionsPerMembership} parameters.
+ *
+ * @author Craig Gaskill
+ */
+@State(Scope.Benchmark)
+public class AssociationState {
+  private static final long SEED = 20171231L;
+  private static final AtomicInteger DATABASE_SEQ = new AtomicInteger();
+
+  @Param("1000")
+  public int memberships;
+
+  @Param("2")
+  public int membersPerMembership;
+
+  @Param("5")
+  public int transactionsPerMembership;
+
+  private DataSource dataSource;
+  private CodeValueRepository codeValueRepo;
+
+  @Setup(Level.Trial)
+  public void setUp() throws ReflectiveOperationException {
+    SyntheticAssociation association =
+        new SyntheticAssociation(memberships, membersPerMembership, transactionsPerMembership, SEED);
+
+    dataSource = association.create("benchmark" + DATABASE_SEQ.incrementAndGet());
+
+    // the code value repository is package-private, it is normally only created by Spring
+    Constructor<?> ctor = Class.forName("com.cagst.swkroa.codevalue.CodeValueRepositoryJdbc")
+        .getDeclaredConstructor(DataSource.class);
+    ctor.setAccessible(true);
+
+    BaseRepositoryJdbc repo = (BaseRepositoryJdbc) ctor.newInstance(dataSource);
+    repo.setStatementDialect(StatementDialect.HSQLDB);
+    codeValueRepo = (CodeValueRepository) repo;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    new JdbcTemplate(dataSource).execute("SHUTDOWN");
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  public CodeValueRepository getCodeValueRepository() {
+    return codeValueRepo;
+  }
+
+  /**
+   * Executes the query and caches its results in memory, so mapping them can be measured without the database.
+   *
+   * @param sql
+   *     The SQL statement to execute.
+   * @param params
+   *     The parameters of the statement.
+   *
+   * @return A {@link CachedRowSet} holding the results of the query.
+   */
+  public CachedRowSet query(final String sql, final SqlParameterSource params) {
+    return new NamedParameterJdbcTemplate(dataSource).query(sql, params, rs -> {
+      CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+      rowSet.populate(rs);
+
+      // the cached results find columns by name rather than label, but the mappers use the labels (aliases)
+      RowSetMetaDataImpl metaData = (RowSetMetaDataImpl) rowSet.getMetaData();
+      for (int idx = 1; idx <= metaData.getColumnCount(); idx++) {
+        metaData.setColumnName(idx, metaData.getColumnLabel(idx));
+      }
+
+      return rowSet;
+    });
+  }
+
+  /**
+   * Rewinds the cached results so they can be mapped again.
+   *
+   * @param rowSet
+   *     The {@link CachedRowSet} to rewind.
+   *
+   * @return The (rewound) {@link CachedRowSet}.
+   */
+  public static CachedRowSet rewind(final CachedRowSet rowSet) throws SQLException {
+    rowSet.beforeFirst();
+    return rowSet;
+  }
+}
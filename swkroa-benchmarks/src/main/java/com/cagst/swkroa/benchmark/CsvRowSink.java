@@ -0,0 +1,116 @@
+package com.cagst.swkroa.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link RowSink} that writes the rows of each table into a CSV file ({@code <table>.csv}) of a directory, along with
+ * a {@code load.sql} script that bulk-loads them into MySQL (using {@code LOAD DATA LOCAL INFILE}) and then executes
+ * the final statements (such as rebuilding the tables derived from the loaded ones).
+ *
+ * @author Craig Gaskill
+ */
+public final class CsvRowSink implements RowSink {
+  private static final String NULL = "\\N";
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final File directory;
+  private final List<String> finalStatements;
+  private final Map<String, Writer> writers = new LinkedHashMap<>();
+  private final Map<String, String[]> columnsByTable = new LinkedHashMap<>();
+
+  /**
+   * Primary Constructor used to create an instance of <i>CsvRowSink</i>.
+   *
+   * @param directory
+   *     The directory to write the CSV files (and load script) into, it is created if it doesn't exist.
+   * @param finalStatements
+   *     The statements the load script executes once every file has been loaded.
+   *
+   * @throws IOException
+   *     When the directory could not be created.
+   */
+  public CsvRowSink(final File directory, final List<String> finalStatements) throws IOException {
+    Assert.notNull(directory, "Argument [directory] cannot be null");
+    Assert.notNull(finalStatements, "Argument [finalStatements] cannot be null");
+
+    this.directory = directory;
+    this.finalStatements = finalStatements;
+    Files.createDirectories(directory.toPath());
+  }
+
+  @Override
+  public void write(final String table, final String[] columns, final List<Object[]> rows) throws IOException {
+    Writer writer = writers.get(table);
+    if (writer == null) {
+      writer = Files.newBufferedWriter(new File(directory, table + ".csv").toPath(), StandardCharsets.UTF_8);
+      writers.put(table, writer);
+      columnsByTable.put(table, columns);
+    }
+
+    for (Object[] row : rows) {
+      for (int idx = 0; idx < row.length; idx++) {
+        if (idx > 0) {
+          writer.write(',');
+        }
+
+        writer.write(format(row[idx]));
+      }
+
+      writer.write('\n');
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (Writer writer : writers.values()) {
+      writer.close();
+    }
+
+    try (BufferedWriter script = Files.newBufferedWriter(new File(directory, "load.sql").toPath(), StandardCharsets.UTF_8)) {
+      script.write("SET FOREIGN_KEY_CHECKS = 0;\n\n");
+
+      for (Map.Entry<String, String[]> entry : columnsByTable.entrySet()) {
+        script.write("LOAD DATA LOCAL INFILE '" + entry.getKey() + ".csv' INTO TABLE " + entry.getKey() + "\n");
+        script.write("  FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\'\n");
+        script.write("  LINES TERMINATED BY '\\n'\n");
+        script.write("  (" + StringUtils.arrayToCommaDelimitedString(entry.getValue()) + ");\n\n");
+      }
+
+      script.write("SET FOREIGN_KEY_CHECKS = 1;\n");
+
+      for (String statement : finalStatements) {
+        script.write("\n" + statement.trim() + ";\n");
+      }
+    }
+  }
+
+  private static String format(final Object value) {
+    if (value == null) {
+      return NULL;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? "1" : "0";
+    } else if (value instanceof Timestamp) {
+      return TIMESTAMP_FORMAT.format(((Timestamp) value).toLocalDateTime());
+    } else if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).toPlainString();
+    } else if (value instanceof String) {
+      return '"' + ((String) value).replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    } else {
+      return value.toString();
+    }
+  }
+}
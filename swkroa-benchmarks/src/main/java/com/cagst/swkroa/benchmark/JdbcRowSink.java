@@ -0,0 +1,47 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link RowSink} that inserts the rows into a database (as batches), such as an in-memory HSQLDB or a MySQL
+ * database that has been migrated to the current schema.
+ *
+ * @author Craig Gaskill
+ */
+public final class JdbcRowSink implements RowSink {
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Primary Constructor used to create an instance of <i>JdbcRowSink</i>.
+   *
+   * @param dataSource
+   *     The {@link DataSource} of the database to insert the rows into.
+   */
+  public JdbcRowSink(final DataSource dataSource) {
+    Assert.notNull(dataSource, "Argument [dataSource] cannot be null");
+
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @Override
+  public void write(final String table, final String[] columns, final List<Object[]> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    String sql = "INSERT INTO " + table + " (" + StringUtils.arrayToCommaDelimitedString(columns) + ") VALUES (" +
+        StringUtils.collectionToCommaDelimitedString(Collections.nCopies(columns.length, "?")) + ")";
+
+    jdbcTemplate.batchUpdate(sql, rows);
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,111 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * The identifiers of the reference data (code values, member types and counties) the {@link SyntheticAssociation}
+ * refers to, resolved by their meaning from the target database so the same association can be generated for the
+ * test database and a (migrated) MySQL database, whose identifiers and meanings differ slightly.
+ *
+ * @author Craig Gaskill
+ */
+/* package */ final class ReferenceData {
+  private static final String GET_CODEVALUES =
+      "SELECT cv.codevalue_id, cv.codevalue_meaning" +
+      "  FROM codeset cs, codevalue cv" +
+      " WHERE cs.codeset_meaning = ?" +
+      "   AND cs.active_ind = 1" +
+      "   AND cv.codeset_id = cs.codeset_id" +
+      "   AND cv.active_ind = 1" +
+      " ORDER BY cv.codevalue_id";
+
+  private static final String GET_MEMBER_TYPES =
+      "SELECT member_type_id" +
+      "  FROM member_type" +
+      " WHERE member_type_meaning = ?" +
+      "   AND active_ind = 1" +
+      "   AND end_eff_dt IS NULL" +
+      " ORDER BY member_type_id";
+
+  private static final String GET_COUNTIES =
+      "SELECT county_id" +
+      "  FROM county" +
+      " WHERE swkroa_county_ind = 1" +
+      "   AND active_ind = 1" +
+      " ORDER BY county_id";
+
+  /* package */ final long individualEntityType;
+  /* package */ final long homeAddressType;
+  /* package */ final long homePhoneType;
+  /* package */ final long homeEmailType;
+  /* package */ final long baseDuesType;
+  /* package */ final long incrementalDuesType;
+  /* package */ final long renewalDocumentType;
+  /* package */ final long primaryMemberType;
+  /* package */ final long spouseMemberType;
+  /* package */ final long[] counties;
+
+  private ReferenceData(final JdbcTemplate jdbcTemplate) {
+    individualEntityType = codeValue(jdbcTemplate, "ENTITY_TYPE", "INDIVIDUAL");
+    homeAddressType = codeValue(jdbcTemplate, "ADDRESS_TYPE", "HOME");
+    homePhoneType = codeValue(jdbcTemplate, "PHONE_TYPE", "HOME");
+    homeEmailType = codeValue(jdbcTemplate, "EMAIL_TYPE", "HOME");
+    baseDuesType = codeValue(jdbcTemplate, "TRANSACTION_ENTRY_TYPE", "DUES_BASE");
+    incrementalDuesType = codeValue(jdbcTemplate, "TRANSACTION_ENTRY_TYPE", "DUES_INC");
+    renewalDocumentType = codeValue(jdbcTemplate, "DOCUMENT_TYPE", "RENEWAL");
+    primaryMemberType = memberType(jdbcTemplate, "REGULAR");
+    spouseMemberType = memberType(jdbcTemplate, "SPOUSE");
+
+    List<Long> countyUIDs = jdbcTemplate.queryForList(GET_COUNTIES, Long.class);
+    Assert.notEmpty(countyUIDs, "No active SWKROA counties were found");
+
+    counties = new long[countyUIDs.size()];
+    for (int idx = 0; idx < counties.length; idx++) {
+      counties[idx] = countyUIDs.get(idx);
+    }
+  }
+
+  /**
+   * Resolves the reference data from the specified database.
+   *
+   * @param dataSource
+   *     The {@link DataSource} of the database to resolve the reference data from.
+   *
+   * @return The {@link ReferenceData} of the database.
+   */
+  /* package */ static ReferenceData load(final DataSource dataSource) {
+    Assert.notNull(dataSource, "Argument [dataSource] cannot be null");
+
+    return new ReferenceData(new JdbcTemplate(dataSource));
+  }
+
+  /**
+   * Finds the code value whose meaning is (or ends with) the specified meaning, falling back to the first code value
+   * of the code set, or 0 when the code set isn't defined (the test database doesn't define entity types).
+   */
+  private static long codeValue(final JdbcTemplate jdbcTemplate, final String codeSetMeaning, final String meaning) {
+    List<Object[]> codeValues = jdbcTemplate.query(GET_CODEVALUES,
+        (rs, rowNum) -> new Object[] {rs.getLong(1), rs.getString(2)},
+        codeSetMeaning);
+
+    for (Object[] codeValue : codeValues) {
+      String codeValueMeaning = (String) codeValue[1];
+      if (codeValueMeaning.equals(meaning) || codeValueMeaning.endsWith("_" + meaning)) {
+        return (Long) codeValue[0];
+      }
+    }
+
+    return codeValues.isEmpty() ? 0L : (Long) codeValues.get(0)[0];
+  }
+
+  private static long memberType(final JdbcTemplate jdbcTemplate, final String meaning) {
+    List<Long> memberTypeUIDs = jdbcTemplate.queryForList(GET_MEMBER_TYPES, Long.class, meaning);
+    Assert.notEmpty(memberTypeUIDs, "No active member type of [" + meaning + "] was found");
+
+    return memberTypeUIDs.get(0);
+  }
+}
@@ -0,0 +1,28 @@
+package com.cagst.swkroa.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Defines where the rows generated by the {@link SyntheticAssociation} are written. Rows are written a block at a time,
+ * parents before their children.
+ *
+ * @author Craig Gaskill
+ */
+public interface RowSink extends Closeable {
+  /**
+   * Writes the rows into the specified table.
+   *
+   * @param table
+   *     The name of the table to write the rows into.
+   * @param columns
+   *     The names of the columns, in the order of the values of each row.
+   * @param rows
+   *     The rows to write.
+   *
+   * @throws IOException
+   *     When the rows could not be written.
+   */
+  void write(String table, String[] columns, List<Object[]> rows) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.cagst.swkroa.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.transaction.TransactionRepositoryJdbc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures retrieving a (cached) statement from the {@link StatementLoader}, both alone and contended, as every
+ * repository call does.
+ *
+ * @author Craig Gaskill
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StatementLoaderBenchmark {
+  private static final String STATEMENT = "GET_TRANSACTIONS_FOR_MEMBERSHIP";
+
+  @Benchmark
+  public StatementLoader getLoader() {
+    return StatementLoader.getLoader(TransactionRepositoryJdbc.class, StatementDialect.HSQLDB);
+  }
+
+  @Benchmark
+  public String load() {
+    return StatementLoader.getLoader(TransactionRepositoryJdbc.class, StatementDialect.HSQLDB).load(STATEMENT);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String loadContended() {
+    return StatementLoader.getLoader(TransactionRepositoryJdbc.class, StatementDialect.HSQLDB).load(STATEMENT);
+  }
+}
@@ -0,0 +1,413 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.cagst.swkroa.DataSourceFactory;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.transaction.InvoiceSettlementRepositoryJdbc;
+import com.cagst.swkroa.transaction.MembershipBalanceRepositoryJdbc;
+import com.cagst.swkroa.utils.SwkroaStringUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.Assert;
+
+/**
+ * Generates an association of a configurable number of synthetic memberships, each with the same number of members
+ * and transactions, along with their persons, contacts, county holdings, deposits and (invoice) documents.
+ *
+ * The data is generated from a seeded {@link Random}, so the same parameters always produce the same association.
+ * Every synthetic row is identified from {@link #FIRST_UID} up so it never collides with existing data, and it refers
+ * to the reference data (code values, member types and counties) of the database it is generated for.
+ *
+ * The association is generated (and written) a block of memberships at a time, so it can be as large as needed.
+ *
+ * @author Craig Gaskill
+ */
+public final class SyntheticAssociation {
+  /**
+   * The unique identifier of the first synthetic row of each table.
+   */
+  public static final long FIRST_UID = 1_000_000L;
+
+  private static final int BLOCK_SIZE = 1000;
+  private static final int PAYMENTS_PER_DEPOSIT = 25;
+
+  private static final int INVOICE = 0;
+  private static final int PAYMENT = 1;
+
+  // the audit columns of every row, fixed so the same association is generated every time
+  private static final long SYSTEM_USER = 1L;
+  private static final Timestamp CREATED = Timestamp.valueOf("2017-12-31 00:00:00");
+
+  private static final String[] LAST_NAMES = {
+      "Anderson", "Baker", "Carter", "Dunn", "Ellis", "Foster", "Gaskill", "Harper", "Irwin", "Jensen", "Keller",
+      "Lawson", "Mitchell", "Nolan", "O'Brien", "Parker", "Quinn", "Reyes", "Schmidt", "Tobey", "Underwood", "Vance",
+      "Walker", "Young"};
+
+  private static final String[] FIRST_NAMES = {
+      "Amy", "Bill", "Craig", "Dorothy", "Earl", "Frances", "Greg", "Helen", "Ivan", "June", "Karl", "Lois", "Mary",
+      "Ned", "Opal", "Paul", "Ruth", "Sam", "Tess", "Walt"};
+
+  private static final String[] CITIES = {
+      "Hugoton", "Ulysses", "Liberal", "Garden City", "Johnson", "Elkhart", "Satanta", "Sublette", "Moscow", "Rolla"};
+
+  private static final String[] STREETS = {"Main", "Washington", "Jefferson", "Kansas", "Eisenhower", "Grant"};
+
+  private static final String[] PERSON_COLUMNS = {
+      "person_id", "name_last", "name_last_key", "name_first", "name_first_key",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] MEMBERSHIP_COLUMNS = {
+      "membership_id", "entity_type_cd", "next_due_dt",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] MEMBER_COLUMNS = {
+      "member_id", "membership_id", "person_id", "owner_ident", "member_type_id", "join_dt",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] ADDRESS_COLUMNS = {
+      "address_id", "parent_entity_id", "parent_entity_name", "address_type_cd", "address1", "city", "state_code",
+      "country_code", "postal_code", "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] PHONE_COLUMNS = {
+      "phone_id", "parent_entity_id", "parent_entity_name", "phone_type_cd", "phone_number",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] EMAIL_COLUMNS = {
+      "email_id", "parent_entity_id", "parent_entity_name", "email_type_cd", "email_address",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] MEMBERSHIP_COUNTY_COLUMNS = {
+      "membership_county_id", "membership_id", "county_id", "net_mineral_acres", "surface_acres", "voting_ind",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] TRANSACTION_COLUMNS = {
+      "transaction_id", "membership_id", "transaction_dt", "transaction_type_flag", "ref_num",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] TRANSACTION_ENTRY_COLUMNS = {
+      "transaction_entry_id", "transaction_id", "related_transaction_id", "transaction_entry_amount",
+      "transaction_entry_type_cd", "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] DEPOSIT_COLUMNS = {
+      "deposit_id", "deposit_ref", "deposit_dt", "deposit_amount",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] DEPOSIT_TRANSACTION_COLUMNS = {
+      "deposit_transaction_id", "deposit_id", "transaction_id",
+      "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private static final String[] DOCUMENT_COLUMNS = {
+      "document_id", "parent_entity_id", "parent_entity_name", "document_type_cd", "document_name", "document_format",
+      "document_location", "beg_eff_dt", "create_id", "create_dt_tm", "updt_id", "updt_dt_tm"};
+
+  private final int memberships;
+  private final int membersPerMembership;
+  private final int transactionsPerMembership;
+  private final long seed;
+
+  /**
+   * Primary Constructor used to create an instance of <i>SyntheticAssociation</i>.
+   *
+   * @param memberships
+   *     The number of memberships to create.
+   * @param membersPerMembership
+   *     The number of members to create for each membership (the first is its primary member).
+   * @param transactionsPerMembership
+   *     The number of transactions to create for each membership (alternating invoices and payments).
+   * @param seed
+   *     The seed of the data generated.
+   */
+  public SyntheticAssociation(final int memberships,
+                              final int membersPerMembership,
+                              final int transactionsPerMembership,
+                              final long seed) {
+
+    Assert.isTrue(memberships > 0, "Argument [memberships] must be greater than 0");
+    Assert.isTrue(membersPerMembership > 0, "Argument [membersPerMembership] must be greater than 0");
+    Assert.isTrue(transactionsPerMembership >= 0, "Argument [transactionsPerMembership] cannot be negative");
+
+    this.memberships = memberships;
+    this.membersPerMembership = membersPerMembership;
+    this.transactionsPerMembership = transactionsPerMembership;
+    this.seed = seed;
+  }
+
+  /**
+   * Creates a new in-memory (HSQLDB) database from the schema and reference data of the test database (along with the
+   * indexes of the production schema), populated with the association.
+   *
+   * @param databaseName
+   *     The name of the (in-memory) database to create.
+   *
+   * @return The {@link DataSource} of the populated database.
+   */
+  public DataSource create(final String databaseName) {
+    Resource[] resources = {
+        new ClassPathResource("/testDb/schema.sql"),
+        new ClassPathResource("/testDb/views.sql"),
+        new ClassPathResource("/testDb/test_data.sql")
+    };
+
+    DataSource dataSource = new DataSourceFactory(databaseName, resources).getDataSource();
+    new ResourceDatabasePopulator(new ClassPathResource("indexes.sql", getClass())).execute(dataSource);
+    populate(dataSource, StatementDialect.HSQLDB);
+
+    return dataSource;
+  }
+
+  /**
+   * Populates the specified database (which must already hold the reference data) with the association, and rebuilds
+   * the membership balances and invoice settlements of the database.
+   *
+   * @param dataSource
+   *     The {@link DataSource} of the database to populate.
+   * @param dialect
+   *     The {@link StatementDialect} of the database.
+   */
+  public void populate(final DataSource dataSource, final StatementDialect dialect) {
+    Assert.notNull(dataSource, "Argument [dataSource] cannot be null");
+    Assert.notNull(dialect, "Argument [dialect] cannot be null");
+
+    try (RowSink sink = new JdbcRowSink(dataSource)) {
+      generate(ReferenceData.load(dataSource), sink);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+
+    MembershipBalanceRepositoryJdbc balanceRepo = new MembershipBalanceRepositoryJdbc(dataSource);
+    balanceRepo.setStatementDialect(dialect);
+    balanceRepo.rebuildBalances();
+
+    InvoiceSettlementRepositoryJdbc settlementRepo = new InvoiceSettlementRepositoryJdbc(dataSource);
+    settlementRepo.setStatementDialect(dialect);
+    settlementRepo.rebuildSettlements();
+  }
+
+  /**
+   * Writes the association as CSV files (and a MySQL load script) into the specified directory. The load script
+   * rebuilds the membership balances and invoice settlements once the files have been loaded.
+   *
+   * @param referenceSource
+   *     The {@link DataSource} of the database the files will be loaded into, to resolve its reference data.
+   * @param directory
+   *     The directory to write the files into.
+   *
+   * @throws IOException
+   *     When the files could not be written.
+   */
+  public void writeCsv(final DataSource referenceSource, final File directory) throws IOException {
+    StatementLoader balanceLoader =
+        StatementLoader.getLoader(MembershipBalanceRepositoryJdbc.class, StatementDialect.MYSQL);
+    StatementLoader settlementLoader =
+        StatementLoader.getLoader(InvoiceSettlementRepositoryJdbc.class, StatementDialect.MYSQL);
+
+    List<String> rebuildStatements = new ArrayList<>();
+    rebuildStatements.add(balanceLoader.load("DELETE_ALL_MEMBERSHIP_BALANCES"));
+    rebuildStatements.add(balanceLoader.load("INSERT_ALL_MEMBERSHIP_BALANCES"));
+    rebuildStatements.add(settlementLoader.load("DELETE_ALL_INVOICE_SETTLEMENTS"));
+    rebuildStatements.add(settlementLoader.load("INSERT_ALL_INVOICE_SETTLEMENTS"));
+
+    try (RowSink sink = new CsvRowSink(directory, rebuildStatements)) {
+      generate(ReferenceData.load(referenceSource), sink);
+    }
+  }
+
+  private void generate(final ReferenceData ref, final RowSink sink) throws IOException {
+    Random random = new Random(seed);
+    Sequences seq = new Sequences();
+
+    for (int blockStart = 0; blockStart < memberships; blockStart += BLOCK_SIZE) {
+      Block block = new Block();
+
+      for (int idx = blockStart; idx < Math.min(blockStart + BLOCK_SIZE, memberships); idx++) {
+        generateMembership(FIRST_UID + idx, ref, random, seq, block);
+      }
+
+      block.closeDeposit(seq);
+      block.write(sink);
+    }
+  }
+
+  private void generateMembership(final long membershipUID,
+                                  final ReferenceData ref,
+                                  final Random random,
+                                  final Sequences seq,
+                                  final Block block) {
+
+    String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+    block.memberships.add(audited(membershipUID, ref.individualEntityType, date(2015 + random.nextInt(10), random)));
+
+    for (int cnt = 0; cnt < membersPerMembership; cnt++) {
+      long memberUID = seq.member++;
+      String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+
+      block.persons.add(audited(memberUID, lastName, SwkroaStringUtils.normalizeToKey(lastName),
+          firstName, SwkroaStringUtils.normalizeToKey(firstName)));
+      block.members.add(audited(memberUID, membershipUID, memberUID, "SYN" + memberUID,
+          cnt == 0 ? ref.primaryMemberType : ref.spouseMemberType, date(1990 + random.nextInt(25), random)));
+
+      if (cnt == 0) {
+        block.addresses.add(audited(seq.address++, memberUID, "MEMBER", ref.homeAddressType,
+            (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)] + " St",
+            CITIES[random.nextInt(CITIES.length)], "KS", "US", String.valueOf(67800 + random.nextInt(200))));
+        block.phones.add(audited(seq.phone++, memberUID, "MEMBER", ref.homePhoneType,
+            String.format("620%07d", random.nextInt(10_000_000))));
+      }
+
+      if (cnt == 0 || random.nextInt(10) < 6) {
+        block.emails.add(audited(seq.email++, memberUID, "MEMBER", ref.homeEmailType,
+            firstName.toLowerCase() + "." + memberUID + "@example.com"));
+      }
+    }
+
+    int counties = 1 + random.nextInt(Math.min(3, ref.counties.length));
+    int firstCounty = random.nextInt(ref.counties.length);
+    for (int cnt = 0; cnt < counties; cnt++) {
+      block.membershipCounties.add(audited(seq.membershipCounty++, membershipUID,
+          ref.counties[(firstCounty + cnt) % ref.counties.length], 10 + random.nextInt(630), random.nextInt(640),
+          cnt == 0));
+    }
+
+    // alternate invoices and the payments of them, some memberships leave their invoices unpaid
+    long invoiceUID = 0L;
+    BigDecimal invoiceAmount = BigDecimal.ZERO;
+    Date invoiceDate = null;
+    for (int cnt = 0; cnt < transactionsPerMembership; cnt++) {
+      long transactionUID = seq.transaction++;
+
+      if (cnt % 2 == 0) {
+        Date transactionDate = date(2010 + cnt / 2, random);
+        BigDecimal dues = BigDecimal.valueOf(-60);
+        BigDecimal incremental = BigDecimal.valueOf(-5 * random.nextInt(4));
+
+        block.transactions.add(audited(transactionUID, membershipUID, transactionDate, INVOICE, null));
+        block.entries.add(audited(seq.entry++, transactionUID, null, dues, ref.baseDuesType));
+        block.entries.add(audited(seq.entry++, transactionUID, null, incremental, ref.incrementalDuesType));
+        block.documents.add(audited(seq.document++, transactionUID, "TRANSACTION", ref.renewalDocumentType,
+            "Renewal " + transactionUID, "pdf", "renewals/" + transactionUID + ".pdf", transactionDate));
+
+        invoiceUID = transactionUID;
+        invoiceAmount = dues.add(incremental);
+        invoiceDate = transactionDate;
+      } else if (random.nextInt(10) > 0) {
+        Date transactionDate = Date.valueOf(invoiceDate.toLocalDate().plusDays(random.nextInt(60)));
+        block.transactions.add(audited(transactionUID, membershipUID, transactionDate, PAYMENT,
+            String.valueOf(1000 + random.nextInt(9000))));
+        block.entries.add(audited(seq.entry++, transactionUID, invoiceUID, invoiceAmount.negate(), ref.baseDuesType));
+        block.deposit(transactionUID, transactionDate, invoiceAmount.negate(), seq);
+      }
+    }
+  }
+
+  /**
+   * Appends the audit columns (create_id, create_dt_tm, updt_id, updt_dt_tm) to the values of a row.
+   */
+  private static Object[] audited(final Object... values) {
+    Object[] row = new Object[values.length + 4];
+    System.arraycopy(values, 0, row, 0, values.length);
+    row[values.length] = SYSTEM_USER;
+    row[values.length + 1] = CREATED;
+    row[values.length + 2] = SYSTEM_USER;
+    row[values.length + 3] = CREATED;
+
+    return row;
+  }
+
+  private static Date date(final int year, final Random random) {
+    return Date.valueOf(String.format("%d-%02d-%02d", year, 1 + random.nextInt(12), 1 + random.nextInt(28)));
+  }
+
+  /**
+   * The next unique identifier of each (child) table.
+   */
+  private static final class Sequences {
+    private long member = FIRST_UID;
+    private long address = FIRST_UID;
+    private long phone = FIRST_UID;
+    private long email = FIRST_UID;
+    private long membershipCounty = FIRST_UID;
+    private long transaction = FIRST_UID;
+    private long entry = FIRST_UID;
+    private long deposit = FIRST_UID;
+    private long depositTransaction = FIRST_UID;
+    private long document = FIRST_UID;
+  }
+
+  /**
+   * The rows generated for a block of memberships.
+   */
+  private static final class Block {
+    private final List<Object[]> persons = new ArrayList<>();
+    private final List<Object[]> memberships = new ArrayList<>();
+    private final List<Object[]> members = new ArrayList<>();
+    private final List<Object[]> addresses = new ArrayList<>();
+    private final List<Object[]> phones = new ArrayList<>();
+    private final List<Object[]> emails = new ArrayList<>();
+    private final List<Object[]> membershipCounties = new ArrayList<>();
+    private final List<Object[]> transactions = new ArrayList<>();
+    private final List<Object[]> entries = new ArrayList<>();
+    private final List<Object[]> deposits = new ArrayList<>();
+    private final List<Object[]> depositTransactions = new ArrayList<>();
+    private final List<Object[]> documents = new ArrayList<>();
+
+    private final List<Long> pendingPayments = new ArrayList<>();
+    private BigDecimal pendingAmount = BigDecimal.ZERO;
+    private Date pendingDate;
+
+    private void deposit(final long transactionUID, final Date transactionDate, final BigDecimal amount, final Sequences seq) {
+      pendingPayments.add(transactionUID);
+      pendingAmount = pendingAmount.add(amount);
+      if (pendingDate == null || transactionDate.after(pendingDate)) {
+        pendingDate = transactionDate;
+      }
+
+      if (pendingPayments.size() == PAYMENTS_PER_DEPOSIT) {
+        closeDeposit(seq);
+      }
+    }
+
+    private void closeDeposit(final Sequences seq) {
+      if (pendingPayments.isEmpty()) {
+        return;
+      }
+
+      long depositUID = seq.deposit++;
+      deposits.add(audited(depositUID, "DEP" + depositUID, pendingDate, pendingAmount));
+      for (Long transactionUID : pendingPayments) {
+        depositTransactions.add(audited(seq.depositTransaction++, depositUID, transactionUID));
+      }
+
+      pendingPayments.clear();
+      pendingAmount = BigDecimal.ZERO;
+      pendingDate = null;
+    }
+
+    private void write(final RowSink sink) throws IOException {
+      sink.write("person", PERSON_COLUMNS, persons);
+      sink.write("membership", MEMBERSHIP_COLUMNS, memberships);
+      sink.write("member", MEMBER_COLUMNS, members);
+      sink.write("address", ADDRESS_COLUMNS, addresses);
+      sink.write("phone", PHONE_COLUMNS, phones);
+      sink.write("email", EMAIL_COLUMNS, emails);
+      sink.write("membership_county", MEMBERSHIP_COUNTY_COLUMNS, membershipCounties);
+      sink.write("transaction", TRANSACTION_COLUMNS, transactions);
+      sink.write("transaction_entry", TRANSACTION_ENTRY_COLUMNS, entries);
+      sink.write("deposit", DEPOSIT_COLUMNS, deposits);
+      sink.write("deposit_transaction", DEPOSIT_TRANSACTION_COLUMNS, depositTransactions);
+      sink.write("document", DOCUMENT_COLUMNS, documents);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.cagst.swkroa.benchmark;
+
+import javax.sql.rowset.CachedRowSet;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.transaction.InvoiceSettlementRepositoryJdbc;
+import com.cagst.swkroa.transaction.MembershipBalanceRepositoryJdbc;
+import com.cagst.swkroa.transaction.Transaction;
+import com.cagst.swkroa.transaction.TransactionEntry;
+import com.cagst.swkroa.transaction.TransactionListExtractor;
+import com.cagst.swkroa.transaction.TransactionRepositoryJdbc;
+import com.cagst.swkroa.transaction.TransactionType;
+import com.cagst.swkroa.transaction.UnpaidInvoice;
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Measures extracting the {@link Transaction Transactions} of a membership, saving a {@link Transaction} (and the
+ * batch of its entries) and retrieving the unpaid invoices of the association.
+ *
+ * @author Craig Gaskill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TransactionBenchmark {
+  private static final long DUES_ENTRY_TYPE_CD = 8L;
+
+  @Param("10")
+  public int entriesPerTransaction;
+
+  private TransactionRepositoryJdbc transactionRepo;
+  private CachedRowSet transactionRows;
+  private CodeValue duesType;
+  private User user;
+
+  @Setup(Level.Trial)
+  public void setUp(final AssociationState association) {
+    MembershipBalanceRepositoryJdbc balanceRepo = new MembershipBalanceRepositoryJdbc(association.getDataSource());
+    balanceRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    InvoiceSettlementRepositoryJdbc settlementRepo = new InvoiceSettlementRepositoryJdbc(association.getDataSource());
+    settlementRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    transactionRepo = new TransactionRepositoryJdbc(association.getDataSource(), association.getCodeValueRepository(),
+        balanceRepo, settlementRepo);
+    transactionRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    transactionRows = association.query(
+        StatementLoader.getLoader(TransactionRepositoryJdbc.class, StatementDialect.HSQLDB)
+            .load("GET_TRANSACTIONS_FOR_MEMBERSHIP"),
+        new MapSqlParameterSource("membership_id", SyntheticAssociation.FIRST_UID));
+
+    duesType = association.getCodeValueRepository().getCodeValueByUID(DUES_ENTRY_TYPE_CD);
+
+    user = new User();
+    user.setUserUID(1L);
+  }
+
+  @Benchmark
+  public List<Transaction> extractTransactions(final AssociationState association) throws SQLException {
+    return new TransactionListExtractor(association.getCodeValueRepository())
+        .extractData(AssociationState.rewind(transactionRows));
+  }
+
+  @Benchmark
+  public Transaction saveTransaction() {
+    Transaction transaction = new Transaction();
+    transaction.setTransactionDate(new DateTime());
+    transaction.setTransactionType(TransactionType.INVOICE);
+    transaction.setMembershipUID(SyntheticAssociation.FIRST_UID);
+
+    for (int idx = 0; idx < entriesPerTransaction; idx++) {
+      TransactionEntry entry = new TransactionEntry();
+      entry.setTransactionEntryAmount(BigDecimal.valueOf(-5));
+      entry.setTransactionEntryType(duesType);
+      entry.setTransaction(transaction);
+
+      transaction.addEntry(entry);
+    }
+
+    return transactionRepo.saveTransaction(transaction, user);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public List<UnpaidInvoice> getUnpaidInvoices() {
+    return transactionRepo.getUnpaidInvoices();
+  }
+}
@@ -0,0 +1,103 @@
+package com.cagst.swkroa.member;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import com.cagst.swkroa.benchmark.AssociationState;
+import com.cagst.swkroa.benchmark.SyntheticAssociation;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.search.NameSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Measures mapping {@link Membership Memberships} and {@link Member Members} from (cached) results, and the
+ * retrieval of the memberships from the database for comparison.
+ *
+ * @author Craig Gaskill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MapperBenchmark {
+  private static final int PAGE_SIZE = 100;
+
+  private MemberTypeRepository memberTypeRepo;
+  private MembershipRepositoryJdbc membershipRepo;
+
+  private CachedRowSet membershipRows;
+  private CachedRowSet memberRows;
+
+  @Setup(Level.Trial)
+  public void setUp(final AssociationState association) {
+    MemberTypeRepositoryJdbc memberTypeRepo = new MemberTypeRepositoryJdbc(association.getDataSource());
+    memberTypeRepo.setStatementDialect(StatementDialect.HSQLDB);
+    this.memberTypeRepo = memberTypeRepo;
+
+    NameSearchIndex nameIndex = new NameSearchIndex(association.getDataSource());
+    membershipRepo = new MembershipRepositoryJdbc(association.getDataSource(), null,
+        association.getCodeValueRepository(), memberTypeRepo, nameIndex);
+    membershipRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    MapSqlParameterSource membershipParams = new MapSqlParameterSource();
+    membershipParams.addValue("status", Status.ALL.toString());
+    membershipParams.addValue("balance", MembershipBalance.ALL.toString());
+
+    membershipRows = association.query(
+        StatementLoader.getLoader(MembershipRepositoryJdbc.class, StatementDialect.HSQLDB).load("GET_MEMBERSHIPS"),
+        membershipParams);
+
+    Set<Long> memberUIDs = new TreeSet<>();
+    for (long uid = SyntheticAssociation.FIRST_UID; uid < SyntheticAssociation.FIRST_UID + PAGE_SIZE; uid++) {
+      memberUIDs.add(uid);
+    }
+
+    MapSqlParameterSource memberParams = new MapSqlParameterSource();
+    memberParams.addValue("member_ids", memberUIDs);
+    memberParams.addValue("status", Status.ALL.toString());
+    memberParams.addValue("start", 0);
+    memberParams.addValue("limit", PAGE_SIZE);
+
+    memberRows = association.query(
+        StatementLoader.getLoader(MemberRepositoryJdbc.class, StatementDialect.HSQLDB).load("GET_MEMBERS_BY_UIDS"),
+        memberParams);
+  }
+
+  @Benchmark
+  public List<Membership> mapMemberships(final AssociationState association) throws SQLException {
+    MembershipMapper mapper = new MembershipMapper(association.getCodeValueRepository(), memberTypeRepo);
+
+    return new RowMapperResultSetExtractor<>(mapper).extractData(AssociationState.rewind(membershipRows));
+  }
+
+  @Benchmark
+  public List<Member> mapMembers() throws SQLException {
+    MemberMapper mapper = new MemberMapper(memberTypeRepo);
+
+    return new RowMapperResultSetExtractor<>(mapper).extractData(AssociationState.rewind(memberRows));
+  }
+
+  @Benchmark
+  public List<Membership> getMemberships() {
+    return membershipRepo.getMemberships(Status.ALL, MembershipBalance.ALL);
+  }
+}
@@ -0,0 +1,80 @@
+package com.cagst.swkroa.utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.cagst.swkroa.member.MembershipCounty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures normalizing a name into its search key with {@link SwkroaStringUtils#normalizeToKey(String)}, as is done
+ * for every name saved or searched for, and calculating the mineral fees of a membership's counties with the
+ * {@link DefaultMineralUtilities}.
+ *
+ * @author Craig Gaskill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UtilitiesBenchmark {
+  // names as they are entered, with the punctuation, spacing and accents the key is normalized from
+  private static final String[] NAMES = {
+      "Gaskill", "O'Brien", "St. John", "Van  Der Berg", "Smith, Jr.", "M\u00fcller", "Jos\u00e9", "Mary Ellen",
+      "D'Angelo", "Bront\u00eb", "Dunn-Ellis", "McKinley III"};
+
+  // the number of NAMES normalized by each invocation
+  private static final int NAME_COUNT = 12;
+
+  private static final int MAX_MINERAL_ACRES = 2000;
+
+  @Param("3")
+  public int countiesPerMembership;
+
+  private final MineralUtilities mineralUtilities = new DefaultMineralUtilities();
+  private List<MembershipCounty> counties;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42L);
+
+    counties = new ArrayList<>(countiesPerMembership);
+    for (int idx = 0; idx < countiesPerMembership; idx++) {
+      MembershipCounty county = new MembershipCounty();
+      county.setNetMineralAcres(random.nextInt(MAX_MINERAL_ACRES));
+
+      counties.add(county);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NAME_COUNT)
+  public void normalizeToKey(final Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(SwkroaStringUtils.normalizeToKey(name));
+    }
+  }
+
+  @Benchmark
+  public BigDecimal calculateFeesForMembershipCounties() {
+    return mineralUtilities.calculateFeesForMembershipCounties(counties);
+  }
+}
@@ -0,0 +1,13 @@
+-- the indexes of the (MySQL) schema that the test schema doesn't define, so the synthetic association is
+-- retrieved the way it would be in production
+CREATE INDEX person_idx1 ON person (name_last_key);
+CREATE INDEX person_idx2 ON person (name_first_key);
+CREATE INDEX address_idx1 ON address (parent_entity_name, parent_entity_id);
+CREATE INDEX phone_idx1 ON phone (parent_entity_name, parent_entity_id);
+CREATE INDEX email_idx1 ON email (parent_entity_name, parent_entity_id);
+CREATE INDEX member_idx1 ON member (owner_ident);
+CREATE INDEX member_idx3 ON member (membership_id);
+CREATE INDEX member_idx4 ON member (person_id);
+CREATE INDEX transaction_idx1 ON transaction (transaction_dt);
+CREATE INDEX document_idx2 ON document (parent_entity_name, parent_entity_id);
+CREATE INDEX invoice_settlement_idx1 ON invoice_settlement (open_ind, membership_id);
@@ -22,7 +22,8 @@ public class AuditEvent implements Serializable {
   private final DateTime create_dt_tm;
 
   /**
-   * Primary Constructor used to create an instance of a new <i>AuditEvent</i>.
+   * Primary Constructor used to create an instance of a new <i>AuditEvent</i>, timestamped when it is created (rather
+   * than when it is persisted).
    *
    * @param eventType
    *     A {@link AuditEventType} that represents the type of audit event.
@@ -36,11 +37,7 @@ public class AuditEvent implements Serializable {
    *     audit event.
    */
   public AuditEvent(final AuditEventType eventType, final String action, final String instigator, final String message) {
-    this.audit_event_type = eventType;
-    this.audit_action = action;
-    this.audit_instigator = instigator;
-    this.audit_message = message;
-    this.create_dt_tm = null;
+    this(eventType, action, instigator, message, new DateTime());
   }
 
   /**
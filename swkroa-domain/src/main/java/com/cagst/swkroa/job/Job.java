@@ -2,7 +2,9 @@ package com.cagst.swkroa.job;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -20,6 +22,7 @@ public final class Job implements Serializable {
   private JobType jobType;
   private JobStatus jobStatus;
   private long createId;
+  private Map<String, String> parameters = new LinkedHashMap<>();
   private List<JobDetail> jobDetails = new ArrayList<>();
 
   // meta-data
@@ -82,6 +85,25 @@ public final class Job implements Serializable {
     this.createId = userId;
   }
 
+  /**
+   * @return The parameters the Job was submitted with, used to (re)start the Job.
+   */
+  public Map<String, String> getParameters() {
+    return parameters;
+  }
+
+  public void setParameters(final Map<String, String> parameters) {
+    this.parameters = parameters;
+  }
+
+  public String getParameter(final String name) {
+    return parameters.get(name);
+  }
+
+  public void setParameter(final String name, final String value) {
+    parameters.put(name, value);
+  }
+
   public List<JobDetail> getJobDetails() {
     return jobDetails;
   }
@@ -1,5 +1,7 @@
 package com.cagst.swkroa.job;
 
+import java.util.Collection;
+
 /**
  * Defines the available statuses a Job may be in.
  *
@@ -10,5 +12,37 @@ public enum JobStatus {
   INPROCESS,
   SUCCEEDED,
   FAILED,
-  PARTIAL
+  PARTIAL;
+
+  /**
+   * Determines the status of a Job from the status of its {@link JobDetail JobDetails}, regardless of the type of
+   * Job.
+   *
+   * @param jobDetails
+   *    The {@link Collection} of {@link JobDetail JobDetails} of the Job, once they have been processed.
+   *
+   * @return {@link #SUCCEEDED} if every JobDetail succeeded, {@link #FAILED} if none did, {@link #PARTIAL} otherwise.
+   */
+  public static JobStatus of(final Collection<JobDetail> jobDetails) {
+    int succeeded = 0;
+    int failed    = 0;
+
+    for (JobDetail jobDetail : jobDetails) {
+      if (jobDetail.getJobStatus() == SUCCEEDED) {
+        succeeded++;
+      } else {
+        failed++;
+      }
+    }
+
+    if (succeeded == jobDetails.size()) {
+      // if all the JobDetails succeeded, then the Job succeeded
+      return SUCCEEDED;
+    } else if (failed == jobDetails.size()) {
+      // if all the JobDetails failed, then the Job failed
+      return FAILED;
+    } else {
+      return PARTIAL;
+    }
+  }
 }
@@ -0,0 +1,35 @@
+package com.cagst.swkroa.job;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the JobStatus class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class JobStatusTest {
+  /**
+   * Tests the of method.
+   */
+  @Test
+  public void testOf() {
+    List<JobDetail> jobDetails = Arrays.asList(new JobDetail(), new JobDetail());
+    jobDetails.get(0).setJobStatus(JobStatus.FAILED);
+    jobDetails.get(1).setJobStatus(JobStatus.FAILED);
+    assertEquals("Ensure the job failed", JobStatus.FAILED, JobStatus.of(jobDetails));
+
+    jobDetails.get(1).setJobStatus(JobStatus.SUCCEEDED);
+    assertEquals("Ensure the job partially succeeded", JobStatus.PARTIAL, JobStatus.of(jobDetails));
+
+    jobDetails.get(0).setJobStatus(JobStatus.SUCCEEDED);
+    assertEquals("Ensure the job succeeded", JobStatus.SUCCEEDED, JobStatus.of(jobDetails));
+  }
+}
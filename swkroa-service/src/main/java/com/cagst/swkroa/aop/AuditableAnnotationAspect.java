@@ -2,10 +2,13 @@ package com.cagst.swkroa.aop;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.cagst.swkroa.audit.AuditEvent;
-import com.cagst.swkroa.audit.AuditEventRepository;
 import com.cagst.swkroa.audit.AuditEventType;
+import com.cagst.swkroa.audit.AuditEventWriter;
 import com.cagst.swkroa.audit.annotation.AuditInstigator;
 import com.cagst.swkroa.audit.annotation.AuditMessage;
 import com.cagst.swkroa.audit.annotation.Auditable;
@@ -31,16 +34,19 @@ import org.springframework.security.core.context.SecurityContextHolder;
 public final class AuditableAnnotationAspect {
   private static final Logger logger = LoggerFactory.getLogger(AuditableAnnotationAspect.class);
 
-  private final AuditEventRepository auditRepo;
+  private final AuditEventWriter auditWriter;
+
+  // the position of the annotated parameters of each audited method, resolved the first time the method is called
+  private final ConcurrentMap<MethodKey, AuditParameters> auditParameters = new ConcurrentHashMap<>();
 
   /**
-   * Primary Constructor used to create an instance of <i>AuditEventRepository</i>.
+   * Primary Constructor used to create an instance of <i>AuditableAnnotationAspect</i>.
    *
-   * @param auditRepo
-   *     The {@link AuditEventRepository} to use to log {@link AuditEvent AuditEvents}.
+   * @param auditWriter
+   *     The {@link AuditEventWriter} to use to log {@link AuditEvent AuditEvents}.
    */
-  public AuditableAnnotationAspect(final AuditEventRepository auditRepo) {
-    this.auditRepo = auditRepo;
+  public AuditableAnnotationAspect(final AuditEventWriter auditWriter) {
+    this.auditWriter = auditWriter;
   }
 
   /**
@@ -64,33 +70,23 @@ public final class AuditableAnnotationAspect {
     User user = null;
 
     if (joinPoint.getSignature() != null && (joinPoint.getSignature() instanceof MethodSignature)) {
-      MethodSignature sig = (MethodSignature) joinPoint.getSignature();
-      Method method = sig.getMethod();
+      Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
       Object[] objs = joinPoint.getArgs();
 
-      try {
-        Annotation[][] annotations = joinPoint.getTarget().getClass()
-            .getMethod(method.getName(), method.getParameterTypes()).getParameterAnnotations();
-        for (int idx1 = 0; idx1 < annotations.length; idx1++) {
-          Annotation[] paramAnnotations = annotations[idx1];
-
-          for (Annotation paramAnnotation : paramAnnotations) {
-            if (paramAnnotation instanceof AuditInstigator) {
-              if (objs[idx1] instanceof User) {
-                user = (User) objs[idx1];
-                instigator = user.getUsername();
-              } else {
-                instigator = objs[idx1].toString();
-              }
-            } else if (paramAnnotation instanceof AuditMessage) {
-              message = objs[idx1].toString();
-            }
-          }
+      AuditParameters params = auditParameters.computeIfAbsent(
+          new MethodKey(joinPoint.getTarget().getClass(), method), AuditableAnnotationAspect::resolveParameters);
+
+      if (params.instigatorIdx >= 0) {
+        if (objs[params.instigatorIdx] instanceof User) {
+          user = (User) objs[params.instigatorIdx];
+          instigator = user.getUsername();
+        } else {
+          instigator = objs[params.instigatorIdx].toString();
         }
-      } catch (SecurityException e) {
-        e.printStackTrace();
-      } catch (NoSuchMethodException e) {
-        e.printStackTrace();
+      }
+
+      if (params.messageIdx >= 0) {
+        message = objs[params.messageIdx].toString();
       }
     }
 
@@ -115,6 +111,71 @@ public final class AuditableAnnotationAspect {
           "Instigator not found for AuditEvent. Use @AuditInstigator to annotate the instigator.");
     }
 
-    auditRepo.save(new AuditEvent(eventType, action, instigator, StringUtils.isEmpty(message) ? null : message));
+    auditWriter.write(new AuditEvent(eventType, action, instigator, StringUtils.isEmpty(message) ? null : message));
+  }
+
+  /**
+   * Helper method to find the {@link AuditInstigator} and {@link AuditMessage} parameters of the method as it is
+   * declared by the target class.
+   */
+  private static AuditParameters resolveParameters(final MethodKey key) {
+    int instigatorIdx = -1;
+    int messageIdx = -1;
+
+    try {
+      Annotation[][] annotations = key.targetClass
+          .getMethod(key.method.getName(), key.method.getParameterTypes()).getParameterAnnotations();
+      for (int idx1 = 0; idx1 < annotations.length; idx1++) {
+        for (Annotation paramAnnotation : annotations[idx1]) {
+          if (paramAnnotation instanceof AuditInstigator) {
+            instigatorIdx = idx1;
+          } else if (paramAnnotation instanceof AuditMessage) {
+            messageIdx = idx1;
+          }
+        }
+      }
+    } catch (SecurityException | NoSuchMethodException ex) {
+      logger.error("Unable to resolve the audit parameters of [" + key.method + "]", ex);
+    }
+
+    return new AuditParameters(instigatorIdx, messageIdx);
+  }
+
+  private static final class AuditParameters {
+    private final int instigatorIdx;
+    private final int messageIdx;
+
+    private AuditParameters(final int instigatorIdx, final int messageIdx) {
+      this.instigatorIdx = instigatorIdx;
+      this.messageIdx = messageIdx;
+    }
+  }
+
+  private static final class MethodKey {
+    private final Class<?> targetClass;
+    private final Method method;
+
+    private MethodKey(final Class<?> targetClass, final Method method) {
+      this.targetClass = targetClass;
+      this.method = method;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(targetClass, method);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof MethodKey)) {
+        return false;
+      }
+
+      MethodKey rhs = (MethodKey) obj;
+      return targetClass == rhs.targetClass && method.equals(rhs.method);
+    }
   }
 }
@@ -2,6 +2,7 @@ package com.cagst.swkroa.audit;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Date;
 
 import com.cagst.swkroa.util.DateTimeConverter;
 import org.apache.commons.lang3.StringUtils;
@@ -48,6 +49,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
     params.addValue(AUDIT_ACTION, auditEvent.getAuditAction());
     params.addValue(AUDIT_INSTIGATOR, auditEvent.getAuditInstigator());
     params.addValue(AUDIT_MESSAGE, StringUtils.left(auditEvent.getAuditMessage(), 250));
+    params.addValue(CREATE_DT_TM, auditEvent.getCreateDateTime() != null ? auditEvent.getCreateDateTime().toDate() : new Date());
 
     return params;
   }
@@ -22,4 +22,12 @@ public interface AuditEventRepository {
    *     The {@link AuditEvent} to persist.
    */
   void save(final AuditEvent auditEvent);
+
+  /**
+   * Persists the specified {@link AuditEvent AuditEvents} to persistent storage as a single batch.
+   *
+   * @param auditEvents
+   *     The {@link Collection} of {@link AuditEvent AuditEvents} to persist.
+   */
+  void saveAll(final Collection<AuditEvent> auditEvents);
 }
@@ -3,6 +3,7 @@ package com.cagst.swkroa.audit;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.sql.Statement;
 import java.util.Collection;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
@@ -10,6 +11,7 @@ import com.cagst.swkroa.internal.StatementLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -61,4 +63,30 @@ import org.springframework.util.Assert;
       throw new IncorrectResultSizeDataAccessException("Incorrect result size: expected 1, actual " + cnt, 1, cnt);
     }
   }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void saveAll(final Collection<AuditEvent> auditEvents) {
+    Assert.notNull(auditEvents, "Argument [auditEvents] cannot be null");
+
+    logger.info("Calling saveAll for [{}] AuditEvents.", auditEvents.size());
+
+    if (auditEvents.isEmpty()) {
+      return;
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    SqlParameterSource[] params = new SqlParameterSource[auditEvents.size()];
+    int idx = 0;
+    for (AuditEvent auditEvent : auditEvents) {
+      params[idx++] = AuditEventMapper.mapInsertStatement(auditEvent);
+    }
+
+    for (int cnt : getJdbcTemplate().batchUpdate(stmtLoader.load(INSERT_AUDIT_EVENT), params)) {
+      if (cnt != 1 && cnt != Statement.SUCCESS_NO_INFO) {
+        throw new IncorrectResultSizeDataAccessException("Incorrect result size: expected 1, actual " + cnt, 1, cnt);
+      }
+    }
+  }
 }
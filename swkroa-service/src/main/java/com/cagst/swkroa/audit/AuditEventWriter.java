@@ -0,0 +1,141 @@
+package com.cagst.swkroa.audit;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Writes {@link AuditEvent AuditEvents} asynchronously so the action being audited doesn't wait on the audit being
+ * committed.
+ *
+ * Events are placed onto a bounded queue which a background writer drains, at the configured interval, into batch
+ * inserts. If the queue is full the event is written by the caller instead, so events are never dropped. Any events
+ * still queued are written when the application is shut down, and any events that cannot be written to the database
+ * are written to the <i>com.cagst.swkroa.audit.fallback</i> log instead.
+ *
+ * @author Craig Gaskill
+ */
+@Named("auditEventWriter")
+public class AuditEventWriter {
+  private static final Logger logger = LoggerFactory.getLogger(AuditEventWriter.class);
+  private static final Logger fallbackLogger = LoggerFactory.getLogger("com.cagst.swkroa.audit.fallback");
+
+  private static final long SHUTDOWN_TIMEOUT_SECS = 10L;
+
+  private final AuditEventRepository auditRepo;
+  private final BlockingQueue<AuditEvent> queue;
+  private final int batchSize;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile boolean shutdown = false;
+
+  /**
+   * Primary Constructor used to create an instance of <i>AuditEventWriter</i>.
+   *
+   * @param auditRepo
+   *     The {@link AuditEventRepository} to use to persist {@link AuditEvent AuditEvents}.
+   * @param capacity
+   *     The maximum number of {@link AuditEvent AuditEvents} waiting to be written.
+   * @param batchSize
+   *     The maximum number of {@link AuditEvent AuditEvents} written within a single batch.
+   * @param flushInterval
+   *     The number of milliseconds between writes.
+   */
+  @Inject
+  public AuditEventWriter(final AuditEventRepository auditRepo,
+                          @Value("${swkroa.audit.queue.capacity:10000}") final int capacity,
+                          @Value("${swkroa.audit.batch.size:100}") final int batchSize,
+                          @Value("${swkroa.audit.flush.interval.ms:1000}") final long flushInterval) {
+
+    Assert.isTrue(capacity > 0, "Argument [capacity] must be greater than 0");
+    Assert.isTrue(batchSize > 0, "Argument [batchSize] must be greater than 0");
+    Assert.isTrue(flushInterval > 0, "Argument [flushInterval] must be greater than 0");
+
+    this.auditRepo = auditRepo;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("swkroa-audit-%d").setDaemon(true).build());
+
+    this.scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues the specified {@link AuditEvent} to be written.
+   *
+   * @param auditEvent
+   *     The {@link AuditEvent} to write.
+   */
+  public void write(final AuditEvent auditEvent) {
+    Assert.notNull(auditEvent, "Argument [auditEvent] cannot be null");
+
+    if (shutdown || !queue.offer(auditEvent)) {
+      logger.warn("Unable to queue AuditEvent [{}], writing it immediately.", auditEvent);
+
+      save(Collections.singletonList(auditEvent));
+    } else if (shutdown) {
+      // shut down while the event was being queued, so make sure it isn't left behind
+      flush();
+    }
+  }
+
+  /**
+   * Writes all of the queued {@link AuditEvent AuditEvents}.
+   */
+  public synchronized void flush() {
+    List<AuditEvent> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      save(batch);
+      batch = new ArrayList<>(batchSize);
+    }
+  }
+
+  /**
+   * Stops the background writer and writes any {@link AuditEvent AuditEvents} still waiting to be written.
+   */
+  @PreDestroy
+  public void shutdown() {
+    shutdown = true;
+
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS)) {
+        logger.warn("Timed out waiting for the audit writer to stop.");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    flush();
+  }
+
+  /**
+   * Helper method to persist a batch of {@link AuditEvent AuditEvents}, logging them if they can't be persisted.
+   */
+  private void save(final List<AuditEvent> auditEvents) {
+    try {
+      auditRepo.saveAll(auditEvents);
+    } catch (RuntimeException ex) {
+      // never let a failure escape, it would stop the background writer
+      logger.error("Unable to persist [" + auditEvents.size() + "] AuditEvents.", ex);
+
+      for (AuditEvent auditEvent : auditEvents) {
+        fallbackLogger.error("{} at [{}]", auditEvent, auditEvent.getCreateDateTime());
+      }
+    }
+  }
+}
@@ -12,6 +12,9 @@ import org.springframework.stereotype.Repository;
 /**
  * Interface for retrieving / saving {@link CodeSet}s and {@link CodeValue}s from / to persistent storage.
  *
+ * The {@link List Lists} returned are unmodifiable, shared by every caller and already sorted (by display), copy a
+ * List before changing it.
+ *
  * @author Craig Gaskill
  */
 @Repository
@@ -6,12 +6,15 @@ import javax.sql.DataSource;
 import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.ImmutableLongMap;
+import com.cagst.swkroa.internal.ReferenceDataHolder;
 import com.cagst.swkroa.internal.StatementLoader;
 import com.cagst.swkroa.user.User;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Ordering;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -24,22 +27,24 @@ import org.springframework.util.Assert;
 /**
  * JDBC Template implementation of the {@link CodeValueRepository} interface.
  *
+ * Every {@link CodeSet} and {@link CodeValue} is held in an immutable in-memory snapshot, CodeValues are resolved for
+ * nearly every row that is mapped so they are never retrieved one at a time. The snapshot is loaded when it is first
+ * needed and reloaded once a CodeValue that has been saved is committed (or rolled back).
+ *
  * @author Craig Gaskill
  */
 @Named("codeValueRepo")
 /* package */class CodeValueRepositoryJdbc extends BaseRepositoryJdbc implements CodeValueRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(CodeValueRepositoryJdbc.class);
 
-  private static final String GET_CODESET_BY_UID                    = "GET_CODESET_BY_UID";
-  private static final String GET_ACTIVE_CODESETS                   = "GET_ACTIVE_CODESETS";
-  private static final String GET_CODEVALUES_FOR_CODESET            = "GET_CODEVALUES_FOR_CODESET";
-  private static final String GET_CODEVALUES_FOR_CODESET_BY_MEANING = "GET_CODEVALUES_FOR_CODESET_BY_MEANING";
-  private static final String GET_CODEVALUE_BY_UID                  = "GET_CODEVALUE_BY_UID";
-  private static final String GET_CODEVALUE_BY_MEANING              = "GET_CODEVALUE_BY_MEANING";
+  private static final String GET_CODESETS   = "GET_CODESETS";
+  private static final String GET_CODEVALUES = "GET_CODEVALUES";
 
   private static final String INSERT_CODEVALUE = "INSERT_CODEVALUE";
   private static final String UPDATE_CODEVALUE = "UPDATE_CODEVALUE";
 
+  private final ReferenceDataHolder<CodeValueSnapshot> snapshot = new ReferenceDataHolder<>(this::loadSnapshot);
+
   /**
    * Primary Constructor used to create an instance of the CodeValueRepositoryJdbc.
    *
@@ -53,122 +58,74 @@ import org.springframework.util.Assert;
 
   @Override
   public CodeSet getCodeSetByUID(long uid) {
-    LOGGER.info("Calling CodeSetByUID for [{}].", uid);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    List<CodeSet> codesets = getJdbcTemplate().query(
-        stmtLoader.load(GET_CODESET_BY_UID),
-        new MapSqlParameterSource("codeset_id", uid),
-        new CodeSetMapper());
-
-    if (codesets.size() == 1) {
-      return codesets.get(0);
-    } else if (codesets.size() == 0) {
+    CodeSet codeSet = snapshot.get().codeSets.get(uid);
+    if (codeSet == null) {
       LOGGER.warn("No codeset with UID of [{}] was found!", uid);
-      return null;
-    } else {
-      LOGGER.warn("More than 1 codeset with uid of [{}] was found!", uid);
-      return null;
     }
+
+    return codeSet;
   }
 
   @Override
   public List<CodeSet> getActiveCodeSets() {
-    LOGGER.info("Calling getActiveCodeSets.");
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().getJdbcOperations().query(stmtLoader.load(GET_ACTIVE_CODESETS), new CodeSetMapper());
+    return snapshot.get().activeCodeSets;
   }
 
   @Override
-  @Cacheable(value = "codeValueLists")
   public List<CodeValue> getCodeValuesForCodeSet(CodeSet codeset) {
     Assert.notNull(codeset, "Argument [codeset] cannot be null.");
 
-    LOGGER.info("Calling CodeValuesForCodeSet for [{}].", codeset.getDisplay());
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_CODEVALUES_FOR_CODESET),
-        new MapSqlParameterSource("codeset_id", codeset.getCodeSetUID()),
-        new CodeValueMapper());
+    return snapshot.get().activeCodeValuesBySet.get(codeset.getCodeSetUID());
   }
 
   @Override
-  @Cacheable(value = "codeValueLists")
   public List<CodeValue> getCodeValuesForCodeSetByType(CodeSetType codeSetType) {
     Assert.notNull(codeSetType, "Argument [codeSetType] cannot be null.");
 
-    LOGGER.info("Calling getCodeValuesForCodeSetByType for [{}].", codeSetType);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_CODEVALUES_FOR_CODESET_BY_MEANING),
-        new MapSqlParameterSource("codeset_meaning", codeSetType.name()),
-        new CodeValueMapper());
+    return snapshot.get().activeCodeValuesByType.get(codeSetType.name());
   }
 
   @Override
-  @Cacheable(value = "codeValues")
   public CodeValue getCodeValueByUID(long uid) {
     if (uid == 0L) {
       return null;
     }
 
-    LOGGER.info("Calling getCodeValueByUID for [{}].", uid);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    List<CodeValue> codevalues = getJdbcTemplate().query(
-        stmtLoader.load(GET_CODEVALUE_BY_UID),
-        new MapSqlParameterSource("codevalue_id", uid),
-        new CodeValueMapper());
-
-    if (codevalues.size() == 1) {
-      return codevalues.get(0);
-    } else if (codevalues.size() == 0) {
+    CodeValue codeValue = snapshot.get().codeValues.get(uid);
+    if (codeValue == null) {
       LOGGER.warn("No codevalues with uid of [{}] were found!", uid);
       throw new EmptyResultDataAccessException(1);
-    } else {
-      LOGGER.warn("More than 1 codevalue with uid of [{}] were found!", uid);
-      throw new IncorrectResultSizeDataAccessException(1, codevalues.size());
     }
+
+    return codeValue;
   }
 
   @Override
-  @Cacheable(value = "codeValues")
   public CodeValue getCodeValueByMeaning(CodeSetType codeSetType, String meaning) {
     Assert.notNull(codeSetType, "Argument [codeSetType] cannot be null");
     Assert.hasText(meaning, "Argument [meaning] cannot be null or empty.");
 
-    LOGGER.info("Calling getCodeValueByMeaning for [{}].", meaning);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("codeset_meaning", codeSetType.name());
-    params.addValue("meaning", meaning);
+    CodeValue found = null;
+    for (CodeValue codeValue : snapshot.get().activeCodeValuesByType.get(codeSetType.name())) {
+      if (meaning.equals(codeValue.getMeaning())) {
+        if (found != null) {
+          LOGGER.warn("More than 1 codevalue with meaning of [{}] was found!", meaning);
+          throw new IncorrectResultSizeDataAccessException(1, 2);
+        }
 
-    List<CodeValue> codevalues = getJdbcTemplate().query(stmtLoader.load(GET_CODEVALUE_BY_MEANING), params,
-        new CodeValueMapper());
+        found = codeValue;
+      }
+    }
 
-    if (codevalues.size() == 1) {
-      return codevalues.get(0);
-    } else if (codevalues.size() == 0) {
+    if (found == null) {
       LOGGER.warn("No codevalues with meaning of [{}] were found!", meaning);
       throw new EmptyResultDataAccessException(1);
-    } else {
-      LOGGER.warn("More than 1 codevalue with meaning of [{}] was found!", meaning);
-      throw new IncorrectResultSizeDataAccessException(1, codevalues.size());
     }
+
+    return found;
   }
 
   @Override
-  @CacheEvict(value = "codeValueLists", allEntries = true)
   public CodeValue saveCodeValueForCodeSet(CodeValue codeValue, User user)
       throws DataAccessException {
 
@@ -177,10 +134,14 @@ import org.springframework.util.Assert;
 
     LOGGER.info("Saving CodeValue [{}].", codeValue.getDisplay());
 
-    if (codeValue.getCodeValueUID() == 0L) {
-      return insertCodeValueForCodeSet(codeValue, user);
-    } else {
-      return updateCodeValueForCodeSet(codeValue, user);
+    try {
+      if (codeValue.getCodeValueUID() == 0L) {
+        return insertCodeValueForCodeSet(codeValue, user);
+      } else {
+        return updateCodeValueForCodeSet(codeValue, user);
+      }
+    } finally {
+      snapshot.invalidate();
     }
   }
 
@@ -224,4 +185,57 @@ import org.springframework.util.Assert;
       throw new IncorrectResultSizeDataAccessException(1, cnt);
     }
   }
+
+  private CodeValueSnapshot loadSnapshot() {
+    LOGGER.info("Loading CodeSets and CodeValues.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    List<CodeSet> codeSets = getJdbcTemplate().getJdbcOperations().query(
+        stmtLoader.load(GET_CODESETS), new CodeSetMapper());
+
+    List<CodeValue> codeValues = getJdbcTemplate().getJdbcOperations().query(
+        stmtLoader.load(GET_CODEVALUES), new CodeValueMapper());
+
+    return new CodeValueSnapshot(codeSets, codeValues);
+  }
+
+  /**
+   * An immutable snapshot of the CodeSets and CodeValues.
+   */
+  private static final class CodeValueSnapshot {
+    private final ImmutableLongMap<CodeSet> codeSets;
+    private final List<CodeSet> activeCodeSets;
+    private final ImmutableLongMap<CodeValue> codeValues;
+
+    // the active code values of each code set, by codeset_id and by codeset meaning
+    private final ImmutableListMultimap<Long, CodeValue> activeCodeValuesBySet;
+    private final ImmutableListMultimap<String, CodeValue> activeCodeValuesByType;
+
+    private CodeValueSnapshot(final List<CodeSet> codeSets, final List<CodeValue> codeValues) {
+      this.codeSets = ImmutableLongMap.index(codeSets, CodeSet::getCodeSetUID);
+      this.activeCodeSets = Ordering.natural().immutableSortedCopy(Iterables.filter(codeSets, CodeSet::isActive));
+      this.codeValues = ImmutableLongMap.index(codeValues, CodeValue::getCodeValueUID);
+
+      // the code values of each code set are sorted by their display
+      ImmutableListMultimap.Builder<Long, CodeValue> bySet = ImmutableListMultimap.<Long, CodeValue>builder()
+          .orderValuesBy(Ordering.natural());
+      ImmutableListMultimap.Builder<String, CodeValue> byType = ImmutableListMultimap.<String, CodeValue>builder()
+          .orderValuesBy(Ordering.natural());
+      for (CodeValue codeValue : codeValues) {
+        CodeSet codeSet = this.codeSets.get(codeValue.getCodeSetUID());
+        if (!codeValue.isActive() || codeSet == null) {
+          continue;
+        }
+
+        bySet.put(codeSet.getCodeSetUID(), codeValue);
+        if (codeSet.getMeaning() != null) {
+          byType.put(codeSet.getMeaning(), codeValue);
+        }
+      }
+
+      this.activeCodeValuesBySet = bySet.build();
+      this.activeCodeValuesByType = byType.build();
+    }
+  }
 }
@@ -20,7 +20,8 @@ public interface CommentRepository {
    * @param membership
    *     The {@link Membership} to retrieve comments for.
    *
-   * @return A {@link List} of {@link Comment Comments} associated with the specified Membership.
+   * @return An immutable {@link List} of {@link Comment Comments} associated with the specified Membership, sorted by
+   * comment date. The List may be shared (cached) and must not be modified, copy it to change it.
    */
   List<Comment> getCommentsForMembership(final Membership membership);
 
@@ -53,4 +54,26 @@ public interface CommentRepository {
    */
   Comment saveComment(final Comment comment, final User user) throws OptimisticLockingFailureException,
       IncorrectResultSizeDataAccessException, DataAccessException;
+
+  /**
+   * Persists the {@link Comment Comments} of the specified {@link Membership}, only writing those that are new or have
+   * been modified since they were read (compared to the comments currently held for the Membership). The new and
+   * modified comments are inserted / updated using a single JDBC batch each.
+   *
+   * @param membership
+   *     The {@link Membership} whose comments are to be persisted.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The number of comments inserted / updated.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if the updt_cnt of a modified comment doesn't match (meaning someone has updated it since it was last read)
+   * @throws IncorrectResultSizeDataAccessException
+   *     if the number of rows inserted / updated exceeded the expected number
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  int saveCommentsForMembership(final Membership membership, final User user) throws OptimisticLockingFailureException,
+      IncorrectResultSizeDataAccessException, DataAccessException;
 }
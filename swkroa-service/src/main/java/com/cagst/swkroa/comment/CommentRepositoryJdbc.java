@@ -3,15 +3,23 @@ package com.cagst.swkroa.comment;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
 import com.cagst.swkroa.member.Membership;
 import com.cagst.swkroa.user.User;
+import com.google.common.collect.Ordering;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -20,11 +28,18 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
  * JDBC Template implementation of the {@link CommentRepository} interface.
  *
+ * The comments of a membership are cached (in the <i>commentsList</i> cache) as an immutable list sorted by comment
+ * date, saving a comment replaces the cached list with a copy that includes the saved comment (once the transaction,
+ * if any, has committed) rather than evicting it.
+ *
  * @author Craig Gaskill
  */
 @Named("commentRepo")
@@ -37,25 +52,38 @@ import org.springframework.util.Assert;
   private static final String INSERT_COMMENT = "INSERT_COMMENT";
   private static final String UPDATE_COMMENT = "UPDATE_COMMENT";
 
+  private static final String COMMENTS_CACHE = "commentsList";
+
+  private static final Ordering<Comment> COMMENT_ORDERING = Ordering.natural();
+
+  private final CacheManager cacheManager;
+
   /**
    * Primary Constructor used to create an instance of the CommentRepositoryJdbc.
    *
    * @param dataSource
    *     The {@link DataSource} used to retrieve / persists data objects.
+   * @param cacheManager
+   *     The {@link CacheManager} that holds the cached comments.
    */
   @Inject
-  public CommentRepositoryJdbc(final DataSource dataSource) {
+  public CommentRepositoryJdbc(final DataSource dataSource, final CacheManager cacheManager) {
     super(dataSource);
+
+    Assert.notNull(cacheManager, "Argument [cacheManager] cannot be null");
+
+    this.cacheManager = cacheManager;
   }
 
   @Override
-  @Cacheable(value = "commentsList", key = "#membership.getMembershipUID()")
+  @Cacheable(value = COMMENTS_CACHE, key = "#membership.getMembershipUID()")
   public List<Comment> getCommentsForMembership(final Membership membership) {
     Assert.notNull(membership, "Argument [membership] cannot be null");
 
     LOGGER.info("Calling getCommentsForMembership [{}].", membership.getMembershipUID());
 
-    return getCommentsForEntity(Comment.MEMBERSHIP, membership.getMembershipUID());
+    List<Comment> comments = getCommentsForEntity(Comment.MEMBERSHIP, membership.getMembershipUID());
+    return COMMENT_ORDERING.immutableSortedCopy(comments);
   }
 
   @Override
@@ -81,17 +109,157 @@ import org.springframework.util.Assert;
   }
 
   @Override
-  @CacheEvict(value = "commentsList", key = "#comment.getParentEntityUID()")
   public Comment saveComment(final Comment comment, final User user) throws DataAccessException {
     Assert.notNull(comment, "Argument [comment] cannot be null");
     Assert.notNull(user, "Argument [user] cannot be null");
 
     LOGGER.info("Saving Comment for [{}, {}].", comment.getParentEntityName(), comment.getParentEntityUID());
 
+    Comment savedComment;
     if (comment.getCommentUID() == 0L) {
-      return insertCommentForEntity(comment, user);
+      savedComment = insertCommentForEntity(comment, user);
+    } else {
+      savedComment = updateCommentForEntity(comment, user);
+    }
+
+    if (Comment.MEMBERSHIP.equals(savedComment.getParentEntityName())) {
+      updateCachedCommentsAfterCommit(savedComment.getParentEntityUID(), Collections.singletonList(savedComment));
+    }
+
+    return savedComment;
+  }
+
+  @Override
+  @Transactional
+  public int saveCommentsForMembership(final Membership membership, final User user) {
+    Assert.notNull(membership, "Argument [membership] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Saving Comments for Membership [{}].", membership.getMembershipUID());
+
+    if (membership.getComments().isEmpty()) {
+      return 0;
+    }
+
+    // the comments as they are currently persisted (or cached), to tell which have been modified
+    Map<Long, Comment> persistedComments = new HashMap<>();
+    for (Comment comment : getPersistedComments(membership.getMembershipUID())) {
+      persistedComments.put(comment.getCommentUID(), comment);
+    }
+
+    List<Comment> newComments = new ArrayList<>();
+    List<MapSqlParameterSource> insertParams = new ArrayList<>();
+    List<Comment> modifiedComments = new ArrayList<>();
+    List<MapSqlParameterSource> updateParams = new ArrayList<>();
+
+    for (Comment comment : membership.getComments()) {
+      Comment saveComment = Comment.builder(comment)
+          .setParentEntityUID(membership.getMembershipUID())
+          .setParentEntityName(Comment.MEMBERSHIP)
+          .build();
+
+      if (saveComment.getCommentUID() == 0L) {
+        newComments.add(saveComment);
+        insertParams.add(CommentMapper.mapInsertStatement(saveComment, user));
+      } else {
+        MapSqlParameterSource params = CommentMapper.mapUpdateStatement(saveComment, user);
+        Comment persisted = persistedComments.get(saveComment.getCommentUID());
+        if (persisted == null || isModified(params, CommentMapper.mapUpdateStatement(persisted, user))) {
+          modifiedComments.add(saveComment);
+          updateParams.add(params);
+        }
+      }
+    }
+
+    LOGGER.info("Inserting [{}] and updating [{}] Comments.", newComments.size(), modifiedComments.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    List<Long> commentUIDs = batchInsert(stmtLoader.load(INSERT_COMMENT), insertParams);
+    batchUpdateVersioned(stmtLoader.load(UPDATE_COMMENT), updateParams);
+
+    List<Comment> savedComments = new ArrayList<>(newComments.size() + modifiedComments.size());
+    for (int idx = 0; idx < newComments.size(); idx++) {
+      savedComments.add(Comment.builder(newComments.get(idx)).setCommentUID(commentUIDs.get(idx)).build());
+    }
+    for (Comment comment : modifiedComments) {
+      savedComments.add(Comment.builder(comment).setCommentUpdateCount(comment.getCommentUpdateCount() + 1).build());
+    }
+
+    if (!savedComments.isEmpty()) {
+      updateCachedCommentsAfterCommit(membership.getMembershipUID(), savedComments);
+    }
+
+    return savedComments.size();
+  }
+
+  /**
+   * @return The {@link Comment Comments} of the membership from the cache if they are cached, otherwise from the
+   * database.
+   */
+  private List<Comment> getPersistedComments(final long membershipUID) {
+    Cache cache = cacheManager.getCache(COMMENTS_CACHE);
+    if (cache != null) {
+      @SuppressWarnings("unchecked")
+      List<Comment> cachedComments = cache.get(membershipUID, List.class);
+      if (cachedComments != null) {
+        return cachedComments;
+      }
+    }
+
+    return getCommentsForEntity(Comment.MEMBERSHIP, membershipUID);
+  }
+
+  /**
+   * Updates the cached comments of the membership with the saved comments once the current transaction (if any) has
+   * committed.
+   */
+  private void updateCachedCommentsAfterCommit(final long membershipUID, final Collection<Comment> savedComments) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCommit() {
+          updateCachedComments(membershipUID, savedComments);
+        }
+      });
     } else {
-      return updateCommentForEntity(comment, user);
+      updateCachedComments(membershipUID, savedComments);
+    }
+  }
+
+  /**
+   * Replaces the cached comments of the membership (if they are cached) with a sorted copy that includes the saved
+   * {@link Comment Comments} in place of their previous versions.
+   *
+   * @param membershipUID
+   *     The unique identifier of the membership the comments belong to.
+   * @param savedComments
+   *     The {@link Comment Comments} that were persisted.
+   */
+  private void updateCachedComments(final long membershipUID, final Collection<Comment> savedComments) {
+    Cache cache = cacheManager.getCache(COMMENTS_CACHE);
+    if (cache == null) {
+      return;
+    }
+
+    // serialize updates so two comments saved concurrently for the same membership don't lose one another
+    synchronized (cache) {
+      @SuppressWarnings("unchecked")
+      List<Comment> cachedComments = cache.get(membershipUID, List.class);
+      if (cachedComments == null) {
+        // not cached, the comments will be loaded (including these) when they are next retrieved
+        return;
+      }
+
+      Map<Long, Comment> comments = new LinkedHashMap<>();
+      for (Comment cachedComment : cachedComments) {
+        comments.put(cachedComment.getCommentUID(), cachedComment);
+      }
+      for (Comment savedComment : savedComments) {
+        comments.put(savedComment.getCommentUID(), savedComment);
+      }
+
+      cache.put(membershipUID, COMMENT_ORDERING.immutableSortedCopy(comments.values()));
     }
   }
 
@@ -0,0 +1,72 @@
+package com.cagst.swkroa.contact;
+
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Address Addresses}, {@link PhoneNumber PhoneNumbers} and {@link EmailAddress EmailAddresses} associated
+ * to a single entity (member or staff), as retrieved by {@link ContactRepository#getContactsForEntities}.
+ *
+ * The lists belong to the bundle they were retrieved in (they are never shared with another bundle), so they may be
+ * handed to the entity they belong to.
+ *
+ * @author Craig Gaskill
+ */
+public final class ContactBundle {
+  private final List<Address> addresses;
+  private final List<PhoneNumber> phoneNumbers;
+  private final List<EmailAddress> emailAddresses;
+
+  /**
+   * Primary Constructor used to create an instance of <i>ContactBundle</i>.
+   *
+   * @param addresses
+   *     The {@link List} of {@link Address Addresses} associated to the entity.
+   * @param phoneNumbers
+   *     The {@link List} of {@link PhoneNumber PhoneNumbers} associated to the entity.
+   * @param emailAddresses
+   *     The {@link List} of {@link EmailAddress EmailAddresses} associated to the entity.
+   */
+  public ContactBundle(final List<Address> addresses,
+                       final List<PhoneNumber> phoneNumbers,
+                       final List<EmailAddress> emailAddresses) {
+
+    Assert.notNull(addresses, "Argument [addresses] cannot be null");
+    Assert.notNull(phoneNumbers, "Argument [phoneNumbers] cannot be null");
+    Assert.notNull(emailAddresses, "Argument [emailAddresses] cannot be null");
+
+    this.addresses = addresses;
+    this.phoneNumbers = phoneNumbers;
+    this.emailAddresses = emailAddresses;
+  }
+
+  /**
+   * @return The {@link List} of {@link Address Addresses} associated to the entity, empty if there aren't any.
+   */
+  public List<Address> getAddresses() {
+    return addresses;
+  }
+
+  /**
+   * @return The {@link List} of {@link PhoneNumber PhoneNumbers} associated to the entity, empty if there aren't any.
+   */
+  public List<PhoneNumber> getPhoneNumbers() {
+    return phoneNumbers;
+  }
+
+  /**
+   * @return The {@link List} of {@link EmailAddress EmailAddresses} associated to the entity, empty if there aren't
+   * any.
+   */
+  public List<EmailAddress> getEmailAddresses() {
+    return emailAddresses;
+  }
+
+  /**
+   * @return {@code true} if no contacts at all are associated to the entity.
+   */
+  public boolean isEmpty() {
+    return addresses.isEmpty() && phoneNumbers.isEmpty() && emailAddresses.isEmpty();
+  }
+}
@@ -1,10 +1,13 @@
 package com.cagst.swkroa.contact;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.cagst.swkroa.member.Member;
 import com.cagst.swkroa.person.Person;
 import com.cagst.swkroa.user.User;
+import com.cagst.swkroa.user.UserType;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -84,6 +87,23 @@ public interface ContactRepository {
    */
   List<EmailAddress> getEmailAddressesForPerson(Person person);
 
+  /**
+   * Retrieves the {@link Address Addresses}, {@link PhoneNumber PhoneNumbers} and {@link EmailAddress EmailAddresses}
+   * associated to each of the specified entities using one query for each type of contact. Large collections of
+   * entities are split into chunks, with one query for each type of contact per chunk.
+   *
+   * @param entityUIDs
+   *     A {@link Collection} of {@link Long} that uniquely identify the entities (members or staff) to retrieve the
+   *     contacts of.
+   * @param entityType
+   *     The {@link UserType} of the entities, {@link UserType#MEMBER} for members and {@link UserType#STAFF} for
+   *     staff (persons).
+   *
+   * @return A {@link Map} of {@link ContactBundle ContactBundles} keyed by the unique identifier of the entity, in the
+   * order the entities were specified. Every entity is present in the map, with an empty bundle if it has no contacts.
+   */
+  Map<Long, ContactBundle> getContactsForEntities(Collection<Long> entityUIDs, UserType entityType);
+
   /**
    * Commits the specified {@link Address Address} to persistent storage.
    *
@@ -140,4 +160,46 @@ public interface ContactRepository {
    *     if the query fails
    */
   EmailAddress saveEmailAddress(EmailAddress emailAddress, User user) throws DataAccessException;
+
+  /**
+   * Persists the contacts of each of the specified entities, only writing those that are new or have been modified
+   * since they were read. The current contacts of the entities are read (one query for each type of contact) to tell
+   * which have been modified, the new and modified contacts are then inserted / updated using a single JDBC batch for
+   * each type of contact.
+   *
+   * @param contacts
+   *     A {@link Map} of {@link ContactBundle ContactBundles} keyed by the unique identifier of the entity (member or
+   *     staff) they are associated to.
+   * @param entityType
+   *     The {@link UserType} of the entities.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The number of contacts inserted / updated.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if the updt_cnt of a modified contact doesn't match (meaning someone has updated it since it was last read)
+   * @throws IncorrectResultSizeDataAccessException
+   *     if the number of rows inserted / updated exceeded the expected number
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  int saveContactsForEntities(Map<Long, ContactBundle> contacts, UserType entityType, User user)
+      throws DataAccessException;
+
+  /**
+   * Deactivates every active {@link Address}, {@link PhoneNumber} and {@link EmailAddress} associated to the specified
+   * members using a single statement for each type of contact.
+   *
+   * @param memberUIDs
+   *     A {@link Collection} of {@link Long} that uniquely identify the members to deactivate the contacts of.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The number of contacts deactivated.
+   *
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  int deactivateContactsForMembers(Collection<Long> memberUIDs, User user) throws DataAccessException;
 }
@@ -3,7 +3,14 @@ package com.cagst.swkroa.contact;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
@@ -11,18 +18,24 @@ import com.cagst.swkroa.member.Member;
 import com.cagst.swkroa.person.Person;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.user.UserType;
+import com.google.common.collect.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 /**
  * A JDBC Template implementation of the {@link ContactRepository} interface.
  *
+ * Contacts for several entities are retrieved using an IN list of their identifiers, split into chunks so a large
+ * number of entities doesn't exceed what the database accepts in a single statement.
+ *
  * @author Craig Gaskill
  */
 @Named("contactRepository")
@@ -33,6 +46,10 @@ public class ContactRepositoryJdbc extends BaseRepositoryJdbc implements Contact
   private static final String GET_PHONENUMBERS_FOR_ENTITY = "GET_PHONENUMBERS_FOR_ENTITY";
   private static final String GET_EMAILADDRESSES_FOR_ENTITY = "GET_EMAILADDRESSES_FOR_ENTITY";
 
+  private static final String GET_ADDRESSES_FOR_ENTITIES = "GET_ADDRESSES_FOR_ENTITIES";
+  private static final String GET_PHONENUMBERS_FOR_ENTITIES = "GET_PHONENUMBERS_FOR_ENTITIES";
+  private static final String GET_EMAILADDRESSES_FOR_ENTITIES = "GET_EMAILADDRESSES_FOR_ENTITIES";
+
   private static final String INSERT_ADDRESS = "INSERT_ADDRESS";
   private static final String UPDATE_ADDRESS = "UPDATE_ADDRESS";
   private static final String INSERT_PHONE = "INSERT_PHONE";
@@ -40,6 +57,15 @@ public class ContactRepositoryJdbc extends BaseRepositoryJdbc implements Contact
   private static final String INSERT_EMAIL = "INSERT_EMAIL";
   private static final String UPDATE_EMAIL = "UPDATE_EMAIL";
 
+  private static final String DEACTIVATE_ADDRESSES_FOR_ENTITIES = "DEACTIVATE_ADDRESSES_FOR_ENTITIES";
+  private static final String DEACTIVATE_PHONENUMBERS_FOR_ENTITIES = "DEACTIVATE_PHONENUMBERS_FOR_ENTITIES";
+  private static final String DEACTIVATE_EMAILADDRESSES_FOR_ENTITIES = "DEACTIVATE_EMAILADDRESSES_FOR_ENTITIES";
+
+  // the number of entities whose contacts are retrieved by a single query
+  private static final int DEFAULT_ENTITIES_PER_QUERY = 500;
+
+  private final int entitiesPerQuery;
+
   /**
    * Primary Constructor used to create an instance of <i>ContactRepositoryJdbc</i>.
    *
@@ -48,7 +74,15 @@ public class ContactRepositoryJdbc extends BaseRepositoryJdbc implements Contact
    */
   @Inject
   public ContactRepositoryJdbc(DataSource dataSource) {
+    this(dataSource, DEFAULT_ENTITIES_PER_QUERY);
+  }
+
+  /* package */ ContactRepositoryJdbc(DataSource dataSource, int entitiesPerQuery) {
     super(dataSource);
+
+    Assert.isTrue(entitiesPerQuery > 0, "Argument [entitiesPerQuery] must be greater than 0");
+
+    this.entitiesPerQuery = entitiesPerQuery;
   }
 
   @Override
@@ -135,6 +169,190 @@ public class ContactRepositoryJdbc extends BaseRepositoryJdbc implements Contact
     return getJdbcTemplate().query(stmtLoader.load(GET_EMAILADDRESSES_FOR_ENTITY), params, new EmailAddressMapper());
   }
 
+  @Override
+  public Map<Long, ContactBundle> getContactsForEntities(Collection<Long> entityUIDs, UserType entityType) {
+    Assert.notNull(entityUIDs, "Argument [entityUIDs] cannot be null");
+    Assert.notNull(entityType, "Argument [entityType] cannot be null");
+
+    LOGGER.info("Calling getContactsForEntities for [{}] {} entities.", entityUIDs.size(), entityType);
+
+    Collection<Long> ids = new LinkedHashSet<>(entityUIDs);
+
+    Map<Long, List<Address>> addresses = groupByParentEntity(
+        getContactsForEntities(GET_ADDRESSES_FOR_ENTITIES, ids, entityType, new AddressMapper()),
+        Address::getParentEntityUID);
+    Map<Long, List<PhoneNumber>> phones = groupByParentEntity(
+        getContactsForEntities(GET_PHONENUMBERS_FOR_ENTITIES, ids, entityType, new PhoneNumberMapper()),
+        PhoneNumber::getParentEntityUID);
+    Map<Long, List<EmailAddress>> emails = groupByParentEntity(
+        getContactsForEntities(GET_EMAILADDRESSES_FOR_ENTITIES, ids, entityType, new EmailAddressMapper()),
+        EmailAddress::getParentEntityUID);
+
+    Map<Long, ContactBundle> bundles = new LinkedHashMap<>();
+    for (Long id : ids) {
+      bundles.put(id, new ContactBundle(
+          addresses.getOrDefault(id, new ArrayList<>()),
+          phones.getOrDefault(id, new ArrayList<>()),
+          emails.getOrDefault(id, new ArrayList<>())));
+    }
+
+    return bundles;
+  }
+
+  private <T> List<T> getContactsForEntities(String statement,
+                                             Collection<Long> ids,
+                                             UserType entityType,
+                                             RowMapper<T> mapper) {
+
+    List<T> contacts = new ArrayList<>();
+    if (ids.isEmpty()) {
+      return contacts;
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    String sql = stmtLoader.load(statement);
+
+    for (List<Long> chunk : Iterables.partition(ids, entitiesPerQuery)) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("parent_entity_ids", chunk);
+      params.addValue("parent_entity_name", entityType.name());
+
+      contacts.addAll(getJdbcTemplate().query(sql, params, mapper));
+    }
+
+    return contacts;
+  }
+
+  @Override
+  @Transactional
+  public int deactivateContactsForMembers(Collection<Long> memberUIDs, User user) {
+    Assert.notNull(memberUIDs, "Argument [memberUIDs] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    if (memberUIDs.isEmpty()) {
+      return 0;
+    }
+
+    LOGGER.info("Deactivating contacts for [{}] members.", memberUIDs.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("parent_entity_ids", memberUIDs);
+    params.addValue("parent_entity_name", UserType.MEMBER.name());
+    params.addValue("updt_id", user.getUserUID());
+
+    return getJdbcTemplate().update(stmtLoader.load(DEACTIVATE_ADDRESSES_FOR_ENTITIES), params)
+        + getJdbcTemplate().update(stmtLoader.load(DEACTIVATE_PHONENUMBERS_FOR_ENTITIES), params)
+        + getJdbcTemplate().update(stmtLoader.load(DEACTIVATE_EMAILADDRESSES_FOR_ENTITIES), params);
+  }
+
+  @Override
+  @Transactional
+  public int saveContactsForEntities(Map<Long, ContactBundle> contacts, UserType entityType, User user) {
+    Assert.notNull(contacts, "Argument [contacts] cannot be null");
+    Assert.notNull(entityType, "Argument [entityType] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Saving contacts for [{}] {} entities.", contacts.size(), entityType);
+
+    // the contacts as they are currently persisted, to tell which have been modified
+    Map<Long, Address> persistedAddresses = new HashMap<>();
+    Map<Long, PhoneNumber> persistedPhones = new HashMap<>();
+    Map<Long, EmailAddress> persistedEmails = new HashMap<>();
+    for (ContactBundle bundle : getContactsForEntities(contacts.keySet(), entityType).values()) {
+      bundle.getAddresses().forEach(address -> persistedAddresses.put(address.getAddressUID(), address));
+      bundle.getPhoneNumbers().forEach(phone -> persistedPhones.put(phone.getPhoneUID(), phone));
+      bundle.getEmailAddresses().forEach(email -> persistedEmails.put(email.getEmailAddressUID(), email));
+    }
+
+    List<MapSqlParameterSource> addressInserts = new ArrayList<>();
+    List<MapSqlParameterSource> addressUpdates = new ArrayList<>();
+    List<MapSqlParameterSource> phoneInserts = new ArrayList<>();
+    List<MapSqlParameterSource> phoneUpdates = new ArrayList<>();
+    List<MapSqlParameterSource> emailInserts = new ArrayList<>();
+    List<MapSqlParameterSource> emailUpdates = new ArrayList<>();
+
+    for (Map.Entry<Long, ContactBundle> entry : contacts.entrySet()) {
+      for (Address address : entry.getValue().getAddresses()) {
+        Address saveAddress = address.toBuilder()
+            .setParentEntityUID(entry.getKey())
+            .setParentEntityName(entityType.name())
+            .build();
+
+        if (saveAddress.getAddressUID() == 0L) {
+          addressInserts.add(AddressMapper.mapInsertStatement(saveAddress, user));
+        } else {
+          MapSqlParameterSource params = AddressMapper.mapUpdateStatement(saveAddress, user);
+          Address persisted = persistedAddresses.get(saveAddress.getAddressUID());
+          if (persisted == null || isModified(params, AddressMapper.mapUpdateStatement(persisted, user))) {
+            addressUpdates.add(params);
+          }
+        }
+      }
+
+      for (PhoneNumber phone : entry.getValue().getPhoneNumbers()) {
+        PhoneNumber savePhone = phone.toBuilder()
+            .setParentEntityUID(entry.getKey())
+            .setParentEntityName(entityType.name())
+            .build();
+
+        if (savePhone.getPhoneUID() == 0L) {
+          phoneInserts.add(PhoneNumberMapper.mapInsertStatement(savePhone, user));
+        } else {
+          MapSqlParameterSource params = PhoneNumberMapper.mapUpdateStatement(savePhone, user);
+          PhoneNumber persisted = persistedPhones.get(savePhone.getPhoneUID());
+          if (persisted == null || isModified(params, PhoneNumberMapper.mapUpdateStatement(persisted, user))) {
+            phoneUpdates.add(params);
+          }
+        }
+      }
+
+      for (EmailAddress email : entry.getValue().getEmailAddresses()) {
+        EmailAddress saveEmail = email.toBuilder()
+            .setParentEntityUID(entry.getKey())
+            .setParentEntityName(entityType.name())
+            .build();
+
+        if (saveEmail.getEmailAddressUID() == 0L) {
+          emailInserts.add(EmailAddressMapper.mapInsertStatement(saveEmail, user));
+        } else {
+          MapSqlParameterSource params = EmailAddressMapper.mapUpdateStatement(saveEmail, user);
+          EmailAddress persisted = persistedEmails.get(saveEmail.getEmailAddressUID());
+          if (persisted == null || isModified(params, EmailAddressMapper.mapUpdateStatement(persisted, user))) {
+            emailUpdates.add(params);
+          }
+        }
+      }
+    }
+
+    LOGGER.info("Inserting [{}] and updating [{}] addresses, phone numbers and email addresses.",
+        addressInserts.size() + phoneInserts.size() + emailInserts.size(),
+        addressUpdates.size() + phoneUpdates.size() + emailUpdates.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    batchInsert(stmtLoader.load(INSERT_ADDRESS), addressInserts);
+    batchUpdateVersioned(stmtLoader.load(UPDATE_ADDRESS), addressUpdates);
+    batchInsert(stmtLoader.load(INSERT_PHONE), phoneInserts);
+    batchUpdateVersioned(stmtLoader.load(UPDATE_PHONE), phoneUpdates);
+    batchInsert(stmtLoader.load(INSERT_EMAIL), emailInserts);
+    batchUpdateVersioned(stmtLoader.load(UPDATE_EMAIL), emailUpdates);
+
+    return addressInserts.size() + addressUpdates.size()
+        + phoneInserts.size() + phoneUpdates.size()
+        + emailInserts.size() + emailUpdates.size();
+  }
+
+  private static <T> Map<Long, List<T>> groupByParentEntity(List<T> contacts, ToLongFunction<T> parentEntity) {
+    Map<Long, List<T>> grouped = new HashMap<>();
+    for (T contact : contacts) {
+      grouped.computeIfAbsent(parentEntity.applyAsLong(contact), id -> new ArrayList<>()).add(contact);
+    }
+
+    return grouped;
+  }
+
   @Override
   public Address saveAddress(Address address, User user) {
     Assert.notNull(address, "Argument [address] cannot be null");
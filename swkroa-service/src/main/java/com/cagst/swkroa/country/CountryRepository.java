@@ -5,6 +5,9 @@ import java.util.List;
 /**
  * Definition of a repository that retrieves and persists {@link Country}, {@link State}, and {@link County} objects.
  *
+ * The {@link List Lists} returned are unmodifiable, shared by every caller and already sorted (countries and states by
+ * name, counties in their natural order), copy a List before changing it.
+ *
  * @author Craig Gaskill
  */
 public interface CountryRepository {
@@ -3,19 +3,33 @@ package com.cagst.swkroa.country;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.ImmutableLongMap;
+import com.cagst.swkroa.internal.ReferenceDataHolder;
 import com.cagst.swkroa.internal.StatementLoader;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.Table;
+import com.google.common.collect.Tables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.util.Assert;
 
 /**
  * JDBC Template implementation of the {@link CountryRepository} interface.
  *
+ * The active {@link Country Countries} and {@link State States}, and every {@link County}, are held in an immutable
+ * in-memory snapshot that is loaded when it is first needed, they are maintained outside of the application so the
+ * snapshot lives for the life of the application.
+ *
  * @author Craig Gaskill
  */
 @Named("countyRepository")
@@ -23,14 +37,10 @@ import org.springframework.util.Assert;
   private static final Logger LOGGER = LoggerFactory.getLogger(CountryRepositoryJdbc.class);
 
   private static final String GET_ACTIVE_COUNTRIES = "GET_ACTIVE_COUNTRIES";
+  private static final String GET_ACTIVE_STATES    = "GET_ACTIVE_STATES";
+  private static final String GET_COUNTIES         = "GET_COUNTIES";
 
-  private static final String GET_ACTIVE_STATES = "GET_ACTIVE_STATES";
-  private static final String GET_ACTIVE_STATES_FOR_COUNTRY = "GET_ACTIVE_STATES_FOR_COUNTRY";
-
-  private static final String GET_ACTIVE_COUNTIES = "GET_ACTIVE_COUNTIES";
-  private static final String GET_COUNTIES_FOR_STATE = "GET_COUNTIES_FOR_STATE";
-  private static final String GET_COUNTY_BY_UID = "GET_COUNTY_BY_UID";
-  private static final String GET_COUNTY_BY_STATE_CODE = "GET_COUNTY_BY_STATE_CODE";
+  private final ReferenceDataHolder<GeographySnapshot> snapshot = new ReferenceDataHolder<>(this::loadSnapshot);
 
   /**
    * Primary Constructor used to create an instance of <i>CountryRepositoryJdbc</i>.
@@ -44,115 +54,113 @@ import org.springframework.util.Assert;
   }
 
   @Override
-  @Cacheable("countryLists")
   public List<Country> getActiveCountries() {
-    StatementLoader statementLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    LOGGER.info("Calling getActiveCountries");
-
-    return getJdbcTemplate().query(statementLoader.load(GET_ACTIVE_COUNTRIES), new CountryMapper());
+    return snapshot.get().activeCountries;
   }
 
   @Override
-  @Cacheable("stateLists")
   public List<State> getActiveStates() {
-    StatementLoader statementLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    LOGGER.info("Calling getActiveStates");
-
-    return getJdbcTemplate().query(statementLoader.load(GET_ACTIVE_STATES), new StateMapper());
+    return snapshot.get().activeStates;
   }
 
   @Override
-  @Cacheable("stateLists")
   public List<State> getActiveStatesForCountry(String countryCode) {
     Assert.hasText(countryCode, "Argument [countryCode] cannot be null");
 
-    StatementLoader statementLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    LOGGER.info("Calling getActiveStatesForCountry for [{}]", countryCode);
-
-    return getJdbcTemplate().query(
-        statementLoader.load(GET_ACTIVE_STATES_FOR_COUNTRY),
-        new MapSqlParameterSource("country_code", countryCode),
-        new StateMapper()
-    );
+    return snapshot.get().activeStatesByCountry.get(countryCode);
   }
 
   @Override
-  @Cacheable("countyLists")
   public List<County> getActiveCounties() {
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    LOGGER.info("Calling getActiveCountries.");
-
-    return getJdbcTemplate().query(stmtLoader.load(GET_ACTIVE_COUNTIES), new CountyMapper());
+    return snapshot.get().activeCounties;
   }
 
   @Override
   public List<County> getCountiesForState(String stateCode) {
     Assert.hasText(stateCode, "Argument [stateCode] cannot be null");
 
-    LOGGER.info("Calling getCountiesForState [{}]", stateCode);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_COUNTIES_FOR_STATE),
-        new MapSqlParameterSource("state_code", stateCode),
-        new CountyMapper()
-    );
+    return snapshot.get().activeCountiesByState.get(stateCode);
   }
 
   @Override
-  @Cacheable("counties")
   public County getCountyByUID(final long uid) {
     Assert.isTrue(uid > 0L, "Argument [uid] must be greater than zero (0)");
 
-    LOGGER.info("Calling getCountyByUID [{}]", uid);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    List<County> counties = getJdbcTemplate().query(
-        stmtLoader.load(GET_COUNTY_BY_UID),
-        new MapSqlParameterSource("county_id", uid),
-        new CountyMapper());
-
-    if (counties.size() == 1) {
-      return counties.get(0);
-    } else if (counties.size() == 0) {
+    County county = snapshot.get().counties.get(uid);
+    if (county == null) {
       LOGGER.warn("No county with UID of [{}] was found!", uid);
-      return null;
-    } else {
-      LOGGER.warn("More than 1 county with uid of [{}] was found!", uid);
-      return null;
     }
+
+    return county;
   }
 
   @Override
-  @Cacheable("counties")
   public County getCountyByStateAndCode(final String state, final String code) {
     Assert.hasText(state, "Argument [state] cannot be null or empty.");
     Assert.hasText(code, "Argument [code] cannot be null or empty.");
 
-    LOGGER.info("Calling getCountyByStateAndCode for state [{}] and code", state, code);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("state", state);
-    params.addValue("county", code);
-
-    List<County> counties = getJdbcTemplate().query(stmtLoader.load(GET_COUNTY_BY_STATE_CODE), params, new CountyMapper());
-
-    if (counties.size() == 1) {
-      return counties.get(0);
-    } else if (counties.size() == 0) {
+    List<County> counties = snapshot.get().countiesByStateAndCode.get(state, code);
+    if (counties == null) {
       LOGGER.warn("No county with state of [{}] and county code of [{}] was found!", state, code);
       return null;
-    } else {
+    } else if (counties.size() > 1) {
       LOGGER.warn("More than 1 county with state of [{}] and county code of [{}] was found!", state, code);
       return null;
     }
+
+    return counties.get(0);
+  }
+
+  private GeographySnapshot loadSnapshot() {
+    LOGGER.info("Loading Countries, States and Counties.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    return new GeographySnapshot(
+        getJdbcTemplate().query(stmtLoader.load(GET_ACTIVE_COUNTRIES), new CountryMapper()),
+        getJdbcTemplate().query(stmtLoader.load(GET_ACTIVE_STATES), new StateMapper()),
+        getJdbcTemplate().query(stmtLoader.load(GET_COUNTIES), new CountyMapper()));
+  }
+
+  /**
+   * An immutable snapshot of the Countries, States and Counties.
+   */
+  private static final class GeographySnapshot {
+    private final List<Country> activeCountries;
+    private final List<State> activeStates;
+    private final ImmutableListMultimap<String, State> activeStatesByCountry;
+
+    private final ImmutableLongMap<County> counties;
+    private final List<County> activeCounties;
+    private final ImmutableListMultimap<String, County> activeCountiesByState;
+    private final ImmutableTable<String, String, List<County>> countiesByStateAndCode;
+
+    private GeographySnapshot(final List<Country> countries, final List<State> states, final List<County> counties) {
+      // the lists are sorted once here (countries / states by name) rather than every time they are retrieved
+      this.activeCountries = Ordering.<String>natural().onResultOf(Country::getCountryName)
+          .immutableSortedCopy(countries);
+      this.activeStates = Ordering.<String>natural().onResultOf(State::getStateName)
+          .immutableSortedCopy(states);
+      this.activeStatesByCountry = Multimaps.index(activeStates, State::getCountryCode);
+
+      this.counties = ImmutableLongMap.index(counties, County::getCountyUID);
+      this.activeCounties = Ordering.natural().immutableSortedCopy(Iterables.filter(counties, County::isActive));
+      this.activeCountiesByState = Multimaps.index(activeCounties, County::getStateCode);
+
+      // the state / county code is not unique, keep every county with the same codes to detect it
+      Table<String, String, List<County>> byStateAndCode = HashBasedTable.create();
+      for (County county : counties) {
+        List<County> matches = byStateAndCode.get(county.getStateCode(), county.getCountyCode());
+        if (matches == null) {
+          matches = new ArrayList<>(1);
+          byStateAndCode.put(county.getStateCode(), county.getCountyCode(), matches);
+        }
+
+        matches.add(county);
+      }
+
+      this.countiesByStateAndCode = ImmutableTable.copyOf(
+          Tables.transformValues(byStateAndCode, ImmutableList::copyOf));
+    }
   }
 }
@@ -37,7 +37,8 @@ public interface DepositRepository {
   Deposit getDeposit(final long uid) throws IncorrectResultSizeDataAccessException;
 
   /**
-   * Persists the specified {@link Deposit}.
+   * Persists the specified {@link Deposit} and its transactions as a single database transaction, so the balance
+   * ledger of every affected Membership is updated along with the deposit.
    *
    * @param deposit
    *    The {@link Deposit} to persist.
@@ -3,6 +3,7 @@ package com.cagst.swkroa.deposit;
 import javax.inject.Inject;
 import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
@@ -24,6 +25,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 /**
@@ -90,6 +92,7 @@ import org.springframework.util.Assert;
   }
 
   @Override
+  @Transactional
   public Deposit saveDeposit(Deposit deposit, User user) throws DataAccessException {
     Assert.notNull(deposit, "Argument [deposit] cannot be null");
     Assert.notNull(user, "Argument [user] cannot be null");
@@ -108,6 +111,10 @@ import org.springframework.util.Assert;
     }
 
     // save the transactions related to this deposit
+    List<Transaction> transactions = new ArrayList<>();
+    List<DepositTransaction> newTransactions = new ArrayList<>();
+    List<DepositTransaction> removedTransactions = new ArrayList<>();
+
     for (DepositTransaction trans : deposit.getTransactions()) {
       if (trans.getDepositTransactionUID() == 0L) {
         // Insert new Transaction
@@ -132,22 +139,28 @@ import org.springframework.util.Assert;
             }
           }
 
-          Transaction savedTransaction = transactionRepo.saveTransaction(depositTransaction, user);
-
-          // save the associations of the transaction to the deposit
-          long depositTransactionUID = associateTransactionToDeposit(savedTransaction, deposit, user);
-          depositTransaction.setDepositTransactionUID(depositTransactionUID);
+          transactions.add(depositTransaction);
+          newTransactions.add(depositTransaction);
         }
       } else if (!trans.isDepositTransactionActive() || !trans.isActive()) {
         // Delete (disassociate) existing Transaction (Relationship)
         trans.setActive(false);
-        transactionRepo.saveTransaction(trans, user);
-
         trans.setDepositTransactionActive(false);
-        disassociateDepositTransaction(trans, user);
+
+        transactions.add(trans);
+        removedTransactions.add(trans);
       }
     }
 
+    // the transactions (and their entries) are written in batches, so a deposit costs the same number of
+    // statements regardless of the number of transactions it contains
+    if (!transactions.isEmpty()) {
+      transactionRepo.saveTransactions(transactions, user);
+    }
+
+    associateTransactionsToDeposit(newTransactions, deposit, user);
+    disassociateDepositTransactions(removedTransactions, user);
+
     return dep;
   }
 
@@ -188,37 +201,47 @@ import org.springframework.util.Assert;
     return deposit;
   }
 
-  private long associateTransactionToDeposit(final Transaction transaction, final Deposit deposit, final User user) {
-    LOGGER.info("Calling associateTransactionToDeposit.");
+  private void associateTransactionsToDeposit(final List<DepositTransaction> transactions,
+                                              final Deposit deposit,
+                                              final User user) {
+
+    LOGGER.info("Calling associateTransactionsToDeposit for [{}] transactions.", transactions.size());
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-    KeyHolder keyHolder = new GeneratedKeyHolder();
 
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("deposit_id", deposit.getDepositUID());
-    params.addValue("transaction_id", transaction.getTransactionUID());
-    params.addValue("active_ind", true);
-    params.addValue("create_id", user.getUserUID());
-    params.addValue("updt_id", user.getUserUID());
+    List<MapSqlParameterSource> batch = new ArrayList<>(transactions.size());
+    for (DepositTransaction transaction : transactions) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("deposit_id", deposit.getDepositUID());
+      params.addValue("transaction_id", transaction.getTransactionUID());
+      params.addValue("active_ind", true);
+      params.addValue("create_id", user.getUserUID());
+      params.addValue("updt_id", user.getUserUID());
 
-    int cnt = getJdbcTemplate().update(stmtLoader.load(INSERT_DEPOSIT_TRANSACTION), params, keyHolder);
-    if (cnt == 1) {
-      return keyHolder.getKey().longValue();
-    } else {
-      return 0L;
+      batch.add(params);
+    }
+
+    List<Long> uids = batchInsert(stmtLoader.load(INSERT_DEPOSIT_TRANSACTION), batch);
+    for (int idx = 0; idx < uids.size(); idx++) {
+      transactions.get(idx).setDepositTransactionUID(uids.get(idx));
     }
   }
 
-  private void disassociateDepositTransaction(final DepositTransaction transaction, final User user) {
-    LOGGER.info("Calling disassociateDepositTransaction.");
+  private void disassociateDepositTransactions(final List<DepositTransaction> transactions, final User user) {
+    LOGGER.info("Calling disassociateDepositTransactions for [{}] transactions.", transactions.size());
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
 
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("active_ind", true);
-    params.addValue("updt_id", user.getUserUID());
-    params.addValue("deposit_transaction_id", transaction.getDepositTransactionUID());
+    List<MapSqlParameterSource> batch = new ArrayList<>(transactions.size());
+    for (DepositTransaction transaction : transactions) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("active_ind", true);
+      params.addValue("updt_id", user.getUserUID());
+      params.addValue("deposit_transaction_id", transaction.getDepositTransactionUID());
+
+      batch.add(params);
+    }
 
-    getJdbcTemplate().update(stmtLoader.load(UPDATE_DEPOSIT_TRANSACTION), params);
+    batchUpdate(stmtLoader.load(UPDATE_DEPOSIT_TRANSACTION), batch);
   }
 }
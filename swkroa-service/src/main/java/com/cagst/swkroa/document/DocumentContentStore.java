@@ -0,0 +1,200 @@
+package com.cagst.swkroa.document;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.google.common.io.BaseEncoding;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * A content-addressed, file system store for the content of {@link Document Documents}.
+ *
+ * Content is stored under the SHA-256 hash of its bytes, so identical content is only ever stored once and a
+ * stored file is never modified. The location recorded against the Document (<i>document_location</i>) is the
+ * path of the file relative to the root of the store.
+ *
+ * Content is never removed by the store. Because identical content is shared, content written for a Document that
+ * is never recorded (its insert fails or its transaction is rolled back) may already be referenced by another
+ * Document, committed or not, so it is left in place. Such orphaned content is only wasted space; anything that
+ * reclaims it must first check that no row in the <i>document</i> table refers to its location.
+ *
+ * The store is optional, when no root has been configured the content is kept in the database.
+ *
+ * @author Craig Gaskill
+ */
+@Named("documentContentStore")
+public class DocumentContentStore {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DocumentContentStore.class);
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  // files at least this large are read through a memory mapping rather than the heap
+  private static final long MAPPED_READ_THRESHOLD = 1024L * 1024L;
+  private static final long MAPPED_REGION_SIZE    = 64L * 1024L * 1024L;
+
+  private final Path root;
+
+  /**
+   * Primary Constructor used to create an instance of <i>DocumentContentStore</i>.
+   *
+   * @param storePath
+   *    The root directory of the store, an empty path disables the store.
+   */
+  @Inject
+  public DocumentContentStore(@Value("${swkroa.document.store.path:}") String storePath) {
+    this.root = StringUtils.isNotBlank(storePath) ? Paths.get(storePath).toAbsolutePath().normalize() : null;
+  }
+
+  /**
+   * @return {@code true} if content should be written to the store, {@code false} if it should be kept in the
+   * database.
+   */
+  public boolean isEnabled() {
+    return root != null;
+  }
+
+  /**
+   * Writes the content to the store, unless identical content has already been stored.
+   *
+   * @param content
+   *    The {@link InputStream} to read the content from, it is read to the end but not closed.
+   *
+   * @return The location of the content, relative to the root of the store.
+   *
+   * @throws IOException
+   *    if the content could not be read or written
+   */
+  public String store(final InputStream content) throws IOException {
+    Path directory = getRoot();
+    Files.createDirectories(directory);
+
+    Path tempFile = Files.createTempFile(directory, "upload", ".tmp");
+    try {
+      DigestInputStream in = new DigestInputStream(content, newDigest());
+      Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+      String hash = BaseEncoding.base16().lowerCase().encode(in.getMessageDigest().digest());
+      String location = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+
+      Path file = directory.resolve(location);
+      Files.createDirectories(file.getParent());
+
+      // an atomic move may silently replace an existing file (it does on POSIX), so check for the content first
+      if (Files.exists(file)) {
+        LOGGER.debug("Document content [{}] is already stored.", location);
+      } else {
+        try {
+          Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+          LOGGER.debug("Document content [{}] is already stored.", location);
+        }
+      }
+
+      if (!Files.exists(file)) {
+        throw new IOException("Unable to store document content [" + location + "]");
+      }
+
+      return location;
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /**
+   * Retrieves the size (in bytes) of the content at the specified location.
+   *
+   * @param location
+   *    The location of the content, as returned by {@link #store(InputStream)}.
+   *
+   * @return The size of the content.
+   *
+   * @throws IOException
+   *    if the content does not exist
+   */
+  public long size(final String location) throws IOException {
+    return Files.size(resolve(location));
+  }
+
+  /**
+   * Writes the content at the specified location to the output stream.
+   *
+   * @param location
+   *    The location of the content, as returned by {@link #store(InputStream)}.
+   * @param output
+   *    The {@link OutputStream} to write the content to, it is not closed.
+   *
+   * @throws IOException
+   *    if the content does not exist or could not be written
+   */
+  public void copy(final String location, final OutputStream output) throws IOException {
+    Path file = resolve(location);
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < MAPPED_READ_THRESHOLD) {
+        Files.copy(file, output);
+        return;
+      }
+
+      WritableByteChannel out = Channels.newChannel(output);
+      for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+            Math.min(MAPPED_REGION_SIZE, size - position));
+
+        while (buffer.hasRemaining()) {
+          out.write(buffer);
+        }
+      }
+    }
+  }
+
+  /**
+   * Helper method to resolve a location to a file within the store, refusing any location outside of it.
+   */
+  private Path resolve(final String location) throws IOException {
+    Path directory = getRoot();
+
+    Path file = directory.resolve(location).normalize();
+    if (!file.startsWith(directory) || file.equals(directory)) {
+      throw new IOException("Invalid document location [" + location + "]");
+    }
+
+    return file;
+  }
+
+  private Path getRoot() {
+    if (root == null) {
+      throw new IllegalStateException("The document content store has not been configured.");
+    }
+
+    return root;
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException ex) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -1,8 +1,6 @@
 package com.cagst.swkroa.document;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.sql.Blob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
@@ -10,22 +8,21 @@ import java.sql.Types;
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.util.DateTimeConverter;
-import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.support.SqlLobValue;
+import org.springframework.jdbc.support.lob.DefaultLobHandler;
+import org.springframework.jdbc.support.lob.LobHandler;
 
 /**
  * Maps a row in the resultset into a {@link Document} object. Used to marshal / unmarshal a {@link Document} to / from
  * the database.
  *
+ * The content of a Document is never mapped, it is streamed by the {@link DocumentRepository} instead.
+ *
  * @author Craig Gaskill
  */
 /* package */ final class DocumentMapper implements RowMapper<Document> {
-  private static final Logger LOGGER = LoggerFactory.getLogger(DocumentMapper.class);
-
   private static final String DOCUMENT_ID          = "document_id";
   private static final String PARENT_ENTITY_ID     = "parent_entity_id";
   private static final String PARENT_ENTITY_NAME   = "parent_entity_name";
@@ -44,20 +41,25 @@ import org.springframework.jdbc.core.support.SqlLobValue;
   private static final String UPDT_ID    = "updt_id";
   private static final String DOCUMENT_UPDT_CNT = "document_updt_cnt";
 
+  private static final LobHandler STREAMING_LOB_HANDLER;
+
+  static {
+    DefaultLobHandler lobHandler = new DefaultLobHandler();
+    lobHandler.setStreamAsLob(true);
+
+    STREAMING_LOB_HANDLER = lobHandler;
+  }
+
   private final CodeValueRepository codeValueRepo;
-  private final boolean retrieveContent;
 
   /**
    * Primary Constructor used to create an instance of <i>DocumentMapper</i>
    *
    * @param codeValueRepo
    *    The {@link CodeValueRepository} to use to retrieve codified values associated with the document.
-   * @param retrieveContent
-   *    A {@link boolean} that specifies if we should retrieve the content (if it is available in the resultset).
    */
-  public DocumentMapper(final CodeValueRepository codeValueRepo, final boolean retrieveContent) {
+  public DocumentMapper(final CodeValueRepository codeValueRepo) {
     this.codeValueRepo = codeValueRepo;
-    this.retrieveContent = retrieveContent;
   }
 
   @Override
@@ -74,20 +76,6 @@ import org.springframework.jdbc.core.support.SqlLobValue;
     document.setBeginEffectiveDate(DateTimeConverter.convert(rs.getTimestamp(BEG_EFF_DT)));
     document.setEndEffectiveDate(DateTimeConverter.convert(rs.getTimestamp(END_EFF_DT)));
 
-    if (retrieveContent) {
-      Blob content = rs.getBlob(DOCUMENT_CONTENT);
-      if (content != null) {
-        InputStream in = content.getBinaryStream();
-        try {
-          document.setDocumentContents(IOUtils.toByteArray(in));
-        } catch (IOException ex) {
-          LOGGER.error("Error retrieving document contents [" + ex.getLocalizedMessage() + "]", ex);
-        } finally {
-          IOUtils.closeQuietly(in);
-        }
-      }
-    }
-
     document.setActive(rs.getBoolean(ACTIVE_IND));
     document.setDocumentUpdateCount(rs.getLong(DOCUMENT_UPDT_CNT));
 
@@ -105,6 +93,34 @@ import org.springframework.jdbc.core.support.SqlLobValue;
    * @return A {@link MapSqlParameterSource} that can be used in a {@code jdbcTemplate.update} statement.
    */
   public static MapSqlParameterSource mapInsertStatement(final Document document, final User user) {
+    MapSqlParameterSource params = mapInsertStatement(document, null, 0L, user);
+    params.addValue(DOCUMENT_CONTENT, document.getDocumentContents() != null ? new SqlLobValue(document.getDocumentContents()) : null, Types.BLOB);
+
+    return params;
+  }
+
+  /**
+   * Will marshal a {@link Document} into a {@link MapSqlParameterSource} for inserting into the database, streaming
+   * its content from the specified {@link InputStream} rather than the Document itself.
+   *
+   * @param document
+   *     The {@link Document} to map into an insert statement.
+   * @param content
+   *     The {@link InputStream} to read the content of the document from, {@code null} if it has no content.
+   * @param contentLength
+   *     The length (in bytes) of the content, a negative value if unknown.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return A {@link MapSqlParameterSource} that can be used in a {@code jdbcTemplate.update} statement.
+   */
+  public static MapSqlParameterSource mapInsertStatement(final Document document,
+                                                         final InputStream content,
+                                                         final long contentLength,
+                                                         final User user) {
+
+    int length = contentLength >= 0L && contentLength <= Integer.MAX_VALUE ? (int) contentLength : -1;
+
     MapSqlParameterSource params = new MapSqlParameterSource();
     params.addValue(PARENT_ENTITY_ID, document.getParentEntityUID() != 0L ? document.getParentEntityUID() : null);
     params.addValue(PARENT_ENTITY_NAME, document.getParentEntityName());
@@ -113,7 +129,7 @@ import org.springframework.jdbc.core.support.SqlLobValue;
     params.addValue(DOCUMENT_NAME, document.getDocumentName());
     params.addValue(DOCUMENT_FORMAT,document.getDocumentFormat());
     params.addValue(DOCUMENT_LOCATION, document.getDocumentLocation());
-    params.addValue(DOCUMENT_CONTENT, document.getDocumentContents() != null ? new SqlLobValue(document.getDocumentContents()) : null, Types.BLOB);
+    params.addValue(DOCUMENT_CONTENT, content != null ? new SqlLobValue(content, length, STREAMING_LOB_HANDLER) : null, Types.BLOB);
     params.addValue(BEG_EFF_DT, document.getBeginEffectiveDate().toDate());
     params.addValue(END_EFF_DT, document.getEndEffectiveDate() != null ? document.getEndEffectiveDate().toDate() : null);
 
@@ -1,5 +1,8 @@
 package com.cagst.swkroa.document;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.cagst.swkroa.user.User;
@@ -19,10 +22,35 @@ public interface DocumentRepository {
    * @param uid
    *    A {@link long} that uniquely identifies the {@link Document} to retrieve.
    *
+   * The content of the Document is not retrieved, use {@link #streamDocumentContent(Document, OutputStream)} to
+   * retrieve it.
+   *
    * @return The {@link Document} associated with the specified uid, {@code null} if no Document was found.
    */
   Document getDocumentByUID(long uid);
 
+  /**
+   * Writes the content of the specified {@link Document} to the output stream, reading it from the document store if
+   * the Document has a location or from the database otherwise.
+   *
+   * Content is only read without holding it in memory from the document store. Whether content in the database is
+   * depends on the JDBC driver, MySQL Connector/J reads the whole row (BLOB included) into memory, even when streaming
+   * a result set, so configure the document store if large documents are kept on MySQL.
+   *
+   * @param document
+   *    The {@link Document} to retrieve the content of.
+   * @param output
+   *    The {@link OutputStream} to write the content to, it is not closed.
+   *
+   * @return {@code true} if the Document has content, {@code false} otherwise.
+   *
+   * @throws IOException
+   *     if the content could not be read or written
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  boolean streamDocumentContent(Document document, OutputStream output) throws IOException, DataAccessException;
+
   /**
    * Retrieves a {@link List} of {@link Document Documents} defined within the system for the specified {@code Membership}.
    *
@@ -58,4 +86,31 @@ public interface DocumentRepository {
    *     if the query fails
    */
   Document saveDocument(Document document, User user) throws DataAccessException;
+
+  /**
+   * Persists a new {@link Document}, streaming its content from the specified {@link InputStream} into the document
+   * store (if one is configured) or the database. Content written to the store is kept even if the Document can't be
+   * inserted (or its transaction is rolled back), as identical content may be shared with another Document. As when
+   * reading, MySQL Connector/J buffers content sent to the database in memory.
+   *
+   * @param document
+   *    The {@link Document} to persist.
+   * @param content
+   *    The {@link InputStream} to read the content from, it is not closed.
+   * @param contentLength
+   *    The length (in bytes) of the content, a negative value if unknown.
+   * @param user
+   *    The {@link User} that performed the changes.
+   *
+   * @return A {@link Document} after it has been persisted.
+   *
+   * @throws IOException
+   *     if the content could not be read or stored
+   * @throws IncorrectResultSizeDataAccessException
+   *     if the number of rows inserted exceeded the expected number
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  Document saveDocument(Document document, InputStream content, long contentLength, User user)
+      throws IOException, DataAccessException;
 }
@@ -3,18 +3,27 @@ package com.cagst.swkroa.document;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Blob;
 import java.util.List;
 
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
 import com.cagst.swkroa.user.User;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -32,11 +41,13 @@ import org.springframework.util.Assert;
   private static final String GET_DOCUMENT_BY_UID      = "GET_DOCUMENT_BY_UID";
   private static final String GET_DOCUMENTS_FOR_ENTITY = "GET_DOCUMENTS_FOR_ENTITY";
   private static final String GET_GLOBAL_DOCUMENTS     = "GET_GLOBAL_DOCUMENTS";
+  private static final String GET_DOCUMENT_CONTENT     = "GET_DOCUMENT_CONTENT";
 
   private static final String INSERT_DOCUMENT = "INSERT_DOCUMENT";
   private static final String UPDATE_DOCUMENT = "UPDATE_DOCUMENT";
 
   private final CodeValueRepository codeValueRepo;
+  private final DocumentContentStore contentStore;
 
   /**
    * Primary Constructor used to create an instance of DocumentRepositoryJdbc.
@@ -45,13 +56,17 @@ import org.springframework.util.Assert;
    *    The {@link DataSource} used to retrieve / persist data objects.
    * @param codeValueRepo
    *     The {@link CodeValueRepository} to use to retrieve additional attributes.
+   * @param contentStore
+   *     The {@link DocumentContentStore} used to store the content of documents outside of the database.
    */
   @Inject
   public DocumentRepositoryJdbc(DataSource dataSource,
-                                CodeValueRepository codeValueRepo) {
+                                CodeValueRepository codeValueRepo,
+                                DocumentContentStore contentStore) {
     super(dataSource);
 
     this.codeValueRepo = codeValueRepo;
+    this.contentStore = contentStore;
   }
 
   @Override
@@ -63,7 +78,7 @@ import org.springframework.util.Assert;
     List<Document> documents = getJdbcTemplate().query(
         stmtLoader.load(GET_DOCUMENT_BY_UID),
         new MapSqlParameterSource("document_id", uid),
-        new DocumentMapper(codeValueRepo, true));
+        new DocumentMapper(codeValueRepo));
 
     if (documents.size() == 1) {
       return documents.get(0);
@@ -76,6 +91,53 @@ import org.springframework.util.Assert;
     }
   }
 
+  @Override
+  public boolean streamDocumentContent(Document document, OutputStream output)
+      throws IOException, DataAccessException {
+
+    Assert.notNull(document, "Argument [document] cannot be null");
+    Assert.notNull(output, "Argument [output] cannot be null");
+
+    LOGGER.info("Calling streamDocumentContent for [{}]", document.getDocumentUID());
+
+    if (document.getDocumentLocation() != null) {
+      contentStore.copy(document.getDocumentLocation(), output);
+      return true;
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    ResultSetExtractor<Boolean> extractor = rs -> {
+      if (!rs.next()) {
+        throw new EmptyResultDataAccessException(1);
+      }
+
+      Blob content = rs.getBlob(1);
+      if (content == null) {
+        return false;
+      }
+
+      try (InputStream in = content.getBinaryStream()) {
+        IOUtils.copy(in, output);
+      } catch (IOException ex) {
+        // the extractor cannot throw an IOException so tunnel it out to the caller
+        throw new UncheckedIOException(ex);
+      } finally {
+        content.free();
+      }
+
+      return true;
+    };
+
+    try {
+      return getJdbcTemplate().query(stmtLoader.load(GET_DOCUMENT_CONTENT),
+          new MapSqlParameterSource("document_id", document.getDocumentUID()),
+          extractor);
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
   @Override
   public List<Document> getDocumentsForMembership(long membershipUID) {
     LOGGER.info("Calling getDocumentsForMembership [{}]", membershipUID);
@@ -89,7 +151,7 @@ import org.springframework.util.Assert;
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
 
-    return getJdbcTemplate().query(stmtLoader.load(GET_GLOBAL_DOCUMENTS), new DocumentMapper(codeValueRepo, false));
+    return getJdbcTemplate().query(stmtLoader.load(GET_GLOBAL_DOCUMENTS), new DocumentMapper(codeValueRepo));
   }
 
   @Override
@@ -108,6 +170,26 @@ import org.springframework.util.Assert;
     }
   }
 
+  @Override
+  public Document saveDocument(Document document, InputStream content, long contentLength, User user)
+      throws IOException, DataAccessException {
+
+    Assert.notNull(document, "Argument [document] cannot be null");
+    Assert.notNull(content, "Argument [content] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+    Assert.isTrue(document.getDocumentUID() == 0L, "Argument [document] must be a new document");
+
+    LOGGER.info("Saving Document content for [{}, {}]", document.getParentEntityName(), document.getParentEntityUID());
+
+    document.setDocumentContents(null);
+    if (contentStore.isEnabled()) {
+      document.setDocumentLocation(contentStore.store(content));
+      return insertDocument(document, DocumentMapper.mapInsertStatement(document, null, 0L, user));
+    } else {
+      return insertDocument(document, DocumentMapper.mapInsertStatement(document, content, contentLength, user));
+    }
+  }
+
   /**
    * Helper method to retrieve the {@link List} of {@link Document Documents} by EntityName / EntityID.
    *
@@ -125,16 +207,32 @@ import org.springframework.util.Assert;
     params.addValue("parent_entity_name", entityName);
     params.addValue("parent_entity_id", entityID);
 
-    return getJdbcTemplate().query(stmtLoader.load(GET_DOCUMENTS_FOR_ENTITY), params, new DocumentMapper(codeValueRepo, false));
+    return getJdbcTemplate().query(stmtLoader.load(GET_DOCUMENTS_FOR_ENTITY), params, new DocumentMapper(codeValueRepo));
   }
 
   private Document insertDocument(Document document, User user) {
+    byte[] content = document.getDocumentContents();
+    if (content == null || !contentStore.isEnabled()) {
+      return insertDocument(document, DocumentMapper.mapInsertStatement(document, user));
+    }
+
+    try {
+      document.setDocumentLocation(contentStore.store(new ByteArrayInputStream(content)));
+    } catch (IOException ex) {
+      throw new DataAccessResourceFailureException("Unable to store document content.", ex);
+    }
+
+    document.setDocumentContents(null);
+    return insertDocument(document, DocumentMapper.mapInsertStatement(document, user));
+  }
+
+  private Document insertDocument(Document document, MapSqlParameterSource params) {
     LOGGER.info("Inserting new Document for [{}]", document.getParentEntityName());
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
     KeyHolder keyHolder = new GeneratedKeyHolder();
 
-    int cnt = getJdbcTemplate().update(stmtLoader.load(INSERT_DOCUMENT), DocumentMapper.mapInsertStatement(document, user), keyHolder);
+    int cnt = getJdbcTemplate().update(stmtLoader.load(INSERT_DOCUMENT), params, keyHolder);
     if (cnt == 1) {
       document.setDocumentUID(keyHolder.getKey().longValue());
     } else {
@@ -2,9 +2,28 @@ package com.cagst.swkroa.internal;
 
 import javax.sql.DataSource;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Abstract class that implements common functionality for all JDBC repositories.
@@ -34,6 +53,155 @@ public abstract class BaseRepositoryJdbc {
     return jdbcTemplate;
   }
 
+  /**
+   * Executes the specified insert statement once for each of the parameter sources as a single JDBC batch.
+   *
+   * @param sql
+   *     The (named parameter) insert statement to execute.
+   * @param batch
+   *     A {@link List} of {@link SqlParameterSource}, one for each row to insert.
+   *
+   * @return A {@link List} of the generated keys, in the same order as the parameter sources.
+   *
+   * @throws IncorrectResultSizeDataAccessException
+   *     if any of the statements did not insert exactly one row.
+   */
+  protected List<Long> batchInsert(String sql, List<? extends SqlParameterSource> batch) {
+    if (batch.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+    String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batch.get(0));
+
+    return jdbcTemplate.getJdbcOperations().execute((ConnectionCallback<List<Long>>) con -> {
+      try (PreparedStatement ps = con.prepareStatement(sqlToUse, Statement.RETURN_GENERATED_KEYS)) {
+        for (SqlParameterSource params : batch) {
+          Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+          for (int idx = 0; idx < values.length; idx++) {
+            if (values[idx] instanceof SqlParameterValue) {
+              SqlParameterValue value = (SqlParameterValue) values[idx];
+              StatementCreatorUtils.setParameterValue(ps, idx + 1, value, value.getValue());
+            } else {
+              StatementCreatorUtils.setParameterValue(ps, idx + 1, SqlTypeValue.TYPE_UNKNOWN, values[idx]);
+            }
+          }
+
+          ps.addBatch();
+        }
+
+        for (int cnt : ps.executeBatch()) {
+          if (cnt != 1 && cnt != Statement.SUCCESS_NO_INFO) {
+            throw new IncorrectResultSizeDataAccessException("Failed to batch insert: expected 1, actual " + cnt, 1, cnt);
+          }
+        }
+
+        List<Long> keys = new ArrayList<>(batch.size());
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+          while (rs.next()) {
+            keys.add(rs.getLong(1));
+          }
+        }
+
+        if (keys.size() != batch.size()) {
+          throw new IncorrectResultSizeDataAccessException("Failed to retrieve generated keys: expected "
+              + batch.size() + ", actual " + keys.size(), batch.size(), keys.size());
+        }
+
+        return keys;
+      }
+    });
+  }
+
+  /**
+   * Executes the specified update statement once for each of the parameter sources as a single JDBC batch.
+   *
+   * @param sql
+   *     The (named parameter) update statement to execute.
+   * @param batch
+   *     A {@link List} of {@link SqlParameterSource}, one for each row to update.
+   *
+   * @throws IncorrectResultSizeDataAccessException
+   *     if any of the statements did not update exactly one row.
+   */
+  protected void batchUpdate(String sql, List<? extends SqlParameterSource> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    for (int cnt : jdbcTemplate.batchUpdate(sql, batch.toArray(new SqlParameterSource[batch.size()]))) {
+      if (cnt != 1 && cnt != Statement.SUCCESS_NO_INFO) {
+        throw new IncorrectResultSizeDataAccessException("Failed to batch update: expected 1, actual " + cnt, 1, cnt);
+      }
+    }
+  }
+
+  /**
+   * Executes the specified (versioned) update statement once for each of the parameter sources as a single JDBC batch,
+   * the statement is expected to only update a row if its updt_cnt still matches.
+   *
+   * @param sql
+   *     The (named parameter) update statement to execute.
+   * @param batch
+   *     A {@link List} of {@link SqlParameterSource}, one for each row to update.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if any of the statements did not update a row (meaning someone has updated it since it was last read)
+   * @throws IncorrectResultSizeDataAccessException
+   *     if any of the statements updated more than one row.
+   */
+  protected void batchUpdateVersioned(String sql, List<? extends SqlParameterSource> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    for (int cnt : jdbcTemplate.batchUpdate(sql, batch.toArray(new SqlParameterSource[batch.size()]))) {
+      if (cnt == 0) {
+        throw new OptimisticLockingFailureException("invalid update count of [" + cnt
+            + "] possible update count mismatch");
+      } else if (cnt != 1 && cnt != Statement.SUCCESS_NO_INFO) {
+        throw new IncorrectResultSizeDataAccessException("Failed to batch update: expected 1, actual " + cnt, 1, cnt);
+      }
+    }
+  }
+
+  /**
+   * Determines whether an object has been modified since it was read by comparing the parameters its update statement
+   * would be executed with to those of the object as it was read (the unique identifier and updt_cnt are part of the
+   * parameters, so a stale object is always considered modified and fails when it is updated).
+   *
+   * @param changed
+   *     The {@link MapSqlParameterSource} of the update statement for the object to be saved.
+   * @param persisted
+   *     The {@link MapSqlParameterSource} of the update statement for the object as it was read.
+   *
+   * @return {@code true} if the object needs to be updated, {@code false} if updating it wouldn't change anything.
+   */
+  protected static boolean isModified(MapSqlParameterSource changed, MapSqlParameterSource persisted) {
+    Map<String, Object> changedValues = changed.getValues();
+    Map<String, Object> persistedValues = persisted.getValues();
+
+    if (!changedValues.keySet().equals(persistedValues.keySet())) {
+      return true;
+    }
+
+    for (Map.Entry<String, Object> entry : changedValues.entrySet()) {
+      Object changedValue = entry.getValue();
+      Object persistedValue = persistedValues.get(entry.getKey());
+
+      // the scale of an amount depends upon where it came from (10 vs 10.00)
+      if (changedValue instanceof BigDecimal && persistedValue instanceof BigDecimal) {
+        if (((BigDecimal) changedValue).compareTo((BigDecimal) persistedValue) != 0) {
+          return true;
+        }
+      } else if (!Objects.equals(changedValue, persistedValue)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   /**
    * @return The current {@link StatementDialect} being used to retrieve SQL resource statements.
    */
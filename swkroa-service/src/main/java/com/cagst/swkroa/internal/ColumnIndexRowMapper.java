@@ -0,0 +1,97 @@
+package com.cagst.swkroa.internal;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * A {@link RowMapper} that resolves the positions of the columns it reads once per {@link ResultSet}, rather than
+ * having the driver find each column by name for every row.
+ *
+ * A sub-class declares the columns it reads (typically in its field initializers) using {@link #column(String)} and
+ * reads them by position using {@link #indexOf(int)}. The positions are resolved from the {@link ResultSetMetaData}
+ * the first time a row of a ResultSet is mapped, so an instance must not be shared between threads but may be reused
+ * for consecutive queries.
+ *
+ * @author Craig Gaskill
+ */
+public abstract class ColumnIndexRowMapper<T> implements RowMapper<T> {
+  private final List<String> columns = new ArrayList<>();
+
+  private ResultSet resolvedResultSet;
+  private int[] indexes;
+
+  /**
+   * Declares a column that must be present in the {@link ResultSet}.
+   *
+   * @param columnName
+   *     The name (label) of the column.
+   *
+   * @return The handle used to retrieve the position of the column using {@link #indexOf(int)}.
+   */
+  protected final int column(final String columnName) {
+    columns.add(columnName.toLowerCase(Locale.US));
+
+    return columns.size() - 1;
+  }
+
+  /**
+   * @return The (1 based) position of the column with the specified handle in the current {@link ResultSet}.
+   */
+  protected final int indexOf(final int column) {
+    return indexes[column];
+  }
+
+  @Override
+  public final T mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+    if (rs != resolvedResultSet) {
+      indexes = resolve(rs.getMetaData());
+      resolvedResultSet = rs;
+    }
+
+    return mapColumns(rs, rowNum);
+  }
+
+  /**
+   * Maps the current row of the {@link ResultSet}, reading the columns by their position.
+   *
+   * @param rs
+   *     The {@link ResultSet} to map (pre-initialized for the current row).
+   * @param rowNum
+   *     The number of the current row.
+   *
+   * @return The result object for the current row.
+   *
+   * @throws SQLException
+   *     If a SQLException is encountered getting column values.
+   */
+  protected abstract T mapColumns(final ResultSet rs, final int rowNum) throws SQLException;
+
+  private int[] resolve(final ResultSetMetaData metaData) throws SQLException {
+    Map<String, Integer> positions = new HashMap<>();
+    for (int idx = metaData.getColumnCount(); idx > 0; idx--) {
+      // the first column with a name wins (as it would for ResultSet.findColumn)
+      positions.put(JdbcUtils.lookupColumnName(metaData, idx).toLowerCase(Locale.US), idx);
+    }
+
+    int[] resolved = new int[columns.size()];
+    for (int idx = 0; idx < resolved.length; idx++) {
+      Integer position = positions.get(columns.get(idx));
+      if (position == null) {
+        throw new SQLException("Column [" + columns.get(idx) + "] was not found in the ResultSet");
+      }
+
+      resolved[idx] = position;
+    }
+
+    return resolved;
+  }
+}
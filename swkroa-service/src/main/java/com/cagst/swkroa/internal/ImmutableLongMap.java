@@ -0,0 +1,147 @@
+package com.cagst.swkroa.internal;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * An immutable map of primitive {@code long} keys to values, used to hold reference data (looked up by its unique
+ * identifier for every row that is mapped) without boxing the key or hashing it on every lookup.
+ *
+ * The keys are held in a sorted array and a lookup is a binary search of that array, the values are held in a
+ * parallel array. Once built the map never changes, so it can be read by any number of threads without locking and
+ * replaced as a whole when the data it holds changes.
+ *
+ * @author Craig Gaskill
+ */
+public final class ImmutableLongMap<V> {
+  private static final ImmutableLongMap<?> EMPTY = new ImmutableLongMap<>(new long[0], new Object[0]);
+
+  private final long[] keys;
+  private final Object[] values;
+
+  private ImmutableLongMap(final long[] keys, final Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  /**
+   * @return An empty <i>ImmutableLongMap</i>.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> ImmutableLongMap<V> of() {
+    return (ImmutableLongMap<V>) EMPTY;
+  }
+
+  /**
+   * Creates an <i>ImmutableLongMap</i> of the specified values, keyed by the key each value is mapped to.
+   *
+   * @param values
+   *     The {@link Collection} of values to put into the map.
+   * @param keyFunction
+   *     The {@link ToLongFunction} that maps a value to its key.
+   *
+   * @return An <i>ImmutableLongMap</i> of the specified values.
+   *
+   * @throws IllegalArgumentException
+   *     if more than one value is mapped to the same key.
+   */
+  public static <V> ImmutableLongMap<V> index(final Collection<? extends V> values,
+                                              final ToLongFunction<? super V> keyFunction) {
+
+    Assert.notNull(values, "Argument [values] cannot be null");
+    Assert.notNull(keyFunction, "Argument [keyFunction] cannot be null");
+
+    if (values.isEmpty()) {
+      return of();
+    }
+
+    Object[] sorted = values.toArray();
+    for (Object value : sorted) {
+      Assert.notNull(value, "Argument [values] cannot contain a null value");
+    }
+
+    Arrays.sort(sorted, (left, right) -> {
+      @SuppressWarnings("unchecked")
+      long leftKey = keyFunction.applyAsLong((V) left);
+      @SuppressWarnings("unchecked")
+      long rightKey = keyFunction.applyAsLong((V) right);
+
+      return Long.compare(leftKey, rightKey);
+    });
+
+    long[] keys = new long[sorted.length];
+    for (int idx = 0; idx < sorted.length; idx++) {
+      @SuppressWarnings("unchecked")
+      long key = keyFunction.applyAsLong((V) sorted[idx]);
+      if (idx > 0 && keys[idx - 1] == key) {
+        throw new IllegalArgumentException("More than one value for key [" + key + "]");
+      }
+
+      keys[idx] = key;
+    }
+
+    return new ImmutableLongMap<>(keys, sorted);
+  }
+
+  /**
+   * Retrieves the value associated with the specified key.
+   *
+   * @param key
+   *     The {@code long} key of the value to retrieve.
+   *
+   * @return The value associated with the key, {@code null} if no value is associated with the key.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final long key) {
+    int idx = Arrays.binarySearch(keys, key);
+
+    return idx >= 0 ? (V) values[idx] : null;
+  }
+
+  /**
+   * @param key
+   *     The {@code long} key to check for.
+   *
+   * @return {@code true} if a value is associated with the key, {@code false} otherwise.
+   */
+  public boolean containsKey(final long key) {
+    return Arrays.binarySearch(keys, key) >= 0;
+  }
+
+  /**
+   * @return The number of values in the map.
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * @return {@code true} if the map contains no values.
+   */
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  /**
+   * @return An unmodifiable {@link List} of the values in the map, in ascending order of their keys.
+   */
+  public List<V> values() {
+    return new AbstractList<V>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public V get(final int index) {
+        return (V) values[index];
+      }
+
+      @Override
+      public int size() {
+        return values.length;
+      }
+    };
+  }
+}
@@ -0,0 +1,94 @@
+package com.cagst.swkroa.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Holds an immutable snapshot of reference data (code values, member types, geography) so it can be read without
+ * going to the database.
+ *
+ * The snapshot is loaded when it is first needed and replaced as a whole when the data changes, a reader always sees
+ * either the previous or the new snapshot and never one that is partially updated. A change made within a
+ * transaction only replaces the snapshot once the transaction has completed, so it never reflects changes that are
+ * rolled back.
+ *
+ * @author Craig Gaskill
+ */
+public final class ReferenceDataHolder<T> {
+  private final Supplier<T> loader;
+
+  // incremented every time the snapshot is invalidated, so a load that overlaps an invalidation is discarded
+  private final AtomicLong generation = new AtomicLong();
+
+  private volatile T snapshot;
+
+  /**
+   * Primary Constructor used to create an instance of <i>ReferenceDataHolder</i>.
+   *
+   * @param loader
+   *     The {@link Supplier} that loads the snapshot from persistent storage.
+   */
+  public ReferenceDataHolder(final Supplier<T> loader) {
+    Assert.notNull(loader, "Argument [loader] cannot be null");
+
+    this.loader = loader;
+  }
+
+  /**
+   * @return The current snapshot, loading it if it has not been loaded (or has been invalidated).
+   */
+  public T get() {
+    T current = snapshot;
+    if (current != null) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = snapshot;
+      if (current == null) {
+        long loadGeneration = generation.get();
+
+        current = loader.get();
+        if (generation.get() == loadGeneration) {
+          snapshot = current;
+        }
+      }
+    }
+
+    return current;
+  }
+
+  /**
+   * Invalidates the current snapshot once the current transaction (if any) has completed, the snapshot is reloaded
+   * when it is next needed.
+   */
+  public void invalidate() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCompletion(int status) {
+          // even on rollback, a caller may have changed a (mutable) object held by the snapshot
+          reset();
+        }
+      });
+    } else {
+      reset();
+    }
+  }
+
+  private void reset() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  /**
+   * @return {@code true} if the snapshot is currently loaded, used for testing.
+   */
+  /* package */ boolean isLoaded() {
+    return snapshot != null;
+  }
+}
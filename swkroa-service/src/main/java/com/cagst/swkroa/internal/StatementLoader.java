@@ -4,11 +4,17 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.collect.ImmutableMap;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +42,12 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this example, the load_people SQL is common to all, but the update_people SQL is Oracle
  * specific.
+ * <p/>
+ * <p/>
+ * Statements are loaded lazily the first time they are requested and cached thereafter, retrieving a
+ * cached statement does not block. Alternatively a loader can be {@link #preload() preloaded}, which
+ * reads every statement named by the owner's constants up front (failing fast if one is missing) and
+ * serves them from an immutable map from then on.
  *
  * @author Craig Gaskill
  */
@@ -53,9 +65,15 @@ public final class StatementLoader {
     private final StatementDialect dialect;
 
     /**
-     * Map associating logical names with the corresponding statements.
+     * Map associating logical names with the corresponding statements, replaced by an immutable map
+     * once the loader has been preloaded.
+     */
+    private volatile Map<String, String> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Flag indicating whether the statements have been preloaded (and the map is immutable).
      */
-    private final Map<String, String> statements = new ConcurrentHashMap<>();
+    private volatile boolean preloaded;
 
     /**
      * Flag indicating whether the dialect supports inline comments.
@@ -65,7 +83,7 @@ public final class StatementLoader {
     /**
      * Map associating owner/dialect tuples with StatementLoader instances.
      */
-    private static Map<LoaderKey, StatementLoader> loaders = new ConcurrentHashMap<>();
+    private static final Map<LoaderKey, StatementLoader> loaders = new ConcurrentHashMap<>();
 
     /**
      * Constructs a <code>StatementLoader</code> owned by the given class using the given SQL dialect.
@@ -95,16 +113,30 @@ public final class StatementLoader {
     public static StatementLoader getLoader(final Class owner, final StatementDialect dialect) {
         LoaderKey key = new LoaderKey(owner, dialect);
 
-        synchronized (loaders) {
-            StatementLoader loader = loaders.get(key);
-            if (null == loader) {
-                loader = new StatementLoader(owner, dialect);
+        StatementLoader loader = loaders.get(key);
+        if (null == loader) {
+            loader = loaders.computeIfAbsent(key, k -> new StatementLoader(owner, dialect));
+        }
 
-                loaders.put(key, loader);
-            }
+        return loader;
+    }
 
-            return loader;
-        }
+    /**
+     * Preloads the statements named by the constants of the given owner for the given dialect.
+     *
+     * @param owner
+     *     The {@link Class} that owns the resources to be loaded.
+     * @param dialect
+     *     The {@link StatementDialect} of the database for the statements.
+     *
+     * @return A {@link Set} of the logical names of the statements that were loaded.
+     *
+     * @throws MissingResourceException if any of the statements can not be loaded.
+     *
+     * @see #preload()
+     */
+    public static Set<String> preload(final Class owner, final StatementDialect dialect) {
+        return getLoader(owner, dialect).preload();
     }
 
     /**
@@ -119,30 +151,106 @@ public final class StatementLoader {
      * @throws MissingResourceException if the resource can not be loaded.
      */
     public String load(final String name) {
-        synchronized (statements) {
-            // determine if the statement is already loaded
-            String stmt = statements.get(name);
+        // determine if the statement is already loaded
+        String stmt = statements.get(name);
+        if (null != stmt) {
+            return stmt;
+        }
+
+        if (preloaded) {
+            throw new MissingResourceException("SQL resource [" + name + "] was not preloaded", owner.getName(), name);
+        }
+
+        // if the statement has not been loaded, do so now
+        return statements.computeIfAbsent(name, this::readStatement);
+    }
+
+    /**
+     * Loads every statement named by the constants of the owning class (and its super-classes), a
+     * constant names a statement when its value is the same as its name (GET_PEOPLE = "GET_PEOPLE").
+     * Once loaded the statements are served from an immutable map and requesting any other statement
+     * will fail.
+     *
+     * @return A {@link Set} of the logical names of the statements that were loaded.
+     *
+     * @throws MissingResourceException if any of the statements can not be loaded.
+     */
+    public synchronized Set<String> preload() {
+        Set<String> names = getStatementNames(owner);
+        if (!preloaded) {
+            for (String name : names) {
+                load(name);
+            }
+
+            statements = ImmutableMap.copyOf(statements);
+            preloaded = true;
+
+            LOGGER.info("Preloaded [{}] statements for [{}]", statements.size(), owner.getName());
+        }
+
+        return names;
+    }
+
+    /**
+     * Returns the logical names of the statements declared as constants of the given class.
+     *
+     * @param owner
+     *     The {@link Class} to retrieve the statement names for.
+     *
+     * @return A {@link Set} of the logical names of the statements.
+     */
+    static Set<String> getStatementNames(final Class owner) {
+        Set<String> names = new TreeSet<>();
+
+        for (Class clazz = owner; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (field.getType() != String.class || !Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)) {
+                    continue;
+                }
 
-            // if the statement has not been loaded, do so now
-            if (null == stmt) {
                 try {
-                    stmt = readStatement(name, owner);
-                } catch (MissingResourceException ex) {
-                    // if our parent class isn't Object (we have derived from another class)
-                    // then try the parent class
-                    if (owner.getSuperclass() != Object.class) {
-                        stmt = readStatement(name, owner.getSuperclass());
-                    } else {
-                        throw ex;
+                    field.setAccessible(true);
+                    if (field.getName().equals(field.get(null))) {
+                        names.add(field.getName());
                     }
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Unable to read constant [" + field.getName() + "]", ex);
                 }
-                statements.put(name, stmt);
             }
+        }
 
-            LOGGER.debug("Loaded statement [{}]\n{}", name, stmt);
+        return names;
+    }
 
-            return stmt;
+    /**
+     * Reads the statement with the given name from the owning class, or its parent class if the owning
+     * class doesn't define it.
+     *
+     * @param name
+     *     The logical name of the statement.
+     *
+     * @return The SQL statement in String form.
+     *
+     * @throws MissingResourceException if the resource can not be loaded.
+     */
+    private String readStatement(final String name) {
+        String stmt;
+        try {
+            stmt = readStatement(name, owner);
+        } catch (MissingResourceException ex) {
+            // if our parent class isn't Object (we have derived from another class)
+            // then try the parent class
+            if (owner.getSuperclass() != Object.class) {
+                stmt = readStatement(name, owner.getSuperclass());
+            } else {
+                throw ex;
+            }
         }
+
+        LOGGER.debug("Loaded statement [{}]\n{}", name, stmt);
+
+        return stmt;
     }
 
     /**
@@ -0,0 +1,94 @@
+package com.cagst.swkroa.internal;
+
+import javax.inject.Named;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Preloads the SQL statements of every {@link BaseRepositoryJdbc repository} in the application context once the
+ * context has been refreshed, so a missing statement fails the start-up rather than the first request to use it.
+ *
+ * Preloading can be disabled by setting the <i>swkroa.sql.preload</i> property to false, in which case statements
+ * are loaded lazily as they are requested.
+ *
+ * @author Craig Gaskill
+ */
+@Named("statementPreloader")
+public final class StatementPreloader implements BeanPostProcessor, ApplicationListener<ContextRefreshedEvent> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(StatementPreloader.class);
+
+  private static final String STATEMENT_RESOURCES = "classpath*:com/cagst/swkroa/**/sql/**/*.sql";
+
+  private final List<BaseRepositoryJdbc> repositories = new ArrayList<>();
+
+  @Value("${swkroa.sql.preload:true}")
+  private boolean preload;
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+    // collect the repositories before they are wrapped in any (transactional) proxy
+    if (bean instanceof BaseRepositoryJdbc) {
+      synchronized (repositories) {
+        repositories.add((BaseRepositoryJdbc) bean);
+      }
+    }
+
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+    return bean;
+  }
+
+  @Override
+  public void onApplicationEvent(ContextRefreshedEvent event) {
+    if (!preload) {
+      LOGGER.info("Preloading of SQL statements is disabled.");
+      return;
+    }
+
+    Set<String> referenced = new TreeSet<>();
+    synchronized (repositories) {
+      for (BaseRepositoryJdbc repo : repositories) {
+        referenced.addAll(StatementLoader.preload(repo.getClass(), repo.getStatementDialect()));
+      }
+    }
+
+    Set<String> unreferenced = new TreeSet<>(getStatementResourceNames());
+    unreferenced.removeAll(referenced);
+
+    LOGGER.info("Preloaded [{}] SQL statements for [{}] repositories.", referenced.size(), repositories.size());
+    if (!unreferenced.isEmpty()) {
+      LOGGER.warn("SQL statements not referenced by any repository {}.", unreferenced);
+    }
+  }
+
+  private Set<String> getStatementResourceNames() {
+    Set<String> names = new TreeSet<>();
+
+    try {
+      for (Resource resource : new PathMatchingResourcePatternResolver().getResources(STATEMENT_RESOURCES)) {
+        names.add(FilenameUtils.getBaseName(resource.getFilename()));
+      }
+    } catch (IOException ex) {
+      LOGGER.warn("Unable to scan for SQL statement resources.", ex);
+    }
+
+    return names;
+  }
+}
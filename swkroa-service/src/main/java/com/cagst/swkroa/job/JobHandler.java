@@ -0,0 +1,37 @@
+package com.cagst.swkroa.job;
+
+import java.util.List;
+
+import com.cagst.swkroa.user.User;
+
+/**
+ * Definition of a handler that performs the work of the {@link Job Jobs} of a single {@link JobType} on behalf of
+ * the {@link JobScheduler}.
+ *
+ * @author Craig Gaskill
+ */
+public interface JobHandler {
+  /**
+   * @return The {@link JobType} of the Jobs this handler performs.
+   */
+  JobType getJobType();
+
+  /**
+   * @return The maximum number of Jobs of this type a single node will run at the same time.
+   */
+  int getMaxConcurrency();
+
+  /**
+   * Performs the work of the {@link Job}. A Job that was interrupted (by a crash or shutdown) is executed again
+   * with only the {@link JobDetail JobDetails} that had not completed, so each detail must be persisted as
+   * SUCCEEDED or FAILED as soon as it has been processed.
+   *
+   * @param job
+   *    The {@link Job} to perform.
+   * @param jobDetails
+   *    The {@link List} of {@link JobDetail JobDetails} of the Job that have not been completed.
+   * @param user
+   *    The {@link User} that submitted the Job.
+   */
+  void execute(final Job job, final List<JobDetail> jobDetails, final User user);
+}
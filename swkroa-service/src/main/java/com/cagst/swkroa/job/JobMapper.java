@@ -1,9 +1,15 @@
 package com.cagst.swkroa.job;
 
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.cagst.swkroa.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
@@ -17,6 +23,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
   private static final String JOB_NAME     = "job_name";
   private static final String JOB_TYPE     = "job_type";
   private static final String JOB_STATUS   = "job_status";
+  private static final String JOB_PARAMS   = "job_params";
 
   // meta-data
   private static final String ACTIVE_IND   = "active_ind";
@@ -24,6 +31,10 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
   private static final String UPDT_ID      = "updt_id";
   private static final String JOB_UPDT_CNT = "job_updt_cnt";
 
+  private static final ObjectMapper PARAMS_MAPPER = new ObjectMapper();
+  private static final TypeReference<LinkedHashMap<String, String>> PARAMS_TYPE =
+      new TypeReference<LinkedHashMap<String, String>>() { };
+
   @Override
   public Job mapRow(ResultSet rs, int rowNum) throws SQLException {
     Job job = new Job();
@@ -31,6 +42,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
     job.setJobName(rs.getString(JOB_NAME));
     job.setJobType(JobType.valueOf(rs.getString(JOB_TYPE)));
     job.setJobStatus(JobStatus.valueOf(rs.getString(JOB_STATUS)));
+    job.setParameters(readParameters(rs.getString(JOB_PARAMS)));
     job.setCreateUID(rs.getLong(CREATE_ID));
 
     job.setActive(rs.getBoolean(ACTIVE_IND));
@@ -54,6 +66,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
     params.addValue(JOB_NAME, job.getJobName());
     params.addValue(JOB_TYPE, job.getJobType().name());
     params.addValue(JOB_STATUS, job.getJobStatus().name());
+    params.addValue(JOB_PARAMS, writeParameters(job.getParameters()));
 
     params.addValue(ACTIVE_IND, job.isActive());
     params.addValue(CREATE_ID, user.getUserUID());
@@ -77,6 +90,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
     params.addValue(JOB_NAME, job.getJobName());
     params.addValue(JOB_TYPE, job.getJobType().name());
     params.addValue(JOB_STATUS, job.getJobStatus().name());
+    params.addValue(JOB_PARAMS, writeParameters(job.getParameters()));
     params.addValue(ACTIVE_IND, job.isActive());
     params.addValue(UPDT_ID, user.getUserUID());
 
@@ -85,4 +99,28 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
     return params;
   }
+
+  private static Map<String, String> readParameters(final String value) throws SQLException {
+    if (value == null) {
+      return new LinkedHashMap<>();
+    }
+
+    try {
+      return PARAMS_MAPPER.readValue(value, PARAMS_TYPE);
+    } catch (IOException ex) {
+      throw new SQLException("Unable to read the job parameters [" + value + "]", ex);
+    }
+  }
+
+  private static String writeParameters(final Map<String, String> parameters) {
+    if (parameters == null || parameters.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return PARAMS_MAPPER.writeValueAsString(parameters);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Unable to write the job parameters", ex);
+    }
+  }
 }
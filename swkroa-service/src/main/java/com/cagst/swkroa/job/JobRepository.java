@@ -1,5 +1,6 @@
 package com.cagst.swkroa.job;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.cagst.swkroa.user.User;
@@ -57,7 +58,9 @@ public interface JobRepository {
   List<Job> getJobsForTypeAndStatus(final JobType jobType, final JobStatus jobStatus);
 
   /**
-   * Retrieves a {@link List} of {@link Job}s that are pending for the specified {@link JobType}.
+   * Retrieves a {@link List} of {@link Job}s that are pending for the specified {@link JobType}, those that have
+   * been submitted or are in-process (including those currently being run by a worker), in the order they were
+   * submitted.
    *
    * @param jobType
    *    The {@link JobType} to retrieve pending jobs for.
@@ -66,6 +69,18 @@ public interface JobRepository {
    */
   List<Job> getPendingJobsForType(final JobType jobType);
 
+  /**
+   * Retrieves a {@link List} of {@link Job}s of the specified {@link JobType} that can be claimed by a worker, those
+   * that are pending but not leased by a running worker (or whose lease has expired), in the order they were
+   * submitted.
+   *
+   * @param jobType
+   *    The {@link JobType} to retrieve claimable jobs for.
+   *
+   * @return A {@link List} of {@link Job}s that can be claimed for the specified job type.
+   */
+  List<Job> getClaimableJobsForType(final JobType jobType);
+
   /**
    * Retrieves the {@link List} of {@link JobDetail} details associated with the specified Job (id).
    *
@@ -119,4 +134,68 @@ public interface JobRepository {
    *     if the query fails
    */
   JobDetail saveJobDetail(final JobDetail jobDetail, final User user);
+
+  /**
+   * Commits the specified {@link JobDetail JobDetails} to persistent storage as a batch.
+   *
+   * @param jobDetails
+   *    The {@link List} of {@link JobDetail JobDetails} to persist.
+   * @param user
+   *    The {@link User} that performed the changes.
+   *
+   * @return The {@link List} of {@link JobDetail JobDetails} once they have been committed to persistent storage.
+   *
+   * @throws IncorrectResultSizeDataAccessException
+   *     if the number of rows inserted / updated didn't match the expected number (meaning someone has updated
+   *     a detail since it was last read)
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  List<JobDetail> saveJobDetails(final List<JobDetail> jobDetails, final User user);
+
+  /**
+   * Claims a pending {@link Job} for a worker by leasing it to the worker and marking it as in-process. Only one
+   * worker can hold the lease of a Job at a time, a Job can only be claimed by another worker once the lease has
+   * expired.
+   *
+   * @param jobId
+   *    A {@link long} that uniquely identifies the job to claim.
+   * @param leaseOwner
+   *    A {@link String} that uniquely identifies the worker claiming the job.
+   * @param leaseMillis
+   *    The number of milliseconds the lease is valid for.
+   *
+   * @return {@code true} if the job was claimed, {@code false} if it has completed or is leased by another worker.
+   */
+  boolean claimJob(final long jobId, final String leaseOwner, final long leaseMillis);
+
+  /**
+   * Extends the leases of the specified {@link Job Jobs} (heartbeat) held by the worker.
+   *
+   * @param jobIds
+   *    A {@link Collection} of {@link long} that uniquely identify the jobs whose leases are to be extended.
+   * @param leaseOwner
+   *    A {@link String} that uniquely identifies the worker holding the leases.
+   * @param leaseMillis
+   *    The number of milliseconds the leases are valid for.
+   *
+   * @return The number of leases extended, less than the number of jobs if a lease is no longer held by the worker.
+   */
+  int renewJobLeases(final Collection<Long> jobIds, final String leaseOwner, final long leaseMillis);
+
+  /**
+   * Releases the lease held by the worker on the specified {@link Job}, setting the status of the Job.
+   *
+   * @param jobId
+   *    A {@link long} that uniquely identifies the job to release.
+   * @param leaseOwner
+   *    A {@link String} that uniquely identifies the worker holding the lease.
+   * @param jobStatus
+   *    The {@link JobStatus} of the job once it has been released.
+   * @param user
+   *    The {@link User} that performed the changes.
+   *
+   * @return {@code true} if the job was released, {@code false} if the lease is no longer held by the worker.
+   */
+  boolean releaseJob(final long jobId, final String leaseOwner, final JobStatus jobStatus, final User user);
 }
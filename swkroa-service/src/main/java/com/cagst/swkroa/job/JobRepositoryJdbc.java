@@ -3,6 +3,9 @@ package com.cagst.swkroa.job;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
@@ -15,6 +18,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.transaction.annotation.Propagation;
@@ -35,6 +39,7 @@ import org.springframework.util.Assert;
   private static final String GET_JOBS_FOR_TYPE            = "GET_JOBS_FOR_TYPE";
   private static final String GET_JOBS_FOR_TYPE_AND_STATUS = "GET_JOBS_FOR_TYPE_AND_STATUS";
   private static final String GET_PENDING_JOBS_FOR_TYPE    = "GET_PENDING_JOBS_FOR_TYPE";
+  private static final String GET_CLAIMABLE_JOBS_FOR_TYPE  = "GET_CLAIMABLE_JOBS_FOR_TYPE";
   private static final String GET_JOB_DETAILS_FOR_JOB      = "GET_JOB_DETAILS_FOR_JOB";
 
   private static final String INSERT_JOB = "INSERT_JOB";
@@ -43,6 +48,10 @@ import org.springframework.util.Assert;
   private static final String INSERT_JOB_DETAIL = "INSERT_JOB_DETAIL";
   private static final String UPDATE_JOB_DETAIL = "UPDATE_JOB_DETAIL";
 
+  private static final String CLAIM_JOB        = "CLAIM_JOB";
+  private static final String RENEW_JOB_LEASES = "RENEW_JOB_LEASES";
+  private static final String RELEASE_JOB      = "RELEASE_JOB";
+
   /**
    * Primary Constructor used to create an instance of JobRepositoryJdbc.
    *
@@ -119,10 +128,23 @@ import org.springframework.util.Assert;
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
 
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_PENDING_JOBS_FOR_TYPE),
-        new MapSqlParameterSource("job_type", jobType.name()),
-        new JobMapper());
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("job_type", jobType.name());
+
+    return getJdbcTemplate().query(stmtLoader.load(GET_PENDING_JOBS_FOR_TYPE), params, new JobMapper());
+  }
+
+  @Override
+  public List<Job> getClaimableJobsForType(JobType jobType) {
+    LOGGER.debug("Calling getClaimableJobsForType for Type [{}]", jobType);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("job_type", jobType.name());
+    params.addValue("now", new Timestamp(getClock().millis()));
+
+    return getJdbcTemplate().query(stmtLoader.load(GET_CLAIMABLE_JOBS_FOR_TYPE), params, new JobMapper());
   }
 
   @Override
@@ -171,6 +193,102 @@ import org.springframework.util.Assert;
     }
   }
 
+  @Override
+  @Transactional
+  public List<JobDetail> saveJobDetails(final List<JobDetail> jobDetails, final User user) {
+    Assert.notNull(jobDetails, "Argument [jobDetails] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Calling saveJobDetails for [{}] details", jobDetails.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    List<JobDetail> newDetails = new ArrayList<>();
+    List<SqlParameterSource> insertParams = new ArrayList<>();
+    List<JobDetail> existingDetails = new ArrayList<>();
+    List<SqlParameterSource> updateParams = new ArrayList<>();
+
+    for (JobDetail jobDetail : jobDetails) {
+      if (jobDetail.getJobDetailUID() == 0L) {
+        newDetails.add(jobDetail);
+        insertParams.add(JobDetailMapper.mapInsertStatement(jobDetail, user));
+      } else {
+        existingDetails.add(jobDetail);
+        updateParams.add(JobDetailMapper.mapUpdateStatement(jobDetail, user));
+      }
+    }
+
+    batchUpdate(stmtLoader.load(UPDATE_JOB_DETAIL), updateParams);
+    for (JobDetail jobDetail : existingDetails) {
+      jobDetail.setJobDetailUpdateCount(jobDetail.getJobDetailUpdateCount() + 1);
+    }
+
+    List<Long> uids = batchInsert(stmtLoader.load(INSERT_JOB_DETAIL), insertParams);
+    for (int idx = 0; idx < uids.size(); idx++) {
+      newDetails.get(idx).setJobDetailUID(uids.get(idx));
+    }
+
+    return jobDetails;
+  }
+
+  @Override
+  public boolean claimJob(final long jobId, final String leaseOwner, final long leaseMillis) {
+    Assert.hasText(leaseOwner, "Argument [leaseOwner] cannot be null or empty");
+
+    LOGGER.info("Calling claimJob for [{}] by [{}]", jobId, leaseOwner);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    long now = getClock().millis();
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("job_id", jobId);
+    params.addValue("lease_owner", leaseOwner);
+    params.addValue("lease_expire_dt_tm", new Timestamp(now + leaseMillis));
+    params.addValue("now", new Timestamp(now));
+
+    return getJdbcTemplate().update(stmtLoader.load(CLAIM_JOB), params) == 1;
+  }
+
+  @Override
+  public int renewJobLeases(final Collection<Long> jobIds, final String leaseOwner, final long leaseMillis) {
+    Assert.hasText(leaseOwner, "Argument [leaseOwner] cannot be null or empty");
+
+    if (jobIds == null || jobIds.isEmpty()) {
+      return 0;
+    }
+
+    LOGGER.debug("Calling renewJobLeases for [{}] by [{}]", jobIds, leaseOwner);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("job_ids", jobIds);
+    params.addValue("lease_owner", leaseOwner);
+    params.addValue("lease_expire_dt_tm", new Timestamp(getClock().millis() + leaseMillis));
+
+    return getJdbcTemplate().update(stmtLoader.load(RENEW_JOB_LEASES), params);
+  }
+
+  @Override
+  public boolean releaseJob(final long jobId, final String leaseOwner, final JobStatus jobStatus, final User user) {
+    Assert.hasText(leaseOwner, "Argument [leaseOwner] cannot be null or empty");
+    Assert.notNull(jobStatus, "Argument [jobStatus] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Calling releaseJob for [{}] as [{}]", jobId, jobStatus);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("job_id", jobId);
+    params.addValue("lease_owner", leaseOwner);
+    params.addValue("job_status", jobStatus.name());
+    params.addValue("updt_id", user.getUserUID());
+
+    return getJdbcTemplate().update(stmtLoader.load(RELEASE_JOB), params) == 1;
+  }
+
   /**
    * Helper method to insert the job into persistent storage.
    */
@@ -189,10 +307,11 @@ import org.springframework.util.Assert;
 
     for (JobDetail jobDetail : job.getJobDetails()) {
       jobDetail.setJobUID(job.getJobUID());
-
-      saveJobDetail(jobDetail, user);
     }
 
+    // the details are written as a batch rather than a statement per detail
+    saveJobDetails(job.getJobDetails(), user);
+
     return job;
   }
 
@@ -213,10 +332,10 @@ import org.springframework.util.Assert;
 
     for (JobDetail jobDetail : job.getJobDetails()) {
       jobDetail.setJobUID(job.getJobUID());
-
-      saveJobDetail(jobDetail, user);
     }
 
+    saveJobDetails(job.getJobDetails(), user);
+
     return job;
   }
 
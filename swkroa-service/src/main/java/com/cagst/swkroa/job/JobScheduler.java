@@ -0,0 +1,330 @@
+package com.cagst.swkroa.job;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.cagst.swkroa.user.User;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the {@link Job Jobs} persisted by the {@link JobRepository}, so a Job survives the node that submitted it.
+ *
+ * The scheduler polls for pending Jobs of each {@link JobType} it has a {@link JobHandler} for and claims a Job by
+ * leasing it. The lease is extended (heartbeat) for as long as the Job runs, if the node dies the lease expires and
+ * the Job is claimed by the next node to poll and resumed from the {@link JobDetail JobDetails} that had not
+ * completed. Each node runs at most {@link JobHandler#getMaxConcurrency()} Jobs of a type at a time, a Job is only
+ * claimed once there is capacity to run it so any others stay queued in the database.
+ *
+ * @author Craig Gaskill
+ */
+@Named("jobScheduler")
+public class JobScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobScheduler.class);
+
+  private static final long SHUTDOWN_TIMEOUT_SECS = 10L;
+
+  private final JobRepository jobRepo;
+  private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+  private final Map<JobType, Semaphore> permits = new EnumMap<>(JobType.class);
+  private final long leaseMillis;
+  private final long pollInterval;
+  private final String leaseOwner;
+  private final boolean enabled;
+
+  // the jobs currently being run by this node
+  private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService workers;
+
+  private volatile boolean shutdown = false;
+
+  /**
+   * Primary Constructor used to create an instance of <i>JobScheduler</i>.
+   *
+   * @param jobRepo
+   *    The {@link JobRepository} used to retrieve and lease {@link Job Jobs}.
+   * @param handlers
+   *    The {@link List} of {@link JobHandler JobHandlers} that perform the Jobs.
+   * @param leaseMillis
+   *    The number of milliseconds a Job is leased for, the lease is extended every third of this.
+   * @param pollInterval
+   *    The number of milliseconds between polls for pending Jobs.
+   * @param enabled
+   *    {@code true} if this node runs Jobs, {@code false} if it only submits them.
+   */
+  @Inject
+  public JobScheduler(JobRepository jobRepo,
+                      List<JobHandler> handlers,
+                      @Value("${swkroa.job.lease.ms:60000}") long leaseMillis,
+                      @Value("${swkroa.job.poll.interval.ms:5000}") long pollInterval,
+                      @Value("${swkroa.job.scheduler.enabled:true}") boolean enabled) {
+
+    Assert.isTrue(leaseMillis >= 1000L, "Argument [leaseMillis] must be at least 1000");
+    Assert.isTrue(pollInterval > 0, "Argument [pollInterval] must be greater than 0");
+
+    this.jobRepo = jobRepo;
+    this.leaseMillis = leaseMillis;
+    this.pollInterval = pollInterval;
+    this.enabled = enabled;
+    this.leaseOwner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    int threads = 0;
+    for (JobHandler handler : handlers) {
+      Assert.isTrue(!this.handlers.containsKey(handler.getJobType()),
+          "More than one JobHandler for [" + handler.getJobType() + "]");
+
+      this.handlers.put(handler.getJobType(), handler);
+      this.permits.put(handler.getJobType(), new Semaphore(handler.getMaxConcurrency()));
+      threads += handler.getMaxConcurrency();
+    }
+
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("swkroa-job-scheduler-%d").setDaemon(true).build());
+    this.workers = Executors.newFixedThreadPool(Math.max(threads, 1),
+        new ThreadFactoryBuilder().setNameFormat("swkroa-job-%d").setDaemon(true).build());
+  }
+
+  /**
+   * Starts polling for pending {@link Job Jobs} and extending the leases of the running Jobs.
+   */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      LOGGER.info("Job scheduler is disabled, jobs will be run by other nodes.");
+      return;
+    }
+
+    LOGGER.info("Starting job scheduler [{}]", leaseOwner);
+
+    scheduler.scheduleWithFixedDelay(this::poll, 0L, pollInterval, TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(this::heartbeat, leaseMillis / 3, leaseMillis / 3, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Persists the {@link Job} (and its {@link JobDetail JobDetails}) to be run as soon as there is capacity to run
+   * it, on this or any other node.
+   *
+   * @param job
+   *    The {@link Job} to submit.
+   * @param user
+   *    The {@link User} that submitted the Job.
+   *
+   * @return The {@link Job} once it has been committed to persistent storage.
+   */
+  public Job submit(Job job, User user) {
+    Assert.notNull(job, "Argument [job] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+    Assert.isTrue(handlers.containsKey(job.getJobType()), "Argument [job] is of an unsupported type");
+
+    job.setJobStatus(JobStatus.SUBMITTED);
+    for (JobDetail jobDetail : job.getJobDetails()) {
+      jobDetail.setJobStatus(JobStatus.SUBMITTED);
+    }
+
+    Job savedJob = jobRepo.saveJob(job, user);
+
+    // don't wait for the next poll if this node has the capacity to run it
+    requestPoll();
+
+    return savedJob;
+  }
+
+  /**
+   * Claims and starts as many pending {@link Job Jobs} as there is capacity to run.
+   */
+  /* package */ void poll() {
+    for (Map.Entry<JobType, JobHandler> entry : handlers.entrySet()) {
+      Semaphore available = permits.get(entry.getKey());
+      if (shutdown || available.availablePermits() == 0) {
+        continue;
+      }
+
+      try {
+        for (Job job : jobRepo.getClaimableJobsForType(entry.getKey())) {
+          if (shutdown || !available.tryAcquire()) {
+            break;
+          }
+
+          if (!claim(job, entry.getValue())) {
+            available.release();
+          }
+        }
+      } catch (RuntimeException ex) {
+        // never let a failure escape, it would stop the poller
+        LOGGER.error("Unable to poll for pending [" + entry.getKey() + "] jobs.", ex);
+      }
+    }
+  }
+
+  /**
+   * Extends the leases of the {@link Job Jobs} running on this node.
+   */
+  /* package */ void heartbeat() {
+    if (runningJobs.isEmpty()) {
+      return;
+    }
+
+    List<Long> jobIds = new ArrayList<>(runningJobs);
+
+    try {
+      int cnt = jobRepo.renewJobLeases(jobIds, leaseOwner, leaseMillis);
+      if (cnt != jobIds.size()) {
+        LOGGER.warn("Only [{}] of the leases for jobs {} were extended, a job may be run by another node.", cnt, jobIds);
+      }
+    } catch (RuntimeException ex) {
+      LOGGER.error("Unable to extend the leases of jobs " + jobIds + ".", ex);
+    }
+  }
+
+  /**
+   * @return The number of {@link Job Jobs} currently running on this node.
+   */
+  public int getRunningJobCount() {
+    return runningJobs.size();
+  }
+
+  /**
+   * Stops claiming {@link Job Jobs} and interrupts any running Jobs, they are resumed by the next node to poll once
+   * their leases expire.
+   */
+  @PreDestroy
+  public void shutdown() {
+    shutdown = true;
+
+    scheduler.shutdownNow();
+    workers.shutdownNow();
+
+    try {
+      if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Timed out waiting for jobs {} to stop, they will be resumed once their leases expire.", runningJobs);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void requestPoll() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      scheduler.execute(this::poll);
+    } catch (RejectedExecutionException ex) {
+      LOGGER.debug("Job scheduler has been shut down, not polling.");
+    }
+  }
+
+  /**
+   * Helper method to claim the job and start running it.
+   *
+   * @return {@code true} if the job was claimed, {@code false} if it has been claimed by another node.
+   */
+  private boolean claim(final Job job, final JobHandler handler) {
+    if (!jobRepo.claimJob(job.getJobUID(), leaseOwner, leaseMillis)) {
+      LOGGER.debug("Job [{}] has been claimed by another node.", job.getJobUID());
+      return false;
+    }
+
+    runningJobs.add(job.getJobUID());
+
+    try {
+      workers.execute(() -> run(job, handler));
+    } catch (RejectedExecutionException ex) {
+      runningJobs.remove(job.getJobUID());
+      release(job, JobStatus.INPROCESS);
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Helper method to run the claimed job, resuming it from the details that haven't completed.
+   */
+  private void run(final Job job, final JobHandler handler) {
+    LOGGER.info("Running job [{}] of type [{}]", job.getJobUID(), job.getJobType());
+
+    JobStatus jobStatus = null;
+    try {
+      List<JobDetail> jobDetails = jobRepo.getDetailsForJob(job.getJobUID());
+
+      List<JobDetail> pendingDetails = new ArrayList<>(jobDetails.size());
+      for (JobDetail jobDetail : jobDetails) {
+        if (jobDetail.getJobStatus() == JobStatus.SUBMITTED || jobDetail.getJobStatus() == JobStatus.INPROCESS) {
+          pendingDetails.add(jobDetail);
+        }
+      }
+
+      if (pendingDetails.size() < jobDetails.size()) {
+        LOGGER.info("Resuming job [{}] with [{}] of [{}] details remaining.",
+            job.getJobUID(), pendingDetails.size(), jobDetails.size());
+      }
+
+      if (!pendingDetails.isEmpty()) {
+        handler.execute(job, pendingDetails, getUser(job));
+      }
+
+      jobStatus = JobStatus.of(jobDetails);
+    } catch (RuntimeException ex) {
+      if (shutdown) {
+        // keep the lease, a chunk may still be committing, the job is resumed once the lease expires
+        LOGGER.warn("Job [{}] was interrupted by shutdown, it will be resumed once its lease expires.", job.getJobUID());
+      } else {
+        LOGGER.error("Job [" + job.getJobUID() + "] failed.", ex);
+        jobStatus = JobStatus.FAILED;
+      }
+    }
+
+    try {
+      if (jobStatus != null) {
+        release(job, jobStatus);
+      }
+    } finally {
+      runningJobs.remove(job.getJobUID());
+      permits.get(job.getJobType()).release();
+
+      if (!shutdown) {
+        requestPoll();
+      }
+    }
+  }
+
+  private void release(final Job job, final JobStatus jobStatus) {
+    try {
+      if (!jobRepo.releaseJob(job.getJobUID(), leaseOwner, jobStatus, getUser(job))) {
+        LOGGER.warn("Lease on job [{}] was lost before it completed as [{}].", job.getJobUID(), jobStatus);
+      }
+    } catch (RuntimeException ex) {
+      LOGGER.error("Unable to release job [" + job.getJobUID() + "], it will be resumed once its lease expires.", ex);
+    }
+  }
+
+  private static User getUser(final Job job) {
+    User user = new User();
+    user.setUserUID(job.getCreateUID());
+
+    return user;
+  }
+}
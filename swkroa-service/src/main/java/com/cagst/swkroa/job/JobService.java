@@ -1,5 +1,7 @@
 package com.cagst.swkroa.job;
 
+import java.util.List;
+
 import com.cagst.swkroa.user.User;
 import org.joda.time.DateTime;
 
@@ -9,9 +11,68 @@ import org.joda.time.DateTime;
  * @author Craig Gaskill
  */
 public interface JobService {
-  void processRenewalJob(final JobDetail jobDetail,
-                         final String transactionDescription,
-                         final DateTime transactionDate,
-                         final String transactionMemo,
-                         final User user);
+  /**
+   * Resolves the reference data (code values, report template) needed to renew memberships so it is looked up
+   * once per renewal run.
+   *
+   * @param transactionDescription
+   *    A {@link String} that describes the invoices (and renewal letters) being generated.
+   * @param transactionDate
+   *    The {@link DateTime} of the invoices being generated.
+   * @param transactionMemo
+   *    A {@link String} memo to associate with the invoices being generated.
+   * @param user
+   *    The {@link User} that performed the changes.
+   *
+   * @return A {@link RenewalContext} that can be shared by every chunk of the renewal run.
+   */
+  RenewalContext createRenewalContext(final String transactionDescription,
+                                      final DateTime transactionDate,
+                                      final String transactionMemo,
+                                      final User user);
+
+  /**
+   * Renews the Memberships identified by the specified {@link JobDetail JobDetails} within a single (new)
+   * database transaction. The invoices, next due dates and job detail statuses of the chunk are persisted as
+   * batches.
+   *
+   * A Membership that cannot be invoiced is marked as {@link JobStatus#FAILED} without affecting the rest of the
+   * chunk, if persisting the chunk fails the transaction is rolled back and the exception is propagated.
+   *
+   * @param jobDetails
+   *    The {@link List} of {@link JobDetail JobDetails} to process.
+   * @param context
+   *    The {@link RenewalContext} of the renewal run.
+   */
+  void processRenewalChunk(final List<JobDetail> jobDetails, final RenewalContext context);
+
+  /**
+   * Compares the membership balance ledger against the transactions it is derived from and refreshes any
+   * Membership whose ledger entry is out of date.
+   *
+   * @return A {@link List} of {@code long} that uniquely identify the Memberships that were repaired.
+   */
+  List<Long> verifyMembershipBalances();
+
+  /**
+   * Discards and recalculates the membership balance ledger for every Membership.
+   *
+   * @return The number of Memberships written to the ledger.
+   */
+  int rebuildMembershipBalances();
+
+  /**
+   * Compares the invoice settlement index against the transactions it is derived from and refreshes any invoice
+   * whose index entry is out of date.
+   *
+   * @return A {@link List} of {@code long} that uniquely identify the invoices that were repaired.
+   */
+  List<Long> verifyInvoiceSettlements();
+
+  /**
+   * Discards and recalculates the invoice settlement index for every invoice.
+   *
+   * @return The number of invoices written to the index.
+   */
+  int rebuildInvoiceSettlements();
 }
@@ -2,11 +2,9 @@ package com.cagst.swkroa.job;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.sql.DataSource;
 import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +21,10 @@ import com.cagst.swkroa.member.MemberType;
 import com.cagst.swkroa.member.MemberTypeRepository;
 import com.cagst.swkroa.member.Membership;
 import com.cagst.swkroa.member.MembershipRepository;
+import com.cagst.swkroa.report.ReportService;
 import com.cagst.swkroa.report.jasper.JasperReportLoader;
+import com.cagst.swkroa.transaction.InvoiceSettlementRepository;
+import com.cagst.swkroa.transaction.MembershipBalanceRepository;
 import com.cagst.swkroa.transaction.Transaction;
 import com.cagst.swkroa.transaction.TransactionEntry;
 import com.cagst.swkroa.transaction.TransactionRepository;
@@ -31,11 +32,10 @@ import com.cagst.swkroa.transaction.TransactionType;
 import com.cagst.swkroa.user.User;
 import com.google.common.net.MediaType;
 import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperReport;
-import net.sf.jasperreports.engine.JasperRunManager;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,8 +55,10 @@ public class JobServiceImpl implements JobService {
   private final MemberTypeRepository memberTypeRepo;
   private final DocumentRepository documentRepo;
   private final TransactionRepository transactionRepo;
+  private final MembershipBalanceRepository membershipBalanceRepo;
+  private final InvoiceSettlementRepository invoiceSettlementRepo;
 
-  private final DataSource dataSource;
+  private final ReportService reportService;
 
   /**
    * Primary Constructor used to create an instance of <i>JobServiceImpl</i>.
@@ -72,7 +74,9 @@ public class JobServiceImpl implements JobService {
                         MemberTypeRepository memberTypeRepo,
                         DocumentRepository documentRepo,
                         TransactionRepository transactionRepo,
-                        DataSource dataSource) {
+                        MembershipBalanceRepository membershipBalanceRepo,
+                        InvoiceSettlementRepository invoiceSettlementRepo,
+                        ReportService reportService) {
     this.jobRepo = jobRepo;
     this.codeValueRepo = codeValueRepo;
     this.membershipRepo = membershipRepo;
@@ -80,31 +84,17 @@ public class JobServiceImpl implements JobService {
     this.memberTypeRepo = memberTypeRepo;
     this.documentRepo = documentRepo;
     this.transactionRepo = transactionRepo;
+    this.membershipBalanceRepo = membershipBalanceRepo;
+    this.invoiceSettlementRepo = invoiceSettlementRepo;
 
-    this.dataSource = dataSource;
+    this.reportService = reportService;
   }
 
   @Override
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void processRenewalJob(JobDetail jobDetail,
-                                String transactionDescription,
-                                DateTime transactionDate,
-                                String transactionMemo,
-                                User user) {
-    // set JobDetail as started (In-Process)
-    jobDetail.setJobStatus(JobStatus.INPROCESS);
-    jobRepo.saveJobDetail(jobDetail, user);
-
-    long membershipId = jobDetail.getParentEntityUID();
-
-    Membership membership = membershipRepo.getMembershipByUID(membershipId);
-    if (membership == null) {
-      // set JobDetail as completed (FAILED)
-      jobDetail.setJobStatus(JobStatus.FAILED);
-      jobRepo.saveJobDetail(jobDetail, user);
-
-      throw new NotFoundException("Membership [" + membershipId + "] was not found.");
-    }
+  public RenewalContext createRenewalContext(String transactionDescription,
+                                             DateTime transactionDate,
+                                             String transactionMemo,
+                                             User user) {
 
     CodeValue renewalLetter = codeValueRepo.getCodeValueByMeaning(CodeSetType.DOCUMENT_TYPE, CodeValue.DOCUMENT_RENEWAL);
 
@@ -112,97 +102,184 @@ public class JobServiceImpl implements JobService {
     CodeValue familyDues = codeValueRepo.getCodeValueByMeaning(CodeSetType.TRANSACTION_ENTRY_TYPE, "TRANS_DUES_FAMILY");
     CodeValue incrementalDues = codeValueRepo.getCodeValueByMeaning(CodeSetType.TRANSACTION_ENTRY_TYPE, "TRANS_DUES_INC");
 
-    try {
-      List<Member> members = memberRepo.getMembersForMembership(membership);
-
-      // Create Transaction
-      Transaction invoice = new Transaction();
-      invoice.setMembershipUID(membershipId);
-      invoice.setTransactionDate(transactionDate);
-      invoice.setTransactionDescription(transactionDescription);
-      invoice.setMemo(transactionMemo);
-      invoice.setTransactionType(TransactionType.INVOICE);
-      invoice.setActive(true);
-
-      // Create Transaction Entries
-      for (Member member : members) {
-        MemberType type = memberTypeRepo.getMemberTypeByUID(member.getMemberType().getMemberTypeUID());
-        if (type.getDuesAmount().compareTo(BigDecimal.ZERO) > 0) {
-          TransactionEntry entry = new TransactionEntry();
-          entry.setTransaction(invoice);
-          entry.setTransactionEntryType(type.isPrimary() ? baseDues : familyDues);
-          entry.setTransactionEntryAmount(type.getDuesAmount().negate());
-          entry.setActive(true);
-
-          invoice.addEntry(entry);
+    return new RenewalContext(transactionDescription, transactionDate, transactionMemo, user,
+        renewalLetter, baseDues, familyDues, incrementalDues, JasperReportLoader.MEMBERSHIP_RENEWAL_PDF, memberTypeRepo);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void processRenewalChunk(List<JobDetail> jobDetails, RenewalContext context) {
+    User user = context.getUser();
+
+    List<JobDetail> renewedDetails = new ArrayList<>(jobDetails.size());
+    List<Transaction> invoices = new ArrayList<>(jobDetails.size());
+
+    // build the invoice for each membership, a membership that can't be invoiced only fails itself
+    for (JobDetail jobDetail : jobDetails) {
+      long membershipId = jobDetail.getParentEntityUID();
+
+      try {
+        Membership membership = membershipRepo.getMembershipByUID(membershipId);
+        if (membership == null) {
+          throw new NotFoundException("Membership [" + membershipId + "] was not found.");
         }
+
+        Transaction invoice = createRenewalInvoice(membership, context);
+
+        renewedDetails.add(jobDetail);
+        invoices.add(invoice);
+      } catch (Exception ex) {
+        LOGGER.warn("Unable to renew Membership [{}]: {}", membershipId, ex.getMessage());
+
+        // set JobDetail as completed (FAILED)
+        jobDetail.setJobStatus(JobStatus.FAILED);
       }
+    }
 
-      // Create the incremental dues transaction entry
-      if (membership.getIncrementalDues() != null) {
-        TransactionEntry entry = new TransactionEntry();
-        entry.setTransaction(invoice);
-        entry.setTransactionEntryType(incrementalDues);
-        entry.setTransactionEntryAmount(membership.getIncrementalDues().negate());
-        entry.setActive(true);
+    if (!renewedDetails.isEmpty()) {
+      List<Long> membershipIds = new ArrayList<>(renewedDetails.size());
+      for (JobDetail jobDetail : renewedDetails) {
+        membershipIds.add(jobDetail.getParentEntityUID());
+      }
 
-        invoice.addEntry(entry);
+      // Create the Renewal Membership Letters (before the invoices are saved so the balance is the prior balance)
+      Map<Long, byte[]> letters = generateDueRenewalReports(context.getRenewalReport(), membershipIds,
+          context.getTransactionDescription());
+
+      // Save the Invoices (transactions)
+      transactionRepo.saveTransactions(invoices, user);
+
+      // Update Memberships (next_due_dt)
+      membershipRepo.updateNextDueDates(membershipIds, user);
+
+      // Save the Renewal Membership Letter documents
+      for (int idx = 0; idx < invoices.size(); idx++) {
+        Document document = new Document();
+        document.setParentEntityUID(invoices.get(idx).getTransactionUID());
+        document.setParentEntityName(Document.TRANSACTION);
+        document.setDocumentType(context.getRenewalLetter());
+        document.setDocumentName(context.getTransactionDescription());
+        document.setDocumentFormat(MediaType.PDF.toString());
+        document.setDocumentContents(letters.get(invoices.get(idx).getMembershipUID()));
+        document.setBeginEffectiveDate(new DateTime());
+        document.setDocumentDescription(context.getTransactionDescription());
+
+        documentRepo.saveDocument(document, user);
       }
 
-      // Save the Invoice (transaction)
-      Transaction savedTransaction = transactionRepo.saveTransaction(invoice, user);
+      // set JobDetails as completed (SUCCEEDED)
+      for (JobDetail jobDetail : renewedDetails) {
+        jobDetail.setJobStatus(JobStatus.SUCCEEDED);
+      }
+    }
 
-      // load the report template
-      JasperReport jasperReport = JasperReportLoader.getReport(JasperReportLoader.MEMBERSHIP_RENEWAL_PDF);
+    jobRepo.saveJobDetails(jobDetails, user);
+  }
 
-      // Create the Document for the Renewal Membership Letter
-      byte[] reportContent = generateDueRenewalReport(jasperReport, membershipId, transactionDescription);
+  @Override
+  @Transactional
+  public List<Long> verifyMembershipBalances() {
+    List<Long> staleMemberships = membershipBalanceRepo.getMembershipsWithStaleBalance();
+    if (!staleMemberships.isEmpty()) {
+      LOGGER.warn("Membership balance ledger was out of date for [{}] memberships, refreshing.", staleMemberships.size());
+      membershipBalanceRepo.refreshBalances(staleMemberships);
+    }
 
-      Document document = new Document();
-      document.setParentEntityUID(savedTransaction.getTransactionUID());
-      document.setParentEntityName(Document.TRANSACTION);
-      document.setDocumentType(renewalLetter);
-      document.setDocumentName(transactionDescription);
-      document.setDocumentFormat(MediaType.PDF.toString());
-      document.setDocumentContents(reportContent);
-      document.setBeginEffectiveDate(new DateTime());
-      document.setDocumentDescription(transactionDescription);
+    return staleMemberships;
+  }
 
-      // Save the Renewal Membership Letter document
-      documentRepo.saveDocument(document, user);
+  @Override
+  @Transactional
+  public int rebuildMembershipBalances() {
+    int cnt = membershipBalanceRepo.rebuildBalances();
+    LOGGER.info("Rebuilt membership balance ledger for [{}] memberships.", cnt);
 
-      // Update Membership (next_due_dt)
-      membershipRepo.updateNextDueDate(membershipId, user);
-    } catch (Exception ex) {
-      // set JobDetail as completed (FAILED)
-      jobDetail.setJobStatus(JobStatus.FAILED);
-      jobRepo.saveJobDetail(jobDetail, user);
+    return cnt;
+  }
 
-      return;
+  @Override
+  @Transactional
+  public List<Long> verifyInvoiceSettlements() {
+    List<Long> staleInvoices = invoiceSettlementRepo.getInvoicesWithStaleSettlement();
+    if (!staleInvoices.isEmpty()) {
+      LOGGER.warn("Invoice settlement index was out of date for [{}] invoices, refreshing.", staleInvoices.size());
+      invoiceSettlementRepo.refreshSettlements(staleInvoices);
     }
 
-    // set JobDetail as completed (SUCCEEDED)
-    jobDetail.setJobStatus(JobStatus.SUCCEEDED);
-    jobRepo.saveJobDetail(jobDetail, user);
+    return staleInvoices;
+  }
+
+  @Override
+  @Transactional
+  public int rebuildInvoiceSettlements() {
+    int cnt = invoiceSettlementRepo.rebuildSettlements();
+    LOGGER.info("Rebuilt invoice settlement index for [{}] invoices.", cnt);
 
+    return cnt;
   }
 
-  private byte[] generateDueRenewalReport(final JasperReport jasperReport,
-                                          final long membershipId,
-                                          final String transactionDescription) {
+  private Transaction createRenewalInvoice(final Membership membership, final RenewalContext context) {
+    List<Member> members = memberRepo.getMembersForMembership(membership);
+
+    // Create Transaction
+    Transaction invoice = new Transaction();
+    invoice.setMembershipUID(membership.getMembershipUID());
+    invoice.setTransactionDate(context.getTransactionDate());
+    invoice.setTransactionDescription(context.getTransactionDescription());
+    invoice.setMemo(context.getTransactionMemo());
+    invoice.setTransactionType(TransactionType.INVOICE);
+    invoice.setActive(true);
+
+    // Create Transaction Entries
+    for (Member member : members) {
+      MemberType type = context.getMemberType(member.getMemberType().getMemberTypeUID());
+      if (type.getDuesAmount().compareTo(BigDecimal.ZERO) > 0) {
+        TransactionEntry entry = new TransactionEntry();
+        entry.setTransaction(invoice);
+        entry.setTransactionEntryType(type.isPrimary() ? context.getBaseDues() : context.getFamilyDues());
+        entry.setTransactionEntryAmount(type.getDuesAmount().negate());
+        entry.setActive(true);
+
+        invoice.addEntry(entry);
+      }
+    }
+
+    // Create the incremental dues transaction entry
+    if (membership.getIncrementalDues() != null) {
+      TransactionEntry entry = new TransactionEntry();
+      entry.setTransaction(invoice);
+      entry.setTransactionEntryType(context.getIncrementalDues());
+      entry.setTransactionEntryAmount(membership.getIncrementalDues().negate());
+      entry.setActive(true);
+
+      invoice.addEntry(entry);
+    }
+
+    // an invoice without any entries cannot be saved
+    if (invoice.getTransactionEntries().isEmpty()) {
+      throw new IncorrectResultSizeDataAccessException(1, 0);
+    }
+
+    return invoice;
+  }
 
-    try (Connection connection = dataSource.getConnection()) {
-      List<Long> membershipIds = new ArrayList<>(1);
-      membershipIds.add(membershipId);
+  /**
+   * Helper method to fill the renewal letter once for all of the specified memberships and split it into a letter
+   * per membership.
+   */
+  private Map<Long, byte[]> generateDueRenewalReports(final String template,
+                                                      final List<Long> membershipIds,
+                                                      final String transactionDescription) {
 
-      Map<String, Object> params = new HashMap<>(2);
-      params.put("memberships", membershipIds);
-      params.put("membershipPeriod", transactionDescription);
+    Map<String, Object> params = new HashMap<>(2);
+    params.put("memberships", membershipIds);
+    params.put("membershipPeriod", transactionDescription);
 
-      return JasperRunManager.runReportToPdf(jasperReport, params, connection);
-    } catch (JRException|SQLException ex) {
+    try {
+      return reportService.exportReportPerEntity(template, params);
+    } catch (JRException ex) {
       LOGGER.error(ex.getMessage(), ex);
-      return null;
+      return Collections.emptyMap();
     }
   }
 }
@@ -0,0 +1,123 @@
+package com.cagst.swkroa.job;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.member.MemberType;
+import com.cagst.swkroa.member.MemberTypeRepository;
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+/**
+ * Holds the parameters and reference data of a single renewal run so they are resolved once per run rather
+ * than once per {@link com.cagst.swkroa.member.Membership}.
+ *
+ * The context is shared by every worker of the run and is therefore thread-safe.
+ *
+ * @author Craig Gaskill
+ */
+public final class RenewalContext {
+  private final String transactionDescription;
+  private final DateTime transactionDate;
+  private final String transactionMemo;
+  private final User user;
+
+  private final CodeValue renewalLetter;
+  private final CodeValue baseDues;
+  private final CodeValue familyDues;
+  private final CodeValue incrementalDues;
+  private final String renewalReport;
+
+  private final MemberTypeRepository memberTypeRepo;
+  private final Map<Long, MemberType> memberTypes = new ConcurrentHashMap<>();
+
+  /**
+   * Primary Constructor used to create an instance of <i>RenewalContext</i>.
+   */
+  /* package */ RenewalContext(final String transactionDescription,
+                               final DateTime transactionDate,
+                               final String transactionMemo,
+                               final User user,
+                               final CodeValue renewalLetter,
+                               final CodeValue baseDues,
+                               final CodeValue familyDues,
+                               final CodeValue incrementalDues,
+                               final String renewalReport,
+                               final MemberTypeRepository memberTypeRepo) {
+
+    this.transactionDescription = transactionDescription;
+    this.transactionDate = transactionDate;
+    this.transactionMemo = transactionMemo;
+    this.user = user;
+    this.renewalLetter = renewalLetter;
+    this.baseDues = baseDues;
+    this.familyDues = familyDues;
+    this.incrementalDues = incrementalDues;
+    this.renewalReport = renewalReport;
+    this.memberTypeRepo = memberTypeRepo;
+  }
+
+  public String getTransactionDescription() {
+    return transactionDescription;
+  }
+
+  public DateTime getTransactionDate() {
+    return transactionDate;
+  }
+
+  public String getTransactionMemo() {
+    return transactionMemo;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public CodeValue getRenewalLetter() {
+    return renewalLetter;
+  }
+
+  public CodeValue getBaseDues() {
+    return baseDues;
+  }
+
+  public CodeValue getFamilyDues() {
+    return familyDues;
+  }
+
+  public CodeValue getIncrementalDues() {
+    return incrementalDues;
+  }
+
+  /**
+   * @return The classpath location of the renewal letter report template.
+   */
+  public String getRenewalReport() {
+    return renewalReport;
+  }
+
+  /**
+   * Retrieves the version of the {@link MemberType} associated with the specified unique identifier that is in effect
+   * as of the transaction date (so members are charged the dues in effect when they are invoiced), resolving it only
+   * the first time it is requested during the run.
+   *
+   * @param memberTypeUID
+   *    A {@link long} that uniquely identifies the {@link MemberType} to retrieve.
+   *
+   * @return The {@link MemberType} associated with the specified uid.
+   */
+  public MemberType getMemberType(final long memberTypeUID) {
+    return memberTypes.computeIfAbsent(memberTypeUID, this::resolveMemberType);
+  }
+
+  private MemberType resolveMemberType(final long memberTypeUID) {
+    try {
+      return memberTypeRepo.getMemberTypeAsOf(memberTypeUID, transactionDate);
+    } catch (EmptyResultDataAccessException ex) {
+      // no version is in effect (the member type has been retired), charge the member's own member type
+      return memberTypeRepo.getMemberTypeByUID(memberTypeUID);
+    }
+  }
+}
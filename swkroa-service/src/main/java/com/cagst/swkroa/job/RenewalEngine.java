@@ -0,0 +1,207 @@
+package com.cagst.swkroa.job;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.cagst.swkroa.user.User;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Renews Memberships by partitioning the {@link JobDetail JobDetails} of a renewal {@link Job} into chunks and
+ * processing the chunks on a bounded pool of workers, each chunk within its own database transaction.
+ *
+ * If a chunk cannot be persisted its JobDetails are retried one at a time, so a single bad Membership only fails
+ * itself rather than the rest of its chunk. The JobDetails of a chunk that could not be completed are saved as
+ * FAILED once the chunk is done with, so they aren't left INPROCESS.
+ *
+ * @author Craig Gaskill
+ */
+@Named("renewalEngine")
+public class RenewalEngine {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RenewalEngine.class);
+
+  private final JobService jobService;
+  private final JobRepository jobRepo;
+  private final int chunkSize;
+  private final ExecutorService executor;
+
+  /**
+   * Primary Constructor used to create an instance of <i>RenewalEngine</i>.
+   *
+   * @param jobService
+   *    The {@link JobService} used to process the chunks of a renewal.
+   * @param jobRepo
+   *    The {@link JobRepository} used to persist the status of the {@link JobDetail JobDetails}.
+   * @param threads
+   *    The number of chunks to process concurrently.
+   * @param chunkSize
+   *    The number of {@link JobDetail JobDetails} to process within a single transaction.
+   */
+  @Inject
+  public RenewalEngine(JobService jobService,
+                       JobRepository jobRepo,
+                       @Value("${swkroa.renewal.threads:4}") int threads,
+                       @Value("${swkroa.renewal.chunk.size:50}") int chunkSize) {
+
+    Assert.isTrue(threads > 0, "Argument [threads] must be greater than 0");
+    Assert.isTrue(chunkSize > 0, "Argument [chunkSize] must be greater than 0");
+
+    this.jobService = jobService;
+    this.jobRepo = jobRepo;
+    this.chunkSize = chunkSize;
+    this.executor = Executors.newFixedThreadPool(threads,
+        new ThreadFactoryBuilder().setNameFormat("swkroa-renewal-%d").setDaemon(true).build());
+  }
+
+  /**
+   * Renews the Memberships identified by the specified {@link JobDetail JobDetails}, blocking until every one of
+   * them has either SUCCEEDED or FAILED.
+   *
+   * @param jobDetails
+   *    The {@link List} of {@link JobDetail JobDetails} to process.
+   * @param transactionDescription
+   *    A {@link String} that describes the invoices (and renewal letters) being generated.
+   * @param transactionDate
+   *    The {@link DateTime} of the invoices being generated.
+   * @param transactionMemo
+   *    A {@link String} memo to associate with the invoices being generated.
+   * @param user
+   *    The {@link User} that performed the changes.
+   *
+   * @return The {@link JobStatus} of the renewal as a whole: SUCCEEDED if all of the details succeeded, FAILED if
+   * all of them failed, PARTIAL otherwise.
+   */
+  public JobStatus renewMemberships(List<JobDetail> jobDetails,
+                                    String transactionDescription,
+                                    DateTime transactionDate,
+                                    String transactionMemo,
+                                    User user) {
+
+    Assert.notNull(jobDetails, "Argument [jobDetails] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    RenewalContext context = jobService.createRenewalContext(transactionDescription, transactionDate, transactionMemo, user);
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (List<JobDetail> chunk : Lists.partition(jobDetails, chunkSize)) {
+      futures.add(executor.submit(() -> processChunk(chunk, context)));
+    }
+
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for renewals to complete.", ex);
+      } catch (ExecutionException ex) {
+        LOGGER.error("Renewal chunk failed unexpectedly.", ex.getCause());
+      }
+    }
+
+    return JobStatus.of(jobDetails);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Helper method to process a single chunk, falling back to processing its details one at a time if it fails.
+   */
+  private void processChunk(List<JobDetail> chunk, RenewalContext context) {
+    // set JobDetails as started (In-Process)
+    for (JobDetail jobDetail : chunk) {
+      jobDetail.setJobStatus(JobStatus.INPROCESS);
+    }
+
+    jobRepo.saveJobDetails(chunk, context.getUser());
+
+    // the details that haven't been saved as completed (by a committed transaction)
+    List<JobDetail> unfinished = new ArrayList<>(chunk);
+    try {
+      if (tryProcess(chunk, context, unfinished) || chunk.size() == 1) {
+        return;
+      }
+
+      LOGGER.warn("Renewal chunk of [{}] memberships failed, retrying them individually.", chunk.size());
+      for (JobDetail jobDetail : chunk) {
+        tryProcess(Collections.singletonList(jobDetail), context, unfinished);
+      }
+    } finally {
+      if (!unfinished.isEmpty()) {
+        failUnfinished(unfinished, context);
+      }
+    }
+  }
+
+  /**
+   * Helper method to process the details within a transaction, marking them as FAILED if it is rolled back.
+   *
+   * @return {@code true} if the transaction was committed, {@code false} if it was rolled back.
+   */
+  private boolean tryProcess(List<JobDetail> jobDetails, RenewalContext context, List<JobDetail> unfinished) {
+    // the update counts are incremented as the details are saved, so restore them if the save is rolled back
+    long[] updateCounts = new long[jobDetails.size()];
+    for (int idx = 0; idx < jobDetails.size(); idx++) {
+      updateCounts[idx] = jobDetails.get(idx).getJobDetailUpdateCount();
+    }
+
+    try {
+      jobService.processRenewalChunk(jobDetails, context);
+      unfinished.removeAll(jobDetails);
+      return true;
+    } catch (RuntimeException ex) {
+      LOGGER.error("Unable to renew memberships " + getMembershipIds(jobDetails) + ".", ex);
+
+      for (int idx = 0; idx < jobDetails.size(); idx++) {
+        JobDetail jobDetail = jobDetails.get(idx);
+        jobDetail.setJobDetailUpdateCount(updateCounts[idx]);
+        jobDetail.setJobStatus(JobStatus.FAILED);
+      }
+
+      return false;
+    }
+  }
+
+  /**
+   * Helper method to save the details that could not be completed as FAILED, one at a time so a detail that can't be
+   * saved doesn't leave the others INPROCESS, if even that fails the membership is logged so its detail can be
+   * corrected.
+   */
+  private void failUnfinished(List<JobDetail> unfinished, RenewalContext context) {
+    for (JobDetail jobDetail : unfinished) {
+      // set JobDetail as completed (FAILED)
+      jobDetail.setJobStatus(JobStatus.FAILED);
+
+      try {
+        jobRepo.saveJobDetails(Collections.singletonList(jobDetail), context.getUser());
+      } catch (RuntimeException ex) {
+        LOGGER.error("Unable to save membership [" + jobDetail.getParentEntityUID() + "] as FAILED.", ex);
+      }
+    }
+  }
+
+  private static List<Long> getMembershipIds(List<JobDetail> jobDetails) {
+    List<Long> membershipIds = new ArrayList<>(jobDetails.size());
+    for (JobDetail jobDetail : jobDetails) {
+      membershipIds.add(jobDetail.getParentEntityUID());
+    }
+
+    return membershipIds;
+  }
+}
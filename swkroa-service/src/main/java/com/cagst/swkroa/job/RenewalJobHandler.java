@@ -0,0 +1,82 @@
+package com.cagst.swkroa.job;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.List;
+
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link JobHandler} for {@link JobType#RENEWAL} Jobs, renews the Memberships of the Job using the
+ * {@link RenewalEngine}.
+ *
+ * @author Craig Gaskill
+ */
+@Named("renewalJobHandler")
+public class RenewalJobHandler implements JobHandler {
+  public static final String TRANSACTION_DATE = "transactionDate";
+  public static final String TRANSACTION_MEMO = "transactionMemo";
+
+  private final RenewalEngine renewalEngine;
+  private final int maxConcurrency;
+
+  /**
+   * Primary Constructor used to create an instance of <i>RenewalJobHandler</i>.
+   *
+   * @param renewalEngine
+   *    The {@link RenewalEngine} used to renew the Memberships.
+   * @param maxConcurrency
+   *    The maximum number of renewal Jobs to run at the same time.
+   */
+  @Inject
+  public RenewalJobHandler(RenewalEngine renewalEngine,
+                           @Value("${swkroa.job.renewal.concurrency:1}") int maxConcurrency) {
+
+    Assert.isTrue(maxConcurrency > 0, "Argument [maxConcurrency] must be greater than 0");
+
+    this.renewalEngine = renewalEngine;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Sets the parameters of a renewal {@link Job}, the description of the invoices is the name of the Job.
+   *
+   * @param job
+   *    The {@link Job} to set the parameters of.
+   * @param transactionDate
+   *    The {@link DateTime} of the invoices being generated.
+   * @param transactionMemo
+   *    A {@link String} memo to associate with the invoices being generated.
+   */
+  public static void setParameters(Job job, DateTime transactionDate, String transactionMemo) {
+    Assert.notNull(job, "Argument [job] cannot be null");
+    Assert.notNull(transactionDate, "Argument [transactionDate] cannot be null");
+
+    job.setParameter(TRANSACTION_DATE, transactionDate.toString());
+    job.setParameter(TRANSACTION_MEMO, transactionMemo);
+  }
+
+  @Override
+  public JobType getJobType() {
+    return JobType.RENEWAL;
+  }
+
+  @Override
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public void execute(Job job, List<JobDetail> jobDetails, User user) {
+    String transactionDate = job.getParameter(TRANSACTION_DATE);
+    if (transactionDate == null) {
+      throw new IllegalStateException("Renewal job [" + job.getJobUID() + "] does not have a transaction date.");
+    }
+
+    renewalEngine.renewMemberships(
+        jobDetails, job.getJobName(), DateTime.parse(transactionDate), job.getParameter(TRANSACTION_MEMO), user);
+  }
+}
@@ -0,0 +1,71 @@
+package com.cagst.swkroa.member;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The outcome, for each of the identifiers it was asked to update, of a bulk (set-based) update.
+ *
+ * @author Craig Gaskill
+ */
+public final class BulkUpdateResult {
+  /**
+   * Enumeration of the outcomes of updating a single row within a bulk update.
+   */
+  public enum Outcome {
+    /** The row was updated. */
+    UPDATED,
+    /** The row was not updated because it has been updated since it was last read (the updt_cnt didn't match). */
+    STALE,
+    /** The row was not updated because it does not exist or is no longer active. */
+    NOT_FOUND
+  }
+
+  private final Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+
+  /**
+   * @return The {@link Outcome} for the specified identifier, {@code null} if it was not part of the update.
+   */
+  public Outcome getOutcome(final long uid) {
+    return outcomes.get(uid);
+  }
+
+  /**
+   * @return An unmodifiable {@link Map} of the {@link Outcome} for each identifier, in the order they were requested.
+   */
+  public Map<Long, Outcome> getOutcomes() {
+    return Collections.unmodifiableMap(outcomes);
+  }
+
+  /**
+   * @return A {@link Set} of the identifiers that had the specified {@link Outcome}, in the order they were requested.
+   */
+  public Set<Long> getUIDs(final Outcome outcome) {
+    Set<Long> uids = new LinkedHashSet<>();
+    for (Map.Entry<Long, Outcome> entry : outcomes.entrySet()) {
+      if (entry.getValue() == outcome) {
+        uids.add(entry.getKey());
+      }
+    }
+
+    return uids;
+  }
+
+  /**
+   * @return The number of identifiers that were updated.
+   */
+  public int getUpdatedCount() {
+    return getUIDs(Outcome.UPDATED).size();
+  }
+
+  /* package */ void put(final long uid, final Outcome outcome) {
+    outcomes.put(uid, outcome);
+  }
+
+  /* package */ void putAll(final BulkUpdateResult result) {
+    outcomes.putAll(result.outcomes);
+  }
+}
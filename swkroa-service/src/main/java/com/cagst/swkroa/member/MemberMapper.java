@@ -2,14 +2,15 @@ package com.cagst.swkroa.member;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Locale;
 
+import com.cagst.swkroa.internal.ColumnIndexRowMapper;
 import com.cagst.swkroa.person.Person;
-import com.cagst.swkroa.person.PersonRepository;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.util.DateTimeConverter;
 import com.cagst.swkroa.utils.SwkroaStringUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
 /**
@@ -17,7 +18,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
  *
  * @author Craig Gaskill
  */
-/* package */final class MemberMapper implements RowMapper<Member> {
+/* package */final class MemberMapper extends ColumnIndexRowMapper<Member> {
   private static final String MEMBER_ID            = "member_id";
   private static final String MEMBER_NAME          = "member_name";
   private static final String MEMBERSHIP_ID        = "membership_id";
@@ -41,53 +42,126 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
   private static final String UPDT_ID         = "updt_id";
   private static final String MEMBER_UPDT_CNT = "member_updt_cnt";
 
-  private final PersonRepository personRepo;
+  // person (joined in the primary query)
+  private static final String TITLE_CD          = "title_cd";
+  private static final String NAME_LAST         = "name_last";
+  private static final String NAME_FIRST        = "name_first";
+  private static final String NAME_MIDDLE       = "name_middle";
+  private static final String LOCALE_LANGUAGE   = "locale_language";
+  private static final String LOCALE_COUNTRY    = "locale_country";
+  private static final String PERSON_ACTIVE_IND = "person_active_ind";
+  private static final String PERSON_UPDT_CNT   = "person_updt_cnt";
+
+  private final int memberIdx          = column(MEMBER_ID);
+  private final int memberNameIdx      = column(MEMBER_NAME);
+  private final int membershipIdx      = column(MEMBERSHIP_ID);
+  private final int personIdx          = column(PERSON_ID);
+  private final int companyNameIdx     = column(COMPANY_NAME);
+  private final int ownerIdentIdx      = column(OWNER_IDENT);
+  private final int memberTypeIdx      = column(MEMBER_TYPE);
+  private final int greetingIdx        = column(GREETING);
+  private final int inCareOfIdx        = column(IN_CARE_OF);
+  private final int joinDateIdx        = column(JOIN_DT);
+  private final int mailNewsletterIdx  = column(MAIL_NEWSLETTER_IND);
+  private final int emailNewsletterIdx = column(EMAIL_NEWSLETTER_IND);
+  private final int closeReasonIdx     = column(CLOSE_REASON_ID);
+  private final int closeReasonTextIdx = column(CLOSE_REASON_TXT);
+  private final int closeDateIdx       = column(CLOSE_DT_TM);
+  private final int memberUpdateCntIdx = column(MEMBER_UPDT_CNT);
+  private final int activeIdx          = column(ACTIVE_IND);
+
+  private final int titleIdx           = column(TITLE_CD);
+  private final int lastNameIdx        = column(NAME_LAST);
+  private final int firstNameIdx       = column(NAME_FIRST);
+  private final int middleNameIdx      = column(NAME_MIDDLE);
+  private final int languageIdx        = column(LOCALE_LANGUAGE);
+  private final int countryIdx         = column(LOCALE_COUNTRY);
+  private final int personActiveIdx    = column(PERSON_ACTIVE_IND);
+  private final int personUpdateCntIdx = column(PERSON_UPDT_CNT);
+
   private final MemberTypeRepository memberTypeRepo;
 
   /**
    * Primary Constructor used to create an instance of <i>MemberMapper</i>.
+   * <p/>
+   * The {@link Person} associated with a Member is mapped from the person columns joined into the same row.
    *
-   * @param personRepo
-   *     The {@link PersonRepository} to use to retrieve the {@link Person} associated to with this Member.
    * @param memberTypeRepo
    *     The {@link MemberTypeRepository} to use to retrieve the {@link MemberType} associated with the Members.
    */
-  public MemberMapper(final PersonRepository personRepo, final MemberTypeRepository memberTypeRepo) {
-    this.personRepo = personRepo;
+  public MemberMapper(final MemberTypeRepository memberTypeRepo) {
     this.memberTypeRepo = memberTypeRepo;
   }
 
   @Override
-  public Member mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+  protected Member mapColumns(final ResultSet rs, final int rowNum) throws SQLException {
     Member member = new Member();
+    member.setMemberUID(rs.getLong(indexOf(memberIdx)));
 
-    long personID = rs.getLong(PERSON_ID);
+    long personID = rs.getLong(indexOf(personIdx));
     if (personID > 0L) {
-      member.setPerson(personRepo.getPersonByUID(personID));
+      member.setPerson(mapPerson(rs, member.getMemberUID(), personID));
     }
 
-    member.setMemberUID(rs.getLong(MEMBER_ID));
-    member.setMemberName(rs.getString(MEMBER_NAME));
-    member.setMembershipUID(rs.getLong(MEMBERSHIP_ID));
-    member.setCompanyName(rs.getString(COMPANY_NAME));
-    member.setOwnerIdent(rs.getString(OWNER_IDENT));
-    member.setMemberType(memberTypeRepo.getMemberTypeByUID(rs.getLong(MEMBER_TYPE)));
-    member.setGreeting(rs.getString(GREETING));
-    member.setInCareOf(rs.getString(IN_CARE_OF));
-    member.setJoinDate(DateTimeConverter.convert(rs.getTimestamp(JOIN_DT)));
-    member.setMailNewsletter(rs.getBoolean(MAIL_NEWSLETTER_IND));
-    member.setEmailNewsletter(rs.getBoolean(EMAIL_NEWSLETTER_IND));
-    member.setCloseReasonUID(rs.getLong(CLOSE_REASON_ID));
-    member.setCloseReasonText(rs.getString(CLOSE_REASON_TXT));
-    member.setCloseDate(DateTimeConverter.convert(rs.getTimestamp(CLOSE_DT_TM)));
+    member.setMemberName(rs.getString(indexOf(memberNameIdx)));
+    member.setMembershipUID(rs.getLong(indexOf(membershipIdx)));
+    member.setCompanyName(rs.getString(indexOf(companyNameIdx)));
+    member.setOwnerIdent(rs.getString(indexOf(ownerIdentIdx)));
+    member.setMemberType(memberTypeRepo.getMemberTypeByUID(rs.getLong(indexOf(memberTypeIdx))));
+    member.setGreeting(rs.getString(indexOf(greetingIdx)));
+    member.setInCareOf(rs.getString(indexOf(inCareOfIdx)));
+    member.setJoinDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(joinDateIdx))));
+    member.setMailNewsletter(rs.getBoolean(indexOf(mailNewsletterIdx)));
+    member.setEmailNewsletter(rs.getBoolean(indexOf(emailNewsletterIdx)));
+    member.setCloseReasonUID(rs.getLong(indexOf(closeReasonIdx)));
+    member.setCloseReasonText(rs.getString(indexOf(closeReasonTextIdx)));
+    member.setCloseDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(closeDateIdx))));
 
     // meta-data
-    member.setMemberUpdateCount(rs.getLong(MEMBER_UPDT_CNT));
-    member.setActive(rs.getBoolean(ACTIVE_IND));
+    member.setMemberUpdateCount(rs.getLong(indexOf(memberUpdateCntIdx)));
+    member.setActive(rs.getBoolean(indexOf(activeIdx)));
 
     return member;
   }
 
+  /**
+   * Maps the {@link Person} joined into the current row.
+   *
+   * @throws EmptyResultDataAccessException
+   *     if the person the member refers to doesn't exist (nothing was joined)
+   */
+  private Person mapPerson(final ResultSet rs, final long memberID, final long personID) throws SQLException {
+    long updateCount = rs.getLong(indexOf(personUpdateCntIdx));
+    if (rs.wasNull()) {
+      throw new EmptyResultDataAccessException(
+          "Person with UID of [" + personID + "] was not found for Member [" + memberID + "].", 1);
+    }
+
+    Person person = new Person();
+
+    String language = rs.getString(indexOf(languageIdx));
+    String country = rs.getString(indexOf(countryIdx));
+    if (StringUtils.isNotEmpty(language)) {
+      if (StringUtils.isNotEmpty(country)) {
+        person.setLocale(new Locale(language, country));
+      } else {
+        person.setLocale(new Locale(language));
+      }
+    }
+
+    person.setPersonUID(personID);
+    person.setTitleCD(rs.getLong(indexOf(titleIdx)));
+    person.setFirstName(rs.getString(indexOf(firstNameIdx)));
+    person.setMiddleName(rs.getString(indexOf(middleNameIdx)));
+    person.setLastName(rs.getString(indexOf(lastNameIdx)));
+
+    // meta-data
+    person.setPersonUpdateCount(updateCount);
+    person.setActive(rs.getBoolean(indexOf(personActiveIdx)));
+
+    return person;
+  }
+
   /**
    * Will marshal a {@link Member} into a {@link MapSqlParameterSource} for inserting into the database.
    *
@@ -1,6 +1,7 @@
 package com.cagst.swkroa.member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.cagst.swkroa.codevalue.CodeValue;
@@ -210,4 +211,26 @@ public interface MemberRepository {
 
    Member closeMember(Member member, CodeValue closeReason, String closeText, User user)
       throws DataAccessException;
+
+  /**
+   * Closes the members, each identified by its unique identifier and the updt_cnt it was last read with, for the
+   * specified reason using a single statement. A member that has been updated since it was read, or is no longer
+   * active, is reported rather than closed.
+   *
+   * @param memberVersions
+   *      A {@link Map} of the updt_cnt of each member to close, keyed by the unique identifier of the member.
+   * @param closeReason
+   *      A {@link CodeValue} that specifies the reason for closure.
+   * @param closeText
+   *      A {@link String} that specifies the reason for closing if a closeReason is not specified.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the members.
+   *
+   * @throws OptimisticLockingFailureException if a member was updated by someone else while being closed
+   * @throws DataAccessException if the query fails
+   */
+  BulkUpdateResult closeMembers(Map<Long, Long> memberVersions, CodeValue closeReason, String closeText, User user)
+      throws DataAccessException;
 }
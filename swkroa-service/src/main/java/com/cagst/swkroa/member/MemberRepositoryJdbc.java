@@ -3,9 +3,15 @@ package com.cagst.swkroa.member;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.contact.Address;
@@ -16,9 +22,10 @@ import com.cagst.swkroa.country.CountryRepository;
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
 import com.cagst.swkroa.person.PersonRepository;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.user.UserType;
-import com.cagst.swkroa.utils.SwkroaStringUtils;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
@@ -44,8 +51,8 @@ import org.springframework.util.Assert;
   private static final Logger LOGGER = LoggerFactory.getLogger(MemberRepositoryJdbc.class);
 
   private static final String GET_MEMBERS_FOR_MEMBERSHIP = "GET_MEMBERS_FOR_MEMBERSHIP";
-  private static final String GET_MEMBERS_BY_NAME        = "GET_MEMBERS_BY_NAME";
-  private static final String GET_MEMBERS_BY_NAME_COUNT  = "GET_MEMBERS_BY_NAME_COUNT";
+  private static final String GET_MEMBERS_BY_UIDS        = "GET_MEMBERS_BY_UIDS";
+  private static final String GET_MEMBERS_BY_UIDS_COUNT  = "GET_MEMBERS_BY_UIDS_COUNT";
   private static final String GET_MEMBER_BY_UID          = "GET_MEMBER_BY_UID";
   private static final String GET_MEMBER_BY_PERSON_UID   = "GET_MEMBER_BY_PERSON_UID";
   private static final String GET_MEMBER_BY_OWNER_ID     = "GET_MEMBER_BY_OWNER_ID";
@@ -59,13 +66,27 @@ import org.springframework.util.Assert;
   private static final String UPDATE_MEMBER = "UPDATE_MEMBER";
   private static final String CLOSE_MEMBER  = "CLOSE_MEMBER";
 
+  private static final String GET_MEMBER_VERSIONS   = "GET_MEMBER_VERSIONS";
+  private static final String CLOSE_MEMBER_VERSIONS = "CLOSE_MEMBER_VERSIONS";
+
   private static final String INSERT_MEMBERSHIP_COUNTY = "INSERT_MEMBERSHIP_COUNTY";
   private static final String UPDATE_MEMBERSHIP_COUNTY = "UPDATE_MEMBERSHIP_COUNTY";
 
+  // the number of members found by name that are retrieved by a single query
+  private static final int DEFAULT_UIDS_PER_QUERY = 500;
+
+  // the order of GET_MEMBERS_BY_UIDS (upper-cased name, then id), used to merge the members retrieved in chunks
+  private static final Comparator<Member> MEMBER_NAME_ORDER = Comparator
+      .comparing((Member member) -> StringUtils.upperCase(member.getMemberName(), Locale.ROOT),
+          Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+      .thenComparingLong(Member::getMemberUID);
+
   private final PersonRepository personRepo;
   private final MemberTypeRepository memberTypeRepo;
   private final CountryRepository countryRepo;
   private final ContactRepository contactRepo;
+  private final NameSearchIndex nameIndex;
+  private final int uidsPerQuery;
 
   /**
    * Primary constructor used to create an instance of the MemberRepositoryJdbc.
@@ -73,27 +94,45 @@ import org.springframework.util.Assert;
    * @param dataSource
    *     The {@link DataSource} to use to retrieve / persist data objects.
    * @param personRepo
-   *     The {@link PersonRepository} to use to retrieve the Person attributes.
+   *     The {@link PersonRepository} to use to persist the Person attributes.
    * @param memberTypeRepo
    *     The {@link MemberTypeRepository} to use to populate the {@link MemberType} objects.
    * @param countryRepo
    *     The {@link CountryRepository} to use to populate the MembershipCounty objects.
    * @param contactRepo
    *     The {@link ContactRepository} to use to populate contact objects.
+   * @param nameIndex
+   *     The {@link NameSearchIndex} to use to find Members by name.
    */
   @Inject
   public MemberRepositoryJdbc(DataSource dataSource,
                               PersonRepository personRepo,
                               MemberTypeRepository memberTypeRepo,
                               CountryRepository countryRepo,
-                              ContactRepository contactRepo) {
+                              ContactRepository contactRepo,
+                              NameSearchIndex nameIndex) {
+
+    this(dataSource, personRepo, memberTypeRepo, countryRepo, contactRepo, nameIndex, DEFAULT_UIDS_PER_QUERY);
+  }
+
+  /* package */ MemberRepositoryJdbc(DataSource dataSource,
+                                     PersonRepository personRepo,
+                                     MemberTypeRepository memberTypeRepo,
+                                     CountryRepository countryRepo,
+                                     ContactRepository contactRepo,
+                                     NameSearchIndex nameIndex,
+                                     int uidsPerQuery) {
 
     super(dataSource);
 
+    Assert.isTrue(uidsPerQuery > 0, "Argument [uidsPerQuery] must be greater than 0");
+
     this.personRepo = personRepo;
     this.memberTypeRepo = memberTypeRepo;
     this.countryRepo = countryRepo;
     this.contactRepo = contactRepo;
+    this.nameIndex = nameIndex;
+    this.uidsPerQuery = uidsPerQuery;
   }
 
   @Override
@@ -107,7 +146,7 @@ import org.springframework.util.Assert;
     return getJdbcTemplate().query(
         stmtLoader.load(GET_MEMBERS_FOR_MEMBERSHIP),
         new MapSqlParameterSource("membership_id", membership.getMembershipUID()),
-        new MemberMapper(personRepo, memberTypeRepo));
+        new MemberMapper(memberTypeRepo));
   }
 
   @Override
@@ -117,15 +156,40 @@ import org.springframework.util.Assert;
     Assert.hasText(name, "Argument [name] cannot be null or empty");
     Assert.notNull(status, "Argument [status] cannot be null");
 
+    Set<Long> memberUIDs = nameIndex.findMembers(name);
+    if (memberUIDs.isEmpty()) {
+      return Collections.emptyList();
+    }
+
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    String sql = stmtLoader.load(GET_MEMBERS_BY_UIDS);
 
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("name", SwkroaStringUtils.normalizeToKey(name) + "%");
-    params.addValue("status", status.toString());
-    params.addValue("start", start);
-    params.addValue("limit", limit);
+    if (memberUIDs.size() <= uidsPerQuery) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("member_ids", memberUIDs);
+      params.addValue("status", status.toString());
+      params.addValue("start", start);
+      params.addValue("limit", limit);
 
-    return getJdbcTemplate().query(stmtLoader.load(GET_MEMBERS_BY_NAME), params, new MemberMapper(personRepo, memberTypeRepo));
+      return getJdbcTemplate().query(sql, params, new MemberMapper(memberTypeRepo));
+    }
+
+    // a short name can match a large number of members, so they are retrieved in chunks; the requested page is
+    // within the first (start + limit) members of the chunks combined
+    List<Member> members = new ArrayList<>();
+    for (List<Long> chunk : Iterables.partition(memberUIDs, uidsPerQuery)) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("member_ids", chunk);
+      params.addValue("status", status.toString());
+      params.addValue("start", 0);
+      params.addValue("limit", start + limit);
+
+      members.addAll(getJdbcTemplate().query(sql, params, new MemberMapper(memberTypeRepo)));
+    }
+
+    members.sort(MEMBER_NAME_ORDER);
+
+    return new ArrayList<>(members.subList(Math.min(start, members.size()), Math.min(start + limit, members.size())));
   }
 
   @Override
@@ -135,13 +199,24 @@ import org.springframework.util.Assert;
     Assert.hasText(name, "Assertion Failture - argument [name] cannot be null or empty");
     Assert.notNull(status, "Assertion Failure - argument [status] cannot be null");
 
+    Set<Long> memberUIDs = nameIndex.findMembers(name);
+    if (memberUIDs.isEmpty()) {
+      return 0L;
+    }
+
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    String sql = stmtLoader.load(GET_MEMBERS_BY_UIDS_COUNT);
 
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("name", SwkroaStringUtils.normalizeToKey(name) + "%");
-    params.addValue("status", status.toString());
+    long count = 0L;
+    for (List<Long> chunk : Iterables.partition(memberUIDs, uidsPerQuery)) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("member_ids", chunk);
+      params.addValue("status", status.toString());
 
-    return getJdbcTemplate().queryForObject(stmtLoader.load(GET_MEMBERS_BY_NAME_COUNT), params, Long.class);
+      count += getJdbcTemplate().queryForObject(sql, params, Long.class);
+    }
+
+    return count;
   }
 
   @Override
@@ -152,7 +227,7 @@ import org.springframework.util.Assert;
 
     List<Member> members = getJdbcTemplate().query(stmtLoader.load(GET_MEMBER_BY_UID),
         new MapSqlParameterSource("member_id", uid),
-        new MemberMapper(personRepo, memberTypeRepo));
+        new MemberMapper(memberTypeRepo));
 
     if (members.size() == 1) {
       return members.get(0);
@@ -173,7 +248,7 @@ import org.springframework.util.Assert;
 
     List<Member> members = getJdbcTemplate().query(stmtLoader.load(GET_MEMBER_BY_PERSON_UID),
         new MapSqlParameterSource("person_id", uid),
-        new MemberMapper(personRepo, memberTypeRepo));
+        new MemberMapper(memberTypeRepo));
 
     if (members.size() == 1) {
       return Optional.of(members.get(0));
@@ -195,7 +270,7 @@ import org.springframework.util.Assert;
 
     List<Member> members = getJdbcTemplate().query(stmtLoader.load(GET_MEMBER_BY_OWNER_ID),
         new MapSqlParameterSource("owner_ident", ownerId),
-        new MemberMapper(personRepo, memberTypeRepo));
+        new MemberMapper(memberTypeRepo));
 
     if (members.size() == 1) {
       return Optional.of(members.get(0));
@@ -287,6 +362,8 @@ import org.springframework.util.Assert;
       savedMember = updateMember(member, membership, user);
     }
 
+    nameIndex.indexMember(savedMember, membership.getMembershipUID());
+
     // reset Member Name since it may have changed
     if (StringUtils.isNotEmpty(savedMember.getCompanyName())) {
       savedMember.setMemberName(savedMember.getCompanyName());
@@ -383,6 +460,27 @@ import org.springframework.util.Assert;
     }
   }
 
+  @Override
+  @Transactional
+  public BulkUpdateResult closeMembers(Map<Long, Long> memberVersions, CodeValue closeReason, String closeText, User user)
+      throws DataAccessException {
+
+    Assert.notNull(memberVersions, "Argument [memberVersions] cannot be null");
+    Assert.notNull(closeReason, "Argument [closeReason] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Closing [{}] Members", memberVersions.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("close_reason_id", closeReason.getCodeValueUID());
+    params.addValue("close_reason_txt", StringUtils.trimToNull(closeText));
+    params.addValue("updt_id", user.getUserUID());
+
+    return VersionedUpdate.execute(getJdbcTemplate(),
+        stmtLoader.load(GET_MEMBER_VERSIONS), stmtLoader.load(CLOSE_MEMBER_VERSIONS), params, memberVersions);
+  }
+
   private Member insertMember(Member member, Membership membership, User user)
       throws DataAccessException {
 
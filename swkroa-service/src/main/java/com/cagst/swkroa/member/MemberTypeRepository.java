@@ -11,6 +11,9 @@ import org.springframework.dao.IncorrectResultSizeDataAccessException;
 /**
  * Definition of a repository that retrieves and persists {@link MemberType} objects.
  *
+ * The {@link List Lists} returned are unmodifiable and already sorted (by display, the versions of a MemberType in the
+ * order they began), copy a List before changing it.
+ *
  * @author Craig Gaskill
  */
 public interface MemberTypeRepository {
@@ -66,6 +69,25 @@ public interface MemberTypeRepository {
   MemberType getMemberTypeByMeaningAsOf(String meaning, DateTime effectiveDate)
       throws IncorrectResultSizeDataAccessException;
 
+  /**
+   * Retrieves the active version of the {@link MemberType} (one of the MemberTypes that share its previous member
+   * type) that is in effect as of the specified effective date time, i.e. the rate a member of the MemberType is
+   * charged as of that date.
+   *
+   * @param id
+   *     A {@link long} that identifies the member type to retrieve the version of.
+   * @param effectiveDate
+   *     A {@link DateTime} that specifies the effective time to retrieve the version for.
+   *
+   * @return The {@link MemberType} that is the version of the specified member type in effect as of the time specified.
+   *
+   * @throws EmptyResultDataAccessException
+   *     if no version of the MemberType was in effect.
+   * @throws IncorrectResultSizeDataAccessException
+   *     if more than 1 version of the MemberType was in effect.
+   */
+  MemberType getMemberTypeAsOf(long id, DateTime effectiveDate) throws IncorrectResultSizeDataAccessException;
+
   /**
    * Retrieves all active {@link MemberType MemberTypes} in the system that are currently in effect
    * as of NOW.
@@ -6,18 +6,17 @@ import javax.sql.DataSource;
 import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.ReferenceDataHolder;
 import com.cagst.swkroa.internal.StatementLoader;
 import com.cagst.swkroa.user.User;
+import com.google.common.collect.Ordering;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.util.Assert;
@@ -25,20 +24,23 @@ import org.springframework.util.Assert;
 /**
  * JDBC Template implementation of the {@link MemberTypeRepository} interface.
  *
+ * Every {@link MemberType} (including those no longer in effect) is held by an immutable {@link MemberTypeResolver},
+ * so MemberTypes are resolved by their unique identifier, and as of an effective date, without a query. The resolver
+ * is loaded when it is first needed and reloaded once a MemberType that has been saved is committed (or rolled back).
+ *
  * @author Craig Gaskill
  */
 @Named("memberTypeRepository")
 /* package */class MemberTypeRepositoryJdbc extends BaseRepositoryJdbc implements MemberTypeRepository {
   private static final Logger LOGGER = LoggerFactory.getLogger(MemberTypeRepositoryJdbc.class);
 
-  private static final String GET_MEMBERTYPE_BY_UID           = "GET_MEMBERTYPE_BY_UID";
-  private static final String GET_MEMBERTYPE_BY_MEANING       = "GET_MEMBERTYPE_BY_MEANING";
-  private static final String GET_MEMBERTYPES_ACTIVE          = "GET_MEMBERTYPES_ACTIVE";
-  private static final String GET_MEMBERTYPES_FOR_MEMBERTYPES = "GET_MEMBERTYPES_FOR_MEMBERTYPES";
+  private static final String GET_MEMBERTYPES = "GET_MEMBERTYPES";
 
   private static final String INSERT_MEMBERTYPE = "INSERT_MEMBERTYPE";
   private static final String UPDATE_MEMBERTYPE = "UPDATE_MEMBERTYPE";
 
+  private final ReferenceDataHolder<MemberTypeResolver> resolver = new ReferenceDataHolder<>(this::loadResolver);
+
   /**
    * Primary constructor used to create an instance of the MemberTypeRepositoryJdbc.
    *
@@ -51,59 +53,29 @@ import org.springframework.util.Assert;
   }
 
   @Override
-  @Cacheable(value = "memberTypes")
   public MemberType getMemberTypeByUID(long id) throws IncorrectResultSizeDataAccessException {
-    LOGGER.info("Calling getMemberTypeByID for [{}].", id);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    List<MemberType> types = getJdbcTemplate().query(
-        stmtLoader.load(GET_MEMBERTYPE_BY_UID),
-        new MapSqlParameterSource("member_type_id", id),
-        new MemberTypeMapper()
-    );
-
-    if (types.size() == 1) {
-      return types.get(0);
-    } else if (types.size() == 0) {
+    MemberType type = resolver.get().getMemberType(id);
+    if (type == null) {
       LOGGER.warn("MemberType with ID of [{}] was not found.", id);
       throw new EmptyResultDataAccessException(1);
-    } else {
-      LOGGER.error("More than one MemberType with ID of [{}] was found.", id);
-      throw new IncorrectResultSizeDataAccessException(1, types.size());
     }
+
+    return type;
   }
 
   @Override
-  @Cacheable(value = "memberTypes")
   public MemberType getMemberTypeByMeaning(String meaning) throws IncorrectResultSizeDataAccessException {
-    LOGGER.info("Calling getMemberTypeByMeaning for [{}].", meaning);
-
     return getMemberTypeByMeaningAsOf(meaning, DateTime.now());
   }
 
   @Override
-  @Cacheable(value = "memberTypes")
   public MemberType getMemberTypeByMeaningAsOf(String meaning, DateTime effectiveDate)
       throws IncorrectResultSizeDataAccessException {
 
     Assert.hasText(meaning, "Argument [meaning] cannot be null or empty");
     Assert.notNull(effectiveDate, "Argument [effectiveDate] cannot be null");
 
-    LOGGER.info("Calling getMemberTypeByMeaningAsOf for [{}] as of [{}]", meaning, effectiveDate);
-
-    MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("member_type_meaning", meaning);
-    params.addValue("eff_dt", effectiveDate.toDate());
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    List<MemberType> types = getJdbcTemplate().query(
-        stmtLoader.load(GET_MEMBERTYPE_BY_MEANING),
-        params,
-        new MemberTypeMapper()
-    );
-
+    List<MemberType> types = resolver.get().getMemberTypesByMeaningAsOf(meaning, effectiveDate);
     if (types.size() == 1) {
       return types.get(0);
     } else if (types.size() == 0) {
@@ -116,54 +88,56 @@ import org.springframework.util.Assert;
   }
 
   @Override
-  @Cacheable(value = "memberTypeList")
-  public List<MemberType> getActiveMemberTypes() {
-    LOGGER.info("Calling getActiveMemberTypes.");
+  public MemberType getMemberTypeAsOf(long id, DateTime effectiveDate) throws IncorrectResultSizeDataAccessException {
+    Assert.notNull(effectiveDate, "Argument [effectiveDate] cannot be null");
 
+    List<MemberType> types = resolver.get().getVersionsAsOf(id, effectiveDate);
+    if (types.size() == 1) {
+      return types.get(0);
+    } else if (types.size() == 0) {
+      LOGGER.warn("No version of MemberType with ID of [{}] was found for [{}].", id, effectiveDate);
+      throw new EmptyResultDataAccessException(1);
+    } else {
+      LOGGER.error("More than one version of MemberType with ID of [{}] was found for [{}].", id, effectiveDate);
+      throw new IncorrectResultSizeDataAccessException(1, types.size());
+    }
+  }
+
+  @Override
+  public List<MemberType> getActiveMemberTypes() {
     return getActiveMemberTypesAsOf(DateTime.now());
   }
 
   @Override
-  @Cacheable(value = "memberTypeList")
   public List<MemberType> getActiveMemberTypesAsOf(DateTime effectiveDate) {
     Assert.notNull(effectiveDate, "Argument [effectiveDate] cannot be null");
 
-    LOGGER.info("Calling getActiveMemberTypesAsOf [{}]", effectiveDate);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_MEMBERTYPES_ACTIVE),
-        new MapSqlParameterSource("eff_dt", effectiveDate.toDate()),
-        new MemberTypeMapper());
+    // which member types are in effect depends upon the date, so they can only be sorted once they've been resolved
+    return Ordering.natural().immutableSortedCopy(resolver.get().getActiveMemberTypesAsOf(effectiveDate));
   }
 
   @Override
-  @Cacheable(value = "memberTypeList")
   public List<MemberType> getActiveMemberTypesForMemberType(long memberTypeId) {
     Assert.isTrue(memberTypeId > 0, "Argument [memberTypeId] must be a positive value");
 
-    LOGGER.info("Calling getActiveMemberTypesForMemberType [{}]", memberTypeId);
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    return getJdbcTemplate().query(
-        stmtLoader.load(GET_MEMBERTYPES_FOR_MEMBERTYPES),
-        new MapSqlParameterSource("member_type_id", memberTypeId),
-        new MemberTypeMapper());
+    return resolver.get().getActiveMemberTypesForMemberType(memberTypeId);
   }
 
   @Override
-  @CacheEvict(value = {"memberTypes", "memberTypeList"}, allEntries = true)
   public MemberType saveMemberType(MemberType memberType, User user) throws DataAccessException {
     Assert.notNull(memberType, "Argument [memberType] cannot be null.");
 
     LOGGER.info("Calling saveMemberType for [{}]", memberType.getMemberTypeMeaning());
 
-    if (memberType.getMemberTypeUID() == 0L) {
-      return insertMemberType(memberType, user);
-    } else {
-      return updateMemberType(memberType, user);
+    try {
+      if (memberType.getMemberTypeUID() == 0L) {
+        return insertMemberType(memberType, user);
+      } else {
+        return updateMemberType(memberType, user);
+      }
+    } finally {
+      // the MemberType saved may be the instance held by the resolver
+      resolver.invalidate();
     }
   }
 
@@ -203,4 +177,13 @@ import org.springframework.util.Assert;
 
     return memberType;
   }
+
+  private MemberTypeResolver loadResolver() {
+    LOGGER.info("Loading MemberTypes.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    return new MemberTypeResolver(getJdbcTemplate().getJdbcOperations().query(
+        stmtLoader.load(GET_MEMBERTYPES), new MemberTypeMapper()));
+  }
 }
@@ -0,0 +1,226 @@
+package com.cagst.swkroa.member;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cagst.swkroa.internal.ImmutableLongMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Ordering;
+import org.joda.time.DateTime;
+
+/**
+ * An immutable snapshot of every {@link MemberType} that resolves the MemberTypes in effect as of a date without a
+ * query.
+ *
+ * A MemberType is versioned by its effective dates, every version of a MemberType shares the same previous member
+ * type identifier (its "lineage"). The versions of each lineage, of each meaning and of all active MemberTypes are
+ * held in arrays sorted by their begin effective date alongside the running maximum of their end effective dates, so
+ * the versions in effect as of a date are found by a binary search for the last version to begin on or before the date
+ * followed by a scan back over only those versions that may still be in effect (O(log n) when the versions don't
+ * overlap).
+ *
+ * @author Craig Gaskill
+ */
+/* package */ final class MemberTypeResolver {
+  private final ImmutableLongMap<MemberType> memberTypes;
+
+  private final Map<String, EffectiveDates> byMeaning;
+  private final ImmutableLongMap<EffectiveDates> activeByLineage;
+  private final EffectiveDates active;
+
+  // the active member types that share a prev_member_type_id (the versions of a member type), in the order they began
+  private final ImmutableListMultimap<Long, MemberType> activeMemberTypesByPrevious;
+
+  /**
+   * Primary Constructor used to create an instance of <i>MemberTypeResolver</i>.
+   *
+   * @param types
+   *     The {@link Collection} of every {@link MemberType} (including those that are inactive or no longer in effect).
+   */
+  /* package */ MemberTypeResolver(final Collection<MemberType> types) {
+    this.memberTypes = ImmutableLongMap.index(types, MemberType::getMemberTypeUID);
+
+    Map<String, List<MemberType>> meanings = new HashMap<>();
+    Map<Long, List<MemberType>> lineages = new HashMap<>();
+    List<MemberType> activeTypes = new ArrayList<>();
+
+    ImmutableListMultimap.Builder<Long, MemberType> byPrevious = ImmutableListMultimap.<Long, MemberType>builder()
+        .orderValuesBy(Ordering.natural().nullsFirst().onResultOf(MemberType::getBeginEffectiveDate));
+    for (MemberType type : memberTypes.values()) {
+      if (type.getMemberTypeMeaning() != null) {
+        meanings.computeIfAbsent(type.getMemberTypeMeaning(), key -> new ArrayList<>()).add(type);
+      }
+
+      if (type.isActive()) {
+        activeTypes.add(type);
+        lineages.computeIfAbsent(getLineage(type), key -> new ArrayList<>()).add(type);
+
+        // a NULL prev_member_type_id is never related to another member type
+        if (type.getPreviousMemberTypeUID() != 0L) {
+          byPrevious.put(type.getPreviousMemberTypeUID(), type);
+        }
+      }
+    }
+
+    ImmutableMap.Builder<String, EffectiveDates> meaningDates = ImmutableMap.builder();
+    for (Map.Entry<String, List<MemberType>> entry : meanings.entrySet()) {
+      meaningDates.put(entry.getKey(), new EffectiveDates(entry.getValue()));
+    }
+
+    List<EffectiveDates> lineageDates = new ArrayList<>(lineages.size());
+    for (List<MemberType> versions : lineages.values()) {
+      lineageDates.add(new EffectiveDates(versions));
+    }
+
+    this.byMeaning = meaningDates.build();
+    this.activeByLineage = ImmutableLongMap.index(lineageDates, dates -> dates.lineage);
+    this.active = new EffectiveDates(activeTypes);
+    this.activeMemberTypesByPrevious = byPrevious.build();
+  }
+
+  /**
+   * @return The {@link MemberType} with the specified unique identifier, {@code null} if there isn't one.
+   */
+  /* package */ MemberType getMemberType(final long uid) {
+    return memberTypes.get(uid);
+  }
+
+  /**
+   * @return A {@link List} of the {@link MemberType MemberTypes} (active or not) with the specified meaning that are
+   * in effect as of the specified date.
+   */
+  /* package */ List<MemberType> getMemberTypesByMeaningAsOf(final String meaning, final DateTime effectiveDate) {
+    EffectiveDates dates = byMeaning.get(meaning);
+
+    return dates != null ? dates.resolve(effectiveDate.getMillis()) : Collections.emptyList();
+  }
+
+  /**
+   * @return A {@link List} of the active versions of the {@link MemberType} with the specified unique identifier that
+   * are in effect as of the specified date, an empty List if there is no such MemberType.
+   */
+  /* package */ List<MemberType> getVersionsAsOf(final long uid, final DateTime effectiveDate) {
+    MemberType type = memberTypes.get(uid);
+    if (type == null) {
+      return Collections.emptyList();
+    }
+
+    EffectiveDates dates = activeByLineage.get(getLineage(type));
+
+    return dates != null ? dates.resolve(effectiveDate.getMillis()) : Collections.emptyList();
+  }
+
+  /**
+   * @return A {@link List} of the active {@link MemberType MemberTypes} that are in effect as of the specified date.
+   */
+  /* package */ List<MemberType> getActiveMemberTypesAsOf(final DateTime effectiveDate) {
+    return active.resolve(effectiveDate.getMillis());
+  }
+
+  /**
+   * @return A {@link List} of the active {@link MemberType MemberTypes} that share a previous member type with the
+   * (active) MemberType with the specified unique identifier, in the order they began.
+   */
+  /* package */ List<MemberType> getActiveMemberTypesForMemberType(final long uid) {
+    MemberType type = memberTypes.get(uid);
+    if (type == null || !type.isActive()) {
+      return ImmutableList.of();
+    }
+
+    return activeMemberTypesByPrevious.get(type.getPreviousMemberTypeUID());
+  }
+
+  /**
+   * The versions of a member type are those that share its prev_member_type_id, a member type without one is its own
+   * (only) version.
+   */
+  private static long getLineage(final MemberType type) {
+    return type.getPreviousMemberTypeUID() != 0L ? type.getPreviousMemberTypeUID() : type.getMemberTypeUID();
+  }
+
+  /**
+   * A set of {@link MemberType MemberTypes} sorted by their begin effective date, with the running maximum of their
+   * end effective dates so a scan back from the last to begin before a date can stop at the first MemberType that
+   * (along with every MemberType before it) ended before the date.
+   */
+  private static final class EffectiveDates {
+    // only meaningful when the member types are the versions of a single member type
+    private final long lineage;
+    private final long[] begins;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final MemberType[] types;
+
+    private EffectiveDates(final List<MemberType> versions) {
+      // a member type without a begin effective date is never in effect
+      List<MemberType> sorted = new ArrayList<>(versions.size());
+      for (MemberType type : versions) {
+        if (type.getBeginEffectiveDate() != null) {
+          sorted.add(type);
+        }
+      }
+
+      sorted.sort(Comparator.comparingLong((MemberType type) -> type.getBeginEffectiveDate().getMillis())
+          .thenComparingLong(MemberType::getMemberTypeUID));
+
+      this.lineage = versions.isEmpty() ? 0L : getLineage(versions.get(0));
+      this.types = sorted.toArray(new MemberType[sorted.size()]);
+      this.begins = new long[types.length];
+      this.ends = new long[types.length];
+      this.maxEnds = new long[types.length];
+
+      long maxEnd = Long.MIN_VALUE;
+      for (int idx = 0; idx < types.length; idx++) {
+        begins[idx] = types[idx].getBeginEffectiveDate().getMillis();
+        ends[idx] = types[idx].getEndEffectiveDate() != null
+            ? types[idx].getEndEffectiveDate().getMillis()
+            : Long.MAX_VALUE;
+
+        maxEnd = Math.max(maxEnd, ends[idx]);
+        maxEnds[idx] = maxEnd;
+      }
+    }
+
+    /**
+     * @return The {@link MemberType MemberTypes} that begin on or before and end on or after the specified instant,
+     * in the order they began.
+     */
+    private List<MemberType> resolve(final long instant) {
+      // the last member type to begin on or before the instant
+      int idx = Arrays.binarySearch(begins, instant);
+      if (idx < 0) {
+        idx = -idx - 2;
+      } else {
+        while (idx + 1 < begins.length && begins[idx + 1] == instant) {
+          idx++;
+        }
+      }
+
+      List<MemberType> resolved = null;
+      for (; idx >= 0 && maxEnds[idx] >= instant; idx--) {
+        if (ends[idx] >= instant) {
+          if (resolved == null) {
+            resolved = new ArrayList<>(2);
+          }
+
+          resolved.add(types[idx]);
+        }
+      }
+
+      if (resolved == null) {
+        return Collections.emptyList();
+      }
+
+      Collections.reverse(resolved);
+      return Collections.unmodifiableList(resolved);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.cagst.swkroa.member;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A position within the list of {@link Membership Memberships} ordered by name and then unique identifier, used to
+ * retrieve the Memberships that follow it (keyset pagination) rather than skipping over an offset.
+ *
+ * @author Craig Gaskill
+ */
+public final class MembershipCursor {
+  private static final char SEPARATOR = ':';
+
+  private final String membershipName;
+  private final long membershipUID;
+
+  /**
+   * Primary Constructor used to create an instance of <i>MembershipCursor</i>.
+   *
+   * @param membershipName
+   *    The name of the last {@link Membership} retrieved.
+   * @param membershipUID
+   *    The unique identifier of the last {@link Membership} retrieved.
+   */
+  public MembershipCursor(final String membershipName, final long membershipUID) {
+    this.membershipName = StringUtils.defaultString(membershipName);
+    this.membershipUID = membershipUID;
+  }
+
+  public String getMembershipName() {
+    return membershipName;
+  }
+
+  public long getMembershipUID() {
+    return membershipUID;
+  }
+
+  /**
+   * @return An opaque, URL safe, representation of the cursor that can be handed to a client.
+   */
+  public String encode() {
+    String cursor = membershipUID + String.valueOf(SEPARATOR) + membershipName;
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Restores a cursor from its encoded representation.
+   *
+   * @param cursor
+   *    The representation of the cursor returned by {@link #encode()}.
+   *
+   * @return The {@link MembershipCursor} represented by the specified value.
+   *
+   * @throws IllegalArgumentException
+   *    if the value isn't a valid cursor
+   */
+  public static MembershipCursor decode(final String cursor) {
+    Assert.hasText(cursor, "Argument [cursor] cannot be null or empty");
+
+    String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+    int idx = decoded.indexOf(SEPARATOR);
+    if (idx <= 0) {
+      throw new IllegalArgumentException("Invalid membership cursor [" + cursor + "]");
+    }
+
+    try {
+      return new MembershipCursor(decoded.substring(idx + 1), Long.parseLong(decoded.substring(0, idx)));
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid membership cursor [" + cursor + "]", ex);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(membershipName, membershipUID);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof MembershipCursor)) {
+      return false;
+    }
+
+    MembershipCursor rhs = (MembershipCursor) obj;
+    return membershipUID == rhs.membershipUID && membershipName.equals(rhs.membershipName);
+  }
+
+  @Override
+  public String toString() {
+    return "MembershipCursor[" + membershipUID + SEPARATOR + membershipName + "]";
+  }
+}
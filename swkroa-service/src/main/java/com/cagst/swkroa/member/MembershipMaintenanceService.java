@@ -0,0 +1,90 @@
+package com.cagst.swkroa.member;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.user.User;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Definition of a service that maintains {@link Membership Memberships} and {@link Member Members} in bulk (such as
+ * year-end maintenance), accepting any number of identifiers and applying the changes in chunks using set-based
+ * statements.
+ *
+ * Each chunk is applied within its own transaction, so a failure only rolls back the chunk that failed.
+ *
+ * @author Craig Gaskill
+ */
+public interface MembershipMaintenanceService {
+  /**
+   * Closes the memberships, each identified by its unique identifier and the updt_cnt it was last read with, for the
+   * specified reason.
+   *
+   * @param membershipVersions
+   *      A {@link Map} of the updt_cnt of each membership to close, keyed by the unique identifier of the membership.
+   * @param closeReason
+   *      A {@link CodeValue} that specifies the reason for closure.
+   * @param closeText
+   *      A {@link String} that specifies the reason for closing.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the memberships.
+   *
+   * @throws DataAccessException if a query fails
+   */
+  BulkUpdateResult closeMemberships(Map<Long, Long> membershipVersions,
+                                    CodeValue closeReason,
+                                    String closeText,
+                                    User user) throws DataAccessException;
+
+  /**
+   * Closes the members, each identified by its unique identifier and the updt_cnt it was last read with, for the
+   * specified reason.
+   *
+   * @param memberVersions
+   *      A {@link Map} of the updt_cnt of each member to close, keyed by the unique identifier of the member.
+   * @param closeReason
+   *      A {@link CodeValue} that specifies the reason for closure.
+   * @param closeText
+   *      A {@link String} that specifies the reason for closing.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the members.
+   *
+   * @throws DataAccessException if a query fails
+   */
+  BulkUpdateResult closeMembers(Map<Long, Long> memberVersions, CodeValue closeReason, String closeText, User user)
+      throws DataAccessException;
+
+  /**
+   * Updates the next due date by 1 year for the memberships, each identified by its unique identifier and the updt_cnt
+   * it was last read with.
+   *
+   * @param membershipVersions
+   *      A {@link Map} of the updt_cnt of each membership to update, keyed by the unique identifier of the membership.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the memberships.
+   *
+   * @throws DataAccessException if a query fails
+   */
+  BulkUpdateResult updateNextDueDates(Map<Long, Long> membershipVersions, User user) throws DataAccessException;
+
+  /**
+   * Deactivates the addresses, phone numbers and email addresses of the specified members.
+   *
+   * @param memberUIDs
+   *      A {@link Collection} of {@link Long} that uniquely identify the members to deactivate the contacts of.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The number of contacts deactivated.
+   *
+   * @throws DataAccessException if a query fails
+   */
+  int deactivateContacts(Collection<Long> memberUIDs, User user) throws DataAccessException;
+}
@@ -0,0 +1,151 @@
+package com.cagst.swkroa.member;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.contact.ContactRepository;
+import com.cagst.swkroa.user.User;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@link MembershipMaintenanceService} interface.
+ *
+ * A chunk that is modified concurrently (between its versions being read and it being updated) is retried, so the
+ * rows that were modified are reported as STALE rather than failing the chunk.
+ *
+ * @author Craig Gaskill
+ */
+@Named("membershipMaintenanceService")
+public class MembershipMaintenanceServiceImpl implements MembershipMaintenanceService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MembershipMaintenanceServiceImpl.class);
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final MembershipRepository membershipRepo;
+  private final MemberRepository memberRepo;
+  private final ContactRepository contactRepo;
+  private final int chunkSize;
+
+  /**
+   * Primary Constructor used to create an instance of <i>MembershipMaintenanceServiceImpl</i>.
+   *
+   * @param membershipRepo
+   *    The {@link MembershipRepository} used to update {@link Membership Memberships}.
+   * @param memberRepo
+   *    The {@link MemberRepository} used to update {@link Member Members}.
+   * @param contactRepo
+   *    The {@link ContactRepository} used to deactivate the contacts of {@link Member Members}.
+   * @param chunkSize
+   *    The number of rows to update within a single statement (and transaction).
+   */
+  @Inject
+  public MembershipMaintenanceServiceImpl(MembershipRepository membershipRepo,
+                                          MemberRepository memberRepo,
+                                          ContactRepository contactRepo,
+                                          @Value("${swkroa.maintenance.chunk.size:500}") int chunkSize) {
+
+    Assert.isTrue(chunkSize > 0, "Argument [chunkSize] must be greater than 0");
+
+    this.membershipRepo = membershipRepo;
+    this.memberRepo = memberRepo;
+    this.contactRepo = contactRepo;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public BulkUpdateResult closeMemberships(Map<Long, Long> membershipVersions,
+                                           CodeValue closeReason,
+                                           String closeText,
+                                           User user) {
+
+    Assert.notNull(membershipVersions, "Argument [membershipVersions] cannot be null");
+
+    LOGGER.info("Calling closeMemberships for [{}] Memberships", membershipVersions.size());
+
+    return updateInChunks(membershipVersions,
+        chunk -> membershipRepo.closeMemberships(chunk, closeReason, closeText, user));
+  }
+
+  @Override
+  public BulkUpdateResult closeMembers(Map<Long, Long> memberVersions, CodeValue closeReason, String closeText, User user) {
+    Assert.notNull(memberVersions, "Argument [memberVersions] cannot be null");
+
+    LOGGER.info("Calling closeMembers for [{}] Members", memberVersions.size());
+
+    return updateInChunks(memberVersions, chunk -> memberRepo.closeMembers(chunk, closeReason, closeText, user));
+  }
+
+  @Override
+  public BulkUpdateResult updateNextDueDates(Map<Long, Long> membershipVersions, User user) {
+    Assert.notNull(membershipVersions, "Argument [membershipVersions] cannot be null");
+
+    LOGGER.info("Calling updateNextDueDates for [{}] Memberships", membershipVersions.size());
+
+    return updateInChunks(membershipVersions, chunk -> membershipRepo.updateNextDueDates(chunk, user));
+  }
+
+  @Override
+  public int deactivateContacts(Collection<Long> memberUIDs, User user) {
+    Assert.notNull(memberUIDs, "Argument [memberUIDs] cannot be null");
+
+    LOGGER.info("Calling deactivateContacts for [{}] Members", memberUIDs.size());
+
+    int cnt = 0;
+    for (List<Long> chunk : Iterables.partition(memberUIDs, chunkSize)) {
+      cnt += contactRepo.deactivateContactsForMembers(chunk, user);
+    }
+
+    return cnt;
+  }
+
+  private BulkUpdateResult updateInChunks(Map<Long, Long> versions, Function<Map<Long, Long>, BulkUpdateResult> update) {
+    BulkUpdateResult result = new BulkUpdateResult();
+
+    List<Map.Entry<Long, Long>> entries = new ArrayList<>(versions.entrySet());
+    for (List<Map.Entry<Long, Long>> chunk : Lists.partition(entries, chunkSize)) {
+      Map<Long, Long> chunkVersions = new LinkedHashMap<>();
+      for (Map.Entry<Long, Long> entry : chunk) {
+        chunkVersions.put(entry.getKey(), entry.getValue());
+      }
+
+      result.putAll(updateChunk(chunkVersions, update));
+    }
+
+    return result;
+  }
+
+  private BulkUpdateResult updateChunk(Map<Long, Long> versions, Function<Map<Long, Long>, BulkUpdateResult> update) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return update.apply(versions);
+      } catch (OptimisticLockingFailureException ex) {
+        if (attempt == MAX_ATTEMPTS) {
+          LOGGER.warn("Unable to update [{}] rows after [{}] attempts, they are being modified concurrently.",
+              versions.size(), attempt);
+
+          BulkUpdateResult result = new BulkUpdateResult();
+          for (Long uid : versions.keySet()) {
+            result.put(uid, BulkUpdateResult.Outcome.STALE);
+          }
+
+          return result;
+        }
+
+        LOGGER.info("Retrying update of [{}] rows that were modified concurrently.", versions.size());
+      }
+    }
+  }
+}
@@ -5,9 +5,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.internal.ColumnIndexRowMapper;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.util.DateTimeConverter;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
 /**
@@ -15,7 +15,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
  *
  * @author Craig Gaskill
  */
-/* package */final class MembershipMapper implements RowMapper<Membership> {
+/* package */final class MembershipMapper extends ColumnIndexRowMapper<Membership> {
   private static final String MEMBERSHIP_ID           = "membership_id";
   private static final String MEMBERSHIP_NAME         = "membership_name";
   private static final String MEMBER_ID               = "member_id";
@@ -37,6 +37,23 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
   private static final String UPDT_ID             = "updt_id";
   private static final String MEMBERSHIP_UPDT_CNT = "membership_updt_cnt";
 
+  private final int membershipIdx          = column(MEMBERSHIP_ID);
+  private final int membershipNameIdx      = column(MEMBERSHIP_NAME);
+  private final int memberIdx              = column(MEMBER_ID);
+  private final int entityTypeIdx          = column(ENTITY_TYPE_CD);
+  private final int memberTypeIdx          = column(MEMBER_TYPE_ID);
+  private final int nextDueDateIdx         = column(NEXT_DUE_DT);
+  private final int joinDateIdx            = column(JOIN_DT);
+  private final int calculatedDuesIdx      = column(CALCULATED_DUES);
+  private final int incrementalDuesIdx     = column(INCREMENTAL_DUES);
+  private final int balanceIdx             = column(BALANCE);
+  private final int lastPaymentDateIdx     = column(LAST_PAYMENT_DT);
+  private final int closeReasonIdx         = column(CLOSE_REASON_ID);
+  private final int closeReasonTextIdx     = column(CLOSE_REASON_TXT);
+  private final int closeDateIdx           = column(CLOSE_DT_TM);
+  private final int membershipUpdateCntIdx = column(MEMBERSHIP_UPDT_CNT);
+  private final int activeIdx              = column(ACTIVE_IND);
+
   private final CodeValueRepository codeValueRepo;
   private final MemberTypeRepository memberTypeRepo;
 
@@ -54,32 +71,32 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
   }
 
   @Override
-  public Membership mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+  protected Membership mapColumns(final ResultSet rs, final int rowNum) throws SQLException {
     Membership membership = new Membership();
 
-    membership.setMembershipUID(rs.getLong(MEMBERSHIP_ID));
-    membership.setMembershipName(rs.getString(MEMBERSHIP_NAME));
-    membership.setMemberUID(rs.getLong(MEMBER_ID));
-    membership.setEntityType(codeValueRepo.getCodeValueByUID(rs.getLong(ENTITY_TYPE_CD)));
-    membership.setMemberType(memberTypeRepo.getMemberTypeByUID(rs.getLong(MEMBER_TYPE_ID)));
-    membership.setNextDueDate(DateTimeConverter.convert(rs.getTimestamp(NEXT_DUE_DT)));
-    membership.setJoinDate(DateTimeConverter.convert(rs.getTimestamp(JOIN_DT)));
+    membership.setMembershipUID(rs.getLong(indexOf(membershipIdx)));
+    membership.setMembershipName(rs.getString(indexOf(membershipNameIdx)));
+    membership.setMemberUID(rs.getLong(indexOf(memberIdx)));
+    membership.setEntityType(codeValueRepo.getCodeValueByUID(rs.getLong(indexOf(entityTypeIdx))));
+    membership.setMemberType(memberTypeRepo.getMemberTypeByUID(rs.getLong(indexOf(memberTypeIdx))));
+    membership.setNextDueDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(nextDueDateIdx))));
+    membership.setJoinDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(joinDateIdx))));
 
-    membership.setCalculatedDuesAmount(rs.getBigDecimal(CALCULATED_DUES));
-    membership.setIncrementalDues(rs.getBigDecimal(INCREMENTAL_DUES));
+    membership.setCalculatedDuesAmount(rs.getBigDecimal(indexOf(calculatedDuesIdx)));
+    membership.setIncrementalDues(rs.getBigDecimal(indexOf(incrementalDuesIdx)));
 
-    BigDecimal balance = rs.getBigDecimal(BALANCE);
+    BigDecimal balance = rs.getBigDecimal(indexOf(balanceIdx));
     if (balance != null) {
       membership.setBalance(balance);
     } else {
       membership.setBalance(new BigDecimal(0.0));
     }
-    membership.setLastPaymentDate(DateTimeConverter.convert(rs.getTimestamp(LAST_PAYMENT_DT)));
-    membership.setCloseReasonUID(rs.getLong(CLOSE_REASON_ID));
-    membership.setCloseReasonText(rs.getString(CLOSE_REASON_TXT));
-    membership.setCloseDate(DateTimeConverter.convert(rs.getTimestamp(CLOSE_DT_TM)));
-    membership.setMembershipUpdateCount(rs.getLong(MEMBERSHIP_UPDT_CNT));
-    membership.setActive(rs.getBoolean(ACTIVE_IND));
+    membership.setLastPaymentDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(lastPaymentDateIdx))));
+    membership.setCloseReasonUID(rs.getLong(indexOf(closeReasonIdx)));
+    membership.setCloseReasonText(rs.getString(indexOf(closeReasonTextIdx)));
+    membership.setCloseDate(DateTimeConverter.convert(rs.getTimestamp(indexOf(closeDateIdx))));
+    membership.setMembershipUpdateCount(rs.getLong(indexOf(membershipUpdateCntIdx)));
+    membership.setActive(rs.getBoolean(indexOf(activeIdx)));
 
     return membership;
   }
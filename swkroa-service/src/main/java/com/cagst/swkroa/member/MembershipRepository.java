@@ -1,7 +1,10 @@
 package com.cagst.swkroa.member;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.user.User;
@@ -43,6 +46,29 @@ public interface MembershipRepository {
    */
   List<Membership> getMemberships(final Status status, final MembershipBalance balance);
 
+  /**
+   * Retrieves a page of the {@link Membership Memberships} in the system, ordered by name, handing each one to the
+   * consumer as it is read so the page is never held in memory.
+   *
+   * @param status
+   *      The status of the Memberships to search for; 'all', 'active' or 'inactive'.
+   * @param balance
+   *      The balance group of the Memberships to search for; 'all', 'delinquent', 'paid', or 'credit'.
+   * @param after
+   *      The {@link MembershipCursor} the page starts after, {@code null} to start with the first Membership.
+   * @param limit
+   *      The maximum number of Memberships to retrieve.
+   * @param consumer
+   *      The {@link Consumer} to hand each {@link Membership} to.
+   *
+   * @return A {@link MembershipCursor} to retrieve the next page with, {@code null} if this was the last page.
+   */
+  MembershipCursor getMemberships(final Status status,
+                                  final MembershipBalance balance,
+                                  final MembershipCursor after,
+                                  final int limit,
+                                  final Consumer<? super Membership> consumer);
+
   /**
    * Retrieves all active {@link Membership Memberships} in the system that has the name in one of the following fields:
    * <ul>
@@ -124,4 +150,60 @@ public interface MembershipRepository {
    * @throws DataAccessException if the query fails
    */
   int updateNextDueDate(final long membershipId, final User user) throws DataAccessException;
+
+  /**
+   * Updates the next due date by 1 year for the specified memberships using a single statement.
+   *
+   * @param membershipIds
+   *      A {@link Collection} of {@link Long} that uniquely identify the memberships to update.
+   * @param user
+   *      The {@link User} that performed the changes.
+   *
+   * @return The number of memberships updated (modified)
+   *
+   * @throws DataAccessException if the query fails
+   */
+  int updateNextDueDates(final Collection<Long> membershipIds, final User user) throws DataAccessException;
+
+  /**
+   * Closes the memberships, each identified by its unique identifier and the updt_cnt it was last read with, for the
+   * specified reason using a single statement. A membership that has been updated since it was read, or is no
+   * longer active, is reported rather than closed.
+   *
+   * @param membershipVersions
+   *      A {@link Map} of the updt_cnt of each membership to close, keyed by the unique identifier of the membership.
+   * @param closeReason
+   *      A {@link CodeValue} that specifies the reason for closure.
+   * @param closeText
+   *      A {@link String} that specifies the reason for closing if a closeReason is not specified.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the memberships.
+   *
+   * @throws OptimisticLockingFailureException if a membership was updated by someone else while being closed
+   * @throws DataAccessException if the query fails
+   */
+  BulkUpdateResult closeMemberships(final Map<Long, Long> membershipVersions,
+                                    final CodeValue closeReason,
+                                    final String closeText,
+                                    final User user) throws DataAccessException;
+
+  /**
+   * Updates the next due date by 1 year for the memberships, each identified by its unique identifier and the updt_cnt
+   * it was last read with, using a single statement. A membership that has been updated since it was read, or is no
+   * longer active, is reported rather than updated.
+   *
+   * @param membershipVersions
+   *      A {@link Map} of the updt_cnt of each membership to update, keyed by the unique identifier of the membership.
+   * @param user
+   *      The {@link User} that performed the changes.
+   *
+   * @return The {@link BulkUpdateResult} for each of the memberships.
+   *
+   * @throws OptimisticLockingFailureException if a membership was updated by someone else while being updated
+   * @throws DataAccessException if the query fails
+   */
+  BulkUpdateResult updateNextDueDates(final Map<Long, Long> membershipVersions, final User user)
+      throws DataAccessException;
 }
@@ -3,15 +3,21 @@ package com.cagst.swkroa.member;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.user.User;
-import com.cagst.swkroa.utils.SwkroaStringUtils;
+import com.google.common.collect.Iterables;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -20,6 +26,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -37,17 +44,28 @@ import org.springframework.util.Assert;
 
   private static final String GET_MEMBERSHIP_BY_UID         = "GET_MEMBERSHIP_BY_UID";
   private static final String GET_MEMBERSHIPS               = "GET_MEMBERSHIPS";
-  private static final String GET_MEMBERSHIPS_BY_NAME       = "GET_MEMBERSHIPS_BY_NAME";
+  private static final String GET_MEMBERSHIPS_PAGE          = "GET_MEMBERSHIPS_PAGE";
+  private static final String GET_MEMBERSHIPS_BY_UIDS       = "GET_MEMBERSHIPS_BY_UIDS";
   private static final String GET_MEMBERSHIPS_DUE_IN_X_DAYS = "GET_MEMBERSHIPS_DUE_IN_X_DAYS";
 
-  private static final String INSERT_MEMBERSHIP    = "INSERT_MEMBERSHIP";
-  private static final String UPDATE_MEMBERSHIP    = "UPDATE_MEMBERSHIP";
-  private static final String CLOSE_MEMBERSHIPS    = "CLOSE_MEMBERSHIPS";
-  private static final String UPDATE_NEXT_DUE_DATE = "UPDATE_NEXT_DUE_DATE";
+  private static final String INSERT_MEMBERSHIP     = "INSERT_MEMBERSHIP";
+  private static final String UPDATE_MEMBERSHIP     = "UPDATE_MEMBERSHIP";
+  private static final String CLOSE_MEMBERSHIPS     = "CLOSE_MEMBERSHIPS";
+  private static final String UPDATE_NEXT_DUE_DATE  = "UPDATE_NEXT_DUE_DATE";
+  private static final String UPDATE_NEXT_DUE_DATES = "UPDATE_NEXT_DUE_DATES";
+
+  private static final String GET_MEMBERSHIP_VERSIONS       = "GET_MEMBERSHIP_VERSIONS";
+  private static final String CLOSE_MEMBERSHIP_VERSIONS     = "CLOSE_MEMBERSHIP_VERSIONS";
+  private static final String UPDATE_NEXT_DUE_DATE_VERSIONS = "UPDATE_NEXT_DUE_DATE_VERSIONS";
+
+  // the number of memberships found by name that are retrieved by a single query
+  private static final int DEFAULT_UIDS_PER_QUERY = 500;
 
   private final MemberRepository memberRepo;
   private final CodeValueRepository codeValueRepo;
   private final MemberTypeRepository memberTypeRepo;
+  private final NameSearchIndex nameIndex;
+  private final int uidsPerQuery;
 
   /**
    * Primary Constructor used to create an instance of <i>PersonRepositoryJdbc</i>.
@@ -60,17 +78,33 @@ import org.springframework.util.Assert;
    *     The {@link CodeValueRepository} to use to retrieve codified information.
    * @param memberTypeRepo
    *     The {@link MemberTypeRepository} to use to retrieve member type information.
+   * @param nameIndex
+   *     The {@link NameSearchIndex} to use to find Memberships by name.
    */
   @Inject
   /* package */ MembershipRepositoryJdbc(DataSource dataSource,
                                          MemberRepository memberRepo,
                                          CodeValueRepository codeValueRepo,
-                                         MemberTypeRepository memberTypeRepo) {
+                                         MemberTypeRepository memberTypeRepo,
+                                         NameSearchIndex nameIndex) {
+    this(dataSource, memberRepo, codeValueRepo, memberTypeRepo, nameIndex, DEFAULT_UIDS_PER_QUERY);
+  }
+
+  /* package */ MembershipRepositoryJdbc(DataSource dataSource,
+                                         MemberRepository memberRepo,
+                                         CodeValueRepository codeValueRepo,
+                                         MemberTypeRepository memberTypeRepo,
+                                         NameSearchIndex nameIndex,
+                                         int uidsPerQuery) {
     super(dataSource);
 
+    Assert.isTrue(uidsPerQuery > 0, "Argument [uidsPerQuery] must be greater than 0");
+
     this.memberRepo = memberRepo;
     this.codeValueRepo = codeValueRepo;
     this.memberTypeRepo = memberTypeRepo;
+    this.nameIndex = nameIndex;
+    this.uidsPerQuery = uidsPerQuery;
   }
 
   @Override
@@ -115,20 +149,75 @@ import org.springframework.util.Assert;
   }
 
   @Override
-  public List<Membership> getMembershipsByName(String name, Status status, MembershipBalance balance) {
-    LOGGER.info("Calling getMembershipsByName for [{}].", name);
+  public MembershipCursor getMemberships(Status status,
+                                         MembershipBalance balance,
+                                         MembershipCursor after,
+                                         int limit,
+                                         Consumer<? super Membership> consumer) {
+
+    LOGGER.info("Calling getMemberships with status [{}] and balance [{}] after [{}]", status, balance, after);
 
-    Assert.hasText(name, "Argument [name] cannot be null or empty");
     Assert.notNull(status, "Argument [status] cannot be null");
     Assert.notNull(balance, "Argument [balance] cannot be null");
+    Assert.isTrue(limit > 0, "Argument [limit] must be greater than 0");
+    Assert.notNull(consumer, "Argument [consumer] cannot be null");
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
     MapSqlParameterSource params = new MapSqlParameterSource();
-    params.addValue("name", SwkroaStringUtils.normalizeToKey(name) + "%");
     params.addValue("status", status.toString());
     params.addValue("balance", balance.toString());
+    params.addValue("after_name", after != null ? after.getMembershipName() : StringUtils.EMPTY);
+    params.addValue("after_id", after != null ? after.getMembershipUID() : 0L);
+    // read one more than the page so we know whether there is another page
+    params.addValue("limit", limit + 1);
+
+    MembershipMapper mapper = new MembershipMapper(codeValueRepo, memberTypeRepo);
+
+    ResultSetExtractor<MembershipCursor> extractor = rs -> {
+      Membership last = null;
+      for (int rowNum = 0; rs.next(); rowNum++) {
+        if (rowNum == limit) {
+          return new MembershipCursor(last.getMembershipName(), last.getMembershipUID());
+        }
+
+        last = mapper.mapRow(rs, rowNum);
+        consumer.accept(last);
+      }
 
-    return getJdbcTemplate().query(stmtLoader.load(GET_MEMBERSHIPS_BY_NAME), params, new MembershipMapper(codeValueRepo, memberTypeRepo));
+      return null;
+    };
+
+    return getJdbcTemplate().query(stmtLoader.load(GET_MEMBERSHIPS_PAGE), params, extractor);
+  }
+
+  @Override
+  public List<Membership> getMembershipsByName(String name, Status status, MembershipBalance balance) {
+    LOGGER.info("Calling getMembershipsByName for [{}].", name);
+
+    Assert.hasText(name, "Argument [name] cannot be null or empty");
+    Assert.notNull(status, "Argument [status] cannot be null");
+    Assert.notNull(balance, "Argument [balance] cannot be null");
+
+    Set<Long> membershipUIDs = nameIndex.findMemberships(name);
+    if (membershipUIDs.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    String sql = stmtLoader.load(GET_MEMBERSHIPS_BY_UIDS);
+
+    // a short name can match a large number of memberships, so they are retrieved in chunks
+    List<Membership> memberships = new ArrayList<>();
+    for (List<Long> chunk : Iterables.partition(membershipUIDs, uidsPerQuery)) {
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      params.addValue("membership_ids", chunk);
+      params.addValue("status", status.toString());
+      params.addValue("balance", balance.toString());
+
+      memberships.addAll(getJdbcTemplate().query(sql, params, new MembershipMapper(codeValueRepo, memberTypeRepo)));
+    }
+
+    return memberships;
   }
 
   @Override
@@ -219,6 +308,68 @@ import org.springframework.util.Assert;
     return getJdbcTemplate().update(stmtLoader.load(UPDATE_NEXT_DUE_DATE), params);
   }
 
+  @Override
+  @Transactional
+  public int updateNextDueDates(Collection<Long> membershipIds, User user) throws DataAccessException {
+    Assert.notNull(membershipIds, "Argument [membershipIds] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    if (membershipIds.isEmpty()) {
+      return 0;
+    }
+
+    LOGGER.info("Billing [{}] Memberships", membershipIds.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("memberships", membershipIds);
+    params.addValue("updt_id", user.getUserUID());
+
+    return getJdbcTemplate().update(stmtLoader.load(UPDATE_NEXT_DUE_DATES), params);
+  }
+
+  @Override
+  @Transactional
+  public BulkUpdateResult closeMemberships(Map<Long, Long> membershipVersions,
+                                           CodeValue closeReason,
+                                           String closeText,
+                                           User user) throws DataAccessException {
+
+    Assert.notNull(membershipVersions, "Argument [membershipVersions] cannot be null");
+    Assert.notNull(closeReason, "Argument [closeReason] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Closing [{}] Memberships", membershipVersions.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("close_reason_id", closeReason.getCodeValueUID());
+    params.addValue("close_reason_txt", StringUtils.trimToNull(closeText));
+    params.addValue("updt_id", user.getUserUID());
+
+    return VersionedUpdate.execute(getJdbcTemplate(),
+        stmtLoader.load(GET_MEMBERSHIP_VERSIONS), stmtLoader.load(CLOSE_MEMBERSHIP_VERSIONS), params, membershipVersions);
+  }
+
+  @Override
+  @Transactional
+  public BulkUpdateResult updateNextDueDates(Map<Long, Long> membershipVersions, User user)
+      throws DataAccessException {
+
+    Assert.notNull(membershipVersions, "Argument [membershipVersions] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Billing [{}] Memberships", membershipVersions.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("updt_id", user.getUserUID());
+
+    return VersionedUpdate.execute(getJdbcTemplate(),
+        stmtLoader.load(GET_MEMBERSHIP_VERSIONS), stmtLoader.load(UPDATE_NEXT_DUE_DATE_VERSIONS), params,
+        membershipVersions);
+  }
+
   private Membership insertMembership(Membership membership, User user)
       throws DataAccessException {
 
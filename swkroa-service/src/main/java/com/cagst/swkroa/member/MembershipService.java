@@ -2,6 +2,7 @@ package com.cagst.swkroa.member;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.cagst.swkroa.LoadingPolicy;
 import com.cagst.swkroa.codevalue.CodeValue;
@@ -55,6 +56,29 @@ public interface MembershipService {
    */
   List<Membership> getMemberships(Status status, MembershipBalance balance);
 
+  /**
+   * Retrieves a page of the {@link Membership Memberships} in the system, ordered by name, handing each one to the
+   * consumer as it is read.
+   *
+   * @param status
+   *      The status of the Memberships to search for; 'all', 'active' or 'inactive'.
+   * @param balance
+   *      The balance group of the Memberships to search for; 'all', 'delinquent', 'paid', or 'credit'.
+   * @param after
+   *      The {@link MembershipCursor} the page starts after, {@code null} to start with the first Membership.
+   * @param limit
+   *      The maximum number of Memberships to retrieve.
+   * @param consumer
+   *      The {@link Consumer} to hand each {@link Membership} to.
+   *
+   * @return A {@link MembershipCursor} to retrieve the next page with, {@code null} if this was the last page.
+   */
+  MembershipCursor getMemberships(Status status,
+                                  MembershipBalance balance,
+                                  MembershipCursor after,
+                                  int limit,
+                                  Consumer<? super Membership> consumer);
+
   /**
    * Retrieves a {@link List} of {@link Membership Memberships} that contain the specified <i>name</i> in one of
    * the following fields:
@@ -126,7 +150,8 @@ public interface MembershipService {
       throws DataAccessException;
 
   /**
-   * Generates invoices for the memberships associated to the specified Job.
+   * Submits the specified Job to generate invoices for the memberships associated to it. The Job is persisted and
+   * then run in the background by the {@link com.cagst.swkroa.job.JobScheduler}.
    *
    * @param transactionDate
    *    A {@link DateTime} that represents the date of the transaction.
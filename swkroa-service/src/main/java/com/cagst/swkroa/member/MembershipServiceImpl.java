@@ -3,26 +3,27 @@ package com.cagst.swkroa.member;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.cagst.swkroa.LoadingPolicy;
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.comment.Comment;
 import com.cagst.swkroa.comment.CommentRepository;
 import com.cagst.swkroa.contact.Address;
+import com.cagst.swkroa.contact.ContactBundle;
 import com.cagst.swkroa.contact.ContactRepository;
 import com.cagst.swkroa.contact.EmailAddress;
 import com.cagst.swkroa.contact.PhoneNumber;
 import com.cagst.swkroa.document.Document;
 import com.cagst.swkroa.document.DocumentRepository;
 import com.cagst.swkroa.job.Job;
-import com.cagst.swkroa.job.JobDetail;
-import com.cagst.swkroa.job.JobRepository;
-import com.cagst.swkroa.job.JobService;
-import com.cagst.swkroa.job.JobStatus;
+import com.cagst.swkroa.job.JobScheduler;
+import com.cagst.swkroa.job.RenewalJobHandler;
 import com.cagst.swkroa.transaction.Transaction;
 import com.cagst.swkroa.transaction.TransactionRepository;
 import com.cagst.swkroa.user.User;
@@ -32,7 +33,6 @@ import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -50,8 +50,7 @@ public class MembershipServiceImpl implements MembershipService {
   private final CommentRepository commentRepo;
   private final TransactionRepository transactionRepo;
   private final DocumentRepository documentRepository;
-  private final JobRepository jobRepo;
-  private final JobService jobService;
+  private final JobScheduler jobScheduler;
 
   /**
    * Primary Constructor used to create an instance of <i>MembershipServiceImpl</i>.
@@ -71,6 +70,8 @@ public class MembershipServiceImpl implements MembershipService {
    *    {@link Membership}.
    * @param documentRepository
    *    The {@link DocumentRepository} used to retrieve / persist {@link Document} objects related to a {@link Membership}.
+   * @param jobScheduler
+   *    The {@link JobScheduler} used to run the {@link Job Jobs} that renew {@link Membership Memberships}.
    */
   @Inject
   public MembershipServiceImpl(MembershipRepository membershipRepo,
@@ -79,16 +80,14 @@ public class MembershipServiceImpl implements MembershipService {
                                CommentRepository commentRepo,
                                TransactionRepository transactionRepo,
                                DocumentRepository documentRepository,
-                               JobRepository jobRepo,
-                               JobService jobService) {
+                               JobScheduler jobScheduler) {
     this.membershipRepo = membershipRepo;
     this.memberRepo = memberRepo;
     this.contactRepo = contactRepo;
     this.commentRepo = commentRepo;
     this.transactionRepo = transactionRepo;
     this.documentRepository = documentRepository;
-    this.jobRepo = jobRepo;
-    this.jobService = jobService;
+    this.jobScheduler = jobScheduler;
   }
 
   @Override
@@ -101,11 +100,19 @@ public class MembershipServiceImpl implements MembershipService {
       List<Member> members = memberRepo.getMembersForMembership(membership);
       membership.setMembers(members);
 
-      if (loadingPolicy.containsAttribute(LOAD_CONTACTS)) {
-        for (Member member : membership.getMembers()) {
-          member.setAddresses(contactRepo.getAddressesForMember(member));
-          member.setPhoneNumbers(contactRepo.getPhoneNumbersForMember(member));
-          member.setEmailAddresses(contactRepo.getEmailAddressesForMember(member));
+      if (loadingPolicy.containsAttribute(LOAD_CONTACTS) && !members.isEmpty()) {
+        // retrieve the contacts for all members at once and stitch them together in memory
+        List<Long> memberUIDs = new ArrayList<>(members.size());
+        for (Member member : members) {
+          memberUIDs.add(member.getMemberUID());
+        }
+
+        Map<Long, ContactBundle> contacts = contactRepo.getContactsForEntities(memberUIDs, UserType.MEMBER);
+        for (Member member : members) {
+          ContactBundle bundle = contacts.get(member.getMemberUID());
+          member.setAddresses(bundle.getAddresses());
+          member.setPhoneNumbers(bundle.getPhoneNumbers());
+          member.setEmailAddresses(bundle.getEmailAddresses());
         }
       }
     }
@@ -116,9 +123,8 @@ public class MembershipServiceImpl implements MembershipService {
     }
 
     if (loadingPolicy.containsAttribute(LOAD_COMMENTS)) {
-      List<Comment> comments = commentRepo.getCommentsForMembership(membership);
-      Collections.sort(comments);
-      membership.setComments(comments);
+      // already sorted (and shared through the cache)
+      membership.setComments(commentRepo.getCommentsForMembership(membership));
     }
 
     if (loadingPolicy.containsAttribute(LOAD_TRANSACTIONS)) {
@@ -142,6 +148,18 @@ public class MembershipServiceImpl implements MembershipService {
     return membershipRepo.getMemberships(status, balance);
   }
 
+  @Override
+  public MembershipCursor getMemberships(Status status,
+                                         MembershipBalance balance,
+                                         MembershipCursor after,
+                                         int limit,
+                                         Consumer<? super Membership> consumer) {
+
+    LOGGER.info("Calling getMemberships after [{}]", after);
+
+    return membershipRepo.getMemberships(status, balance, after, limit, consumer);
+  }
+
   @Override
   public List<Membership> getMembershipsForName(String name, Status status, MembershipBalance balance) {
     LOGGER.info("Calling getMembershipsByName for [{}]", name);
@@ -168,96 +186,47 @@ public class MembershipServiceImpl implements MembershipService {
       savedMembership.setMembershipName(savedMembership.getPrimaryMember().getMemberName());
     }
 
-    // save the Contact information (Addresses, Phone Numbers, Email Addresses)
+    // save the Contact information (Addresses, Phone Numbers, Email Addresses) of all members together, only the
+    // contacts that have been modified are written
+    Map<Long, ContactBundle> contacts = new LinkedHashMap<>();
     for (Member member : savedMembership.getMembers()) {
-      for (Address address : member.getAddresses()) {
-        Address saveAddress = address.toBuilder()
-            .setParentEntityUID(member.getMemberUID())
-            .setParentEntityName(UserType.MEMBER.name())
-            .build();
-
-        contactRepo.saveAddress(saveAddress, user);
-      }
-
+      List<PhoneNumber> phones = new ArrayList<>(member.getPhoneNumbers().size());
       for (PhoneNumber phone : member.getPhoneNumbers()) {
-        PhoneNumber savePhone;
-        if (phone.getPhoneUID() > 0L) {
-          if (StringUtils.isEmpty(phone.getPhoneNumber())) {
-            savePhone = phone.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .setPhoneTypeCD(0L)
-                .setActive(false)
-                .build();
-          } else {
-            savePhone = phone.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .build();
-          }
-        } else {
-          if (StringUtils.isEmpty(phone.getPhoneNumber())) {
-            // skip, no need to save a new phone number w/o an actual phone number
-            continue;
-          } else {
-            savePhone = phone.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .build();
-          }
+        if (StringUtils.isNotEmpty(phone.getPhoneNumber())) {
+          phones.add(phone);
+        } else if (phone.getPhoneUID() > 0L) {
+          phones.add(phone.toBuilder()
+              .setPhoneTypeCD(0L)
+              .setActive(false)
+              .build());
         }
-
-        contactRepo.savePhoneNumber(savePhone, user);
+        // otherwise skip, no need to save a new phone number w/o an actual phone number
       }
 
+      List<EmailAddress> emails = new ArrayList<>(member.getEmailAddresses().size());
       for (EmailAddress email : member.getEmailAddresses()) {
-        EmailAddress saveEmailAddress;
-        if (email.getEmailAddressUID() > 0L) {
-          if (StringUtils.isEmpty(email.getEmailAddress())) {
-            saveEmailAddress = email.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .setEmailTypeCD(0L)
-                .setActive(false)
-                .build();
-          } else {
-            saveEmailAddress = email.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .build();
-          }
-        } else {
-          if (StringUtils.isEmpty(email.getEmailAddress())) {
-            // skip, no need to save a new email address w/o an actual email address
-            continue;
-          } else {
-            saveEmailAddress = email.toBuilder()
-                .setParentEntityUID(member.getMemberUID())
-                .setParentEntityName(UserType.MEMBER.name())
-                .build();
-          }
+        if (StringUtils.isNotEmpty(email.getEmailAddress())) {
+          emails.add(email);
+        } else if (email.getEmailAddressUID() > 0L) {
+          emails.add(email.toBuilder()
+              .setEmailTypeCD(0L)
+              .setActive(false)
+              .build());
         }
-
-        contactRepo.saveEmailAddress(saveEmailAddress, user);
+        // otherwise skip, no need to save a new email address w/o an actual email address
       }
-    }
-
-    // save Comments
-    for (Comment comment : savedMembership.getComments()) {
-      Comment saveComment = Comment.builder(comment)
-          .setParentEntityUID(savedMembership.getMembershipUID())
-          .setParentEntityName(Comment.MEMBERSHIP)
-          .build();
 
-      commentRepo.saveComment(saveComment, user);
+      contacts.put(member.getMemberUID(), new ContactBundle(member.getAddresses(), phones, emails));
     }
 
-    // save Transactions
-    for (Transaction transaction : savedMembership.getTransactions()) {
-      transaction.setMembershipUID(savedMembership.getMembershipUID());
+    contactRepo.saveContactsForEntities(contacts, UserType.MEMBER, user);
 
-      transactionRepo.saveTransaction(transaction, user);
-    }
+    // save Comments (only those that have been modified)
+    commentRepo.saveCommentsForMembership(savedMembership, user);
+
+    // save Transactions (only those that have been modified)
+    transactionRepo.saveTransactionsForMembership(
+        savedMembership.getMembershipUID(), savedMembership.getTransactions(), user);
 
     return savedMembership;
   }
@@ -271,7 +240,6 @@ public class MembershipServiceImpl implements MembershipService {
   }
 
   @Override
-  @Async
   public void renewMemberships(DateTime transactionDate,
                                String transactionDescription,
                                String transactionMemo,
@@ -281,36 +249,9 @@ public class MembershipServiceImpl implements MembershipService {
 
     LOGGER.info("Calling createBillingInvoicesForMemberships [{}]", transactionDescription);
 
-    // mark the job as being in-process
-    job.setJobStatus(JobStatus.INPROCESS);
-    jobRepo.saveJob(job, user);
-
-    int succeeded = 0;
-    int failed    = 0;
-
-    for (JobDetail jobDetail : job.getJobDetails()) {
-      jobService.processRenewalJob(jobDetail, transactionDescription, transactionDate, transactionMemo, user);
-
-      if (jobDetail.getJobStatus() == JobStatus.SUCCEEDED) {
-        succeeded++;
-      } else {
-        failed++;
-      }
-    }
-
-    if (succeeded == job.getJobDetails().size()) {
-      // if all the JobDetails succeeded, then the Job succeeded
-      job.setJobStatus(JobStatus.SUCCEEDED);
-    } else if (failed == job.getJobDetails().size()) {
-      // if all the JobDetails failed, then the Job failed
-      job.setJobStatus(JobStatus.FAILED);
-    } else {
-      job.setJobStatus(JobStatus.PARTIAL);
-    }
-
-    // clear out our JobDetails list since we don't need to persist them again
-    job.setJobDetails(new ArrayList<>());
+    job.setJobName(transactionDescription);
+    RenewalJobHandler.setParameters(job, transactionDate, transactionMemo);
 
-    jobRepo.saveJob(job, user);
+    jobScheduler.submit(job, user);
   }
 }
@@ -0,0 +1,96 @@
+package com.cagst.swkroa.member;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Applies a set-based update to a set of rows, each with the updt_cnt it was last read with, using a single statement
+ * that matches the rows by their identifier and then checks each row's (identifier, updt_cnt) pair. The rows are
+ * matched by a plain identifier list so the primary key is used to find them, MySQL (before 5.7) doesn't use an index
+ * for a list of (identifier, updt_cnt) pairs and would scan the table instead.
+ *
+ * The current version of every row is read first, so the rows that no longer exist (or are inactive) or have been
+ * updated since they were read are reported rather than updated. The update is expected to be run within a
+ * transaction, if it doesn't update every row that was current when read the (concurrent) change is reported as an
+ * {@link OptimisticLockingFailureException} so the transaction is rolled back and may be retried.
+ *
+ * @author Craig Gaskill
+ */
+/* package */ final class VersionedUpdate {
+  private VersionedUpdate() {
+  }
+
+  /**
+   * @param jdbcTemplate
+   *     The {@link NamedParameterJdbcOperations} used to read and update the rows.
+   * @param versionsStatement
+   *     The statement that reads the entity_id, updt_cnt and active_ind of the rows in :uids.
+   * @param updateStatement
+   *     The statement that updates the (active) rows whose identifier is in :uids and (identifier, updt_cnt) is in
+   *     :versions.
+   * @param params
+   *     The {@link MapSqlParameterSource} of any other parameters of the update statement.
+   * @param versions
+   *     A {@link Map} of the updt_cnt each row was last read with, keyed by its unique identifier.
+   *
+   * @return The {@link BulkUpdateResult} of the update.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if a row was updated by someone else between being read and being updated
+   */
+  /* package */ static BulkUpdateResult execute(final NamedParameterJdbcOperations jdbcTemplate,
+                                                final String versionsStatement,
+                                                final String updateStatement,
+                                                final MapSqlParameterSource params,
+                                                final Map<Long, Long> versions) {
+
+    BulkUpdateResult result = new BulkUpdateResult();
+    if (versions.isEmpty()) {
+      return result;
+    }
+
+    Map<Long, Long> current = new HashMap<>();
+    jdbcTemplate.query(versionsStatement, new MapSqlParameterSource("uids", versions.keySet()), rs -> {
+      if (rs.getBoolean("active_ind")) {
+        current.put(rs.getLong("entity_id"), rs.getLong("updt_cnt"));
+      }
+    });
+
+    List<Long> candidateUids = new ArrayList<>(versions.size());
+    List<Object[]> candidates = new ArrayList<>(versions.size());
+    for (Map.Entry<Long, Long> entry : versions.entrySet()) {
+      Long version = current.get(entry.getKey());
+      if (version == null) {
+        result.put(entry.getKey(), BulkUpdateResult.Outcome.NOT_FOUND);
+      } else if (version.longValue() != entry.getValue()) {
+        result.put(entry.getKey(), BulkUpdateResult.Outcome.STALE);
+      } else {
+        result.put(entry.getKey(), BulkUpdateResult.Outcome.UPDATED);
+        candidateUids.add(entry.getKey());
+        candidates.add(new Object[] {entry.getKey(), entry.getValue()});
+      }
+    }
+
+    if (candidates.isEmpty()) {
+      return result;
+    }
+
+    MapSqlParameterSource updateParams = new MapSqlParameterSource(params.getValues());
+    updateParams.addValue("uids", candidateUids);
+    updateParams.addValue("versions", candidates);
+
+    int cnt = jdbcTemplate.update(updateStatement, updateParams);
+    if (cnt != candidates.size()) {
+      throw new OptimisticLockingFailureException(
+          "Failed to update [" + candidates.size() + "] rows, [" + (candidates.size() - cnt) + "] were modified concurrently");
+    }
+
+    return result;
+  }
+}
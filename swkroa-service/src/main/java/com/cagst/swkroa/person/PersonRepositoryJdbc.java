@@ -7,6 +7,7 @@ import java.util.List;
 
 import com.cagst.swkroa.internal.BaseRepositoryJdbc;
 import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.user.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,15 +32,21 @@ public class PersonRepositoryJdbc extends BaseRepositoryJdbc implements PersonRe
   private static final String INSERT_PERSON = "INSERT_PERSON";
   private static final String UPDATE_PERSON = "UPDATE_PERSON";
 
+  private final NameSearchIndex nameIndex;
+
   /**
    * Primary Constructor used to create an instance of <i>PersonRepositoryJdbc</i>.
    *
    * @param dataSource
    *     The {@link DataSource} used to retrieve / persist data objects.
+   * @param nameIndex
+   *     The {@link NameSearchIndex} to keep current as Persons are saved.
    */
   @Inject
-  public PersonRepositoryJdbc(DataSource dataSource) {
+  public PersonRepositoryJdbc(DataSource dataSource, NameSearchIndex nameIndex) {
     super(dataSource);
+
+    this.nameIndex = nameIndex;
   }
 
   @Override
@@ -80,6 +87,8 @@ public class PersonRepositoryJdbc extends BaseRepositoryJdbc implements PersonRe
       savedPerson = update(person, user);
     }
 
+    nameIndex.indexPerson(savedPerson);
+
     return savedPerson;
   }
 
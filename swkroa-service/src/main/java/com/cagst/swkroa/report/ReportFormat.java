@@ -0,0 +1,35 @@
+package com.cagst.swkroa.report;
+
+import com.google.common.net.MediaType;
+
+/**
+ * Enumeration of the formats a report can be exported to.
+ *
+ * @author Craig Gaskill
+ */
+public enum ReportFormat {
+  PDF(MediaType.PDF, "pdf"),
+  CSV(MediaType.CSV_UTF_8, "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  ReportFormat(final MediaType mediaType, final String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  /**
+   * @return The {@link MediaType} (content type) of a report exported in this format.
+   */
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * @return The file extension of a report exported in this format.
+   */
+  public String getExtension() {
+    return extension;
+  }
+}
@@ -0,0 +1,86 @@
+package com.cagst.swkroa.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperReport;
+
+/**
+ * Definition of a service that loads, fills and exports the (Jasper) reports of the system.
+ *
+ * Each compiled report template is loaded from the classpath once and shared by every request for it.
+ *
+ * @author Craig Gaskill
+ */
+public interface ReportService {
+  /**
+   * The report element property that tags the first page of each entity within a report exported by
+   * {@link #exportReportPerEntity(String, Map)}, its value is the unique identifier of the entity.
+   */
+  String ENTITY_ID_PROPERTY = "com.cagst.swkroa.report.entity.id";
+
+  /**
+   * Retrieves the compiled {@link JasperReport} located at the specified classpath, loading it on first use.
+   *
+   * @param template
+   *    A {@link String} that represents the location in the classpath of the compiled report.
+   *
+   * @return The {@link JasperReport} located at the specified classpath.
+   *
+   * @throws JRException
+   *    if the report could not be found or loaded.
+   */
+  JasperReport getReport(final String template) throws JRException;
+
+  /**
+   * Fills the specified report and exports it to the {@link OutputStream} as it is generated, the exported report
+   * is never held in memory as a whole.
+   *
+   * @param template
+   *    A {@link String} that represents the location in the classpath of the compiled report.
+   * @param format
+   *    The {@link ReportFormat} to export the report as.
+   * @param params
+   *    A {@link Map} of parameters to fill the report with.
+   * @param output
+   *    The {@link OutputStream} to write the exported report to, it is not closed.
+   *
+   * @throws JRException
+   *    if the report could not be filled or exported.
+   * @throws IOException
+   *    if the report could not be written to the output stream.
+   */
+  void exportReport(final String template,
+                    final ReportFormat format,
+                    final Map<String, Object> params,
+                    final OutputStream output) throws JRException, IOException;
+
+  /**
+   * Fills the specified report once for many entities and splits its pages into a separate PDF for each of them.
+   *
+   * The report must tag the first page of each entity with the {@link #ENTITY_ID_PROPERTY} property (typically
+   * through a property expression in a group header that starts a new page), every page up to the next tagged page
+   * belongs to that entity.
+   *
+   * @param template
+   *    A {@link String} that represents the location in the classpath of the compiled report.
+   * @param params
+   *    A {@link Map} of parameters to fill the report with.
+   *
+   * @return A {@link Map} of the exported PDF content keyed by entity unique identifier, in report order. An entity
+   * the report produced no pages for is not included.
+   *
+   * @throws JRException
+   *    if the report could not be filled or exported.
+   */
+  Map<Long, byte[]> exportReportPerEntity(final String template, final Map<String, Object> params) throws JRException;
+
+  /**
+   * Retrieves the usage statistics of every report that has been filled since the application was started.
+   *
+   * @return A {@link Map} of {@link ReportStatistics} keyed by report template.
+   */
+  Map<String, ReportStatistics> getStatistics();
+}
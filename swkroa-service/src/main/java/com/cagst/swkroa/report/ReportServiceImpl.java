@@ -0,0 +1,220 @@
+package com.cagst.swkroa.report;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.cagst.swkroa.report.jasper.JasperReportLoader;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRPrintElement;
+import net.sf.jasperreports.engine.JRPrintFrame;
+import net.sf.jasperreports.engine.JRPrintPage;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.export.JRCsvExporter;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.export.SimplePdfReportConfiguration;
+import net.sf.jasperreports.export.SimpleWriterExporterOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@link ReportService} interface.
+ *
+ * A compiled {@link JasperReport} is immutable once loaded and may be filled by many threads at once, so a single
+ * instance of each template is cached for the life of the application.
+ *
+ * @author Craig Gaskill
+ */
+@Named("reportService")
+public class ReportServiceImpl implements ReportService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportServiceImpl.class);
+
+  private static final String CSV_ENCODING = "UTF-8";
+
+  private final DataSource dataSource;
+
+  private final ConcurrentMap<String, JasperReport> reports = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ReportStatistics> statistics = new ConcurrentHashMap<>();
+
+  /**
+   * Primary Constructor used to create an instance of <i>ReportServiceImpl</i>.
+   *
+   * @param dataSource
+   *    The {@link DataSource} the reports are filled from.
+   */
+  @Inject
+  public ReportServiceImpl(final DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public JasperReport getReport(final String template) throws JRException {
+    Assert.hasText(template, "Argument [template] cannot be null or empty");
+
+    JasperReport report = reports.computeIfAbsent(template, JasperReportLoader::getReport);
+    if (report == null) {
+      throw new JRException("Unable to load jasper report [" + template + "]");
+    }
+
+    return report;
+  }
+
+  @Override
+  public void exportReport(final String template,
+                           final ReportFormat format,
+                           final Map<String, Object> params,
+                           final OutputStream output) throws JRException, IOException {
+
+    Assert.notNull(format, "Argument [format] cannot be null");
+    Assert.notNull(output, "Argument [output] cannot be null");
+
+    LOGGER.info("Exporting report [{}] as [{}]", template, format);
+
+    ReportStatistics stats = statistics.computeIfAbsent(template, key -> new ReportStatistics());
+
+    try {
+      JasperReport report = getReport(template);
+
+      long start = System.nanoTime();
+      JasperPrint print = fillReport(report, params);
+      stats.recordFill(System.nanoTime() - start);
+
+      start = System.nanoTime();
+      if (format == ReportFormat.PDF) {
+        JRPdfExporter exporter = new JRPdfExporter();
+        exporter.setExporterInput(new SimpleExporterInput(print));
+        exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        exporter.exportReport();
+      } else {
+        JRCsvExporter exporter = new JRCsvExporter();
+        exporter.setExporterInput(new SimpleExporterInput(print));
+        exporter.setExporterOutput(new SimpleWriterExporterOutput(output, CSV_ENCODING));
+        exporter.exportReport();
+      }
+
+      output.flush();
+      stats.recordExport(System.nanoTime() - start);
+    } catch (JRException | IOException | RuntimeException ex) {
+      stats.recordFailure();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Map<Long, byte[]> exportReportPerEntity(final String template, final Map<String, Object> params)
+      throws JRException {
+
+    LOGGER.info("Exporting report [{}] per entity", template);
+
+    ReportStatistics stats = statistics.computeIfAbsent(template, key -> new ReportStatistics());
+
+    try {
+      JasperReport report = getReport(template);
+
+      long start = System.nanoTime();
+      JasperPrint print = fillReport(report, params);
+      stats.recordFill(System.nanoTime() - start);
+
+      Map<Long, byte[]> documents = new LinkedHashMap<>();
+      for (Map.Entry<Long, int[]> pageRange : getEntityPageRanges(print).entrySet()) {
+        start = System.nanoTime();
+
+        SimplePdfReportConfiguration configuration = new SimplePdfReportConfiguration();
+        configuration.setStartPageIndex(pageRange.getValue()[0]);
+        configuration.setEndPageIndex(pageRange.getValue()[1]);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        JRPdfExporter exporter = new JRPdfExporter();
+        exporter.setConfiguration(configuration);
+        exporter.setExporterInput(new SimpleExporterInput(print));
+        exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(output));
+        exporter.exportReport();
+
+        documents.put(pageRange.getKey(), output.toByteArray());
+        stats.recordExport(System.nanoTime() - start);
+      }
+
+      return documents;
+    } catch (JRException | RuntimeException ex) {
+      stats.recordFailure();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Map<String, ReportStatistics> getStatistics() {
+    return Collections.unmodifiableMap(new TreeMap<>(statistics));
+  }
+
+  /**
+   * Helper method to determine the (inclusive) page range of each entity within the filled report.
+   */
+  /* package */ static Map<Long, int[]> getEntityPageRanges(final JasperPrint print) {
+    Map<Long, int[]> pageRanges = new LinkedHashMap<>();
+
+    int[] currentRange = null;
+    List<JRPrintPage> pages = print.getPages();
+    for (int idx = 0; idx < pages.size(); idx++) {
+      String entityId = findEntityId(pages.get(idx).getElements());
+      if (entityId != null) {
+        currentRange = new int[] {idx, idx};
+        pageRanges.put(Long.valueOf(entityId), currentRange);
+      } else if (currentRange != null) {
+        currentRange[1] = idx;
+      } else {
+        LOGGER.warn("Page [{}] of report [{}] does not belong to an entity.", idx, print.getName());
+      }
+    }
+
+    return pageRanges;
+  }
+
+  private static String findEntityId(final List<JRPrintElement> elements) {
+    for (JRPrintElement element : elements) {
+      if (element.hasProperties() && element.getPropertiesMap().containsProperty(ENTITY_ID_PROPERTY)) {
+        return element.getPropertiesMap().getProperty(ENTITY_ID_PROPERTY);
+      }
+
+      if (element instanceof JRPrintFrame) {
+        String entityId = findEntityId(((JRPrintFrame) element).getElements());
+        if (entityId != null) {
+          return entityId;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Helper method to fill the report using a connection that participates in the current transaction, if any.
+   */
+  private JasperPrint fillReport(final JasperReport report, final Map<String, Object> params) throws JRException {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      // the fill manager adds its own built-in parameters, so don't hand it the caller's map
+      return JasperFillManager.fillReport(report, new HashMap<>(params), connection);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.cagst.swkroa.report;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Usage statistics for a single report template, recorded by the {@link ReportService} as the report is filled
+ * and exported.
+ *
+ * @author Craig Gaskill
+ */
+public final class ReportStatistics {
+  private final AtomicLong fillCount = new AtomicLong();
+  private final AtomicLong fillNanos = new AtomicLong();
+  private final AtomicLong exportCount = new AtomicLong();
+  private final AtomicLong exportNanos = new AtomicLong();
+  private final AtomicLong failureCount = new AtomicLong();
+
+  /* package */ void recordFill(final long nanos) {
+    fillCount.incrementAndGet();
+    fillNanos.addAndGet(nanos);
+  }
+
+  /* package */ void recordExport(final long nanos) {
+    exportCount.incrementAndGet();
+    exportNanos.addAndGet(nanos);
+  }
+
+  /* package */ void recordFailure() {
+    failureCount.incrementAndGet();
+  }
+
+  /**
+   * @return The number of times the report has been filled.
+   */
+  public long getFillCount() {
+    return fillCount.get();
+  }
+
+  /**
+   * @return The total time, in milliseconds, spent filling the report.
+   */
+  public long getFillTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(fillNanos.get());
+  }
+
+  /**
+   * @return The number of times the report has been exported.
+   */
+  public long getExportCount() {
+    return exportCount.get();
+  }
+
+  /**
+   * @return The total time, in milliseconds, spent exporting the report.
+   */
+  public long getExportTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(exportNanos.get());
+  }
+
+  /**
+   * @return The number of times the report failed to fill or export.
+   */
+  public long getFailureCount() {
+    return failureCount.get();
+  }
+}
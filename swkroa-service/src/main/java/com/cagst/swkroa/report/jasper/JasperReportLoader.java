@@ -49,6 +49,7 @@ public final class JasperReportLoader {
     InputStream stream = JasperReportLoader.class.getResourceAsStream(classpath);
     if (stream == null) {
       LOGGER.error("Unable to locate jasper report [{}]", classpath);
+      return null;
     }
 
     try {
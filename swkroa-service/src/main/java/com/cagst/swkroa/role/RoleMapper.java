@@ -7,16 +7,17 @@ import org.springframework.jdbc.core.RowMapper;
 
 /**
  * Maps a row in the result set into a {@link Role} object. Used to marshal / un-marshal a
- * {@link Role} to / from the database.
+ * {@link Role} to / from the database, including a role joined to another entity (such as a user).
  *
  * @author Craig Gaskill
  */
-/* package */final class RoleMapper implements RowMapper<Role> {
-  private static final String ROLE_ID       = "role_id";
+public final class RoleMapper implements RowMapper<Role> {
+  public static final String ROLE_ID = "role_id";
+
   private static final String ROLE_NAME     = "role_name";
   private static final String ROLE_KEY      = "role_key";
   private static final String ROLE_UPDT_CNT = "role_updt_cnt";
-  private static final String ACTIVE_IND    = "active_ind";
+  private static final String ACTIVE_IND    = "role_active_ind";
 
   @Override
   public Role mapRow(ResultSet rs, int rowNum) throws SQLException {
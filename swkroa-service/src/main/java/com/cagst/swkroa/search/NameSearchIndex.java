@@ -0,0 +1,411 @@
+package com.cagst.swkroa.search;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.StatementLoader;
+import com.cagst.swkroa.member.Member;
+import com.cagst.swkroa.person.Person;
+import com.cagst.swkroa.utils.SwkroaStringUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory index of the names of {@link Member Members}, used to find the Members (and Memberships) whose
+ * company name, owner id, last name or first name begins with a name without having to search the database.
+ *
+ * The names are indexed by their normalized key (see {@link SwkroaStringUtils#normalizeToKey(String)}) within a
+ * sorted map, so a prefix search is a range scan of the map. The index is built when the application is started and
+ * kept current by the repositories as Members and Persons are saved; changes made within a transaction are only
+ * applied once the transaction has been committed.
+ *
+ * Only the changes made through this node are applied as they happen, names changed by another node or directly
+ * within the database (a data fix, a bulk load) are only found once the index has been rebuilt, which the
+ * {@link NameSearchIndexRebuilder} does periodically.
+ *
+ * @author Craig Gaskill
+ */
+@Named("nameSearchIndex")
+public class NameSearchIndex extends BaseRepositoryJdbc {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NameSearchIndex.class);
+
+  private static final String GET_NAME_SEARCH_KEYS = "GET_NAME_SEARCH_KEYS";
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // normalized key -> the members indexed under that key
+  private final NavigableMap<String, Set<Long>> keys = new TreeMap<>();
+
+  private final Map<Long, MemberEntry> members = new HashMap<>();
+  private final Map<Long, PersonEntry> persons = new HashMap<>();
+
+  // person -> the members that person belongs to
+  private final Map<Long, Set<Long>> personMembers = new HashMap<>();
+
+  // the changes applied while the index is being rebuilt, re-applied to the rebuilt index (null when not rebuilding)
+  private List<Runnable> rebuildChanges;
+
+  /**
+   * Primary Constructor used to create an instance of <i>NameSearchIndex</i>.
+   *
+   * @param dataSource
+   *     The {@link DataSource} used to retrieve the names to index.
+   */
+  @Inject
+  public NameSearchIndex(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  /**
+   * Rebuilds the index from the names of all Members currently in the database.
+   */
+  @PostConstruct
+  public synchronized void rebuild() {
+    LOGGER.info("Rebuilding the name search index.");
+
+    lock.writeLock().lock();
+    try {
+      rebuildChanges = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    Map<Long, MemberEntry> loadedMembers = new HashMap<>();
+    Map<Long, PersonEntry> loadedPersons = new HashMap<>();
+
+    RowCallbackHandler handler = rs -> {
+      long personUID = rs.getLong("person_id");
+
+      loadedMembers.put(rs.getLong("member_id"), new MemberEntry(
+          rs.getLong("membership_id"),
+          personUID,
+          toKey(rs.getString("company_name_key")),
+          toKey(rs.getString("owner_ident"))));
+
+      if (personUID != 0L) {
+        loadedPersons.put(personUID, new PersonEntry(
+            toKey(rs.getString("name_last_key")),
+            toKey(rs.getString("name_first_key"))));
+      }
+    };
+
+    try {
+      getJdbcTemplate().query(stmtLoader.load(GET_NAME_SEARCH_KEYS), new MapSqlParameterSource(), handler);
+    } catch (RuntimeException ex) {
+      lock.writeLock().lock();
+      try {
+        rebuildChanges = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      throw ex;
+    }
+
+    lock.writeLock().lock();
+    try {
+      keys.clear();
+      members.clear();
+      persons.clear();
+      personMembers.clear();
+
+      persons.putAll(loadedPersons);
+      for (Map.Entry<Long, MemberEntry> entry : loadedMembers.entrySet()) {
+        putMember(entry.getKey(), entry.getValue());
+      }
+
+      // the names read may pre-date the changes committed while they were being read
+      rebuildChanges.forEach(Runnable::run);
+      rebuildChanges = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    LOGGER.info("Indexed the names of [{}] members.", loadedMembers.size());
+  }
+
+  /**
+   * Retrieves the unique identifiers of the {@link Member Members} with a name that begins with the specified name.
+   *
+   * @param name
+   *     The name (or partial name) to search for.
+   *
+   * @return A {@link Set} of the unique identifiers of the Members found, empty if none were found.
+   */
+  public Set<Long> findMembers(String name) {
+    Assert.hasText(name, "Argument [name] cannot be null or empty");
+
+    String prefix = toKey(name);
+    if (prefix == null) {
+      return Collections.emptySet();
+    }
+
+    Set<Long> found = new HashSet<>();
+
+    lock.readLock().lock();
+    try {
+      for (Set<Long> memberUIDs : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+        found.addAll(memberUIDs);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return found;
+  }
+
+  /**
+   * Retrieves the unique identifiers of the Memberships with a {@link Member} whose name begins with the specified
+   * name.
+   *
+   * @param name
+   *     The name (or partial name) to search for.
+   *
+   * @return A {@link Set} of the unique identifiers of the Memberships found, empty if none were found.
+   */
+  public Set<Long> findMemberships(String name) {
+    Set<Long> memberUIDs = findMembers(name);
+    if (memberUIDs.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    Set<Long> found = new HashSet<>();
+
+    lock.readLock().lock();
+    try {
+      for (Long memberUID : memberUIDs) {
+        MemberEntry entry = members.get(memberUID);
+        if (entry != null) {
+          found.add(entry.membershipUID);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return found;
+  }
+
+  /**
+   * Indexes (or re-indexes) the names of the specified {@link Member}, and of its {@link Person} if it has one.
+   *
+   * @param member
+   *     The {@link Member} that has been saved.
+   * @param membershipUID
+   *     The unique identifier of the Membership the Member belongs to.
+   */
+  public void indexMember(Member member, long membershipUID) {
+    Assert.notNull(member, "Argument [member] cannot be null");
+
+    long memberUID = member.getMemberUID();
+    Person person = member.getPerson();
+
+    MemberEntry memberEntry = new MemberEntry(
+        membershipUID,
+        person != null ? person.getPersonUID() : 0L,
+        toKey(member.getCompanyName()),
+        toKey(member.getOwnerIdent()));
+
+    final PersonEntry personEntry;
+    if (person != null) {
+      personEntry = new PersonEntry(toKey(person.getLastName()), toKey(person.getFirstName()));
+    } else {
+      personEntry = null;
+    }
+
+    afterCommit(() -> apply(() -> {
+      removeMember(memberUID);
+
+      if (personEntry != null) {
+        replacePerson(memberEntry.personUID, personEntry);
+      }
+
+      putMember(memberUID, memberEntry);
+    }));
+  }
+
+  /**
+   * Re-indexes the names of the specified {@link Person}, if the Person belongs to an indexed {@link Member}.
+   *
+   * @param person
+   *     The {@link Person} that has been saved.
+   */
+  public void indexPerson(Person person) {
+    Assert.notNull(person, "Argument [person] cannot be null");
+
+    long personUID = person.getPersonUID();
+    PersonEntry personEntry = new PersonEntry(toKey(person.getLastName()), toKey(person.getFirstName()));
+
+    afterCommit(() -> apply(() -> {
+      // a person that isn't a member (yet) is indexed by indexMember if they become one
+      if (personMembers.containsKey(personUID)) {
+        replacePerson(personUID, personEntry);
+      }
+    }));
+  }
+
+  /**
+   * Helper method to apply a change to the index once the current transaction (if any) has been committed, so the
+   * index never reflects changes that are rolled back.
+   */
+  private static void afterCommit(final Runnable change) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+        @Override
+        public void afterCommit() {
+          change.run();
+        }
+      });
+    } else {
+      change.run();
+    }
+  }
+
+  /**
+   * Helper method to apply a change to the index, remembering it if the index is being rebuilt so it isn't lost when
+   * the rebuilt index replaces the current one.
+   */
+  private void apply(final Runnable change) {
+    lock.writeLock().lock();
+    try {
+      change.run();
+
+      if (rebuildChanges != null) {
+        rebuildChanges.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // the following helper methods must be called while holding the write lock
+
+  private void putMember(final long memberUID, final MemberEntry entry) {
+    members.put(memberUID, entry);
+    if (entry.personUID != 0L) {
+      personMembers.computeIfAbsent(entry.personUID, key -> new HashSet<>()).add(memberUID);
+    }
+
+    addKeys(memberUID, entry);
+  }
+
+  private void replacePerson(final long personUID, final PersonEntry entry) {
+    Set<Long> memberUIDs = personMembers.getOrDefault(personUID, Collections.emptySet());
+
+    for (Long memberUID : memberUIDs) {
+      removeKeys(memberUID, members.get(memberUID));
+    }
+
+    persons.put(personUID, entry);
+
+    for (Long memberUID : memberUIDs) {
+      addKeys(memberUID, members.get(memberUID));
+    }
+  }
+
+  private void removeMember(final long memberUID) {
+    MemberEntry entry = members.remove(memberUID);
+    if (entry == null) {
+      return;
+    }
+
+    removeKeys(memberUID, entry);
+
+    Set<Long> memberUIDs = personMembers.get(entry.personUID);
+    if (memberUIDs != null) {
+      memberUIDs.remove(memberUID);
+      if (memberUIDs.isEmpty()) {
+        personMembers.remove(entry.personUID);
+        persons.remove(entry.personUID);
+      }
+    }
+  }
+
+  private void addKeys(final long memberUID, final MemberEntry entry) {
+    for (String key : getKeys(entry)) {
+      keys.computeIfAbsent(key, k -> new HashSet<>()).add(memberUID);
+    }
+  }
+
+  private void removeKeys(final long memberUID, final MemberEntry entry) {
+    for (String key : getKeys(entry)) {
+      Set<Long> memberUIDs = keys.get(key);
+      if (memberUIDs != null) {
+        memberUIDs.remove(memberUID);
+        if (memberUIDs.isEmpty()) {
+          keys.remove(key);
+        }
+      }
+    }
+  }
+
+  private Set<String> getKeys(final MemberEntry entry) {
+    Set<String> entryKeys = new HashSet<>();
+    addKey(entryKeys, entry.companyKey);
+    addKey(entryKeys, entry.ownerKey);
+
+    PersonEntry person = persons.get(entry.personUID);
+    if (person != null) {
+      addKey(entryKeys, person.lastKey);
+      addKey(entryKeys, person.firstKey);
+    }
+
+    return entryKeys;
+  }
+
+  private static void addKey(final Set<String> entryKeys, final String key) {
+    if (key != null) {
+      entryKeys.add(key);
+    }
+  }
+
+  private static String toKey(final String name) {
+    return StringUtils.trimToNull(SwkroaStringUtils.normalizeToKey(name));
+  }
+
+  private static final class MemberEntry {
+    private final long membershipUID;
+    private final long personUID;
+    private final String companyKey;
+    private final String ownerKey;
+
+    private MemberEntry(final long membershipUID, final long personUID, final String companyKey, final String ownerKey) {
+      this.membershipUID = membershipUID;
+      this.personUID = personUID;
+      this.companyKey = companyKey;
+      this.ownerKey = ownerKey;
+    }
+  }
+
+  private static final class PersonEntry {
+    private final String lastKey;
+    private final String firstKey;
+
+    private PersonEntry(final String lastKey, final String firstKey) {
+      this.lastKey = lastKey;
+      this.firstKey = firstKey;
+    }
+  }
+}
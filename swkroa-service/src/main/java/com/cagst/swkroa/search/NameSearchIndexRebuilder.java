@@ -0,0 +1,76 @@
+package com.cagst.swkroa.search;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Periodically rebuilds the {@link NameSearchIndex} from the database, so names changed by another node or directly
+ * within the database (a data fix, a bulk load) can be found without restarting the application.
+ *
+ * @author Craig Gaskill
+ */
+@Named("nameSearchIndexRebuilder")
+public class NameSearchIndexRebuilder {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NameSearchIndexRebuilder.class);
+
+  private final NameSearchIndex nameIndex;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Primary Constructor used to create an instance of <i>NameSearchIndexRebuilder</i>.
+   *
+   * @param nameIndex
+   *     The {@link NameSearchIndex} to rebuild.
+   * @param rebuildInterval
+   *     The number of milliseconds between rebuilds, 0 to never rebuild the index (if this is the only node and the
+   *     database is only changed through it).
+   */
+  @Inject
+  public NameSearchIndexRebuilder(final NameSearchIndex nameIndex,
+                                  @Value("${swkroa.search.rebuild.interval.ms:600000}") final long rebuildInterval) {
+
+    Assert.notNull(nameIndex, "Argument [nameIndex] cannot be null");
+    Assert.isTrue(rebuildInterval >= 0, "Argument [rebuildInterval] cannot be negative");
+
+    this.nameIndex = nameIndex;
+
+    if (rebuildInterval > 0) {
+      this.scheduler = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("swkroa-search-index-%d").setDaemon(true).build());
+
+      this.scheduler.scheduleWithFixedDelay(this::rebuild, rebuildInterval, rebuildInterval, TimeUnit.MILLISECONDS);
+    } else {
+      LOGGER.info("The name search index will not be rebuilt, it only reflects the changes made through this node.");
+      this.scheduler = null;
+    }
+  }
+
+  /**
+   * Stops rebuilding the index.
+   */
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void rebuild() {
+    try {
+      nameIndex.rebuild();
+    } catch (RuntimeException ex) {
+      // never let a failure escape, it would stop the rebuilds (the current index is kept until the next one)
+      LOGGER.error("Unable to rebuild the name search index.", ex);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.cagst.swkroa.security;
+
+import java.security.SecureRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.Assert;
+
+/**
+ * A BCrypt {@link PasswordEncoder} whose work factor (strength) is calibrated to how long hashing a password should
+ * take on this machine, rather than fixed. Passwords are still matched against hashes of any strength, and {@link
+ * #upgradeEncoding(String)} tells whether a hash was made with a strength below the minimum, or weaker (by more than
+ * the tolerance) than this encoder's strength, so it can be re-hashed once the user has signed in with the password.
+ * A hash is never re-hashed with a lower strength than it was made with.
+ * <p>
+ * The calibration measures this machine, so nodes (or restarts) may settle on neighbouring strengths; the tolerance keeps
+ * passwords from being re-hashed on every node with a slightly higher strength. Pin the strength (see the constructor)
+ * to have every node hash with the same one.
+ *
+ * @author Craig Gaskill
+ */
+public final class AdaptivePasswordEncoder implements PasswordEncoder {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+  private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2a?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+  private static final int MIN_STRENGTH = 4;
+  private static final int MAX_STRENGTH = 31;
+
+  private final int strength;
+  private final int minStrength;
+  private final int tolerance;
+  private final BCryptPasswordEncoder encoder;
+
+  /**
+   * Creates an encoder that re-hashes any password not hashed with exactly the specified strength.
+   *
+   * @param strength
+   *     The work factor (log rounds) to hash passwords with, see {@link #calibrate(long, int, int)}.
+   */
+  public AdaptivePasswordEncoder(final int strength) {
+    this(strength, strength, 0);
+  }
+
+  /**
+   * Primary Constructor used to create an instance of <i>AdaptivePasswordEncoder</i>.
+   *
+   * @param strength
+   *     The work factor (log rounds) to hash passwords with, see {@link #calibrate(long, int, int)}.
+   * @param minStrength
+   *     The lowest strength a password may have been hashed with before it is re-hashed.
+   * @param tolerance
+   *     How much weaker (in log rounds) than the strength a password may have been hashed with before it is re-hashed.
+   */
+  public AdaptivePasswordEncoder(final int strength, final int minStrength, final int tolerance) {
+    Assert.isTrue(strength >= MIN_STRENGTH && strength <= MAX_STRENGTH,
+        "Argument [strength] must be between " + MIN_STRENGTH + " and " + MAX_STRENGTH);
+    Assert.isTrue(minStrength >= MIN_STRENGTH && minStrength <= strength,
+        "Argument [minStrength] must be between " + MIN_STRENGTH + " and the strength");
+    Assert.isTrue(tolerance >= 0, "Argument [tolerance] cannot be negative");
+
+    this.strength = strength;
+    this.minStrength = minStrength;
+    this.tolerance = tolerance;
+    this.encoder = new BCryptPasswordEncoder(strength, new SecureRandom());
+  }
+
+  /**
+   * Creates an encoder whose strength is calibrated so hashing a password takes (at most) the target time.
+   *
+   * @param targetMillis
+   *     The time (in milliseconds) hashing a password should take.
+   * @param minStrength
+   *     The lowest strength to use, regardless of how long it takes.
+   * @param maxStrength
+   *     The highest strength to use, regardless of how little it takes.
+   * @param tolerance
+   *     How much weaker (in log rounds) than the calibrated strength a password may have been hashed with before it is
+   *     re-hashed.
+   *
+   * @return An {@link AdaptivePasswordEncoder} using the calibrated strength.
+   */
+  public static AdaptivePasswordEncoder calibrated(final long targetMillis,
+                                                   final int minStrength,
+                                                   final int maxStrength,
+                                                   final int tolerance) {
+
+    return new AdaptivePasswordEncoder(calibrate(targetMillis, minStrength, maxStrength), minStrength, tolerance);
+  }
+
+  /**
+   * Determines the highest strength (within the bounds) for which hashing a password takes no longer than the target
+   * time on this machine. The time is measured once for the lowest strength, each additional round doubles it.
+   *
+   * @param targetMillis
+   *     The time (in milliseconds) hashing a password should take.
+   * @param minStrength
+   *     The lowest strength to use, regardless of how long it takes.
+   * @param maxStrength
+   *     The highest strength to use, regardless of how little it takes.
+   *
+   * @return The calibrated strength.
+   */
+  public static int calibrate(final long targetMillis, final int minStrength, final int maxStrength) {
+    Assert.isTrue(minStrength >= MIN_STRENGTH && minStrength <= maxStrength && maxStrength <= MAX_STRENGTH,
+        "Arguments [minStrength, maxStrength] must be an ascending range between " + MIN_STRENGTH + " and " + MAX_STRENGTH);
+
+    // the first hash pays for loading / warming up the code, so only the quickest of the following ones counts
+    String salt = BCrypt.gensalt(minStrength);
+    BCrypt.hashpw("calibrate", salt);
+
+    long elapsedNanos = Long.MAX_VALUE;
+    for (int idx = 0; idx < 3; idx++) {
+      long start = System.nanoTime();
+      BCrypt.hashpw("calibrate", salt);
+      elapsedNanos = Math.min(elapsedNanos, System.nanoTime() - start);
+    }
+
+    long targetNanos = targetMillis * 1000000L;
+
+    int strength = minStrength;
+    while (strength < maxStrength && elapsedNanos * 2 <= targetNanos) {
+      strength++;
+      elapsedNanos *= 2;
+    }
+
+    LOGGER.info("Calibrated password hashing to a strength of [{}], taking [{}] ms.", strength, elapsedNanos / 1000000L);
+
+    return strength;
+  }
+
+  /**
+   * @return The work factor (log rounds) passwords are hashed with.
+   */
+  public int getStrength() {
+    return strength;
+  }
+
+  @Override
+  public String encode(final CharSequence rawPassword) {
+    return encoder.encode(rawPassword);
+  }
+
+  @Override
+  public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+    return encoder.matches(rawPassword, encodedPassword);
+  }
+
+  /**
+   * Determines whether the specified hash was made with a strength below the minimum, or more than the tolerance below
+   * this encoder's strength, and should therefore be re-hashed (from the raw password) the next time the raw password
+   * is at hand. A hash made with a higher strength is kept, re-hashing it would weaken it.
+   *
+   * @param encodedPassword
+   *     The encoded (hashed) password to check.
+   *
+   * @return {@code true} if the password should be re-hashed, {@code false} if not (or if it isn't a BCrypt hash).
+   */
+  public boolean upgradeEncoding(final String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+
+    Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+    if (!matcher.lookingAt()) {
+      return false;
+    }
+
+    int hashStrength = Integer.parseInt(matcher.group(1));
+    return hashStrength < minStrength || hashStrength < strength - tolerance;
+  }
+}
@@ -0,0 +1,24 @@
+package com.cagst.swkroa.security;
+
+/**
+ * An exception to be thrown when the {@link PasswordHashingService} is too busy to accept another password to hash or
+ * check, along with a hint of how long to wait before retrying.
+ *
+ * @author Craig Gaskill
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public PasswordHashingRejectedException(final String msg, final long retryAfterSeconds) {
+    super(msg);
+
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * @return The number of seconds to wait before retrying.
+   */
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
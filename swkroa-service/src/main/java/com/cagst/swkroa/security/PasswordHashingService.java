@@ -0,0 +1,32 @@
+package com.cagst.swkroa.security;
+
+import java.util.List;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Definition of a service that hashes (encodes) and checks passwords, and other secrets such as the answers to
+ * security questions, away from the calling (request) thread on a bounded number of threads, so a burst of sign-ins or
+ * registrations cannot consume every processor.
+ *
+ * @author Craig Gaskill
+ */
+public interface PasswordHashingService extends PasswordEncoder {
+  /**
+   * Hashes the specified secrets in parallel.
+   *
+   * @param rawSecrets
+   *     The {@link List} of secrets to hash.
+   *
+   * @return A {@link List} of the hashed secrets, in the same order as the specified secrets.
+   *
+   * @throws PasswordHashingRejectedException
+   *     if the service is too busy to hash the secrets.
+   */
+  List<String> encodeAll(List<? extends CharSequence> rawSecrets) throws PasswordHashingRejectedException;
+
+  /**
+   * @return The {@link PasswordHashingStatistics} of the service since the application was started.
+   */
+  PasswordHashingStatistics getStatistics();
+}
@@ -0,0 +1,150 @@
+package com.cagst.swkroa.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link PasswordHashingService} interface that hashes / checks passwords using a {@link
+ * PasswordEncoder} on a fixed pool of threads (one per processor by default) with a bounded queue. The calling thread
+ * waits for its password to be hashed, but once the queue is full passwords are rejected right away (with a hint of
+ * when to retry) rather than piling up behind each other.
+ *
+ * @author Craig Gaskill
+ */
+public final class PasswordHashingServiceImpl implements PasswordHashingService {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PasswordHashingServiceImpl.class);
+
+  private final PasswordEncoder encoder;
+  private final int threads;
+  private final ThreadPoolExecutor executor;
+  private final PasswordHashingStatistics statistics;
+
+  /**
+   * Primary Constructor used to create an instance of <i>PasswordHashingServiceImpl</i>.
+   *
+   * @param encoder
+   *     The {@link PasswordEncoder} to use to hash / check passwords.
+   * @param threads
+   *     The number of passwords to hash / check concurrently, 0 to use the number of processors.
+   * @param queueCapacity
+   *     The number of passwords that may wait to be hashed / checked before passwords are rejected.
+   */
+  public PasswordHashingServiceImpl(final PasswordEncoder encoder, final int threads, final int queueCapacity) {
+    Assert.notNull(encoder, "Argument [encoder] cannot be null");
+    Assert.isTrue(threads >= 0, "Argument [threads] cannot be negative");
+    Assert.isTrue(queueCapacity > 0, "Argument [queueCapacity] must be greater than 0");
+
+    this.encoder = encoder;
+    this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new ThreadFactoryBuilder().setNameFormat("swkroa-hashing-%d").setDaemon(true).build(),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.statistics = new PasswordHashingStatistics(executor.getQueue());
+
+    LOGGER.info("Hashing passwords on [{}] threads, queuing at most [{}] passwords.", this.threads, queueCapacity);
+  }
+
+  @Override
+  public String encode(final CharSequence rawPassword) {
+    return await(submit(() -> encoder.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+    return await(submit(() -> encoder.matches(rawPassword, encodedPassword)));
+  }
+
+  @Override
+  public List<String> encodeAll(final List<? extends CharSequence> rawSecrets) throws PasswordHashingRejectedException {
+    Assert.notNull(rawSecrets, "Argument [rawSecrets] cannot be null");
+
+    List<Future<String>> futures = new ArrayList<>(rawSecrets.size());
+    try {
+      for (CharSequence rawSecret : rawSecrets) {
+        futures.add(submit(() -> encoder.encode(rawSecret)));
+      }
+    } catch (PasswordHashingRejectedException ex) {
+      // don't spend any more time on secrets whose siblings will never be used
+      futures.forEach(future -> future.cancel(false));
+      throw ex;
+    }
+
+    List<String> encodedSecrets = new ArrayList<>(futures.size());
+    for (Future<String> future : futures) {
+      encodedSecrets.add(await(future));
+    }
+
+    return encodedSecrets;
+  }
+
+  @Override
+  public PasswordHashingStatistics getStatistics() {
+    return statistics;
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> Future<T> submit(final Callable<T> task) {
+    long queued = System.nanoTime();
+
+    try {
+      return executor.submit(() -> {
+        long start = System.nanoTime();
+        try {
+          return task.call();
+        } finally {
+          statistics.recordHash(start - queued, System.nanoTime() - start);
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      statistics.recordRejection();
+
+      long retryAfter = getRetryAfterSeconds();
+      LOGGER.warn("Too many passwords are waiting to be hashed, rejected (retry after [{}] seconds).", retryAfter);
+
+      throw new PasswordHashingRejectedException("Too many passwords are waiting to be hashed.", retryAfter);
+    }
+  }
+
+  /**
+   * Estimates how long it'll take the threads to work through the queue, based upon how long hashing has taken so far.
+   */
+  private long getRetryAfterSeconds() {
+    long millis = statistics.getAverageHashTimeMillis() * (executor.getQueue().size() + threads) / threads;
+    return Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(millis + 999L));
+  }
+
+  private static <T> T await(final Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a password to be hashed.", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      } else if (ex.getCause() instanceof Error) {
+        throw (Error) ex.getCause();
+      }
+
+      throw new IllegalStateException("Unable to hash a password.", ex.getCause());
+    }
+  }
+}
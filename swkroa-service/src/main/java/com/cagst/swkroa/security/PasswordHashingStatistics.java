@@ -0,0 +1,95 @@
+package com.cagst.swkroa.security;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Usage statistics of the {@link PasswordHashingService}, recorded as passwords are hashed / checked: how long they
+ * waited to be hashed, how long hashing took, and how many were rejected because the service was too busy.
+ *
+ * @author Craig Gaskill
+ */
+public final class PasswordHashingStatistics {
+  private final Queue<?> queue;
+
+  private final AtomicLong hashCount = new AtomicLong();
+  private final AtomicLong hashNanos = new AtomicLong();
+  private final AtomicLong maxHashNanos = new AtomicLong();
+  private final AtomicLong queueWaitNanos = new AtomicLong();
+  private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  /* package */ PasswordHashingStatistics(final Queue<?> queue) {
+    this.queue = queue;
+  }
+
+  /* package */ void recordHash(final long waitNanos, final long nanos) {
+    hashCount.incrementAndGet();
+    hashNanos.addAndGet(nanos);
+    maxHashNanos.accumulateAndGet(nanos, Math::max);
+    queueWaitNanos.addAndGet(waitNanos);
+    maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  /* package */ void recordRejection() {
+    rejectedCount.incrementAndGet();
+  }
+
+  /**
+   * @return The number of passwords hashed / checked.
+   */
+  public long getHashCount() {
+    return hashCount.get();
+  }
+
+  /**
+   * @return The total time, in milliseconds, spent hashing / checking passwords.
+   */
+  public long getHashTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(hashNanos.get());
+  }
+
+  /**
+   * @return The longest time, in milliseconds, spent hashing / checking a single password.
+   */
+  public long getMaxHashTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxHashNanos.get());
+  }
+
+  /**
+   * @return The average time, in milliseconds, spent hashing / checking a password.
+   */
+  public long getAverageHashTimeMillis() {
+    long count = hashCount.get();
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(hashNanos.get() / count);
+  }
+
+  /**
+   * @return The total time, in milliseconds, passwords waited (queued) before being hashed / checked.
+   */
+  public long getQueueWaitTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.get());
+  }
+
+  /**
+   * @return The longest time, in milliseconds, a single password waited (queued) before being hashed / checked.
+   */
+  public long getMaxQueueWaitTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos.get());
+  }
+
+  /**
+   * @return The number of passwords currently waiting (queued) to be hashed / checked.
+   */
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  /**
+   * @return The number of passwords rejected because too many were already waiting to be hashed / checked.
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+}
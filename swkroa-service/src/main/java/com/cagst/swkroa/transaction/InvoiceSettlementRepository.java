@@ -0,0 +1,62 @@
+package com.cagst.swkroa.transaction;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Definition of a repository that maintains the invoice settlement index (invoice_settlement), the amount invoiced
+ * and the amount paid against each (active) invoice.
+ *
+ * The index lets the open invoices of delinquent Memberships be found without summing the entries of every invoice
+ * and payment each time they are requested. It must be refreshed within the same database transaction that saves an
+ * invoice or a {@link TransactionEntry} that is related to an invoice.
+ *
+ * @author Craig Gaskill
+ */
+public interface InvoiceSettlementRepository {
+  /**
+   * Recalculates the settlement of the specified invoices from their {@link TransactionEntry TransactionEntries} and
+   * the entries related to them. A unique identifier that isn't an active invoice is removed from the index.
+   * The invoices are locked until the database transaction completes, so concurrent refreshes of the same invoice
+   * wait for each other.
+   *
+   * @param invoiceUIDs
+   *     A {@link Collection} of {@code long} that uniquely identify the invoices ({@link Transaction Transactions})
+   *     to refresh.
+   *
+   * @throws DataAccessException
+   *     if the index could not be refreshed.
+   */
+  void refreshSettlements(Collection<Long> invoiceUIDs) throws DataAccessException;
+
+  /**
+   * Discards and recalculates the settlement of every invoice within the system.
+   *
+   * @return The number of invoices written to the index.
+   *
+   * @throws DataAccessException
+   *     if the index could not be rebuilt.
+   */
+  int rebuildSettlements() throws DataAccessException;
+
+  /**
+   * Retrieves the invoices the specified (persisted) {@link TransactionEntry TransactionEntries} are currently related
+   * to, so the invoices can be refreshed if an entry is related to a different invoice.
+   *
+   * @param transactionEntryUIDs
+   *     A {@link Collection} of {@code long} that uniquely identify the TransactionEntries.
+   *
+   * @return A {@link List} of {@code long} that uniquely identify the related invoices.
+   */
+  List<Long> getInvoicesRelatedToEntries(Collection<Long> transactionEntryUIDs);
+
+  /**
+   * Compares the settlement index against the {@link Transaction Transactions} it was derived from.
+   *
+   * @return A {@link List} of {@code long} that uniquely identify the invoices whose index entry is missing, no
+   * longer matches their transactions, or is no longer an active invoice; an empty list if the index is consistent.
+   */
+  List<Long> getInvoicesWithStaleSettlement();
+}
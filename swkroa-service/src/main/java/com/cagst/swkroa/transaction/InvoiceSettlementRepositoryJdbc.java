@@ -0,0 +1,116 @@
+package com.cagst.swkroa.transaction;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.StatementLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * JDBC Template implementation of the {@link InvoiceSettlementRepository} interface.
+ *
+ * @author Craig Gaskill
+ */
+@Named("invoiceSettlementRepo")
+public final class InvoiceSettlementRepositoryJdbc extends BaseRepositoryJdbc implements InvoiceSettlementRepository {
+  private static final Logger LOGGER = LoggerFactory.getLogger(InvoiceSettlementRepositoryJdbc.class);
+
+  private static final String LOCK_INVOICES_FOR_SETTLEMENTS    = "LOCK_INVOICES_FOR_SETTLEMENTS";
+  private static final String DELETE_INVOICE_SETTLEMENTS       = "DELETE_INVOICE_SETTLEMENTS";
+  private static final String DELETE_ALL_INVOICE_SETTLEMENTS   = "DELETE_ALL_INVOICE_SETTLEMENTS";
+  private static final String INSERT_INVOICE_SETTLEMENTS       = "INSERT_INVOICE_SETTLEMENTS";
+  private static final String INSERT_ALL_INVOICE_SETTLEMENTS   = "INSERT_ALL_INVOICE_SETTLEMENTS";
+  private static final String GET_RELATED_INVOICES_FOR_ENTRIES = "GET_RELATED_INVOICES_FOR_ENTRIES";
+  private static final String GET_STALE_INVOICE_SETTLEMENTS    = "GET_STALE_INVOICE_SETTLEMENTS";
+
+  /**
+   * Primary Constructor used to create an instance of <i>InvoiceSettlementRepositoryJdbc</i>.
+   *
+   * @param dataSource
+   *     The {@link DataSource} to use to retrieve / persist data objects.
+   */
+  @Inject
+  public InvoiceSettlementRepositoryJdbc(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  @Override
+  @Transactional
+  public void refreshSettlements(Collection<Long> invoiceUIDs) throws DataAccessException {
+    Assert.notNull(invoiceUIDs, "Argument [invoiceUIDs] cannot be null");
+
+    if (CollectionUtils.isEmpty(invoiceUIDs)) {
+      return;
+    }
+
+    Set<Long> uids = new HashSet<>(invoiceUIDs);
+
+    LOGGER.info("Calling refreshSettlements for [{}].", uids);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource("transaction_ids", uids);
+
+    // lock the invoices (in a consistent order) so concurrent refreshes of the same invoice are serialized,
+    // otherwise both would delete the settlement and the second insert would fail on the primary key
+    getJdbcTemplate().queryForList(stmtLoader.load(LOCK_INVOICES_FOR_SETTLEMENTS), params, Long.class);
+
+    getJdbcTemplate().update(stmtLoader.load(DELETE_INVOICE_SETTLEMENTS), params);
+    getJdbcTemplate().update(stmtLoader.load(INSERT_INVOICE_SETTLEMENTS), params);
+  }
+
+  @Override
+  @Transactional
+  public int rebuildSettlements() throws DataAccessException {
+    LOGGER.info("Calling rebuildSettlements.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    getJdbcTemplate().update(stmtLoader.load(DELETE_ALL_INVOICE_SETTLEMENTS), new MapSqlParameterSource());
+    return getJdbcTemplate().update(stmtLoader.load(INSERT_ALL_INVOICE_SETTLEMENTS), new MapSqlParameterSource());
+  }
+
+  @Override
+  public List<Long> getInvoicesRelatedToEntries(Collection<Long> transactionEntryUIDs) {
+    Assert.notNull(transactionEntryUIDs, "Argument [transactionEntryUIDs] cannot be null");
+
+    if (CollectionUtils.isEmpty(transactionEntryUIDs)) {
+      return Collections.emptyList();
+    }
+
+    LOGGER.info("Calling getInvoicesRelatedToEntries for [{}] entries.", transactionEntryUIDs.size());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    return getJdbcTemplate().queryForList(
+        stmtLoader.load(GET_RELATED_INVOICES_FOR_ENTRIES),
+        new MapSqlParameterSource("transaction_entry_ids", new HashSet<>(transactionEntryUIDs)),
+        Long.class
+    );
+  }
+
+  @Override
+  public List<Long> getInvoicesWithStaleSettlement() {
+    LOGGER.info("Calling getInvoicesWithStaleSettlement.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    return getJdbcTemplate().queryForList(
+        stmtLoader.load(GET_STALE_INVOICE_SETTLEMENTS),
+        new MapSqlParameterSource(),
+        Long.class
+    );
+  }
+}
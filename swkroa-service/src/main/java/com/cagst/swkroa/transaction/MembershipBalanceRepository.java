@@ -0,0 +1,52 @@
+package com.cagst.swkroa.transaction;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.cagst.swkroa.member.Membership;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Definition of a repository that maintains the pre-computed balance ledger (membership_balance) for a
+ * {@link Membership}.
+ *
+ * The ledger holds the current balance and last payment date of each Membership so listings and reports do
+ * not need to aggregate every {@link Transaction} each time they are requested. It must be refreshed within
+ * the same database transaction that changes the underlying {@link Transaction Transactions}.
+ *
+ * @author Craig Gaskill
+ */
+public interface MembershipBalanceRepository {
+  /**
+   * Recalculates the balance ledger for the specified Memberships from their {@link Transaction Transactions}.
+   * The Memberships are locked until the database transaction completes, so concurrent refreshes of the same
+   * Membership wait for each other.
+   *
+   * @param membershipUIDs
+   *     A {@link Collection} of {@code long} that uniquely identify the Memberships to refresh.
+   *
+   * @throws DataAccessException
+   *     if the ledger could not be refreshed.
+   */
+  void refreshBalances(Collection<Long> membershipUIDs) throws DataAccessException;
+
+  /**
+   * Discards and recalculates the balance ledger for every Membership within the system.
+   *
+   * @return The number of Memberships written to the ledger.
+   *
+   * @throws DataAccessException
+   *     if the ledger could not be rebuilt.
+   */
+  int rebuildBalances() throws DataAccessException;
+
+  /**
+   * Compares the balance ledger against the {@link Transaction Transactions} it was derived from.
+   *
+   * A Membership without any transactions does not need a ledger entry.
+   *
+   * @return A {@link List} of {@code long} that uniquely identify the Memberships whose ledger entry no longer
+   * matches their transactions, an empty list if the ledger is consistent.
+   */
+  List<Long> getMembershipsWithStaleBalance();
+}
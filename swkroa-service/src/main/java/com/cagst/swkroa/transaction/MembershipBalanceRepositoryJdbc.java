@@ -0,0 +1,95 @@
+package com.cagst.swkroa.transaction;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.cagst.swkroa.internal.BaseRepositoryJdbc;
+import com.cagst.swkroa.internal.StatementLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * JDBC Template implementation of the {@link MembershipBalanceRepository} interface.
+ *
+ * @author Craig Gaskill
+ */
+@Named("membershipBalanceRepo")
+public final class MembershipBalanceRepositoryJdbc extends BaseRepositoryJdbc implements MembershipBalanceRepository {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MembershipBalanceRepositoryJdbc.class);
+
+  private static final String LOCK_MEMBERSHIPS_FOR_BALANCES  = "LOCK_MEMBERSHIPS_FOR_BALANCES";
+  private static final String DELETE_MEMBERSHIP_BALANCES     = "DELETE_MEMBERSHIP_BALANCES";
+  private static final String DELETE_ALL_MEMBERSHIP_BALANCES = "DELETE_ALL_MEMBERSHIP_BALANCES";
+  private static final String INSERT_MEMBERSHIP_BALANCES     = "INSERT_MEMBERSHIP_BALANCES";
+  private static final String INSERT_ALL_MEMBERSHIP_BALANCES = "INSERT_ALL_MEMBERSHIP_BALANCES";
+  private static final String GET_STALE_MEMBERSHIP_BALANCES  = "GET_STALE_MEMBERSHIP_BALANCES";
+
+  /**
+   * Primary Constructor used to create an instance of <i>MembershipBalanceRepositoryJdbc</i>.
+   *
+   * @param dataSource
+   *     The {@link DataSource} to use to retrieve / persist data objects.
+   */
+  @Inject
+  public MembershipBalanceRepositoryJdbc(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  @Override
+  @Transactional
+  public void refreshBalances(Collection<Long> membershipUIDs) throws DataAccessException {
+    Assert.notNull(membershipUIDs, "Argument [membershipUIDs] cannot be null");
+
+    if (CollectionUtils.isEmpty(membershipUIDs)) {
+      return;
+    }
+
+    Set<Long> uids = new HashSet<>(membershipUIDs);
+
+    LOGGER.info("Calling refreshBalances for [{}].", uids);
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+    MapSqlParameterSource params = new MapSqlParameterSource("membership_ids", uids);
+
+    // lock the memberships (in a consistent order) so concurrent refreshes of the same membership are serialized,
+    // otherwise both would delete the balance and the second insert would fail on the primary key
+    getJdbcTemplate().queryForList(stmtLoader.load(LOCK_MEMBERSHIPS_FOR_BALANCES), params, Long.class);
+
+    getJdbcTemplate().update(stmtLoader.load(DELETE_MEMBERSHIP_BALANCES), params);
+    getJdbcTemplate().update(stmtLoader.load(INSERT_MEMBERSHIP_BALANCES), params);
+  }
+
+  @Override
+  @Transactional
+  public int rebuildBalances() throws DataAccessException {
+    LOGGER.info("Calling rebuildBalances.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    getJdbcTemplate().update(stmtLoader.load(DELETE_ALL_MEMBERSHIP_BALANCES), new MapSqlParameterSource());
+    return getJdbcTemplate().update(stmtLoader.load(INSERT_ALL_MEMBERSHIP_BALANCES), new MapSqlParameterSource());
+  }
+
+  @Override
+  public List<Long> getMembershipsWithStaleBalance() {
+    LOGGER.info("Calling getMembershipsWithStaleBalance.");
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    return getJdbcTemplate().queryForList(
+        stmtLoader.load(GET_STALE_MEMBERSHIP_BALANCES),
+        new MapSqlParameterSource(),
+        Long.class
+    );
+  }
+}
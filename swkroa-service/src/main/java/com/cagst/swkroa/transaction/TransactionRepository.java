@@ -75,14 +75,16 @@ public interface TransactionRepository {
   List<DepositTransaction> getTransactionsForDeposit(Deposit deposit);
 
   /**
-   * Retrieves a {@link List} of {@link Transaction Transactions} that have not been paid in full.
+   * Retrieves a {@link List} of {@link Transaction Transactions} that have not been paid in full, for active
+   * Memberships with a negative balance. The invoices are read from the invoice settlement index.
    *
    * @return A {@link List} of {@link Transaction Transactions} that have not been paid in full.
    */
   List<UnpaidInvoice> getUnpaidInvoices();
 
   /**
-   * Persists the specified {@link Transaction}.
+   * Persists the specified {@link Transaction}, refreshing the balance ledger of its Membership and the settlement of
+   * every invoice it affects within the same database transaction.
    *
    * @param transaction
    *     The {@link Transaction} to persist.
@@ -99,4 +101,49 @@ public interface TransactionRepository {
    *     if the query fails
    */
   Transaction saveTransaction(Transaction transaction, User user) throws DataAccessException;
+
+  /**
+   * Persists the specified {@link Transaction Transactions} as a batch, refreshing the balance ledger of their
+   * Memberships and the settlement of the invoices they affect once within the same database transaction. New
+   * transactions and their entries are inserted, and existing ones updated, with a single JDBC batch each.
+   *
+   * @param transactions
+   *     A {@link List} of {@link Transaction Transactions} to persist.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return A {@link List} of {@link Transaction Transactions} after they have been persisted.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if the updt_cnt doesn't match (meaning someone has updated it since it was last read)
+   * @throws IncorrectResultSizeDataAccessException
+   *     if a transaction has no entries or the number of rows inserted / updated exceeded the expected number
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  List<Transaction> saveTransactions(List<Transaction> transactions, User user) throws DataAccessException;
+
+  /**
+   * Persists the {@link Transaction Transactions} of the specified Membership, only the transactions that are new or
+   * have been modified (or whose entries have) since they were last read are written (see {@link
+   * #saveTransactions(List, User)}), the others are left as is.
+   *
+   * @param membershipUID
+   *     A {@link long} that uniquely identifies the Membership the transactions belong to.
+   * @param transactions
+   *     A {@link List} of {@link Transaction Transactions} to persist.
+   * @param user
+   *     The {@link User} that performed the changes.
+   *
+   * @return The number of {@link Transaction Transactions} that were written.
+   *
+   * @throws OptimisticLockingFailureException
+   *     if the updt_cnt doesn't match (meaning someone has updated it since it was last read)
+   * @throws IncorrectResultSizeDataAccessException
+   *     if a transaction has no entries or the number of rows inserted / updated exceeded the expected number
+   * @throws DataAccessException
+   *     if the query fails
+   */
+  int saveTransactionsForMembership(long membershipUID, List<Transaction> transactions, User user)
+      throws DataAccessException;
 }
@@ -3,8 +3,14 @@ package com.cagst.swkroa.transaction;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.deposit.Deposit;
@@ -21,6 +27,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -49,6 +56,8 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
   private static final String UPDATE_TRANSACTION_ENTRY = "UPDATE_TRANSACTION_ENTRY";
 
   private final CodeValueRepository codeValueRepo;
+  private final MembershipBalanceRepository membershipBalanceRepo;
+  private final InvoiceSettlementRepository invoiceSettlementRepo;
 
   /**
    * Primary Constructor used to create an instance of the TransactionRepositoryJdbc.
@@ -57,12 +66,21 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
    *     The {@link DataSource} to used to retrieve / persists data object.
    * @param codeValueRepo
    *     The {@link CodeValueRepository} to use to retrieve additional attributes.
+   * @param membershipBalanceRepo
+   *     The {@link MembershipBalanceRepository} to use to keep the balance ledger in step with saved transactions.
+   * @param invoiceSettlementRepo
+   *     The {@link InvoiceSettlementRepository} to use to keep the settlement index in step with saved transactions.
    */
   @Inject
-  public TransactionRepositoryJdbc(DataSource dataSource, CodeValueRepository codeValueRepo) {
+  public TransactionRepositoryJdbc(DataSource dataSource,
+                                   CodeValueRepository codeValueRepo,
+                                   MembershipBalanceRepository membershipBalanceRepo,
+                                   InvoiceSettlementRepository invoiceSettlementRepo) {
     super(dataSource);
 
     this.codeValueRepo = codeValueRepo;
+    this.membershipBalanceRepo = membershipBalanceRepo;
+    this.invoiceSettlementRepo = invoiceSettlementRepo;
   }
 
   @Override
@@ -175,6 +193,7 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
   }
 
   @Override
+  @Transactional
   public Transaction saveTransaction(Transaction transaction, User user) throws DataAccessException {
     Assert.notNull(transaction, "Argument [transaction] cannot be null");
     Assert.notNull(user, "Argument [user] cannot be null");
@@ -185,6 +204,8 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
       throw new IncorrectResultSizeDataAccessException(1, 0);
     }
 
+    Set<Long> invoiceUIDs = getPreviouslyRelatedInvoices(Collections.singletonList(transaction));
+
     Transaction trans;
     if (transaction.getTransactionUID() == 0L) {
       trans = insertTransaction(transaction, user);
@@ -193,21 +214,211 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
     }
 
     // save the entries related to this transaction
+    saveTransactionEntries(prepareTransactionEntries(trans), user);
+
+    // keep the balance ledger and settlement index in step with the transactions they are derived from
+    membershipBalanceRepo.refreshBalances(Collections.singleton(trans.getMembershipUID()));
+    invoiceSettlementRepo.refreshSettlements(addRelatedInvoices(invoiceUIDs, Collections.singletonList(trans)));
+
+    return trans;
+  }
+
+  @Override
+  @Transactional
+  public List<Transaction> saveTransactions(List<Transaction> transactions, User user) throws DataAccessException {
+    Assert.notNull(transactions, "Argument [transactions] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Saving [{}] Transactions", transactions.size());
+
+    List<Transaction> newTransactions = new ArrayList<>(transactions.size());
+    List<Transaction> existingTransactions = new ArrayList<>(transactions.size());
+    Set<Long> membershipUIDs = new TreeSet<>();
+    Set<Long> invoiceUIDs = getPreviouslyRelatedInvoices(transactions);
+
+    for (Transaction transaction : transactions) {
+      if (CollectionUtils.isEmpty(transaction.getTransactionEntries())) {
+        throw new IncorrectResultSizeDataAccessException(1, 0);
+      }
+
+      if (transaction.getTransactionUID() == 0L) {
+        newTransactions.add(transaction);
+      } else {
+        existingTransactions.add(transaction);
+      }
+
+      membershipUIDs.add(transaction.getMembershipUID());
+    }
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    // update the existing transactions as a single batch, a stale transaction fails the batch
+    List<MapSqlParameterSource> updateParams = new ArrayList<>(existingTransactions.size());
+    for (Transaction transaction : existingTransactions) {
+      updateParams.add(TransactionMapper.mapUpdateStatement(transaction, user));
+    }
+
+    batchUpdateVersioned(stmtLoader.load(UPDATE_TRANSACTION), updateParams);
+    for (Transaction transaction : existingTransactions) {
+      transaction.setTransactionUpdateCount(transaction.getTransactionUpdateCount() + 1);
+    }
+
+    // insert the new transactions as a single batch
+    List<MapSqlParameterSource> transactionParams = new ArrayList<>(newTransactions.size());
+    for (Transaction transaction : newTransactions) {
+      transactionParams.add(TransactionMapper.mapInsertStatement(transaction, user));
+    }
+
+    List<Long> transactionUIDs = batchInsert(stmtLoader.load(INSERT_TRANSACTION), transactionParams);
+    for (int idx = 0; idx < newTransactions.size(); idx++) {
+      newTransactions.get(idx).setTransactionUID(transactionUIDs.get(idx));
+    }
+
+    // save the entries (of all transactions) together
+    List<TransactionEntry> entries = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      entries.addAll(prepareTransactionEntries(transaction));
+    }
+
+    saveTransactionEntries(entries, user);
+
+    // keep the balance ledger and settlement index in step with the transactions they are derived from
+    membershipBalanceRepo.refreshBalances(membershipUIDs);
+    invoiceSettlementRepo.refreshSettlements(addRelatedInvoices(invoiceUIDs, transactions));
+
+    return transactions;
+  }
+
+  @Override
+  @Transactional
+  public int saveTransactionsForMembership(long membershipUID, List<Transaction> transactions, User user)
+      throws DataAccessException {
+
+    Assert.notNull(transactions, "Argument [transactions] cannot be null");
+    Assert.notNull(user, "Argument [user] cannot be null");
+
+    LOGGER.info("Saving Transactions for Membership [{}]", membershipUID);
+
+    if (transactions.isEmpty()) {
+      return 0;
+    }
+
+    // the transactions as they are currently persisted, to tell which have been modified
+    Map<Long, Transaction> persistedTransactions = new HashMap<>();
+    for (Transaction transaction : getTransactionsForMembership(membershipUID)) {
+      persistedTransactions.put(transaction.getTransactionUID(), transaction);
+    }
+
+    List<Transaction> modifiedTransactions = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      transaction.setMembershipUID(membershipUID);
+      prepareTransactionEntries(transaction);
+
+      if (isTransactionModified(transaction, persistedTransactions.get(transaction.getTransactionUID()), user)) {
+        modifiedTransactions.add(transaction);
+      }
+    }
+
+    LOGGER.info("Saving [{}] of [{}] Transactions (the others were not modified).",
+        modifiedTransactions.size(), transactions.size());
+
+    if (!modifiedTransactions.isEmpty()) {
+      saveTransactions(modifiedTransactions, user);
+    }
+
+    return modifiedTransactions.size();
+  }
+
+  /**
+   * A transaction is modified if it (or any of its entries) is new, or would be updated with different values than
+   * it was read with.
+   */
+  private static boolean isTransactionModified(Transaction transaction, Transaction persisted, User user) {
+    if (transaction.getTransactionUID() == 0L || persisted == null
+        || CollectionUtils.isEmpty(transaction.getTransactionEntries())) {
+      return true;
+    }
+
+    if (isModified(TransactionMapper.mapUpdateStatement(transaction, user),
+        TransactionMapper.mapUpdateStatement(persisted, user))) {
+      return true;
+    }
+
+    Map<Long, TransactionEntry> persistedEntries = new HashMap<>();
+    for (TransactionEntry entry : persisted.getTransactionEntries()) {
+      persistedEntries.put(entry.getTransactionEntryUID(), entry);
+    }
+
+    for (TransactionEntry entry : transaction.getTransactionEntries()) {
+      TransactionEntry persistedEntry = persistedEntries.get(entry.getTransactionEntryUID());
+      if (entry.getTransactionEntryUID() == 0L || persistedEntry == null) {
+        return true;
+      }
+
+      if (isModified(TransactionEntryMapper.mapUpdateStatement(entry, user),
+          TransactionEntryMapper.mapUpdateStatement(persistedEntry, user))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Retrieves the invoices the persisted entries of the transactions are related to before they are saved, so an
+   * invoice is refreshed if one of its payments is related to a different invoice.
+   */
+  private Set<Long> getPreviouslyRelatedInvoices(List<Transaction> transactions) {
+    List<Long> entryUIDs = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      for (TransactionEntry entry : transaction.getTransactionEntries()) {
+        if (entry.getTransactionEntryUID() > 0L) {
+          entryUIDs.add(entry.getTransactionEntryUID());
+        }
+      }
+    }
+
+    return new TreeSet<>(invoiceSettlementRepo.getInvoicesRelatedToEntries(entryUIDs));
+  }
+
+  /**
+   * Adds the invoices whose settlement is affected by the (saved) transactions, the invoices themselves and the
+   * invoices their entries are related to.
+   */
+  private Set<Long> addRelatedInvoices(Set<Long> invoiceUIDs, List<Transaction> transactions) {
+    for (Transaction transaction : transactions) {
+      if (TransactionType.INVOICE.equals(transaction.getTransactionType())) {
+        invoiceUIDs.add(transaction.getTransactionUID());
+      }
+
+      for (TransactionEntry entry : transaction.getTransactionEntries()) {
+        if (entry.getRelatedTransactionUID() > 0L) {
+          invoiceUIDs.add(entry.getRelatedTransactionUID());
+        }
+      }
+    }
+
+    return invoiceUIDs;
+  }
+
+  /**
+   * Associates the entries of the transaction to it and ensures they have the appropriate polarity
+   * (invoices are negative / payments are positive).
+   */
+  private List<TransactionEntry> prepareTransactionEntries(Transaction transaction) {
     for (TransactionEntry entry : transaction.getTransactionEntries()) {
       // ensure the entry is associated with the transaction
-      entry.setTransaction(trans);
+      entry.setTransaction(transaction);
 
       // ensure the entry has the appropriate polarity (invoices are negative / payments are positive)
-      if (TransactionType.INVOICE.equals(trans.getTransactionType())) {
+      if (TransactionType.INVOICE.equals(transaction.getTransactionType())) {
         entry.setTransactionEntryAmount(entry.getTransactionEntryAmount().abs().negate());
       } else {
         entry.setTransactionEntryAmount(entry.getTransactionEntryAmount().abs());
       }
-
-      saveTransactionEntry(entry, user);
     }
 
-    return trans;
+    return transaction.getTransactionEntries();
   }
 
   private Transaction insertTransaction(Transaction transaction, User user) {
@@ -248,49 +459,38 @@ public final class TransactionRepositoryJdbc extends BaseRepositoryJdbc implemen
     return transaction;
   }
 
-  private TransactionEntry saveTransactionEntry(TransactionEntry entry, User user) {
-    if (entry.getTransactionEntryUID() == 0L) {
-      return insertTransactionEntry(entry, user);
-    } else {
-      return updateTransactionEntry(entry, user);
+  /**
+   * Inserts the new entries and updates the existing entries as a single batch each, a stale entry fails the batch
+   * (and is reported as an optimistic locking failure).
+   */
+  private void saveTransactionEntries(List<TransactionEntry> entries, User user) {
+    List<TransactionEntry> newEntries = new ArrayList<>(entries.size());
+    List<MapSqlParameterSource> insertParams = new ArrayList<>(entries.size());
+    List<TransactionEntry> existingEntries = new ArrayList<>(entries.size());
+    List<MapSqlParameterSource> updateParams = new ArrayList<>(entries.size());
+
+    for (TransactionEntry entry : entries) {
+      if (entry.getTransactionEntryUID() == 0L) {
+        newEntries.add(entry);
+        insertParams.add(TransactionEntryMapper.mapInsertStatement(entry, user));
+      } else {
+        existingEntries.add(entry);
+        updateParams.add(TransactionEntryMapper.mapUpdateStatement(entry, user));
+      }
     }
-  }
 
-  private TransactionEntry insertTransactionEntry(TransactionEntry entry, User user) {
-    LOGGER.info("Inserting TransactionEntry for Transaction [{}]", entry.getTransactionEntryUID());
+    LOGGER.info("Inserting [{}] and updating [{}] TransactionEntries", newEntries.size(), existingEntries.size());
 
     StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-    KeyHolder keyHolder = new GeneratedKeyHolder();
-
-    int cnt = getJdbcTemplate().update(stmtLoader.load(INSERT_TRANSACTION_ENTRY),
-        TransactionEntryMapper.mapInsertStatement(entry, user), keyHolder);
 
-    if (cnt == 1) {
-      entry.setTransactionEntryUID(keyHolder.getKey().longValue());
-    } else {
-      throw new IncorrectResultSizeDataAccessException("Failed to insert TransactionEntry: expected 1, actual " + cnt, 1, cnt);
+    List<Long> entryUIDs = batchInsert(stmtLoader.load(INSERT_TRANSACTION_ENTRY), insertParams);
+    for (int idx = 0; idx < newEntries.size(); idx++) {
+      newEntries.get(idx).setTransactionEntryUID(entryUIDs.get(idx));
     }
 
-    return entry;
-  }
-
-  private TransactionEntry updateTransactionEntry(TransactionEntry entry, User user) {
-    LOGGER.info("Updating TransactionEntry for Transaction [{}]", entry.getTransactionEntryUID());
-
-    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
-
-    int cnt = getJdbcTemplate().update(stmtLoader.load(UPDATE_TRANSACTION_ENTRY),
-        TransactionEntryMapper.mapUpdateStatement(entry, user));
-
-    if (cnt == 1) {
+    batchUpdateVersioned(stmtLoader.load(UPDATE_TRANSACTION_ENTRY), updateParams);
+    for (TransactionEntry entry : existingEntries) {
       entry.setTransactionEntryUpdateCount(entry.getTransactionEntryUpdateCount() + 1);
-    } else if (cnt == 0) {
-      throw new OptimisticLockingFailureException("invalid update count of [" + cnt
-          + "] possible update count mismatch");
-    } else {
-      throw new IncorrectResultSizeDataAccessException("Failed to update TransactionEntry: expected 1, actual " + cnt, 1, cnt);
     }
-
-    return entry;
   }
 }
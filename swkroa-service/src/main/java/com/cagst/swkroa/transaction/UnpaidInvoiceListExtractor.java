@@ -3,7 +3,7 @@ package com.cagst.swkroa.transaction;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,7 +22,7 @@ public class UnpaidInvoiceListExtractor implements ResultSetExtractor<List<Unpai
 
   @Override
   public List<UnpaidInvoice> extractData(ResultSet rs) throws SQLException, DataAccessException {
-    Map<Long, UnpaidInvoice> transactions = new HashMap<>();
+    Map<Long, UnpaidInvoice> transactions = new LinkedHashMap<>();
 
     while (rs.next()) {
       long transactionId = rs.getLong(TransactionMapper.TRANSACTION_ID);
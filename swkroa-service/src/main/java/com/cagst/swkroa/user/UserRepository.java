@@ -16,7 +16,8 @@ import org.springframework.dao.OptimisticLockingFailureException;
  */
 public interface UserRepository {
   /**
-   * Retrieves a {@link User} based upon the specified username.
+   * Retrieves a {@link User} based upon the specified username, along with its (active) {@link
+   * com.cagst.swkroa.role.Role Roles} so signing in doesn't require retrieving them separately.
    *
    * @param username
    *     The {@link String} username that identifies the {@link User} to retrieve.
@@ -173,6 +174,24 @@ public interface UserRepository {
   User changeUserPassword(User user, String newPassword, String message)
       throws IllegalArgumentException;
 
+  /**
+   * Replaces the specified {@link User User} password hash with a re-hashed (re-encoded) hash of the same password,
+   * such as when the work factor of the password encoder has changed. Unlike {@link #changeUserPassword} the password
+   * hasn't changed, so neither is the change date / temporary state of the password. The hash is only replaced if it
+   * hasn't been changed since the user was retrieved.
+   *
+   * @param user
+   *     The {@link User} who's password hash we are replacing.
+   * @param newPassword
+   *     The re-hashed {@link String Password}.
+   *
+   * @return The {@link User} with it's password hash replaced (or unchanged if the password was changed concurrently).
+   *
+   * @throws IllegalArgumentException
+   *     if <code>user</code> is null or <code>newPassword</code> is null or empty
+   */
+  User rehashUserPassword(User user, String newPassword) throws IllegalArgumentException;
+
   /**
    * Resets the specified {@link User User} password. The password will be temporary
    * and the user will be required to change it the next time they sign-in.
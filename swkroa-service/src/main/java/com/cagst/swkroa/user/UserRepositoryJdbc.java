@@ -56,6 +56,7 @@ import org.springframework.util.Assert;
   private static final String SIGNIN_SUCCESSFUL       = "SIGNIN_SUCCESSFUL";
   private static final String CHANGE_USER_PASSWORD    = "CHANGE_USER_PASSWORD";
   private static final String RESET_USER_PASSWORD     = "RESET_USER_PASSWORD";
+  private static final String REHASH_USER_PASSWORD    = "REHASH_USER_PASSWORD";
   private static final String CHECK_USERNAME_NEW      = "CHECK_USERNAME_NEW";
   private static final String CHECK_USERNAME_EXISTING = "CHECK_USERNAME_EXISTING";
   private static final String USER_LOCK               = "USER_LOCK";
@@ -117,7 +118,7 @@ import org.springframework.util.Assert;
     List<User> users = getJdbcTemplate().query(
         stmtLoader.load(GET_USER_BY_USERNAME),
         new MapSqlParameterSource("username", username),
-        new UserMapper());
+        new UserWithRolesExtractor());
 
     if (users.size() == 1) {
       return Optional.of(users.get(0));
@@ -357,6 +358,32 @@ import org.springframework.util.Assert;
     return user;
   }
 
+  @Override
+  @CacheEvict(value = "users", key = "#user.getUserUID()")
+  public User rehashUserPassword(User user, String newPassword) throws IllegalArgumentException {
+    Assert.notNull(user, "Argument [user] cannot be null");
+    Assert.hasLength(newPassword, "Argument [newPassword] cannot be null or empty");
+
+    LOGGER.info("Calling rehashUserPassword for User [{}].", user.getUsername());
+
+    StatementLoader stmtLoader = StatementLoader.getLoader(getClass(), getStatementDialect());
+
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    params.addValue("user_id", user.getUserUID());
+    params.addValue("password", newPassword);
+    params.addValue("old_password", user.getPassword());
+
+    int cnt = getJdbcTemplate().update(stmtLoader.load(REHASH_USER_PASSWORD), params);
+    if (cnt != 1) {
+      LOGGER.warn("Password for User [{}] was changed before it could be re-hashed.", user.getUsername());
+      return user;
+    }
+
+    user.setPassword(newPassword);
+
+    return user;
+  }
+
   @Override
   @CacheEvict(value = "users", key = "#user.getUserUID()")
   @Auditable(eventType = AuditEventType.SECURITY, action = Auditable.ACTION_PASSWORD_RESET)
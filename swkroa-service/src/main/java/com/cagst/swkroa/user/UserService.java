@@ -84,6 +84,19 @@ public interface UserService extends UserDetailsService {
   User changePassword(User user, String oldPassword, String newPassword, String confirmPassword)
       throws BadCredentialsException;
 
+  /**
+   * Re-hashes the user's password using the current work factor of the password encoder, used to transparently
+   * upgrade a password hashed using a previous work factor when the user signs in.
+   *
+   * @param user
+   *     The {@link User} to re-hash the password for.
+   * @param password
+   *     The (verified) password of the user.
+   *
+   * @return A {@link User} that has been updated accordingly.
+   */
+  User rehashPassword(User user, String password);
+
   /**
    * Reset the user's password to a random temporary password.
    *
@@ -5,6 +5,7 @@ import javax.inject.Named;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import com.cagst.swkroa.audit.AuditEventType;
 import com.cagst.swkroa.audit.annotation.AuditInstigator;
@@ -16,6 +17,7 @@ import com.cagst.swkroa.member.MemberRepository;
 import com.cagst.swkroa.role.Role;
 import com.cagst.swkroa.role.RoleRepository;
 import com.cagst.swkroa.role.RoleType;
+import com.cagst.swkroa.security.PasswordHashingService;
 import com.cagst.swkroa.security.SecurityPolicy;
 import com.cagst.swkroa.security.SecurityService;
 import com.cagst.swkroa.utils.RandomPasswordGenerator;
@@ -35,7 +37,6 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -64,7 +65,7 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
   private final RoleRepository roleRepo;
   private final SecurityService securityService;
   private final ContactRepository contactRepo;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordEncoder;
   private final MemberRepository memberRepository;
 
   private MessageSourceAccessor messages;
@@ -81,14 +82,14 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
    * @param contactRepo
    *     The {@link ContactRepository} to use to retrieve contact information of the {@link User}.
    * @param passwordEncoder
-   *     The {@link PasswordEncoder} to use to check / encode user passwords.
+   *     The {@link PasswordHashingService} to use to check / encode user passwords.
    */
   @Inject
   public UserServiceImpl(UserRepository userRepo,
                          RoleRepository roleRepo,
                          SecurityService securityService,
                          ContactRepository contactRepo,
-                         PasswordEncoder passwordEncoder,
+                         PasswordHashingService passwordEncoder,
                          MemberRepository memberRepository
   ) {
     this.userRepo = userRepo;
@@ -153,12 +154,18 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
   public User signinSuccessful(@AuditInstigator User user, String ipAddress) {
     User signedInUser = userRepo.signinSuccessful(user, ipAddress);
 
-    List<Role> roles = roleRepo.getRolesForUser(signedInUser);
-    if (CollectionUtils.isEmpty(roles)) {
+    // the roles are retrieved along with the user (see loadUserByUsername), only retrieve them if they weren't
+    if (CollectionUtils.isEmpty(user.getRoles())) {
+      List<Role> roles = roleRepo.getRolesForUser(signedInUser);
+      if (CollectionUtils.isNotEmpty(roles)) {
+        roles.forEach(user::addRole);
+      }
+    }
+
+    if (CollectionUtils.isEmpty(user.getRoles())) {
       LOGGER.warn("No roles found for user [{}].", signedInUser.getUsername());
     } else {
-      for (Role role : roles) {
-        user.addRole(role);
+      for (Role role : user.getRoles()) {
         user.addGrantedAuthority(role.getRoleKey());
       }
     }
@@ -235,6 +242,15 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
     return userRepo.changeUserPassword(user, checkNewPassword, msg);
   }
 
+  @Override
+  @Transactional
+  public User rehashPassword(User user, String password) {
+    Assert.notNull(user, "[Assertion Failed] - argument [user] cannot be null.");
+    Assert.hasText(password, "[Assertion Failed] - argument [password] must not be null, empty, or blank.");
+
+    return userRepo.rehashUserPassword(user, passwordEncoder.encode(password));
+  }
+
   @Override
   @Transactional
   @Auditable(eventType = AuditEventType.SECURITY, action = Auditable.ACTION_PASSWORD_RESET)
@@ -319,29 +335,7 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
     Assert.notNull(saveUser, "[Assertion Failed] - argument [saveUser] cannot be null");
     Assert.notNull(user, "[Assertion Failed] - argument [user] cannot be null");
 
-    if (saveUser.getUserUID() == 0) {
-      // encode the password
-      saveUser.setPassword(passwordEncoder.encode(saveUser.getPassword()));
-    }
-
-    if (CollectionUtils.isNotEmpty(saveUser.getUserQuestions())) {
-      List<UserQuestion> questions = new ArrayList<>(saveUser.getUserQuestions().size());
-
-      // encode the answers
-      for (UserQuestion question : saveUser.getUserQuestions()) {
-        questions.add(UserQuestion.builder()
-            .setUserQuestionUID(question.getUserQuestionUID())
-            .setQuestionCD(question.getQuestionCD())
-            .setAnswer(passwordEncoder.encode(question.getAnswer()))
-            .setActive(question.isActive())
-            .setUserQuestionUpdateCount(question.getUserQuestionUpdateCount())
-            .build()
-        );
-      }
-
-      saveUser.clearQuestions();
-      saveUser.getUserQuestions().addAll(questions);
-    }
+    encodeCredentials(saveUser, UnaryOperator.identity());
 
     return userRepo.saveUser(saveUser, user);
   }
@@ -361,29 +355,7 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
       registerUser.addRole(checkMemberRole.get());
     }
 
-    if (registerUser.getUserUID() == 0) {
-      // encode the password
-      registerUser.setPassword(passwordEncoder.encode(registerUser.getPassword()));
-    }
-
-    if (CollectionUtils.isNotEmpty(registerUser.getUserQuestions())) {
-      List<UserQuestion> questions = new ArrayList<>(registerUser.getUserQuestions().size());
-
-      // encode the answers
-      for (UserQuestion question : registerUser.getUserQuestions()) {
-        questions.add(UserQuestion.builder()
-            .setUserQuestionUID(question.getUserQuestionUID())
-            .setQuestionCD(question.getQuestionCD())
-            .setAnswer(passwordEncoder.encode(question.getAnswer().toLowerCase()))
-            .setActive(question.isActive())
-            .setUserQuestionUpdateCount(question.getUserQuestionUpdateCount())
-            .build()
-        );
-      }
-
-      registerUser.clearQuestions();
-      registerUser.getUserQuestions().addAll(questions);
-    }
+    encodeCredentials(registerUser, String::toLowerCase);
 
     return userRepo.registerUser(registerUser, user);
   }
@@ -433,4 +405,54 @@ public class UserServiceImpl implements UserService, MessageSourceAware {
 
     return checkUser;
   }
+
+  /**
+   * Encodes the password (of a new user) and the answers to the security questions of the specified user, all of them
+   * in parallel.
+   *
+   * @param user
+   *     The {@link User} to encode the password / answers of.
+   * @param answerFormat
+   *     Applied to each answer before it is encoded.
+   */
+  private void encodeCredentials(User user, UnaryOperator<String> answerFormat) {
+    boolean newUser = user.getUserUID() == 0;
+    List<UserQuestion> userQuestions = new ArrayList<>(user.getUserQuestions());
+
+    List<String> secrets = new ArrayList<>(userQuestions.size() + 1);
+    for (UserQuestion question : userQuestions) {
+      secrets.add(answerFormat.apply(question.getAnswer()));
+    }
+
+    if (newUser) {
+      secrets.add(user.getPassword());
+    }
+
+    if (secrets.isEmpty()) {
+      return;
+    }
+
+    List<String> encodedSecrets = passwordEncoder.encodeAll(secrets);
+
+    if (newUser) {
+      user.setPassword(encodedSecrets.get(userQuestions.size()));
+    }
+
+    if (!userQuestions.isEmpty()) {
+      user.clearQuestions();
+
+      for (int idx = 0; idx < userQuestions.size(); idx++) {
+        UserQuestion question = userQuestions.get(idx);
+
+        user.getUserQuestions().add(UserQuestion.builder()
+            .setUserQuestionUID(question.getUserQuestionUID())
+            .setQuestionCD(question.getQuestionCD())
+            .setAnswer(encodedSecrets.get(idx))
+            .setActive(question.isActive())
+            .setUserQuestionUpdateCount(question.getUserQuestionUpdateCount())
+            .build()
+        );
+      }
+    }
+  }
 }
@@ -0,0 +1,48 @@
+package com.cagst.swkroa.user;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cagst.swkroa.role.Role;
+import com.cagst.swkroa.role.RoleMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+/**
+ * Extracts the {@link User Users} (and their {@link Role Roles}) from a result set that joins each user to its roles,
+ * one row per role (or a single row without a role for a user without any roles).
+ *
+ * @author Craig Gaskill
+ */
+/* package */ final class UserWithRolesExtractor implements ResultSetExtractor<List<User>> {
+  private static final String USER_ID = "user_id";
+
+  private final UserMapper userMapper = new UserMapper();
+  private final RoleMapper roleMapper = new RoleMapper();
+
+  @Override
+  public List<User> extractData(ResultSet rs) throws SQLException, DataAccessException {
+    Map<Long, User> users = new LinkedHashMap<>();
+
+    while (rs.next()) {
+      long userId = rs.getLong(USER_ID);
+
+      User user = users.get(userId);
+      if (user == null) {
+        user = userMapper.mapRow(rs, rs.getRow());
+        users.put(userId, user);
+      }
+
+      rs.getLong(RoleMapper.ROLE_ID);
+      if (!rs.wasNull()) {
+        user.addRole(roleMapper.mapRow(rs, rs.getRow()));
+      }
+    }
+
+    return new ArrayList<>(users.values());
+  }
+}
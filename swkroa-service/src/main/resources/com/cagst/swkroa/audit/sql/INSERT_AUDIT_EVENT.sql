@@ -7,4 +7,4 @@ INSERT INTO audit_log (audit_event_type
             ,:audit_action
             ,:audit_instigator
             ,:audit_message
-            ,CURRENT_TIMESTAMP)
\ No newline at end of file
+            ,:create_dt_tm)
\ No newline at end of file
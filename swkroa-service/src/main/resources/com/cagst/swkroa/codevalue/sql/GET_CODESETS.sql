@@ -4,4 +4,4 @@ SELECT codeset_id
       ,active_ind
       ,updt_cnt AS codeset_updt_cnt
   FROM codeset
- WHERE active_ind = 1
+ ORDER BY codeset_id
@@ -5,4 +5,4 @@ SELECT codevalue_id
       ,active_ind
       ,updt_cnt AS codevalue_updt_cnt
   FROM codevalue
- WHERE codevalue_id = :codevalue_id
+ ORDER BY codevalue_id
@@ -0,0 +1,8 @@
+UPDATE phone
+   SET active_ind = 0
+      ,updt_id    = :updt_id
+      ,updt_dt_tm = CURRENT_TIMESTAMP
+      ,updt_cnt   = updt_cnt + 1
+ WHERE parent_entity_id IN (:parent_entity_ids)
+   AND parent_entity_name = :parent_entity_name
+   AND active_ind = 1
@@ -0,0 +1,12 @@
+SELECT e.email_id
+      ,e.parent_entity_id
+      ,e.parent_entity_name
+      ,e.email_type_cd
+      ,e.email_address
+      ,e.primary_ind
+      ,e.active_ind
+      ,e.updt_cnt AS updt_cnt
+  FROM email e
+ WHERE e.parent_entity_id IN (:parent_entity_ids)
+   AND e.parent_entity_name = :parent_entity_name
+   AND e.active_ind = 1
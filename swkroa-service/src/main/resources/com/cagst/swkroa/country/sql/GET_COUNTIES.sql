@@ -6,4 +6,4 @@ SELECT c.county_id
       ,c.active_ind
       ,c.updt_cnt AS county_updt_cnt
   FROM county c
- WHERE c.active_ind = 1
\ No newline at end of file
+ ORDER BY c.county_id
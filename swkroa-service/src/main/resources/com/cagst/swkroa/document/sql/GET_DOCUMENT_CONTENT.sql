@@ -0,0 +1,3 @@
+SELECT d.document_content
+  FROM document d
+ WHERE d.document_id = :document_id
@@ -0,0 +1,9 @@
+UPDATE job
+   SET job_status         = 'INPROCESS'
+      ,lease_owner        = :lease_owner
+      ,lease_expire_dt_tm = :lease_expire_dt_tm
+      ,updt_dt_tm         = CURRENT_TIMESTAMP
+      ,updt_cnt           = updt_cnt + 1
+ WHERE job_id = :job_id
+   AND job_status IN ('SUBMITTED', 'INPROCESS')
+   AND (lease_expire_dt_tm IS NULL OR lease_expire_dt_tm < :now)
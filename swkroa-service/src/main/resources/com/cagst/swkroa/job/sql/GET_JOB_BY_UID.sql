@@ -2,6 +2,7 @@ SELECT j.job_id
       ,j.job_name
       ,j.job_type
       ,j.job_status
+      ,j.job_params
       ,j.active_ind
       ,j.updt_cnt AS job_updt_cnt
       ,j.create_id
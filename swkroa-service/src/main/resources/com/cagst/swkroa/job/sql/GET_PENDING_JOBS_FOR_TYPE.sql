@@ -2,9 +2,11 @@ SELECT j.job_id
   ,j.job_name
   ,j.job_type
   ,j.job_status
+  ,j.job_params
   ,j.active_ind
   ,j.updt_cnt AS job_updt_cnt
   ,j.create_id
 FROM job j
 WHERE j.job_type = :job_type
   AND j.job_status IN ('SUBMITTED', 'INPROCESS')
+ORDER BY j.job_id
@@ -1,2 +1,2 @@
-INSERT INTO job (job_name, job_type, job_status, active_ind, create_id, create_dt_tm, updt_id, updt_dt_tm)
-VALUES (:job_name, :job_type, :job_status, :active_ind, :create_id, CURRENT_TIMESTAMP, :updt_id, CURRENT_TIMESTAMP);
\ No newline at end of file
+INSERT INTO job (job_name, job_type, job_status, job_params, active_ind, create_id, create_dt_tm, updt_id, updt_dt_tm)
+VALUES (:job_name, :job_type, :job_status, :job_params, :active_ind, :create_id, CURRENT_TIMESTAMP, :updt_id, CURRENT_TIMESTAMP);
\ No newline at end of file
@@ -0,0 +1,9 @@
+UPDATE job
+   SET job_status         = :job_status
+      ,lease_owner        = NULL
+      ,lease_expire_dt_tm = NULL
+      ,updt_id            = :updt_id
+      ,updt_dt_tm         = CURRENT_TIMESTAMP
+      ,updt_cnt           = updt_cnt + 1
+ WHERE job_id = :job_id
+   AND lease_owner = :lease_owner
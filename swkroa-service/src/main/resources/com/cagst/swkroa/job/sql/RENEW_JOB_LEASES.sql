@@ -0,0 +1,4 @@
+UPDATE job
+   SET lease_expire_dt_tm = :lease_expire_dt_tm
+ WHERE job_id IN (:job_ids)
+   AND lease_owner = :lease_owner
@@ -2,6 +2,7 @@ UPDATE job
    SET job_name           = :job_name
       ,job_type           = :job_type
       ,job_status         = :job_status
+      ,job_params         = :job_params
       ,active_ind         = :active_ind
       ,updt_id            = :updt_id
       ,updt_dt_tm         = CURRENT_TIMESTAMP
@@ -0,0 +1,11 @@
+UPDATE member
+   SET active_ind = 0
+      ,close_reason_id  = :close_reason_id
+      ,close_reason_txt = :close_reason_txt
+      ,close_dt_tm      = CURRENT_TIMESTAMP
+      ,updt_id          = :updt_id
+      ,updt_dt_tm       = CURRENT_TIMESTAMP
+      ,updt_cnt         = updt_cnt + 1
+ WHERE member_id IN (:uids)
+   AND (member_id, updt_cnt) IN (:versions)
+   AND active_ind = 1
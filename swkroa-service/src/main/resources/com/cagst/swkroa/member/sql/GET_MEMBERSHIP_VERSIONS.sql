@@ -0,0 +1,5 @@
+SELECT membership_id AS entity_id
+      ,updt_cnt
+      ,active_ind
+  FROM membership
+ WHERE membership_id IN (:uids)
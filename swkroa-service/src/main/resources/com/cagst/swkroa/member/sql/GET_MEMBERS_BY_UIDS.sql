@@ -0,0 +1,33 @@
+SELECT m.person_id
+      ,m.member_id
+      ,m.membership_id
+      ,m.member_name
+      ,m.company_name
+      ,m.owner_ident
+      ,m.member_type_id
+      ,m.greeting
+      ,m.in_care_of
+      ,m.join_dt
+      ,m.mail_newsletter_ind
+      ,m.email_newsletter_ind
+      ,m.close_reason_id
+      ,m.close_reason_txt
+      ,m.close_dt_tm
+      ,m.member_updt_cnt
+      ,m.active_ind
+      ,p.title_cd
+      ,p.name_last
+      ,p.name_first
+      ,p.name_middle
+      ,p.locale_language
+      ,p.locale_country
+      ,p.active_ind AS person_active_ind
+      ,p.updt_cnt AS person_updt_cnt
+  FROM member_summary m
+  LEFT OUTER JOIN person p ON (p.person_id = m.person_id)
+ WHERE m.member_id IN (:member_ids)
+   AND (:status = 'ALL' OR
+       (:status = 'ACTIVE' AND m.active_ind = 1) OR
+       (:status = 'INACTIVE' AND m.active_ind = 0))
+ ORDER BY UPPER(m.member_name), m.member_id
+ LIMIT :start, :limit
@@ -0,0 +1,6 @@
+SELECT COUNT(distinct m.member_id)
+  FROM member_summary m
+ WHERE m.member_id IN (:member_ids)
+   AND (:status = 'ALL' OR
+       (:status = 'ACTIVE' AND m.active_ind = 1) OR
+       (:status = 'INACTIVE' AND m.active_ind = 0))
@@ -15,6 +15,15 @@ SELECT m.person_id
       ,m.close_dt_tm
       ,m.member_updt_cnt
       ,m.active_ind
+      ,p.title_cd
+      ,p.name_last
+      ,p.name_first
+      ,p.name_middle
+      ,p.locale_language
+      ,p.locale_country
+      ,p.active_ind AS person_active_ind
+      ,p.updt_cnt AS person_updt_cnt
   FROM member_summary m
+  LEFT OUTER JOIN person p ON (p.person_id = m.person_id)
  WHERE m.membership_id  = :membership_id
    AND m.active_ind     = 1
@@ -11,4 +11,4 @@ SELECT member_type_id
       ,active_ind
       ,updt_cnt AS member_type_updt_cnt
   FROM member_type
- WHERE member_type_id = :member_type_id
+ ORDER BY member_type_id
@@ -0,0 +1,5 @@
+SELECT member_id AS entity_id
+      ,updt_cnt
+      ,active_ind
+  FROM member
+ WHERE member_id IN (:uids)
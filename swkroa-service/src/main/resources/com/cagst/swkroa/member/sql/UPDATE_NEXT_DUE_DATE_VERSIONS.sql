@@ -0,0 +1,8 @@
+UPDATE membership
+   SET next_due_dt = DATE_ADD(next_due_dt, INTERVAL 1 YEAR)
+      ,updt_id     = :updt_id
+      ,updt_dt_tm  = CURRENT_TIMESTAMP
+      ,updt_cnt    = updt_cnt + 1
+ WHERE membership_id IN (:uids)
+   AND (membership_id, updt_cnt) IN (:versions)
+   AND active_ind = 1
@@ -2,6 +2,6 @@ SELECT r.role_id
       ,r.role_name
       ,r.role_key
       ,r.updt_cnt AS role_updt_cnt
-      ,r.active_ind
+      ,r.active_ind AS role_active_ind
   FROM role r
  WHERE r.active_ind = 1
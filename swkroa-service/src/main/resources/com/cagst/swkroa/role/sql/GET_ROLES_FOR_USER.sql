@@ -2,7 +2,7 @@ SELECT r.role_id
       ,r.role_name
       ,r.role_key
       ,r.updt_cnt AS role_updt_cnt
-      ,r.active_ind
+      ,r.active_ind AS role_active_ind
   FROM user_role ur
       ,role r
  WHERE ur.user_id    = :user_id
@@ -0,0 +1,9 @@
+SELECT m.member_id
+      ,m.membership_id
+      ,m.person_id
+      ,m.company_name_key
+      ,m.owner_ident
+      ,p.name_last_key
+      ,p.name_first_key
+  FROM member m
+  LEFT OUTER JOIN person p ON (p.person_id = m.person_id)
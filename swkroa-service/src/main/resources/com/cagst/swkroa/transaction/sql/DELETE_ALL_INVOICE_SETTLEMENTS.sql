@@ -0,0 +1 @@
+DELETE FROM invoice_settlement
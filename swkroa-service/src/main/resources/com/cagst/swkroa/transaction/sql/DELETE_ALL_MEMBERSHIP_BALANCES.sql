@@ -0,0 +1 @@
+DELETE FROM membership_balance
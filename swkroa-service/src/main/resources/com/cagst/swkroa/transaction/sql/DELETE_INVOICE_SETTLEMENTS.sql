@@ -0,0 +1,2 @@
+DELETE FROM invoice_settlement
+ WHERE transaction_id IN (:transaction_ids)
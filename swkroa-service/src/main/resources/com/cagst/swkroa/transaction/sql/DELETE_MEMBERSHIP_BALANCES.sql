@@ -0,0 +1,2 @@
+DELETE FROM membership_balance
+ WHERE membership_id IN (:membership_ids)
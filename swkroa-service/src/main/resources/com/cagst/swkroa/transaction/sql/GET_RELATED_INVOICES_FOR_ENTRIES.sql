@@ -0,0 +1,4 @@
+SELECT DISTINCT te.related_transaction_id
+  FROM transaction_entry te
+ WHERE te.transaction_entry_id IN (:transaction_entry_ids)
+   AND te.related_transaction_id IS NOT NULL
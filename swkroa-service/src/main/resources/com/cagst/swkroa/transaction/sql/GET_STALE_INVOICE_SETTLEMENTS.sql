@@ -0,0 +1,26 @@
+SELECT iq.transaction_id
+  FROM (SELECT t.transaction_id
+              ,t.membership_id
+              ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                           FROM transaction_entry te
+                          WHERE te.transaction_id = t.transaction_id
+                            AND te.active_ind = 1), 0) AS invoice_amount
+              ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                           FROM transaction_entry te
+                          WHERE te.related_transaction_id = t.transaction_id
+                            AND te.active_ind = 1), 0) AS paid_amount
+          FROM transaction t
+         WHERE t.transaction_type_flag = 0
+           AND t.active_ind = 1) iq
+  LEFT OUTER JOIN invoice_settlement s ON (s.transaction_id = iq.transaction_id)
+ WHERE s.transaction_id IS NULL
+    OR s.membership_id <> iq.membership_id
+    OR s.invoice_amount <> iq.invoice_amount
+    OR s.paid_amount <> iq.paid_amount
+UNION
+SELECT s.transaction_id
+  FROM invoice_settlement s
+ INNER JOIN transaction t ON (t.transaction_id = s.transaction_id)
+ WHERE t.transaction_type_flag <> 0
+    OR t.active_ind = 0
+ ORDER BY 1
@@ -0,0 +1,22 @@
+SELECT ledger.membership_id
+  FROM (SELECT ms.membership_id
+              ,(SELECT SUM(te.transaction_entry_amount)
+                  FROM transaction t
+                      ,transaction_entry te
+                 WHERE t.membership_id = ms.membership_id
+                   AND t.active_ind = 1
+                   AND te.transaction_id = t.transaction_id
+                   AND te.transaction_entry_type_cd NOT IN (SELECT cv.codevalue_id FROM codevalue cv WHERE cv.codeset_id = 8 AND cv.codevalue_meaning = 'TRANS_SPECIAL_FUNDS')
+                   AND te.active_ind = 1) AS balance
+              ,(SELECT MAX(t.transaction_dt)
+                  FROM transaction t
+                 WHERE t.membership_id = ms.membership_id
+                   AND t.transaction_type_flag = 1
+                   AND t.active_ind = 1) AS last_payment_dt
+          FROM membership ms) ledger
+  LEFT OUTER JOIN membership_balance mb ON (mb.membership_id = ledger.membership_id)
+ WHERE COALESCE(mb.balance, 0) <> COALESCE(ledger.balance, 0)
+    OR (CASE WHEN mb.balance IS NULL THEN 0 ELSE 1 END) <> (CASE WHEN ledger.balance IS NULL THEN 0 ELSE 1 END)
+    OR COALESCE(mb.last_payment_dt, ledger.last_payment_dt) <> COALESCE(ledger.last_payment_dt, mb.last_payment_dt)
+    OR (CASE WHEN mb.last_payment_dt IS NULL THEN 0 ELSE 1 END) <> (CASE WHEN ledger.last_payment_dt IS NULL THEN 0 ELSE 1 END)
+ ORDER BY ledger.membership_id
@@ -1,4 +1,4 @@
-SELECT ms.membership_name
+SELECT COALESCE(m.company_name, CONCAT_WS(', ', p.name_last, p.name_first)) AS membership_name
       ,t.membership_id
       ,t.transaction_id
       ,t.transaction_dt
@@ -12,29 +12,17 @@ SELECT ms.membership_name
       ,te.transaction_entry_amount
       ,te.transaction_entry_type_cd
       ,te.updt_cnt AS transaction_entry_updt_cnt
-      ,iq.transaction_amount
-      ,IFNULL(iq.paid_amount, 0) AS amount_paid
-FROM (SELECT t.transaction_id
-            ,(SELECT SUM(te.transaction_entry_amount)
-                FROM transaction_entry te
-               WHERE te.transaction_id = t.transaction_id
-                 AND te.active_ind = 1) AS transaction_amount
-            ,(SELECT SUM(te.transaction_entry_amount)
-                FROM transaction_entry te
-               WHERE te.related_transaction_id = t.transaction_id
-                 AND te.active_ind = 1) AS paid_amount
-        FROM transaction t
-       WHERE t.membership_id IN (SELECT ms.membership_id
-                                   FROM membership_summary ms
-                                  WHERE ms.balance < 0
-                                    AND ms.active_ind = 1)
-         AND t.transaction_type_flag = 0
-         AND t.active_ind = 1) iq
-     ,transaction t
-     ,transaction_entry te
-     ,membership_summary ms
-WHERE ABS(iq.transaction_amount) != ABS(IFNULL(iq.paid_amount, 0))
-  AND t.transaction_id  = iq.transaction_id
-  AND te.transaction_id = t.transaction_id
-  AND te.active_ind     = 1
-  AND ms.membership_id  = t.membership_id
+      ,s.invoice_amount AS transaction_amount
+      ,s.paid_amount AS amount_paid
+  FROM invoice_settlement s
+ INNER JOIN membership ms         ON (ms.membership_id = s.membership_id AND ms.active_ind = 1)
+ INNER JOIN membership_balance mb ON (mb.membership_id = s.membership_id AND mb.balance < 0)
+ INNER JOIN transaction t         ON (t.transaction_id = s.transaction_id)
+ INNER JOIN transaction_entry te  ON (te.transaction_id = t.transaction_id AND te.active_ind = 1)
+ INNER JOIN member m              ON (m.membership_id = ms.membership_id AND m.active_ind = 1)
+ INNER JOIN member_type mt        ON (mt.prev_member_type_id = m.member_type_id
+                                  AND mt.primary_ind = 1 AND mt.active_ind = 1
+                                  AND mt.beg_eff_dt <= NOW() AND (mt.end_eff_dt IS NULL OR mt.end_eff_dt >= NOW()))
+  LEFT OUTER JOIN person p        ON (p.person_id = m.person_id AND p.active_ind = 1)
+ WHERE s.open_ind = 1
+ ORDER BY t.transaction_dt, t.transaction_id
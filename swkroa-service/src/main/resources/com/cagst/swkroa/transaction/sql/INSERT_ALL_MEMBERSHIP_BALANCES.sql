@@ -0,0 +1,17 @@
+INSERT INTO membership_balance (membership_id, balance, last_payment_dt, updt_dt_tm)
+     SELECT ms.membership_id
+           ,(SELECT SUM(te.transaction_entry_amount)
+               FROM transaction t
+                   ,transaction_entry te
+              WHERE t.membership_id = ms.membership_id
+                AND t.active_ind = 1
+                AND te.transaction_id = t.transaction_id
+                AND te.transaction_entry_type_cd NOT IN (SELECT cv.codevalue_id FROM codevalue cv WHERE cv.codeset_id = 8 AND cv.codevalue_meaning = 'TRANS_SPECIAL_FUNDS')
+                AND te.active_ind = 1) AS balance
+           ,(SELECT MAX(t.transaction_dt)
+               FROM transaction t
+              WHERE t.membership_id = ms.membership_id
+                AND t.transaction_type_flag = 1
+                AND t.active_ind = 1) AS last_payment_dt
+           ,CURRENT_TIMESTAMP
+       FROM membership ms
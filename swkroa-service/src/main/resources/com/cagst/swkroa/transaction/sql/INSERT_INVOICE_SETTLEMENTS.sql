@@ -0,0 +1,21 @@
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm)
+     SELECT iq.transaction_id
+           ,iq.membership_id
+           ,iq.invoice_amount
+           ,iq.paid_amount
+           ,CASE WHEN ABS(iq.invoice_amount) <> ABS(iq.paid_amount) THEN TRUE ELSE FALSE END
+           ,CURRENT_TIMESTAMP
+       FROM (SELECT t.transaction_id
+                   ,t.membership_id
+                   ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                                FROM transaction_entry te
+                               WHERE te.transaction_id = t.transaction_id
+                                 AND te.active_ind = 1), 0) AS invoice_amount
+                   ,COALESCE((SELECT SUM(te.transaction_entry_amount)
+                                FROM transaction_entry te
+                               WHERE te.related_transaction_id = t.transaction_id
+                                 AND te.active_ind = 1), 0) AS paid_amount
+               FROM transaction t
+              WHERE t.transaction_type_flag = 0
+                AND t.active_ind = 1
+                AND t.transaction_id IN (:transaction_ids)) iq
@@ -0,0 +1,5 @@
+SELECT t.transaction_id
+  FROM transaction t
+ WHERE t.transaction_id IN (:transaction_ids)
+ORDER BY t.transaction_id
+FOR UPDATE
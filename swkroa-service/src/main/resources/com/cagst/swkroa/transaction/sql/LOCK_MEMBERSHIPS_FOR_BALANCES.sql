@@ -0,0 +1,5 @@
+SELECT ms.membership_id
+  FROM membership ms
+ WHERE ms.membership_id IN (:membership_ids)
+ORDER BY ms.membership_id
+FOR UPDATE
@@ -22,6 +22,13 @@ SELECT u.user_id
       ,p.locale_country
       ,p.time_zone
       ,p.updt_cnt AS person_updt_cnt
-  FROM user u, person p
- WHERE u.username  = :username
-   AND p.person_id = u.person_id
+      ,r.role_id
+      ,r.role_name
+      ,r.role_key
+      ,r.updt_cnt AS role_updt_cnt
+      ,r.active_ind AS role_active_ind
+  FROM user u
+  JOIN person p ON (p.person_id = u.person_id)
+  LEFT OUTER JOIN user_role ur ON (ur.user_id = u.user_id AND ur.active_ind = 1)
+  LEFT OUTER JOIN role r ON (r.role_id = ur.role_id)
+ WHERE u.username = :username
@@ -0,0 +1,4 @@
+UPDATE user
+   SET password = :password
+ WHERE user_id  = :user_id
+   AND password = :old_password
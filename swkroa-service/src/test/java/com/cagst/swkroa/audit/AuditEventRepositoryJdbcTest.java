@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import com.cagst.swkroa.internal.StatementDialect;
@@ -69,4 +70,22 @@ public class AuditEventRepositoryJdbcTest extends BaseTestRepository {
     assertFalse("Ensure the auditEvents collection is not empty.", auditEvents2.isEmpty());
     assertEquals("Ensure we found the correct number of AuditEvents.", 4, auditEvents2.size());
   }
+
+  /**
+   * Test the saveAll method.
+   */
+  @Test
+  public void testSaveAll() {
+    repo.saveAll(Arrays.asList(
+        new AuditEvent(AuditEventType.SECURITY, "ACTION", "INSTIGATOR", null),
+        new AuditEvent(AuditEventType.SECURITY, "ACTION", "INSTIGATOR", "MESSAGE")));
+
+    Collection<AuditEvent> auditEvents = repo.getAllAuditEvents();
+
+    assertNotNull("Ensure the auditEvents collection is not null.", auditEvents);
+    assertEquals("Ensure we found the correct number of AuditEvents.", 4, auditEvents.size());
+    for (AuditEvent auditEvent : auditEvents) {
+      assertNotNull("Ensure the AuditEvent has a create date.", auditEvent.getCreateDateTime());
+    }
+  }
 }
@@ -0,0 +1,107 @@
+package com.cagst.swkroa.audit;
+
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Test class for the {@link AuditEventWriter} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class AuditEventWriterTest {
+  private AuditEventRepository auditRepo;
+  private AuditEventWriter writer;
+
+  private AuditEvent event1;
+  private AuditEvent event2;
+  private AuditEvent event3;
+
+  @Before
+  public void setUp() {
+    auditRepo = mock(AuditEventRepository.class);
+
+    // a long interval so the background writer doesn't interfere with the tests
+    writer = new AuditEventWriter(auditRepo, 2, 2, 60000L);
+
+    event1 = new AuditEvent(AuditEventType.SECURITY, "ACTION1", "INSTIGATOR", null);
+    event2 = new AuditEvent(AuditEventType.SECURITY, "ACTION2", "INSTIGATOR", null);
+    event3 = new AuditEvent(AuditEventType.SECURITY, "ACTION3", "INSTIGATOR", null);
+  }
+
+  @After
+  public void tearDown() {
+    writer.shutdown();
+  }
+
+  /**
+   * Test the write method queuing the events until they are flushed.
+   */
+  @Test
+  public void testWrite_Queued() {
+    writer.write(event1);
+    writer.write(event2);
+
+    verify(auditRepo, never()).saveAll(anyCollectionOf(AuditEvent.class));
+
+    writer.flush();
+    verify(auditRepo).saveAll(Arrays.asList(event1, event2));
+  }
+
+  /**
+   * Test the write method when the queue is full.
+   */
+  @Test
+  public void testWrite_QueueFull() {
+    writer.write(event1);
+    writer.write(event2);
+    writer.write(event3);
+
+    verify(auditRepo).saveAll(Collections.singletonList(event3));
+  }
+
+  /**
+   * Test the write method after the writer has been shut down.
+   */
+  @Test
+  public void testWrite_Shutdown() {
+    writer.write(event1);
+    writer.shutdown();
+
+    verify(auditRepo).saveAll(Collections.singletonList(event1));
+
+    writer.write(event2);
+    verify(auditRepo).saveAll(Collections.singletonList(event2));
+  }
+
+  /**
+   * Test the flush method when the events cannot be persisted.
+   */
+  @Test
+  public void testFlush_Failed() {
+    doThrow(new DataAccessResourceFailureException("Database unavailable."))
+        .when(auditRepo).saveAll(anyCollectionOf(AuditEvent.class));
+
+    writer.write(event1);
+    writer.flush();
+
+    writer.write(event2);
+    writer.flush();
+
+    verify(auditRepo).saveAll(Collections.singletonList(event1));
+    verify(auditRepo).saveAll(Collections.singletonList(event2));
+  }
+}
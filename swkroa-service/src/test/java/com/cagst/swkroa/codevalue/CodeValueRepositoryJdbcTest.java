@@ -10,7 +10,9 @@ import java.util.List;
 
 import com.cagst.swkroa.internal.StatementDialect;
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
 import com.cagst.swkroa.user.User;
+import com.google.common.collect.Ordering;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -66,6 +68,7 @@ public class CodeValueRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure the codesets were found.", codeSets);
     assertFalse("Ensure the codeset list isn't empty.", codeSets.isEmpty());
     assertEquals("Ensure we found the correct number of code sets.", 5, codeSets.size());
+    assertTrue("Ensure the code sets are sorted.", Ordering.natural().isOrdered(codeSets));
   }
 
   /**
@@ -95,6 +98,7 @@ public class CodeValueRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Should not return NULL!", codevalues);
     assertFalse(codevalues.isEmpty());
     assertEquals(3, codevalues.size());
+    assertTrue("Ensure the code values are sorted.", Ordering.natural().isOrdered(codevalues));
   }
 
   /**
@@ -146,6 +150,27 @@ public class CodeValueRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure it was the correct codevalue.", "FAX", codevalue.getMeaning());
   }
 
+  /**
+   * Test the CodeSets and CodeValues are only retrieved from the database once.
+   */
+  @Test
+  public void testGetCodeValue_NoQueries() {
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+
+    CodeValueRepositoryJdbc countingRepo = new CodeValueRepositoryJdbc(dataSource);
+    countingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    countingRepo.getActiveCodeSets();
+    assertEquals("Ensure the code sets and code values were loaded.", 2, dataSource.getCount());
+
+    dataSource.reset();
+    countingRepo.getCodeValueByUID(1L);
+    countingRepo.getCodeValueByMeaning(CodeSetType.PHONE_TYPE, "FAX");
+    countingRepo.getCodeValuesForCodeSetByType(CodeSetType.PHONE_TYPE);
+    countingRepo.getCodeValuesForCodeSet(countingRepo.getCodeSetByUID(2L));
+    assertEquals("Ensure no queries were executed.", 0, dataSource.getCount());
+  }
+
   /**
    * Test the saveCodeValue method and inserting a CodeValue.
    */
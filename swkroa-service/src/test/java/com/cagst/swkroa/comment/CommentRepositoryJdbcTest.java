@@ -4,7 +4,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.cagst.swkroa.internal.StatementDialect;
@@ -18,6 +21,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.mockito.Mockito;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 
@@ -29,6 +34,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 @RunWith(JUnit4.class)
 public class CommentRepositoryJdbcTest extends BaseTestRepository {
   private CommentRepositoryJdbc repo;
+  private Cache cache;
 
   @Before
   public void setUp() {
@@ -38,7 +44,10 @@ public class CommentRepositoryJdbcTest extends BaseTestRepository {
     UserRepository userRepo = Mockito.mock(UserRepository.class);
     Mockito.when(userRepo.getUserByUID(11L)).thenReturn(user);
 
-    repo = new CommentRepositoryJdbc(createTestDataSource());
+    ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("commentsList");
+    cache = cacheManager.getCache("commentsList");
+
+    repo = new CommentRepositoryJdbc(createTestDataSource(), cacheManager);
     repo.setStatementDialect(StatementDialect.HSQLDB);
   }
 
@@ -88,6 +97,14 @@ public class CommentRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure we have a valid collection.", comments);
     assertFalse("Ensure the collection is empty.", comments.isEmpty());
     assertEquals("Ensure the collection has the correct number of comments.", 2, comments.size());
+    assertTrue("Ensure the comments are sorted.", comments.get(0).compareTo(comments.get(1)) <= 0);
+
+    try {
+      comments.clear();
+      fail("Ensure the collection cannot be modified.");
+    } catch (UnsupportedOperationException ex) {
+      // expected, the collection is shared through the cache
+    }
   }
 
   /**
@@ -171,4 +188,88 @@ public class CommentRepositoryJdbcTest extends BaseTestRepository {
 
     repo.saveComment(updateComment, user);
   }
+
+  /**
+   * Test the saveComment method updating the cached comments of the membership rather than evicting them.
+   */
+  @Test
+  public void testSaveComment_UpdatesCachedComments() {
+    Membership membership = new Membership();
+    membership.setMembershipUID(1L);
+
+    User user = new User();
+    user.setUserUID(11L);
+
+    // the caching proxy isn't involved here, so cache the comments as it would
+    List<Comment> comments = repo.getCommentsForMembership(membership);
+    cache.put(1L, comments);
+
+    Comment comment = Comment.builder()
+        .setParentEntityName(Comment.MEMBERSHIP)
+        .setParentEntityUID(1L)
+        .setCommentDate(comments.get(0).getCommentDate().minusDays(1))
+        .setCommentText("My Earliest Comment")
+        .build();
+
+    Comment newComment = repo.saveComment(comment, user);
+
+    @SuppressWarnings("unchecked")
+    List<Comment> cachedComments = cache.get(1L, List.class);
+    assertNotNull("Ensure the comments are still cached.", cachedComments);
+    assertEquals("Ensure the new comment was added.", 3, cachedComments.size());
+    assertEquals("Ensure the comments are still sorted.", newComment, cachedComments.get(0));
+
+    Comment updateComment = Comment.builder(newComment).setCommentText("My Edited Comment").build();
+    Comment updatedComment = repo.saveComment(updateComment, user);
+
+    @SuppressWarnings("unchecked")
+    List<Comment> updatedComments = cache.get(1L, List.class);
+    assertEquals("Ensure the comment was replaced.", 3, updatedComments.size());
+    assertEquals("Ensure the comment was replaced.", updatedComment, updatedComments.get(0));
+    assertEquals("Ensure the previously cached comments weren't changed.", 3, cachedComments.size());
+    assertEquals("Ensure the previously cached comments weren't changed.", newComment, cachedComments.get(0));
+  }
+
+  /**
+   * Test the saveCommentsForMembership method only writing the comments that are new or have been modified.
+   */
+  @Test
+  public void testSaveCommentsForMembership() {
+    Membership membership = new Membership();
+    membership.setMembershipUID(1L);
+
+    User user = new User();
+    user.setUserUID(11L);
+
+    List<Comment> comments = repo.getCommentsForMembership(membership);
+    cache.put(1L, comments);
+
+    membership.setComments(new ArrayList<>(comments));
+    assertEquals("Ensure nothing was written.", 0, repo.saveCommentsForMembership(membership, user));
+
+    Comment editedComment = Comment.builder(comments.get(0)).setCommentText("My Edited Comment").build();
+    Comment newComment = Comment.builder()
+        .setParentEntityName(Comment.MEMBERSHIP)
+        .setParentEntityUID(1L)
+        .setCommentDate(comments.get(0).getCommentDate().minusDays(1))
+        .setCommentText("My Earliest Comment")
+        .build();
+
+    membership.setComments(new ArrayList<>(Arrays.asList(editedComment, comments.get(1), newComment)));
+    assertEquals("Ensure only the modified and new comments were written.", 2,
+        repo.saveCommentsForMembership(membership, user));
+
+    Comment updatedComment = repo.getCommentByUID(editedComment.getCommentUID());
+    assertEquals("Ensure the comment was updated.", "My Edited Comment", updatedComment.getCommentText());
+    assertEquals("Ensure the comment was updated.", editedComment.getCommentUpdateCount() + 1,
+        updatedComment.getCommentUpdateCount());
+
+    @SuppressWarnings("unchecked")
+    List<Comment> cachedComments = cache.get(1L, List.class);
+    assertEquals("Ensure the new comment was cached.", 3, cachedComments.size());
+    assertEquals("Ensure the comments are still sorted.", "My Earliest Comment",
+        cachedComments.get(0).getCommentText());
+    assertTrue("Ensure the new comment was given an id.", cachedComments.get(0).getCommentUID() > 0L);
+    assertTrue("Ensure the edited comment was cached.", cachedComments.contains(updatedComment));
+  }
 }
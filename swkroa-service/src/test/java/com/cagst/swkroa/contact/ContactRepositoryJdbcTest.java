@@ -6,11 +6,15 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import javax.sql.DataSource;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import com.cagst.swkroa.internal.StatementDialect;
 import com.cagst.swkroa.member.Member;
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.user.UserType;
 import org.junit.Before;
@@ -385,4 +389,150 @@ public class ContactRepositoryJdbcTest extends BaseTestRepository {
 
     repo.saveEmailAddress(saveEmailAddress, user);
   }
+
+  /**
+   * Test the deactivateContactsForMembers method.
+   */
+  @Test
+  public void testDeactivateContactsForMembers() {
+    Member member = new Member();
+    member.setMemberUID(1L);
+
+    int cnt = repo.deactivateContactsForMembers(Collections.singletonList(1L), user);
+    assertEquals("Ensure the contacts of the member were deactivated.", 6, cnt);
+
+    assertTrue("Ensure the addresses were deactivated.", repo.getAddressesForMember(member).isEmpty());
+    assertTrue("Ensure the phone numbers were deactivated.", repo.getPhoneNumbersForMember(member).isEmpty());
+    assertTrue("Ensure the email addresses were deactivated.", repo.getEmailAddressesForMember(member).isEmpty());
+
+    assertEquals("Ensure nothing was deactivated.", 0, repo.deactivateContactsForMembers(Collections.emptyList(), user));
+  }
+
+  /**
+   * Test the getContactsForEntities method retrieving the contacts of several members.
+   */
+  @Test
+  public void testGetContactsForEntities_Members() {
+    Map<Long, ContactBundle> contacts = repo.getContactsForEntities(Arrays.asList(1L, 2L, 3L), UserType.MEMBER);
+    assertEquals("Ensure every member has a bundle.", 3, contacts.size());
+    assertEquals("Ensure the bundles are in the order requested.", Arrays.asList(1L, 2L, 3L),
+        Arrays.asList(contacts.keySet().toArray()));
+
+    ContactBundle bundle1 = contacts.get(1L);
+    assertEquals("Ensure we found the correct number of addresses.", 2, bundle1.getAddresses().size());
+    assertEquals("Ensure we found the correct number of phone numbers.", 2, bundle1.getPhoneNumbers().size());
+    assertEquals("Ensure we found the correct number of email addresses.", 2, bundle1.getEmailAddresses().size());
+
+    ContactBundle bundle2 = contacts.get(2L);
+    assertEquals("Ensure we found the correct number of addresses.", 1, bundle2.getAddresses().size());
+    assertEquals("Ensure we found the correct number of phone numbers.", 1, bundle2.getPhoneNumbers().size());
+    assertEquals("Ensure we found the correct number of email addresses.", 1, bundle2.getEmailAddresses().size());
+
+    assertTrue("Ensure a member without contacts has an empty bundle.", contacts.get(3L).isEmpty());
+  }
+
+  /**
+   * Test the getContactsForEntities method doesn't mix up the contacts of members and staff.
+   */
+  @Test
+  public void testGetContactsForEntities_Staff() {
+    Map<Long, ContactBundle> contacts = repo.getContactsForEntities(Arrays.asList(1L, 2L), UserType.STAFF);
+    assertEquals("Ensure every person has a bundle.", 2, contacts.size());
+    assertTrue("Ensure the contacts of members weren't found.", contacts.get(1L).isEmpty());
+    assertTrue("Ensure the contacts of members weren't found.", contacts.get(2L).isEmpty());
+
+    assertTrue("Ensure nothing was found.", repo.getContactsForEntities(Collections.emptyList(), UserType.STAFF)
+        .isEmpty());
+  }
+
+  /**
+   * Test the getContactsForEntities method splitting a large number of entities into chunks.
+   */
+  @Test
+  public void testGetContactsForEntities_Chunked() {
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+
+    ContactRepositoryJdbc chunkingRepo = new ContactRepositoryJdbc(dataSource, 2);
+    chunkingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    Map<Long, ContactBundle> contacts = chunkingRepo.getContactsForEntities(Arrays.asList(1L, 2L, 3L, 1L),
+        UserType.MEMBER);
+    assertEquals("Ensure each member has a single bundle.", 3, contacts.size());
+    assertEquals("Ensure the contacts from every chunk were found.", 2, contacts.get(1L).getAddresses().size());
+    assertEquals("Ensure the contacts from every chunk were found.", 1, contacts.get(2L).getAddresses().size());
+    assertEquals("Ensure one query per type of contact for each chunk.", 6, dataSource.getCount());
+  }
+
+  /**
+   * Test the saveContactsForEntities method not writing contacts that haven't been modified.
+   */
+  @Test
+  public void testSaveContactsForEntities_Unmodified() {
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+
+    ContactRepositoryJdbc countingRepo = new ContactRepositoryJdbc(dataSource);
+    countingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    Map<Long, ContactBundle> contacts = countingRepo.getContactsForEntities(Arrays.asList(1L, 2L), UserType.MEMBER);
+    dataSource.reset();
+
+    assertEquals("Ensure nothing was written.", 0, countingRepo.saveContactsForEntities(contacts, UserType.MEMBER,
+        user));
+    assertEquals("Ensure only the persisted contacts were read.", 3, dataSource.getCount());
+  }
+
+  /**
+   * Test the saveContactsForEntities method only writing the contacts that are new or have been modified.
+   */
+  @Test
+  public void testSaveContactsForEntities_Modified() {
+    Map<Long, ContactBundle> contacts = repo.getContactsForEntities(Arrays.asList(1L, 2L), UserType.MEMBER);
+
+    ContactBundle bundle1 = contacts.get(1L);
+    Address address1 = bundle1.getAddresses().get(0);
+    String newAddressLine1 = address1.getAddressLine1() + "_EDITED";
+    bundle1.getAddresses().set(0, address1.toBuilder().setAddressLine1(newAddressLine1).build());
+
+    ContactBundle bundle2 = contacts.get(2L);
+    bundle2.getPhoneNumbers().add(bundle2.getPhoneNumbers().get(0).toBuilder()
+        .setPhoneUID(0L)
+        .setPhoneNumber("5555555555")
+        .build());
+
+    assertEquals("Ensure only the modified and new contacts were written.", 2,
+        repo.saveContactsForEntities(contacts, UserType.MEMBER, user));
+
+    Map<Long, ContactBundle> saved = repo.getContactsForEntities(Arrays.asList(1L, 2L), UserType.MEMBER);
+
+    Address savedAddress = null;
+    for (Address address : saved.get(1L).getAddresses()) {
+      if (address.getAddressUID() == address1.getAddressUID()) {
+        savedAddress = address;
+      }
+    }
+
+    assertNotNull("Ensure the address is still there.", savedAddress);
+    assertEquals("Ensure the address was updated.", newAddressLine1, savedAddress.getAddressLine1());
+    assertEquals("Ensure the address was updated.", address1.getAddressUpdateCount() + 1,
+        savedAddress.getAddressUpdateCount());
+    assertEquals("Ensure the phone number was inserted.", 2, saved.get(2L).getPhoneNumbers().size());
+  }
+
+  /**
+   * Test the saveContactsForEntities method failing to update a contact that was updated since it was read.
+   */
+  @Test(expected = OptimisticLockingFailureException.class)
+  public void testSaveContactsForEntities_Failed() {
+    Map<Long, ContactBundle> contacts = repo.getContactsForEntities(Collections.singletonList(1L), UserType.MEMBER);
+
+    // force a failure due to update count
+    ContactBundle bundle = contacts.get(1L);
+    EmailAddress email = bundle.getEmailAddresses().get(0);
+    bundle.getEmailAddresses().set(0, email.toBuilder()
+        .setEmailAddress("edited@email.com")
+        .setEmailAddressUpdateCount(99L)
+        .build());
+
+    repo.saveContactsForEntities(contacts, UserType.MEMBER, user);
+  }
 }
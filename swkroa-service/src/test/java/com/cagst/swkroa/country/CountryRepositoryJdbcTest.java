@@ -9,6 +9,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.Collection;
 
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.google.common.collect.Ordering;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +38,8 @@ public class CountryRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure the countries collection is not null.", countries);
     assertFalse("Ensure the countries collection is not empty.", countries.isEmpty());
     assertEquals("Ensure we found the correct number of countries.", 2, countries.size());
+    assertTrue("Ensure the countries are sorted by name.",
+        Ordering.<String>natural().onResultOf(Country::getCountryName).isOrdered(countries));
   }
 
   /**
@@ -48,6 +51,7 @@ public class CountryRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure the counties collection is not null.", counties);
     assertFalse("Ensure the counties collection is not empty.", counties.isEmpty());
     assertEquals("Ensure we found the correct number of counties.", 6, counties.size());
+    assertTrue("Ensure the counties are sorted.", Ordering.natural().isOrdered(counties));
   }
 
   /**
@@ -59,6 +63,8 @@ public class CountryRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure the states collection is not null.", usStates);
     assertFalse("Ensure the states collection is not empty.", usStates.isEmpty());
     assertEquals("Ensure we found the correct number of states.", 4, usStates.size());
+    assertTrue("Ensure the states are sorted by name.",
+        Ordering.<String>natural().onResultOf(State::getStateName).isOrdered(usStates));
 
     Collection<State> caStates = repo.getActiveStatesForCountry("CA");
     assertNotNull("Ensure the states collection is not null.", caStates);
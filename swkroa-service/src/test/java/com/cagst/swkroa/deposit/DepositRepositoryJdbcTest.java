@@ -14,6 +14,8 @@ import java.util.stream.Collectors;
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.transaction.InvoiceSettlementRepositoryJdbc;
+import com.cagst.swkroa.transaction.MembershipBalanceRepositoryJdbc;
 import com.cagst.swkroa.transaction.TransactionRepositoryJdbc;
 import com.cagst.swkroa.transaction.UnpaidInvoice;
 import com.cagst.swkroa.user.User;
@@ -65,7 +67,8 @@ public class DepositRepositoryJdbcTest extends BaseTestRepository {
     when(codeValueRepo.getCodeValueByUID(2L)).thenReturn(typePayment);
     when(codeValueRepo.getCodeValueByUID(3L)).thenReturn(typeSpecial);
 
-    transactionRepo = new TransactionRepositoryJdbc(dataSource, codeValueRepo);
+    transactionRepo = new TransactionRepositoryJdbc(dataSource, codeValueRepo,
+        new MembershipBalanceRepositoryJdbc(dataSource), new InvoiceSettlementRepositoryJdbc(dataSource));
     repo = new DepositRepositoryJdbc(dataSource, transactionRepo);
 
     user = new User();
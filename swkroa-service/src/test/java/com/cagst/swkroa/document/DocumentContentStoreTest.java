@@ -0,0 +1,95 @@
+package com.cagst.swkroa.document;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link DocumentContentStore} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class DocumentContentStoreTest {
+  @Rule
+  public TemporaryFolder storeFolder = new TemporaryFolder();
+
+  private DocumentContentStore store;
+
+  @Before
+  public void setUp() {
+    store = new DocumentContentStore(storeFolder.getRoot().getAbsolutePath());
+  }
+
+  /**
+   * Test the isEnabled method.
+   */
+  @Test
+  public void testIsEnabled() {
+    assertTrue("Ensure the store is enabled", store.isEnabled());
+    assertFalse("Ensure the store is disabled", new DocumentContentStore("").isEnabled());
+  }
+
+  /**
+   * Test the store method storing identical content only once.
+   */
+  @Test
+  public void testStore_Duplicate() throws IOException {
+    byte[] content = "Renewal Letter".getBytes(StandardCharsets.UTF_8);
+
+    String location = store.store(new ByteArrayInputStream(content));
+    assertEquals("Ensure the same content has the same location", location, store.store(new ByteArrayInputStream(content)));
+    assertFalse("Ensure different content has a different location",
+        location.equals(store.store(new ByteArrayInputStream("Invoice".getBytes(StandardCharsets.UTF_8)))));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    store.copy(location, output);
+    assertArrayEquals("Ensure the content was retrieved", content, output.toByteArray());
+  }
+
+  /**
+   * Test the copy method for content large enough to be memory mapped.
+   */
+  @Test
+  public void testCopy_Mapped() throws IOException {
+    byte[] content = new byte[3 * 1024 * 1024];
+    new Random(42L).nextBytes(content);
+
+    String location = store.store(new ByteArrayInputStream(content));
+    assertEquals("Ensure the content was stored", content.length, store.size(location));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    store.copy(location, output);
+    assertArrayEquals("Ensure the content was retrieved", content, output.toByteArray());
+  }
+
+  /**
+   * Test the copy method with a location outside of the store.
+   */
+  @Test(expected = IOException.class)
+  public void testCopy_InvalidLocation() throws IOException {
+    store.copy("../../etc/passwd", new ByteArrayOutputStream());
+  }
+
+  /**
+   * Test the store method when the store hasn't been configured.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testStore_Disabled() throws IOException {
+    new DocumentContentStore("").store(new ByteArrayInputStream(new byte[0]));
+  }
+}
@@ -9,6 +9,10 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import com.cagst.swkroa.codevalue.CodeValue;
@@ -17,7 +21,9 @@ import com.cagst.swkroa.test.BaseTestRepository;
 import com.cagst.swkroa.user.User;
 import org.joda.time.DateTime;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -29,6 +35,11 @@ import org.springframework.dao.EmptyResultDataAccessException;
  */
 @RunWith(JUnit4.class)
 public class DocumentRepositoryJdbcTest extends BaseTestRepository {
+  private static final String CONTENT = "Some test data to be places in the document.\nAnd more on another line";
+
+  @Rule
+  public TemporaryFolder storeFolder = new TemporaryFolder();
+
   private DocumentRepositoryJdbc repo;
   private CodeValueRepository codeValueRepo = mock(CodeValueRepository.class);
 
@@ -46,7 +57,7 @@ public class DocumentRepositoryJdbcTest extends BaseTestRepository {
 
     when(codeValueRepo.getCodeValueByUID(anyLong())).thenReturn(renewalCodeValue);
 
-    repo = new DocumentRepositoryJdbc(createTestDataSource(), codeValueRepo);
+    repo = new DocumentRepositoryJdbc(createTestDataSource(), codeValueRepo, new DocumentContentStore(""));
 
     user = new User();
     user.setUserUID(1L);
@@ -148,4 +159,68 @@ public class DocumentRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure the information was updated correctly", document.getDocumentDescription(), retrievedDocument.getDocumentDescription());
     assertEquals("Ensure the information was updated correctly", 1, retrievedDocument.getDocumentUpdateCount());
   }
+
+  /**
+   * Test the saveDocument method by streaming the content of a new document into the database.
+   */
+  @Test
+  public void testSaveDocument_Stream() throws IOException {
+    byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+    Document savedDocument = repo.saveDocument(createDocument(), new ByteArrayInputStream(content), content.length, user);
+    assertTrue("Ensure it has an ID", savedDocument.getDocumentUID() > 0L);
+    assertNull("Ensure the location was not set", savedDocument.getDocumentLocation());
+
+    Document retrievedDocument = repo.getDocumentByUID(savedDocument.getDocumentUID());
+    assertNull("Ensure the contents were not retrieved", retrievedDocument.getDocumentContents());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertTrue("Ensure the document has content", repo.streamDocumentContent(retrievedDocument, output));
+    assertEquals("Ensure the content was streamed", CONTENT, new String(output.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test the saveDocument method by streaming the content of a new document into the document store.
+   */
+  @Test
+  public void testSaveDocument_ContentStore() throws IOException {
+    DocumentContentStore contentStore = new DocumentContentStore(storeFolder.getRoot().getAbsolutePath());
+    repo = new DocumentRepositoryJdbc(createTestDataSource(), codeValueRepo, contentStore);
+
+    byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+    Document savedDocument = repo.saveDocument(createDocument(), new ByteArrayInputStream(content), -1L, user);
+    assertNotNull("Ensure the location was set", savedDocument.getDocumentLocation());
+    assertEquals("Ensure the content was stored", content.length, contentStore.size(savedDocument.getDocumentLocation()));
+
+    Document retrievedDocument = repo.getDocumentByUID(savedDocument.getDocumentUID());
+    assertEquals("Ensure the location was persisted", savedDocument.getDocumentLocation(), retrievedDocument.getDocumentLocation());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertTrue("Ensure the document has content", repo.streamDocumentContent(retrievedDocument, output));
+    assertEquals("Ensure the content was streamed", CONTENT, new String(output.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test the streamDocumentContent method for a document without content.
+   */
+  @Test
+  public void testStreamDocumentContent_NoContent() throws IOException {
+    Document document = repo.getDocumentByUID(1L);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertFalse("Ensure the document does not have content", repo.streamDocumentContent(document, output));
+    assertEquals("Ensure nothing was streamed", 0, output.size());
+  }
+
+  private Document createDocument() {
+    Document document = new Document();
+    document.setDocumentDescription("Document used for testing.");
+    document.setDocumentName("testfile.txt");
+    document.setDocumentFormat("txt");
+    document.setDocumentType(renewalCodeValue);
+    document.setBeginEffectiveDate(new DateTime());
+
+    return document;
+  }
 }
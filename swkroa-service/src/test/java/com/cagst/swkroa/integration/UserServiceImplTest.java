@@ -108,6 +108,31 @@ public class UserServiceImplTest {
     assertEquals("Ensure the signin attempts have been reset.", 0, user2.getSigninAttempts());
   }
 
+  /**
+   * Test the signinSuccessful method granting the roles retrieved along with the user.
+   */
+  @Test
+  public void testSigninSuccessful_GrantsRoles() {
+    User user1 = (User) userService.loadUserByUsername("temp");
+    assertEquals("Ensure the roles were retrieved with the user.", 1, user1.getRoles().size());
+
+    User user2 = userService.signinSuccessful(user1, "127.0.0.1");
+    assertEquals("Ensure the roles weren't retrieved again.", 1, user2.getRoles().size());
+    assertEquals("Ensure the role was granted.", "STAFF", user2.getAuthorities().iterator().next().getAuthority());
+  }
+
+  /**
+   * Test the rehashPassword method.
+   */
+  @Test
+  public void testRehashPassword() {
+    User user1 = (User) userService.loadUserByUsername("cgaskill");
+
+    User user2 = userService.rehashPassword(user1, "password1");
+    assertEquals("Ensure the password was re-hashed.", "password1", user2.getPassword());
+    assertEquals("Ensure the password was saved.", "password1", userService.loadUserByUsername("cgaskill").getPassword());
+  }
+
   /**
    * Test the changePassword method but failing because we sent the wrong original password.
    */
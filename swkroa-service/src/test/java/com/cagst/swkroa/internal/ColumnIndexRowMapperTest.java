@@ -0,0 +1,93 @@
+package com.cagst.swkroa.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link ColumnIndexRowMapper} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class ColumnIndexRowMapperTest {
+  /**
+   * Test the mapRow method resolves the column positions once per ResultSet.
+   */
+  @Test
+  public void testMapRow() throws SQLException {
+    ResultSetMetaData metaData = mockMetaData("PERSON_ID", "NAME_LAST");
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(metaData);
+    when(rs.getString(2)).thenReturn("Gaskill", "Doright");
+
+    NameMapper mapper = new NameMapper();
+    assertEquals("Ensure the column was read by position.", "Gaskill", mapper.mapRow(rs, 0));
+    assertEquals("Ensure the column was read by position.", "Doright", mapper.mapRow(rs, 1));
+
+    verify(rs, times(1)).getMetaData();
+  }
+
+  /**
+   * Test the mapRow method resolves the column positions again for a different ResultSet.
+   */
+  @Test
+  public void testMapRow_NewResultSet() throws SQLException {
+    ResultSetMetaData metaData1 = mockMetaData("person_id", "name_last");
+    ResultSet rs1 = mock(ResultSet.class);
+    when(rs1.getMetaData()).thenReturn(metaData1);
+    when(rs1.getString(2)).thenReturn("Gaskill");
+
+    ResultSetMetaData metaData2 = mockMetaData("name_last");
+    ResultSet rs2 = mock(ResultSet.class);
+    when(rs2.getMetaData()).thenReturn(metaData2);
+    when(rs2.getString(1)).thenReturn("Doright");
+
+    NameMapper mapper = new NameMapper();
+    assertEquals("Ensure the column was read by position.", "Gaskill", mapper.mapRow(rs1, 0));
+    assertEquals("Ensure the column was read by position.", "Doright", mapper.mapRow(rs2, 0));
+  }
+
+  /**
+   * Test the mapRow method when a column is not in the ResultSet.
+   */
+  @Test(expected = SQLException.class)
+  public void testMapRow_MissingColumn() throws SQLException {
+    ResultSetMetaData metaData = mockMetaData("person_id");
+
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getMetaData()).thenReturn(metaData);
+
+    new NameMapper().mapRow(rs, 0);
+  }
+
+  private static ResultSetMetaData mockMetaData(final String... columnNames) throws SQLException {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(columnNames.length);
+    for (int idx = 0; idx < columnNames.length; idx++) {
+      when(metaData.getColumnLabel(idx + 1)).thenReturn(columnNames[idx]);
+    }
+
+    return metaData;
+  }
+
+  private static final class NameMapper extends ColumnIndexRowMapper<String> {
+    private final int lastNameIdx = column("name_last");
+
+    @Override
+    protected String mapColumns(final ResultSet rs, final int rowNum) throws SQLException {
+      return rs.getString(indexOf(lastNameIdx));
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.cagst.swkroa.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link ImmutableLongMap} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class ImmutableLongMapTest {
+  /**
+   * Test the get method finding (and not finding) values.
+   */
+  @Test
+  public void testGet() {
+    ImmutableLongMap<String> map = ImmutableLongMap.index(Lists.newArrayList("30", "10", "20"), Long::parseLong);
+
+    assertEquals("Ensure we have all the values.", 3, map.size());
+    assertEquals("Ensure we found the correct value.", "10", map.get(10L));
+    assertEquals("Ensure we found the correct value.", "20", map.get(20L));
+    assertEquals("Ensure we found the correct value.", "30", map.get(30L));
+    assertNull("Ensure we did not find a value.", map.get(15L));
+    assertTrue("Ensure the key was found.", map.containsKey(20L));
+    assertFalse("Ensure the key was not found.", map.containsKey(0L));
+  }
+
+  /**
+   * Test the values method returns the values in the order of their keys.
+   */
+  @Test
+  public void testValues() {
+    ImmutableLongMap<String> map = ImmutableLongMap.index(Lists.newArrayList("30", "10", "20"), Long::parseLong);
+
+    List<String> values = map.values();
+    assertEquals("Ensure the values are in key order.", Lists.newArrayList("10", "20", "30"), values);
+  }
+
+  /**
+   * Test the values method returns an unmodifiable list.
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void testValues_Unmodifiable() {
+    ImmutableLongMap<String> map = ImmutableLongMap.index(Lists.newArrayList("10"), Long::parseLong);
+
+    map.values().add("20");
+  }
+
+  /**
+   * Test the index method with no values.
+   */
+  @Test
+  public void testIndex_Empty() {
+    ImmutableLongMap<String> map = ImmutableLongMap.index(Collections.<String>emptyList(), Long::parseLong);
+
+    assertTrue("Ensure the map is empty.", map.isEmpty());
+    assertNull("Ensure we did not find a value.", map.get(10L));
+  }
+
+  /**
+   * Test the index method with more than one value for a key.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIndex_DuplicateKey() {
+    ImmutableLongMap.index(Lists.newArrayList("10", "20", "10"), Long::parseLong);
+  }
+}
@@ -0,0 +1,95 @@
+package com.cagst.swkroa.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link ReferenceDataHolder} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class ReferenceDataHolderTest {
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @After
+  public void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  /**
+   * Test the get method only loads the snapshot once.
+   */
+  @Test
+  public void testGet() {
+    ReferenceDataHolder<Integer> holder = new ReferenceDataHolder<>(loads::incrementAndGet);
+
+    assertEquals("Ensure the snapshot was loaded.", 1, holder.get().intValue());
+    assertEquals("Ensure the snapshot was not reloaded.", 1, holder.get().intValue());
+    assertEquals("Ensure the snapshot was loaded once.", 1, loads.get());
+  }
+
+  /**
+   * Test the invalidate method when there is no transaction.
+   */
+  @Test
+  public void testInvalidate() {
+    ReferenceDataHolder<Integer> holder = new ReferenceDataHolder<>(loads::incrementAndGet);
+    holder.get();
+
+    holder.invalidate();
+    assertFalse("Ensure the snapshot was invalidated.", holder.isLoaded());
+    assertEquals("Ensure the snapshot was reloaded.", 2, holder.get().intValue());
+  }
+
+  /**
+   * Test the invalidate method within a transaction, the snapshot is invalidated once the transaction completes.
+   */
+  @Test
+  public void testInvalidate_Transaction() {
+    ReferenceDataHolder<Integer> holder = new ReferenceDataHolder<>(loads::incrementAndGet);
+    holder.get();
+
+    TransactionSynchronizationManager.initSynchronization();
+    holder.invalidate();
+    assertTrue("Ensure the snapshot is kept until the transaction completes.", holder.isLoaded());
+
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    assertFalse("Ensure the snapshot was invalidated.", holder.isLoaded());
+  }
+
+  /**
+   * Test the get method discards a snapshot that was invalidated while it was being loaded.
+   */
+  @Test
+  public void testGet_InvalidatedWhileLoading() {
+    ReferenceDataHolder<Integer>[] holder = new ReferenceDataHolder[1];
+    holder[0] = new ReferenceDataHolder<>(() -> {
+      int load = loads.incrementAndGet();
+      if (load == 1) {
+        holder[0].invalidate();
+      }
+
+      return load;
+    });
+
+    assertEquals("Ensure the (stale) snapshot was returned.", 1, holder[0].get().intValue());
+    assertFalse("Ensure the stale snapshot was not kept.", holder[0].isLoaded());
+    assertEquals("Ensure the snapshot was reloaded.", 2, holder[0].get().intValue());
+  }
+}
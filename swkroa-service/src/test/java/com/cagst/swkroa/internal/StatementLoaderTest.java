@@ -0,0 +1,152 @@
+package com.cagst.swkroa.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+/**
+ * Test class for the {@link StatementLoader} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class StatementLoaderTest {
+  /**
+   * Test the load method retrieving the dialect independent statement.
+   */
+  @Test
+  public void testLoad_Common() {
+    String stmt = StatementLoader.getLoader(LazyOwner.class, StatementDialect.MYSQL).load(LazyOwner.GET_STATEMENTS);
+    assertEquals("Ensure we loaded the common statement.", "SELECT statement_id\n  FROM statement\n", stmt);
+  }
+
+  /**
+   * Test the load method retrieving the dialect specific statement.
+   */
+  @Test
+  public void testLoad_Dialect() {
+    String stmt = StatementLoader.getLoader(LazyOwner.class, StatementDialect.HSQLDB).load(LazyOwner.GET_STATEMENTS);
+    assertTrue("Ensure we loaded the dialect statement.", stmt.endsWith("LIMIT 1\n"));
+  }
+
+  /**
+   * Test the load method and not finding the statement.
+   */
+  @Test(expected = MissingResourceException.class)
+  public void testLoad_NotFound() {
+    StatementLoader.getLoader(LazyOwner.class, StatementDialect.MYSQL).load("GET_UNKNOWN");
+  }
+
+  /**
+   * Test the getLoader and load methods from many threads at once.
+   */
+  @Test
+  public void testLoad_Concurrent() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<String>> tasks = Collections.nCopies(64,
+          () -> StatementLoader.getLoader(ConcurrentOwner.class, StatementDialect.MYSQL).load(ConcurrentOwner.GET_STATEMENTS));
+
+      List<String> stmts = new ArrayList<>();
+      for (Future<String> future : executor.invokeAll(tasks)) {
+        stmts.add(future.get());
+      }
+
+      for (String stmt : stmts) {
+        assertSame("Ensure every thread received the same cached statement.", stmts.get(0), stmt);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertSame("Ensure a single loader is created per owner / dialect.",
+        StatementLoader.getLoader(ConcurrentOwner.class, StatementDialect.MYSQL),
+        StatementLoader.getLoader(ConcurrentOwner.class, StatementDialect.MYSQL));
+  }
+
+  /**
+   * Test the preload method loading the statements named by the owner's constants.
+   */
+  @Test
+  public void testPreload() {
+    Set<String> names = StatementLoader.preload(PreloadOwner.class, StatementDialect.MYSQL);
+    assertEquals("Ensure only the statement constants were preloaded.", Collections.singleton(PreloadOwner.GET_STATEMENTS), names);
+
+    String stmt = StatementLoader.getLoader(PreloadOwner.class, StatementDialect.MYSQL).load(PreloadOwner.GET_STATEMENTS);
+    assertEquals("Ensure we loaded the common statement.", "SELECT statement_id\n  FROM statement\n", stmt);
+  }
+
+  /**
+   * Test the load method for a statement that wasn't preloaded.
+   */
+  @Test(expected = MissingResourceException.class)
+  public void testPreload_NotPreloaded() {
+    StatementLoader.preload(PreloadOwner.class, StatementDialect.HSQLDB);
+    StatementLoader.getLoader(PreloadOwner.class, StatementDialect.HSQLDB).load("GET_UNKNOWN");
+  }
+
+  /**
+   * Test the preload method when a statement constant doesn't have a statement.
+   */
+  @Test(expected = MissingResourceException.class)
+  public void testPreload_Missing() {
+    StatementLoader.preload(MissingOwner.class, StatementDialect.MYSQL);
+  }
+
+  /**
+   * Test that every repository has a (MySQL) statement for each of its statement constants.
+   */
+  @Test
+  public void testPreload_Repositories() throws Exception {
+    ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(new AssignableTypeFilter(BaseRepositoryJdbc.class));
+
+    Set<BeanDefinition> repositories = scanner.findCandidateComponents("com.cagst.swkroa");
+    assertFalse("Ensure we found the repositories.", repositories.isEmpty());
+
+    for (BeanDefinition repository : repositories) {
+      Class<?> repoClass = Class.forName(repository.getBeanClassName());
+      StatementLoader loader = StatementLoader.getLoader(repoClass, StatementDialect.MYSQL);
+
+      for (String name : StatementLoader.getStatementNames(repoClass)) {
+        loader.load(name);
+      }
+    }
+  }
+
+  private static final class LazyOwner {
+    private static final String GET_STATEMENTS = "GET_STATEMENTS";
+  }
+
+  private static final class ConcurrentOwner {
+    private static final String GET_STATEMENTS = "GET_STATEMENTS";
+  }
+
+  private static final class PreloadOwner {
+    private static final String GET_STATEMENTS = "GET_STATEMENTS";
+    private static final String MESSAGE_KEY    = "com.cagst.swkroa.message";
+  }
+
+  private static final class MissingOwner {
+    private static final String GET_STATEMENTS = "GET_STATEMENTS";
+    private static final String GET_MISSING    = "GET_MISSING";
+  }
+}
@@ -5,9 +5,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
 import com.cagst.swkroa.user.User;
 import com.google.common.collect.Lists;
 import org.junit.Before;
@@ -15,6 +17,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
 /**
  * Test class for the {@link JobRepositoryJdbc} class.
@@ -147,6 +150,44 @@ public class JobRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure we found the correct number of jobs", 2, jobs2.size());
   }
 
+  /**
+   * Test the saveJob method writes the details of a new Job as a single batch.
+   */
+  @Test
+  public void testSaveJob_Insert_Batched() {
+    User editingUser = new User();
+    editingUser.setUserUID(1L);
+
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+    JobRepositoryJdbc countingRepo = new JobRepositoryJdbc(dataSource);
+
+    List<JobDetail> jobDetails = new ArrayList<>();
+    for (long membershipUID = 1L; membershipUID <= 50L; membershipUID++) {
+      JobDetail jobDetail = new JobDetail();
+      jobDetail.setJobStatus(JobStatus.SUBMITTED);
+      jobDetail.setParentEntityUID(membershipUID);
+      jobDetail.setParentEntityName(Job.MEMBERSHIP);
+
+      jobDetails.add(jobDetail);
+    }
+
+    Job newJob = new Job();
+    newJob.setJobName("Renew Membership");
+    newJob.setJobType(JobType.RENEWAL);
+    newJob.setJobStatus(JobStatus.SUBMITTED);
+    newJob.setJobDetails(jobDetails);
+
+    countingRepo.saveJob(newJob, editingUser);
+    assertEquals("Ensure the job and its details were inserted with 2 statements", 2, dataSource.getCount());
+
+    for (JobDetail jobDetail : jobDetails) {
+      assertTrue("Ensure the detail has an ID", jobDetail.getJobDetailUID() > 0L);
+      assertEquals("Ensure the detail belongs to the job", newJob.getJobUID(), jobDetail.getJobUID());
+    }
+
+    assertEquals("Ensure we found the correct number of details", 50, repo.getDetailsForJob(newJob.getJobUID()).size());
+  }
+
   @Test
   public void testSaveJob_Update() {
     User editingUser = new User();
@@ -166,4 +207,103 @@ public class JobRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure we found the job", job2);
     assertEquals("Ensure it is the expected status", JobStatus.INPROCESS, job2.getJobStatus());
   }
+
+  /**
+   * Test the saveJobDetails method by updating existing and inserting new details in a single batch.
+   */
+  @Test
+  public void testSaveJobDetails() {
+    User editingUser = new User();
+    editingUser.setUserUID(1L);
+
+    List<JobDetail> details = repo.getDetailsForJob(4L);
+    for (JobDetail detail : details) {
+      detail.setJobStatus(JobStatus.SUCCEEDED);
+    }
+
+    JobDetail newDetail = new JobDetail();
+    newDetail.setJobUID(4L);
+    newDetail.setJobStatus(JobStatus.FAILED);
+    newDetail.setParentEntityUID(6L);
+    newDetail.setParentEntityName(Job.MEMBERSHIP);
+    details.add(newDetail);
+
+    repo.saveJobDetails(details, editingUser);
+    assertTrue("Ensure the new detail has an ID", newDetail.getJobDetailUID() > 0L);
+    assertEquals("Ensure the update count was incremented", 1L, details.get(0).getJobDetailUpdateCount());
+
+    List<JobDetail> savedDetails = repo.getDetailsForJob(4L);
+    assertEquals("Ensure we found the correct number of details", 6, savedDetails.size());
+    for (JobDetail detail : savedDetails) {
+      if (detail.getJobDetailUID() == newDetail.getJobDetailUID()) {
+        assertEquals("Ensure it is the expected status", JobStatus.FAILED, detail.getJobStatus());
+      } else {
+        assertEquals("Ensure it is the expected status", JobStatus.SUCCEEDED, detail.getJobStatus());
+      }
+    }
+  }
+
+  /**
+   * Test the saveJobDetails method with a detail that was updated since it was read.
+   */
+  @Test(expected = IncorrectResultSizeDataAccessException.class)
+  public void testSaveJobDetails_Stale() {
+    User editingUser = new User();
+    editingUser.setUserUID(1L);
+
+    List<JobDetail> details = repo.getDetailsForJob(4L);
+    details.get(1).setJobDetailUpdateCount(5L);
+
+    repo.saveJobDetails(details, editingUser);
+  }
+
+  /**
+   * Test the claimJob method, a leased Job cannot be claimed by another owner until its lease expires.
+   */
+  @Test
+  public void testClaimJob() {
+    assertTrue("Ensure the job was claimed", repo.claimJob(4L, "node1", 60000L));
+    assertFalse("Ensure the job cannot be claimed by another node", repo.claimJob(4L, "node2", 60000L));
+    assertFalse("Ensure a completed job cannot be claimed", repo.claimJob(1L, "node2", 60000L));
+
+    assertEquals("Ensure it is the expected status", JobStatus.INPROCESS, repo.getJobByUID(4L).getJobStatus());
+    assertTrue("Ensure a leased job cannot be claimed", repo.getClaimableJobsForType(JobType.RENEWAL).isEmpty());
+    assertEquals("Ensure a leased job is still pending", 1, repo.getPendingJobsForType(JobType.RENEWAL).size());
+  }
+
+  /**
+   * Test the claimJob method with an expired lease.
+   */
+  @Test
+  public void testClaimJob_Expired() {
+    assertTrue("Ensure the job was claimed", repo.claimJob(4L, "node1", -1000L));
+    assertEquals("Ensure the job can be claimed again", 1, repo.getClaimableJobsForType(JobType.RENEWAL).size());
+    assertTrue("Ensure the job was claimed by another node", repo.claimJob(4L, "node2", 60000L));
+  }
+
+  /**
+   * Test the renewJobLeases method only extends the leases held by the owner.
+   */
+  @Test
+  public void testRenewJobLeases() {
+    repo.claimJob(4L, "node1", 60000L);
+
+    assertEquals("Ensure the lease was extended", 1, repo.renewJobLeases(Lists.newArrayList(4L), "node1", 60000L));
+    assertEquals("Ensure no lease was extended", 0, repo.renewJobLeases(Lists.newArrayList(4L), "node2", 60000L));
+  }
+
+  /**
+   * Test the releaseJob method.
+   */
+  @Test
+  public void testReleaseJob() {
+    User editingUser = new User();
+    editingUser.setUserUID(1L);
+
+    repo.claimJob(4L, "node1", 60000L);
+
+    assertFalse("Ensure another node cannot release the job", repo.releaseJob(4L, "node2", JobStatus.FAILED, editingUser));
+    assertTrue("Ensure the job was released", repo.releaseJob(4L, "node1", JobStatus.SUCCEEDED, editingUser));
+    assertEquals("Ensure it is the expected status", JobStatus.SUCCEEDED, repo.getJobByUID(4L).getJobStatus());
+  }
 }
@@ -0,0 +1,170 @@
+package com.cagst.swkroa.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.cagst.swkroa.user.User;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Test class for the {@link JobScheduler} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class JobSchedulerTest {
+  private static final int WAIT_MILLIS = 5000;
+
+  private JobRepository jobRepo;
+  private JobHandler handler;
+  private JobScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    jobRepo = mock(JobRepository.class);
+
+    handler = mock(JobHandler.class);
+    when(handler.getJobType()).thenReturn(JobType.RENEWAL);
+    when(handler.getMaxConcurrency()).thenReturn(1);
+
+    // disabled so the test drives the polling
+    scheduler = new JobScheduler(jobRepo, Lists.newArrayList(handler), 60000L, 5000L, false);
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  /**
+   * Test the poll method runs a claimed Job with only the details that have not completed.
+   */
+  @Test
+  public void testPoll_Resume() {
+    Job job = createJob(4L);
+
+    when(jobRepo.getClaimableJobsForType(JobType.RENEWAL)).thenReturn(Lists.newArrayList(job));
+    when(jobRepo.claimJob(eq(4L), anyString(), anyLong())).thenReturn(true);
+    when(jobRepo.getDetailsForJob(4L)).thenReturn(Lists.newArrayList(
+        createDetail(1L, JobStatus.SUCCEEDED),
+        createDetail(2L, JobStatus.INPROCESS),
+        createDetail(3L, JobStatus.SUBMITTED)));
+
+    scheduler.poll();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<JobDetail>> details = (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    verify(handler, timeout(WAIT_MILLIS)).execute(eq(job), details.capture(), any(User.class));
+    verify(jobRepo, timeout(WAIT_MILLIS)).releaseJob(eq(4L), anyString(), any(JobStatus.class), any(User.class));
+
+    assertEquals("Ensure only the pending details were run", 2, details.getValue().size());
+  }
+
+  /**
+   * Test the poll method does not claim more Jobs than the handler can run at the same time.
+   */
+  @Test
+  public void testPoll_Capacity() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+
+    when(jobRepo.getClaimableJobsForType(JobType.RENEWAL)).thenReturn(Lists.newArrayList(createJob(4L), createJob(5L)));
+    when(jobRepo.claimJob(anyLong(), anyString(), anyLong())).thenReturn(true);
+    when(jobRepo.getDetailsForJob(anyLong())).thenReturn(Lists.newArrayList(createDetail(1L, JobStatus.SUBMITTED)));
+    doAnswer(invocation -> {
+      running.countDown();
+      finish.await();
+      return null;
+    }).when(handler).execute(any(Job.class), any(List.class), any(User.class));
+
+    scheduler.poll();
+    running.await();
+
+    scheduler.poll();
+
+    verify(jobRepo).claimJob(eq(4L), anyString(), anyLong());
+    verify(jobRepo, never()).claimJob(eq(5L), anyString(), anyLong());
+    assertEquals("Ensure one job is running", 1, scheduler.getRunningJobCount());
+
+    finish.countDown();
+  }
+
+  /**
+   * Test the poll method moves on to the next Job when a Job has been claimed by another node.
+   */
+  @Test
+  public void testPoll_ClaimedByOther() {
+    when(jobRepo.getClaimableJobsForType(JobType.RENEWAL)).thenReturn(Lists.newArrayList(createJob(4L), createJob(5L)));
+    when(jobRepo.claimJob(eq(4L), anyString(), anyLong())).thenReturn(false);
+    when(jobRepo.claimJob(eq(5L), anyString(), anyLong())).thenReturn(true);
+
+    scheduler.poll();
+
+    verify(jobRepo, timeout(WAIT_MILLIS)).getDetailsForJob(5L);
+    verify(jobRepo, never()).getDetailsForJob(4L);
+  }
+
+  /**
+   * Test the heartbeat method extends the leases of the running Jobs.
+   */
+  @Test
+  public void testHeartbeat() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+
+    when(jobRepo.getClaimableJobsForType(JobType.RENEWAL)).thenReturn(Lists.newArrayList(createJob(4L)));
+    when(jobRepo.claimJob(anyLong(), anyString(), anyLong())).thenReturn(true);
+    when(jobRepo.getDetailsForJob(anyLong())).thenReturn(Lists.newArrayList(createDetail(1L, JobStatus.SUBMITTED)));
+    doAnswer(invocation -> {
+      running.countDown();
+      finish.await();
+      return null;
+    }).when(handler).execute(any(Job.class), any(List.class), any(User.class));
+
+    scheduler.heartbeat();
+    verify(jobRepo, never()).renewJobLeases(any(List.class), anyString(), anyLong());
+
+    scheduler.poll();
+    running.await();
+
+    scheduler.heartbeat();
+    verify(jobRepo).renewJobLeases(eq(Lists.newArrayList(4L)), anyString(), eq(60000L));
+
+    finish.countDown();
+  }
+
+  private static Job createJob(final long jobUID) {
+    Job job = new Job();
+    job.setJobUID(jobUID);
+    job.setJobType(JobType.RENEWAL);
+    job.setJobStatus(JobStatus.SUBMITTED);
+
+    return job;
+  }
+
+  private static JobDetail createDetail(final long jobDetailUID, final JobStatus jobStatus) {
+    JobDetail jobDetail = new JobDetail();
+    jobDetail.setJobDetailUID(jobDetailUID);
+    jobDetail.setJobStatus(jobStatus);
+
+    return jobDetail;
+  }
+}
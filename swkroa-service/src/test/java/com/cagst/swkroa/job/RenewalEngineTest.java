@@ -0,0 +1,173 @@
+package com.cagst.swkroa.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Test class for the {@link RenewalEngine} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class RenewalEngineTest {
+  private JobService jobService;
+  private JobRepository jobRepo;
+  private RenewalEngine engine;
+
+  private User user;
+
+  @Before
+  public void setUp() {
+    user = new User();
+    user.setUserUID(1L);
+
+    jobService = mock(JobService.class);
+    jobRepo = mock(JobRepository.class);
+
+    RenewalContext context = new RenewalContext("2015 Dues", new DateTime(), null, user,
+        null, null, null, null, null, null);
+    when(jobService.createRenewalContext(anyString(), any(DateTime.class), anyString(), any(User.class)))
+        .thenReturn(context);
+
+    engine = new RenewalEngine(jobService, jobRepo, 2, 2);
+  }
+
+  @After
+  public void tearDown() {
+    engine.shutdown();
+  }
+
+  /**
+   * Test the renewMemberships method with every membership succeeding.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRenewMemberships_Succeeded() {
+    doAnswer(invocation -> {
+      for (JobDetail jobDetail : (List<JobDetail>) invocation.getArguments()[0]) {
+        jobDetail.setJobStatus(JobStatus.SUCCEEDED);
+      }
+      return null;
+    }).when(jobService).processRenewalChunk(anyListOf(JobDetail.class), any(RenewalContext.class));
+
+    List<JobDetail> jobDetails = createJobDetails(5);
+
+    JobStatus status = engine.renewMemberships(jobDetails, "2015 Dues", new DateTime(), "", user);
+    assertEquals("Ensure the job succeeded", JobStatus.SUCCEEDED, status);
+
+    verify(jobService, times(3)).processRenewalChunk(anyListOf(JobDetail.class), any(RenewalContext.class));
+    for (JobDetail jobDetail : jobDetails) {
+      assertEquals("Ensure the detail succeeded", JobStatus.SUCCEEDED, jobDetail.getJobStatus());
+    }
+  }
+
+  /**
+   * Test the renewMemberships method with a chunk failing and being retried one membership at a time.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRenewMemberships_Partial() {
+    doAnswer(invocation -> {
+      List<JobDetail> chunk = (List<JobDetail>) invocation.getArguments()[0];
+      for (JobDetail jobDetail : chunk) {
+        if (jobDetail.getParentEntityUID() == 3L) {
+          throw new DataIntegrityViolationException("Unable to save invoice.");
+        }
+      }
+
+      for (JobDetail jobDetail : chunk) {
+        jobDetail.setJobDetailUpdateCount(jobDetail.getJobDetailUpdateCount() + 1);
+        jobDetail.setJobStatus(JobStatus.SUCCEEDED);
+      }
+      return null;
+    }).when(jobService).processRenewalChunk(anyListOf(JobDetail.class), any(RenewalContext.class));
+
+    List<JobDetail> jobDetails = createJobDetails(5);
+
+    JobStatus status = engine.renewMemberships(jobDetails, "2015 Dues", new DateTime(), "", user);
+    assertEquals("Ensure the job partially succeeded", JobStatus.PARTIAL, status);
+
+    for (JobDetail jobDetail : jobDetails) {
+      if (jobDetail.getParentEntityUID() == 3L) {
+        assertEquals("Ensure the detail failed", JobStatus.FAILED, jobDetail.getJobStatus());
+        assertEquals("Ensure the update count was restored", 0L, jobDetail.getJobDetailUpdateCount());
+      } else {
+        assertEquals("Ensure the detail succeeded", JobStatus.SUCCEEDED, jobDetail.getJobStatus());
+      }
+    }
+  }
+
+  /**
+   * Test the renewMemberships method with every chunk failing and a detail that can't be saved as FAILED, the other
+   * details are still saved as FAILED rather than left INPROCESS.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRenewMemberships_SaveFailed() {
+    doThrow(new DataAccessResourceFailureException("Unable to save job details."))
+        .when(jobService).processRenewalChunk(anyListOf(JobDetail.class), any(RenewalContext.class));
+
+    Map<Long, JobStatus> savedStatuses = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      for (JobDetail jobDetail : (List<JobDetail>) invocation.getArguments()[0]) {
+        if (jobDetail.getJobDetailUID() == 1L && jobDetail.getJobStatus() == JobStatus.FAILED) {
+          throw new DataAccessResourceFailureException("Unable to save job detail.");
+        }
+      }
+
+      for (JobDetail jobDetail : (List<JobDetail>) invocation.getArguments()[0]) {
+        savedStatuses.put(jobDetail.getJobDetailUID(), jobDetail.getJobStatus());
+      }
+      return null;
+    }).when(jobRepo).saveJobDetails(anyListOf(JobDetail.class), any(User.class));
+
+    List<JobDetail> jobDetails = createJobDetails(5);
+
+    JobStatus status = engine.renewMemberships(jobDetails, "2015 Dues", new DateTime(), "", user);
+    assertEquals("Ensure the job failed", JobStatus.FAILED, status);
+
+    assertEquals("Ensure the unsaved detail was left as claimed", JobStatus.INPROCESS, savedStatuses.get(1L));
+    for (JobDetail jobDetail : jobDetails.subList(1, jobDetails.size())) {
+      assertEquals("Ensure the detail was saved as failed", JobStatus.FAILED,
+          savedStatuses.get(jobDetail.getJobDetailUID()));
+    }
+  }
+
+  private List<JobDetail> createJobDetails(int count) {
+    List<JobDetail> jobDetails = new ArrayList<>(count);
+    for (long idx = 1; idx <= count; idx++) {
+      JobDetail jobDetail = new JobDetail();
+      jobDetail.setJobDetailUID(idx);
+      jobDetail.setJobStatus(JobStatus.SUBMITTED);
+      jobDetail.setParentEntityUID(idx);
+      jobDetail.setParentEntityName(Job.MEMBERSHIP);
+
+      jobDetails.add(jobDetail);
+    }
+
+    return jobDetails;
+  }
+}
@@ -9,16 +9,25 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.contact.ContactRepository;
 import com.cagst.swkroa.country.CountryRepository;
 import com.cagst.swkroa.country.County;
 import com.cagst.swkroa.internal.StatementDialect;
 import com.cagst.swkroa.person.Person;
 import com.cagst.swkroa.person.PersonRepository;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
 import com.cagst.swkroa.user.User;
 import org.joda.time.DateTime;
 import org.junit.Before;
@@ -26,7 +35,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * Test class for the MemberRepositoryJdbc class.
@@ -81,7 +92,13 @@ public class MemberRepositoryJdbcTest extends BaseTestRepository {
 
     when(countryRepo.getCountyByUID(1L)).thenReturn(svCounty);
 
-    repo = new MemberRepositoryJdbc(createTestDataSource(), personRepo, memberTypeRepo, countryRepo, contactRepo);
+    DataSource dataSource = createTestDataSource();
+
+    NameSearchIndex nameIndex = new NameSearchIndex(dataSource);
+    nameIndex.setStatementDialect(StatementDialect.HSQLDB);
+    nameIndex.rebuild();
+
+    repo = new MemberRepositoryJdbc(dataSource, personRepo, memberTypeRepo, countryRepo, contactRepo, nameIndex);
     repo.setStatementDialect(StatementDialect.HSQLDB);
   }
 
@@ -112,6 +129,48 @@ public class MemberRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure we found the correct number of members.", 2, members.size());
   }
 
+  /**
+   * Test the getMembersForMembership method maps the persons joined into the same (single) query.
+   */
+  @Test
+  public void testGetMembersForMembership_PersonsJoined() {
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+
+    MemberRepositoryJdbc countingRepo = new MemberRepositoryJdbc(dataSource, personRepo, memberTypeRepo,
+        mock(CountryRepository.class), mock(ContactRepository.class), mock(NameSearchIndex.class));
+    countingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    Membership membership = new Membership();
+    membership.setMembershipUID(2L);
+
+    List<Member> members = countingRepo.getMembersForMembership(membership);
+    assertEquals("Ensure we found the correct number of members.", 2, members.size());
+    assertEquals("Ensure a single query was used.", 1, dataSource.getCount());
+
+    for (Member member : members) {
+      assertNotNull("Ensure the person was mapped.", member.getPerson());
+      assertEquals("Ensure the person was mapped.", "Doright", member.getPerson().getLastName());
+    }
+  }
+
+  /**
+   * Test the getMembersForMembership method when the person of a member doesn't exist.
+   */
+  @Test(expected = IncorrectResultSizeDataAccessException.class)
+  public void testGetMembersForMembership_PersonMissing() {
+    DataSource dataSource = createTestDataSource();
+    new JdbcTemplate(dataSource).update("UPDATE member SET person_id = 999 WHERE member_id = 2");
+
+    MemberRepositoryJdbc missingRepo = new MemberRepositoryJdbc(dataSource, personRepo, memberTypeRepo,
+        mock(CountryRepository.class), mock(ContactRepository.class), mock(NameSearchIndex.class));
+    missingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    Membership membership = new Membership();
+    membership.setMembershipUID(2L);
+
+    missingRepo.getMembersForMembership(membership);
+  }
+
   /**
    * Test the getMembersByName method and not finding any.
    */
@@ -501,4 +560,75 @@ public class MemberRepositoryJdbcTest extends BaseTestRepository {
 
     repo.saveMembershipCounty(county, membership, user);
   }
+
+  /**
+   * Test the closeMembers method with the versions of the members.
+   */
+  @Test
+  public void testCloseMembers_Versions() {
+    CodeValue closeReason = CodeValue.builder()
+        .setCodeValueUID(99L)
+        .setDisplay("Close Reason")
+        .build();
+
+    Map<Long, Long> versions = new LinkedHashMap<>();
+    versions.put(1L, 0L);
+    versions.put(2L, 1L);
+    versions.put(7L, 0L);
+
+    BulkUpdateResult result = repo.closeMembers(versions, closeReason, "Moved", user);
+
+    assertEquals("Ensure the current member was closed.", BulkUpdateResult.Outcome.UPDATED, result.getOutcome(1L));
+    assertEquals("Ensure the stale member was not closed.", BulkUpdateResult.Outcome.STALE, result.getOutcome(2L));
+    assertEquals("Ensure the closed member was not found.", BulkUpdateResult.Outcome.NOT_FOUND, result.getOutcome(7L));
+
+    Member member = repo.getMemberByUID(1L);
+    assertFalse("Ensure the member was closed.", member.isActive());
+    assertEquals("Ensure the close reason was saved.", "Moved", member.getCloseReasonText());
+  }
+
+  /**
+   * Test the getMembersByName and getMembersByNameCount methods retrieving the members found in chunks.
+   */
+  @Test
+  public void testGetMembersByName_Chunked() {
+    DataSource dataSource = createTestDataSource();
+
+    NameSearchIndex nameIndex = new NameSearchIndex(dataSource);
+    nameIndex.setStatementDialect(StatementDialect.HSQLDB);
+    nameIndex.rebuild();
+
+    MemberRepositoryJdbc chunkingRepo = new MemberRepositoryJdbc(dataSource, personRepo, memberTypeRepo,
+        mock(CountryRepository.class), mock(ContactRepository.class), nameIndex, 1);
+    chunkingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    List<Member> members = repo.getMembersByName("dori", Status.ACTIVE, 0, 5);
+    List<Member> chunkedMembers = chunkingRepo.getMembersByName("dori", Status.ACTIVE, 0, 5);
+    assertEquals("Ensure we found the same members.", getMemberUIDs(members), getMemberUIDs(chunkedMembers));
+
+    // members 6 and 7 have the same name, so they are ordered by their id
+    List<Member> allMembers = repo.getMembersByName("dori", Status.ALL, 0, 5);
+    assertEquals("Ensure members with the same name are ordered by id.", Arrays.asList(3L, 2L, 6L, 7L),
+        getMemberUIDs(allMembers));
+    assertEquals("Ensure we found the same members.", getMemberUIDs(allMembers),
+        getMemberUIDs(chunkingRepo.getMembersByName("dori", Status.ALL, 0, 5)));
+
+    List<Member> page = chunkingRepo.getMembersByName("dori", Status.ACTIVE, 1, 1);
+    assertEquals("Ensure we found the correct page.", 1, page.size());
+    assertEquals("Ensure we found the correct page.", members.get(1).getMemberName(), page.get(0).getMemberName());
+
+    assertEquals("Ensure the members of every chunk were counted.", 3,
+        chunkingRepo.getMembersByNameCount("dori", Status.ACTIVE));
+    assertTrue("Ensure a page past the end is empty.", chunkingRepo.getMembersByName("dori", Status.ACTIVE, 5, 5)
+        .isEmpty());
+  }
+
+  private static List<Long> getMemberUIDs(List<Member> members) {
+    List<Long> memberUIDs = new ArrayList<>(members.size());
+    for (Member member : members) {
+      memberUIDs.add(member.getMemberUID());
+    }
+
+    return memberUIDs;
+  }
 }
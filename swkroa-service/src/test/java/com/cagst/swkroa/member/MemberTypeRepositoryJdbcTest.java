@@ -12,6 +12,7 @@ import java.util.List;
 import com.cagst.swkroa.internal.StatementDialect;
 import com.cagst.swkroa.test.BaseTestRepository;
 import com.cagst.swkroa.user.User;
+import com.google.common.collect.Ordering;
 import org.joda.time.DateTime;
 import org.junit.Before;
 import org.junit.Test;
@@ -108,6 +109,30 @@ public class MemberTypeRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure we found the correct MemberType.", MemberType.ASSOCIATE, type.getMemberTypeMeaning());
   }
 
+  /**
+   * Test the getMemberTypeAsOf method and finding the version in effect.
+   */
+  @Test
+  public void testGetMemberTypeAsOf_Found() {
+    MemberType type2012 = repo.getMemberTypeAsOf(2L, new DateTime(2012, 6, 1, 0, 0));
+    assertEquals("Ensure we found the version in effect.", 2L, type2012.getMemberTypeUID());
+
+    MemberType type2014 = repo.getMemberTypeAsOf(2L, new DateTime(2014, 6, 1, 0, 0));
+    assertEquals("Ensure we found the version in effect.", 3L, type2014.getMemberTypeUID());
+    assertTrue("Ensure we found the version in effect.", type2014.getDuesAmount().compareTo(new BigDecimal(85)) == 0);
+
+    MemberType type2005 = repo.getMemberTypeAsOf(3L, new DateTime(2005, 6, 1, 0, 0));
+    assertEquals("Ensure we found the version in effect.", 2L, type2005.getMemberTypeUID());
+  }
+
+  /**
+   * Test the getMemberTypeAsOf method when no version of the MemberType is in effect.
+   */
+  @Test(expected = EmptyResultDataAccessException.class)
+  public void testGetMemberTypeAsOf_NotFound() {
+    repo.getMemberTypeAsOf(8L, new DateTime(2014, 6, 1, 0, 0));
+  }
+
   /**
    * Test the getActiveMemberTypes method.
    */
@@ -132,6 +157,7 @@ public class MemberTypeRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure we have a collection of MemberTypes.", types);
     assertFalse("Ensure our collection is populated.", types.isEmpty());
     assertEquals("Ensure we found the correct number of MemberTypes.", 7, types.size());
+    assertTrue("Ensure the MemberTypes are sorted.", Ordering.natural().isOrdered(types));
   }
 
   /**
@@ -146,6 +172,8 @@ public class MemberTypeRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure we have a collection of MemberTypes.", types);
     assertFalse("Ensure our collection is populated.", types.isEmpty());
     assertEquals("Ensure we found the correct number of MemberTypes.", 2, types.size());
+    assertTrue("Ensure the MemberTypes are in the order they began.",
+        !types.get(0).getBeginEffectiveDate().isAfter(types.get(1).getBeginEffectiveDate()));
   }
 
   /**
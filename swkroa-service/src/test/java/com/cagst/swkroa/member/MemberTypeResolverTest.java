@@ -0,0 +1,111 @@
+package com.cagst.swkroa.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link MemberTypeResolver} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class MemberTypeResolverTest {
+  private MemberTypeResolver resolver;
+
+  @Before
+  public void setUp() {
+    resolver = new MemberTypeResolver(Lists.newArrayList(
+        createMemberType(1L, 1L, "REGULAR", new DateTime(2000, 1, 1, 0, 0), new DateTime(2009, 12, 31, 0, 0), true),
+        createMemberType(2L, 1L, "REGULAR", new DateTime(2010, 1, 1, 0, 0), new DateTime(2014, 12, 31, 0, 0), true),
+        createMemberType(3L, 1L, "REGULAR", new DateTime(2015, 1, 1, 0, 0), null, true),
+        // a long running member type that overlaps every version of REGULAR
+        createMemberType(4L, 4L, "ASSOCIATE", new DateTime(2001, 1, 1, 0, 0), null, true),
+        createMemberType(5L, 5L, "RETIRED", new DateTime(2000, 1, 1, 0, 0), new DateTime(2012, 12, 31, 0, 0), false)));
+  }
+
+  /**
+   * Test the getVersionsAsOf method resolves the version in effect from any version of the member type.
+   */
+  @Test
+  public void testGetVersionsAsOf() {
+    assertVersion(1L, resolver.getVersionsAsOf(3L, new DateTime(2005, 6, 1, 0, 0)));
+    assertVersion(2L, resolver.getVersionsAsOf(1L, new DateTime(2012, 6, 1, 0, 0)));
+    assertVersion(3L, resolver.getVersionsAsOf(2L, new DateTime(2020, 6, 1, 0, 0)));
+    assertVersion(4L, resolver.getVersionsAsOf(4L, new DateTime(2020, 6, 1, 0, 0)));
+
+    assertTrue("Ensure an inactive member type has no versions.",
+        resolver.getVersionsAsOf(5L, new DateTime(2005, 6, 1, 0, 0)).isEmpty());
+    assertTrue("Ensure nothing is in effect before the first version.",
+        resolver.getVersionsAsOf(1L, new DateTime(1999, 6, 1, 0, 0)).isEmpty());
+    assertTrue("Ensure an unknown member type has no versions.",
+        resolver.getVersionsAsOf(99L, new DateTime(2005, 6, 1, 0, 0)).isEmpty());
+  }
+
+  /**
+   * Test the getVersionsAsOf method on the first and last days a version is in effect.
+   */
+  @Test
+  public void testGetVersionsAsOf_Boundaries() {
+    assertVersion(2L, resolver.getVersionsAsOf(1L, new DateTime(2010, 1, 1, 0, 0)));
+    assertVersion(2L, resolver.getVersionsAsOf(1L, new DateTime(2014, 12, 31, 0, 0)));
+    assertVersion(3L, resolver.getVersionsAsOf(1L, new DateTime(2015, 1, 1, 0, 0)));
+  }
+
+  /**
+   * Test the getActiveMemberTypesAsOf method finds the overlapping member types.
+   */
+  @Test
+  public void testGetActiveMemberTypesAsOf() {
+    List<MemberType> types = resolver.getActiveMemberTypesAsOf(new DateTime(2012, 6, 1, 0, 0));
+    assertEquals("Ensure we found the correct number of MemberTypes.", 2, types.size());
+    assertEquals("Ensure they are in the order they began.", 4L, types.get(0).getMemberTypeUID());
+    assertEquals("Ensure they are in the order they began.", 2L, types.get(1).getMemberTypeUID());
+
+    assertEquals("Ensure we found the correct number of MemberTypes.", 1,
+        resolver.getActiveMemberTypesAsOf(new DateTime(2000, 6, 1, 0, 0)).size());
+  }
+
+  /**
+   * Test the getMemberTypesByMeaningAsOf method includes inactive member types.
+   */
+  @Test
+  public void testGetMemberTypesByMeaningAsOf() {
+    assertVersion(5L, resolver.getMemberTypesByMeaningAsOf("RETIRED", new DateTime(2005, 6, 1, 0, 0)));
+    assertTrue("Ensure we did not find a MemberType.",
+        resolver.getMemberTypesByMeaningAsOf("UNKNOWN", new DateTime(2005, 6, 1, 0, 0)).isEmpty());
+  }
+
+  private static void assertVersion(final long expectedUID, final List<MemberType> types) {
+    assertEquals("Ensure we found one MemberType.", 1, types.size());
+    assertEquals("Ensure we found the correct MemberType.", expectedUID, types.get(0).getMemberTypeUID());
+  }
+
+  private static MemberType createMemberType(final long uid,
+                                             final long prevUID,
+                                             final String meaning,
+                                             final DateTime beginDate,
+                                             final DateTime endDate,
+                                             final boolean active) {
+
+    MemberType type = new MemberType();
+    type.setMemberTypeUID(uid);
+    type.setPreviousMemberTypeUID(prevUID);
+    type.setMemberTypeMeaning(meaning);
+    type.setDuesAmount(BigDecimal.TEN);
+    type.setBeginEffectiveDate(beginDate);
+    type.setEndEffectiveDate(endDate);
+    type.setActive(active);
+
+    return type;
+  }
+}
@@ -0,0 +1,36 @@
+package com.cagst.swkroa.member;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link MembershipCursor} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class MembershipCursorTest {
+  /**
+   * Test the encode and decode methods.
+   */
+  @Test
+  public void testDecode() {
+    MembershipCursor cursor = new MembershipCursor("Gaskill, Craig: Jr.", 42L);
+
+    MembershipCursor decoded = MembershipCursor.decode(cursor.encode());
+    assertEquals("Ensure the cursor was restored", cursor, decoded);
+    assertEquals("Ensure the name was restored", "Gaskill, Craig: Jr.", decoded.getMembershipName());
+    assertEquals("Ensure the id was restored", 42L, decoded.getMembershipUID());
+  }
+
+  /**
+   * Test the decode method with an invalid cursor.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecode_Invalid() {
+    MembershipCursor.decode("bm90LWEtY3Vyc29y");
+  }
+}
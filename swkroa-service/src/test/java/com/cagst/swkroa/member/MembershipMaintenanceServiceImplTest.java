@@ -0,0 +1,127 @@
+package com.cagst.swkroa.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.cagst.swkroa.contact.ContactRepository;
+import com.cagst.swkroa.user.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Test class for the {@link MembershipMaintenanceServiceImpl} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class MembershipMaintenanceServiceImplTest {
+  private MembershipRepository membershipRepo;
+  private ContactRepository contactRepo;
+  private MembershipMaintenanceServiceImpl service;
+
+  private User user;
+
+  @Before
+  public void setUp() {
+    user = new User();
+    user.setUserUID(1L);
+
+    membershipRepo = mock(MembershipRepository.class);
+    contactRepo = mock(ContactRepository.class);
+
+    service = new MembershipMaintenanceServiceImpl(membershipRepo, mock(MemberRepository.class), contactRepo, 2);
+  }
+
+  /**
+   * Test the updateNextDueDates method updates the memberships in chunks and reports every outcome.
+   */
+  @Test
+  public void testUpdateNextDueDates_Chunked() {
+    when(membershipRepo.updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user)))
+        .thenAnswer(MembershipMaintenanceServiceImplTest::updateAll);
+
+    BulkUpdateResult result = service.updateNextDueDates(createVersions(5), user);
+
+    verify(membershipRepo, times(3)).updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user));
+    assertEquals("Ensure every membership was updated.", 5, result.getUpdatedCount());
+    assertEquals("Ensure the outcomes are in the order requested.", Arrays.asList(1L, 2L, 3L, 4L, 5L),
+        Arrays.asList(result.getOutcomes().keySet().toArray()));
+  }
+
+  /**
+   * Test the updateNextDueDates method retries a chunk that was modified concurrently.
+   */
+  @Test
+  public void testUpdateNextDueDates_Retried() {
+    when(membershipRepo.updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user)))
+        .thenThrow(new OptimisticLockingFailureException("Modified"))
+        .thenAnswer(MembershipMaintenanceServiceImplTest::updateAll);
+
+    BulkUpdateResult result = service.updateNextDueDates(createVersions(2), user);
+
+    verify(membershipRepo, times(2)).updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user));
+    assertEquals("Ensure every membership was updated.", 2, result.getUpdatedCount());
+  }
+
+  /**
+   * Test the updateNextDueDates method reports a chunk that is continually modified as stale.
+   */
+  @Test
+  public void testUpdateNextDueDates_Stale() {
+    when(membershipRepo.updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user)))
+        .thenThrow(new OptimisticLockingFailureException("Modified"));
+
+    BulkUpdateResult result = service.updateNextDueDates(createVersions(2), user);
+
+    verify(membershipRepo, times(3)).updateNextDueDates(anyMapOf(Long.class, Long.class), eq(user));
+    assertEquals("Ensure no membership was updated.", 0, result.getUpdatedCount());
+    assertEquals("Ensure the memberships were reported as stale.", 2,
+        result.getUIDs(BulkUpdateResult.Outcome.STALE).size());
+  }
+
+  /**
+   * Test the deactivateContacts method deactivates the contacts in chunks.
+   */
+  @Test
+  public void testDeactivateContacts() {
+    when(contactRepo.deactivateContactsForMembers(any(), eq(user))).thenReturn(3);
+
+    int cnt = service.deactivateContacts(Arrays.asList(1L, 2L, 3L), user);
+
+    verify(contactRepo, times(2)).deactivateContactsForMembers(any(), eq(user));
+    assertEquals("Ensure the contacts of every chunk were counted.", 6, cnt);
+  }
+
+  private static Map<Long, Long> createVersions(final int count) {
+    Map<Long, Long> versions = new LinkedHashMap<>();
+    for (long uid = 1; uid <= count; uid++) {
+      versions.put(uid, 0L);
+    }
+
+    return versions;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BulkUpdateResult updateAll(final InvocationOnMock invocation) {
+    BulkUpdateResult result = new BulkUpdateResult();
+    for (Long uid : ((Map<Long, Long>) invocation.getArguments()[0]).keySet()) {
+      result.put(uid, BulkUpdateResult.Outcome.UPDATED);
+    }
+
+    return result;
+  }
+}
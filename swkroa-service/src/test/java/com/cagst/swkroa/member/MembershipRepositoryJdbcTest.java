@@ -3,18 +3,26 @@ package com.cagst.swkroa.member;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.cagst.swkroa.codevalue.CodeValue;
 import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.test.BaseTestRepository;
 import com.cagst.swkroa.user.User;
 import com.google.common.collect.Sets;
@@ -77,7 +85,13 @@ public class MembershipRepositoryJdbcTest extends BaseTestRepository {
 
     when(memberTypeRepo.getMemberTypeByUID(anyLong())).thenReturn(new MemberType());
 
-    repo = new MembershipRepositoryJdbc(createTestDataSource(), memberRepo, codeValueRepo, memberTypeRepo);
+    DataSource dataSource = createTestDataSource();
+
+    NameSearchIndex nameIndex = new NameSearchIndex(dataSource);
+    nameIndex.setStatementDialect(StatementDialect.HSQLDB);
+    nameIndex.rebuild();
+
+    repo = new MembershipRepositoryJdbc(dataSource, memberRepo, codeValueRepo, memberTypeRepo, nameIndex);
     repo.setStatementDialect(StatementDialect.HSQLDB);
   }
 
@@ -151,6 +165,49 @@ public class MembershipRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure we found the correct number of memberships!", 2, memberships.size());
   }
 
+  /**
+   * Test the getMemberships method retrieving the memberships a page at a time.
+   */
+  @Test
+  public void testGetMemberships_Paged() {
+    List<Membership> page1 = new ArrayList<>();
+    MembershipCursor cursor1 = repo.getMemberships(Status.ACTIVE, MembershipBalance.ALL, null, 3, page1::add);
+    assertNotNull("Ensure there is another page", cursor1);
+    assertEquals("Ensure we retrieved a full page", 3, page1.size());
+    assertEquals("Ensure the cursor is the last membership of the page",
+        page1.get(2).getMembershipUID(), cursor1.getMembershipUID());
+
+    List<Membership> page2 = new ArrayList<>();
+    MembershipCursor cursor2 = repo.getMemberships(Status.ACTIVE, MembershipBalance.ALL, cursor1, 3, page2::add);
+    assertNull("Ensure this was the last page", cursor2);
+    assertEquals("Ensure we retrieved the remaining memberships", 1, page2.size());
+
+    List<Membership> memberships = new ArrayList<>(page1);
+    memberships.addAll(page2);
+    for (int idx = 1; idx < memberships.size(); idx++) {
+      assertTrue("Ensure the memberships are ordered by name",
+          memberships.get(idx - 1).getMembershipName().compareTo(memberships.get(idx).getMembershipName()) <= 0);
+    }
+
+    Set<Long> membershipIds = new HashSet<>();
+    for (Membership membership : memberships) {
+      membershipIds.add(membership.getMembershipUID());
+    }
+    assertEquals("Ensure no membership was repeated", 4, membershipIds.size());
+  }
+
+  /**
+   * Test the getMemberships method when the last page is exactly full.
+   */
+  @Test
+  public void testGetMemberships_PagedExact() {
+    List<Membership> memberships = new ArrayList<>();
+    MembershipCursor cursor = repo.getMemberships(Status.ACTIVE, MembershipBalance.ALL, null, 4, memberships::add);
+
+    assertNull("Ensure there isn't another page", cursor);
+    assertEquals("Ensure we retrieved all of the memberships", 4, memberships.size());
+  }
+
   /**
    * Test the getMembershipsDueInXDays and not finding any.
    */
@@ -318,4 +375,83 @@ public class MembershipRepositoryJdbcTest extends BaseTestRepository {
     assertNotNull("Ensure we found the membership", membership);
     assertEquals("Ensure the next due date was updated correctly", "01/23/2015", membership.getNextDueDate().toString("MM/dd/yyyy"));
   }
+
+  /**
+   * Test the updateNextDueDates method.
+   */
+  @Test
+  public void testUpdateNextDueDates() {
+    int updatedMemberships = repo.updateNextDueDates(Sets.newHashSet(1L, 2L), user);
+    assertEquals("Ensure the correct number of memberships were updated", 2, updatedMemberships);
+
+    Membership membership = repo.getMembershipByUID(1L);
+
+    assertNotNull("Ensure we found the membership", membership);
+    assertEquals("Ensure the next due date was updated correctly", "01/23/2015", membership.getNextDueDate().toString("MM/dd/yyyy"));
+  }
+
+  /**
+   * Test the closeMemberships method with the versions of the memberships.
+   */
+  @Test
+  public void testCloseMemberships_Versions() {
+    Map<Long, Long> versions = new LinkedHashMap<>();
+    versions.put(1L, 0L);
+    versions.put(2L, 5L);
+    versions.put(5L, 0L);
+    versions.put(999L, 0L);
+
+    BulkUpdateResult result = repo.closeMemberships(versions, closeReason, null, user);
+
+    assertEquals("Ensure the current membership was closed.", BulkUpdateResult.Outcome.UPDATED, result.getOutcome(1L));
+    assertEquals("Ensure the stale membership was not closed.", BulkUpdateResult.Outcome.STALE, result.getOutcome(2L));
+    assertEquals("Ensure the closed membership was not found.", BulkUpdateResult.Outcome.NOT_FOUND, result.getOutcome(5L));
+    assertEquals("Ensure the unknown membership was not found.", BulkUpdateResult.Outcome.NOT_FOUND, result.getOutcome(999L));
+    assertEquals("Ensure the correct number of memberships were closed", 1, result.getUpdatedCount());
+
+    BulkUpdateResult again = repo.closeMemberships(Collections.singletonMap(1L, 1L), closeReason, null, user);
+    assertEquals("Ensure the membership is no longer active.", BulkUpdateResult.Outcome.NOT_FOUND, again.getOutcome(1L));
+  }
+
+  /**
+   * Test the updateNextDueDates method with the versions of the memberships.
+   */
+  @Test
+  public void testUpdateNextDueDates_Versions() {
+    Map<Long, Long> versions = new LinkedHashMap<>();
+    versions.put(1L, 0L);
+    versions.put(2L, 3L);
+
+    BulkUpdateResult result = repo.updateNextDueDates(versions, user);
+    assertEquals("Ensure the correct memberships were updated", Collections.singleton(1L),
+        result.getUIDs(BulkUpdateResult.Outcome.UPDATED));
+    assertEquals("Ensure the stale membership was reported", Collections.singleton(2L),
+        result.getUIDs(BulkUpdateResult.Outcome.STALE));
+
+    Membership membership = repo.getMembershipByUID(1L);
+    assertEquals("Ensure the next due date was updated correctly", "01/23/2015", membership.getNextDueDate().toString("MM/dd/yyyy"));
+    assertEquals("Ensure the version was incremented", 1L, membership.getMembershipUpdateCount());
+
+    Membership unchanged = repo.getMembershipByUID(2L);
+    assertEquals("Ensure the next due date was not updated", "01/23/2015", unchanged.getNextDueDate().toString("MM/dd/yyyy"));
+  }
+
+  /**
+   * Test the getMembershipsByName method retrieving the memberships found in chunks.
+   */
+  @Test
+  public void testGetMembershipsByName_Chunked() {
+    DataSource dataSource = createTestDataSource();
+
+    NameSearchIndex nameIndex = new NameSearchIndex(dataSource);
+    nameIndex.setStatementDialect(StatementDialect.HSQLDB);
+    nameIndex.rebuild();
+
+    MembershipRepositoryJdbc chunkingRepo = new MembershipRepositoryJdbc(dataSource, mock(MemberRepository.class),
+        codeValueRepo, mock(MemberTypeRepository.class), nameIndex, 1);
+    chunkingRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    List<Membership> memberships = chunkingRepo.getMembershipsByName("dori", Status.ACTIVE, MembershipBalance.ALL);
+    assertEquals("Ensure the memberships of every chunk were found.", 2, memberships.size());
+  }
 }
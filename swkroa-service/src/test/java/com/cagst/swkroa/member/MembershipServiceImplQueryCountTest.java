@@ -0,0 +1,149 @@
+package com.cagst.swkroa.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.cagst.swkroa.LoadingPolicy;
+import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.comment.CommentRepository;
+import com.cagst.swkroa.contact.ContactRepositoryJdbc;
+import com.cagst.swkroa.country.CountryRepository;
+import com.cagst.swkroa.document.DocumentRepository;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.job.JobScheduler;
+import com.cagst.swkroa.person.PersonRepositoryJdbc;
+import com.cagst.swkroa.search.NameSearchIndex;
+import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
+import com.cagst.swkroa.transaction.InvoiceSettlementRepositoryJdbc;
+import com.cagst.swkroa.transaction.MembershipBalanceRepositoryJdbc;
+import com.cagst.swkroa.transaction.TransactionRepositoryJdbc;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Test class that pins the number of queries the {@link MembershipServiceImpl} uses to load a membership graph.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class MembershipServiceImplQueryCountTest extends BaseTestRepository {
+  /**
+   * One query each for the membership, members (along with their persons), addresses, phone numbers, email addresses,
+   * counties, and transactions (comments and documents are a single query per membership and are mocked out here).
+   */
+  private static final int GRAPH_QUERY_BUDGET = 7;
+
+  private QueryCountingDataSource dataSource;
+  private MembershipServiceImpl service;
+
+  @Before
+  public void setUp() {
+    dataSource = new QueryCountingDataSource(createTestDataSource());
+
+    // reference data is served from memory in production, so it is not part of the budget
+    CodeValueRepository codeValueRepo = mock(CodeValueRepository.class);
+    CountryRepository countryRepo = mock(CountryRepository.class);
+    MemberTypeRepository memberTypeRepo = mock(MemberTypeRepository.class);
+    when(memberTypeRepo.getMemberTypeByUID(anyLong())).thenReturn(new MemberType());
+
+    // the index isn't rebuilt, it doesn't take part in retrieving a membership
+    NameSearchIndex nameIndex = new NameSearchIndex(dataSource);
+
+    PersonRepositoryJdbc personRepo = new PersonRepositoryJdbc(dataSource, nameIndex);
+    personRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    ContactRepositoryJdbc contactRepo = new ContactRepositoryJdbc(dataSource);
+    contactRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    MemberRepositoryJdbc memberRepo = new MemberRepositoryJdbc(dataSource, personRepo, memberTypeRepo, countryRepo, contactRepo, nameIndex);
+    memberRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    MembershipRepositoryJdbc membershipRepo = new MembershipRepositoryJdbc(dataSource, memberRepo, codeValueRepo, memberTypeRepo, nameIndex);
+    membershipRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    TransactionRepositoryJdbc transactionRepo = new TransactionRepositoryJdbc(dataSource, codeValueRepo,
+        new MembershipBalanceRepositoryJdbc(dataSource), new InvoiceSettlementRepositoryJdbc(dataSource));
+    transactionRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    service = new MembershipServiceImpl(
+        membershipRepo,
+        memberRepo,
+        contactRepo,
+        mock(CommentRepository.class),
+        transactionRepo,
+        mock(DocumentRepository.class),
+        mock(JobScheduler.class));
+  }
+
+  /**
+   * Test the getMembershipByUID method loads the entire graph within the query budget.
+   */
+  @Test
+  public void testGetMembershipByUID_QueryBudget() {
+    dataSource.reset();
+
+    Membership membership = service.getMembershipByUID(2L, LoadingPolicy.ALL);
+    assertNotNull("Ensure the membership was found.", membership);
+    assertEquals("Ensure we found the correct number of members.", 2, membership.getMembers().size());
+    assertTrue("Ensure the query count is within budget.", dataSource.getCount() <= GRAPH_QUERY_BUDGET);
+  }
+
+  /**
+   * Test the getMembershipByUID method uses the same number of queries regardless of the number of members.
+   */
+  @Test
+  public void testGetMembershipByUID_QueriesIndependentOfMemberCount() {
+    dataSource.reset();
+    service.getMembershipByUID(2L, LoadingPolicy.ALL);
+    int twoMemberCount = dataSource.getCount();
+
+    addFamilyMembers(2L, 6);
+
+    dataSource.reset();
+    Membership membership = service.getMembershipByUID(2L, LoadingPolicy.ALL);
+    int eightMemberCount = dataSource.getCount();
+
+    assertEquals("Ensure we found the correct number of members.", 8, membership.getMembers().size());
+    for (Member member : membership.getMembers()) {
+      assertNotNull("Ensure the person was loaded.", member.getPerson());
+      assertEquals("Ensure the member addresses were loaded.", 1, member.getAddresses().size());
+      assertEquals("Ensure the member phone numbers were loaded.", 1, member.getPhoneNumbers().size());
+      assertEquals("Ensure the member email addresses were loaded.", 1, member.getEmailAddresses().size());
+    }
+
+    assertEquals("Ensure the query count does not grow with the number of members.", twoMemberCount, eightMemberCount);
+    assertTrue("Ensure the query count is within budget.", eightMemberCount <= GRAPH_QUERY_BUDGET);
+  }
+
+  private void addFamilyMembers(long membershipId, int count) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    // members 2 and 3 already belong to the membership but only member 2 has contacts
+    jdbcTemplate.update("INSERT INTO address (parent_entity_id, parent_entity_name, address_type_cd, address1, city, state_code, postal_code, country_code, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (3, 'MEMBER', 1, '107 S Washington', 'Hugoton', 'KS', '67951', 'US', 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)");
+    jdbcTemplate.update("INSERT INTO phone (parent_entity_id, parent_entity_name, phone_type_cd, phone_number, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (3, 'MEMBER', 1, '6205442087', 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)");
+    jdbcTemplate.update("INSERT INTO email (parent_entity_id, parent_entity_name, email_type_cd, email_address, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (3, 'MEMBER', 1, 'doris@doright.com', 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)");
+
+    for (int idx = 0; idx < count; idx++) {
+      long id = 100L + idx;
+
+      jdbcTemplate.update("INSERT INTO person (person_id, name_last, name_last_key, name_first, name_first_key, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (?, 'Doright', 'DORIGHT', ?, ?, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0)",
+          id, "Child" + idx, "CHILD" + idx);
+      jdbcTemplate.update("INSERT INTO member (member_id, person_id, membership_id, owner_ident, member_type_id, join_dt, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (?, ?, ?, ?, 7, '2011-03-01', CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0)",
+          id, id, membershipId, "DORCHI" + idx);
+      jdbcTemplate.update("INSERT INTO address (parent_entity_id, parent_entity_name, address_type_cd, address1, city, state_code, postal_code, country_code, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (?, 'MEMBER', 1, '107 S Washington', 'Hugoton', 'KS', '67951', 'US', 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)",
+          id);
+      jdbcTemplate.update("INSERT INTO phone (parent_entity_id, parent_entity_name, phone_type_cd, phone_number, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (?, 'MEMBER', 1, '6205442087', 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)",
+          id);
+      jdbcTemplate.update("INSERT INTO email (parent_entity_id, parent_entity_name, email_type_cd, email_address, create_id, create_dt_tm, updt_id, updt_dt_tm) VALUES (?, 'MEMBER', 1, ?, 1, CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP)",
+          id, "child" + idx + "@doright.com");
+    }
+  }
+}
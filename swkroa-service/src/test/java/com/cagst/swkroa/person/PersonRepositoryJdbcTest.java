@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 import javax.sql.DataSource;
 
 import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.search.NameSearchIndex;
 import com.cagst.swkroa.test.BaseTestRepository;
 import com.cagst.swkroa.user.User;
 import org.junit.Before;
@@ -34,7 +35,7 @@ public class PersonRepositoryJdbcTest extends BaseTestRepository {
 
     DataSource dataSource = createTestDataSource();
 
-    repo = new PersonRepositoryJdbc(dataSource);
+    repo = new PersonRepositoryJdbc(dataSource, new NameSearchIndex(dataSource));
     repo.setStatementDialect(StatementDialect.HSQLDB);
   }
 
@@ -0,0 +1,111 @@
+package com.cagst.swkroa.report;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.cagst.swkroa.report.jasper.JasperReportLoader;
+import com.cagst.swkroa.test.BaseTestRepository;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRPrintPage;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.base.JRBasePrintPage;
+import net.sf.jasperreports.engine.base.JRBasePrintText;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the {@link ReportServiceImpl} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class ReportServiceImplTest extends BaseTestRepository {
+  private ReportServiceImpl reportService;
+
+  @Before
+  public void setUp() {
+    reportService = new ReportServiceImpl(createTestDataSource());
+  }
+
+  /**
+   * Test the getReport method loading each template only once.
+   */
+  @Test
+  public void testGetReport_Cached() throws Exception {
+    JasperReport report = reportService.getReport(JasperReportLoader.MEMBER_EMAILLIST_CSV);
+    assertNotNull("Ensure the report was loaded", report);
+    assertSame("Ensure the loaded report was cached", report, reportService.getReport(JasperReportLoader.MEMBER_EMAILLIST_CSV));
+  }
+
+  /**
+   * Test the getReport method and not finding the template.
+   */
+  @Test(expected = JRException.class)
+  public void testGetReport_NotFound() throws Exception {
+    reportService.getReport("Unknown.jasper");
+  }
+
+  /**
+   * Test the exportReport method recording a failure for a missing template.
+   */
+  @Test
+  public void testExportReport_Failed() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    try {
+      reportService.exportReport("Unknown.jasper", ReportFormat.PDF, new HashMap<>(), output);
+      fail("Ensure the failure was reported");
+    } catch (Exception ex) {
+      assertTrue("Ensure the failure was reported", ex instanceof JRException);
+    }
+
+    assertEquals("Ensure nothing was written to the stream", 0, output.size());
+    assertEquals("Ensure the failure was counted", 1L, reportService.getStatistics().get("Unknown.jasper").getFailureCount());
+  }
+
+  /**
+   * Test the getEntityPageRanges method splitting a report into the pages of each entity.
+   */
+  @Test
+  public void testGetEntityPageRanges() {
+    JasperPrint print = new JasperPrint();
+    print.addPage(createPage("10"));
+    print.addPage(createPage(null));
+    print.addPage(createPage("20"));
+    print.addPage(createPage("30"));
+    print.addPage(createPage(null));
+    print.addPage(createPage(null));
+
+    Map<Long, int[]> pageRanges = ReportServiceImpl.getEntityPageRanges(print);
+    assertEquals("Ensure we found each entity", Arrays.asList(10L, 20L, 30L), new ArrayList<>(pageRanges.keySet()));
+    assertArrayEquals("Ensure the first entity has 2 pages", new int[] {0, 1}, pageRanges.get(10L));
+    assertArrayEquals("Ensure the second entity has 1 page", new int[] {2, 2}, pageRanges.get(20L));
+    assertArrayEquals("Ensure the third entity has 3 pages", new int[] {3, 5}, pageRanges.get(30L));
+  }
+
+  private JRPrintPage createPage(String entityId) {
+    JRBasePrintText text = new JRBasePrintText(null);
+    if (entityId != null) {
+      text.getPropertiesMap().setProperty(ReportService.ENTITY_ID_PROPERTY, entityId);
+    }
+
+    JRBasePrintPage page = new JRBasePrintPage();
+    page.addElement(new JRBasePrintText(null));
+    page.addElement(text);
+
+    return page;
+  }
+}
@@ -0,0 +1,134 @@
+package com.cagst.swkroa.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.sql.DataSource;
+
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.member.Member;
+import com.cagst.swkroa.person.Person;
+import com.cagst.swkroa.test.BaseTestRepository;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Test class for the {@link NameSearchIndex} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class NameSearchIndexTest extends BaseTestRepository {
+  private DataSource dataSource;
+  private NameSearchIndex index;
+
+  @Before
+  public void setUp() {
+    dataSource = createTestDataSource();
+
+    index = new NameSearchIndex(dataSource);
+    index.setStatementDialect(StatementDialect.HSQLDB);
+    index.rebuild();
+  }
+
+  /**
+   * Test the findMembers method and not finding any.
+   */
+  @Test
+  public void testFindMembers_NoneFound() {
+    assertTrue("Ensure no members were found.", index.findMembers("zzz").isEmpty());
+  }
+
+  /**
+   * Test the findMembers method by last name, first name and owner id.
+   */
+  @Test
+  public void testFindMembers_Found() {
+    assertEquals("Ensure we found the correct members.", Sets.newHashSet(2L, 3L, 6L, 7L), index.findMembers("dori"));
+    assertEquals("Ensure we found the correct members.", Sets.newHashSet(6L, 7L), index.findMembers("Reg"));
+    assertEquals("Ensure we found the correct members.", Sets.newHashSet(5L, 6L, 7L), index.findMembers("moumin"));
+  }
+
+  /**
+   * Test the findMemberships method.
+   */
+  @Test
+  public void testFindMemberships() {
+    assertEquals("Ensure we found the correct memberships.", Sets.newHashSet(2L, 4L), index.findMemberships("dori"));
+    assertTrue("Ensure no memberships were found.", index.findMemberships("zzz").isEmpty());
+  }
+
+  /**
+   * Test the indexMember method replaces the names previously indexed for the member.
+   */
+  @Test
+  public void testIndexMember() {
+    Person person = new Person();
+    person.setPersonUID(13L);
+    person.setLastName("Duck");
+    person.setFirstName("Donald");
+
+    Member member = new Member();
+    member.setMemberUID(4L);
+    member.setOwnerIdent("DUCDON0");
+    member.setCompanyName("Acme Inc.");
+    member.setPerson(person);
+
+    index.indexMember(member, 3L);
+
+    assertEquals("Ensure the old last name is no longer indexed.", Sets.newHashSet(5L), index.findMembers("mouse"));
+    assertEquals("Ensure the new last name is indexed.", Sets.newHashSet(4L), index.findMembers("duck"));
+    assertEquals("Ensure the owner id is indexed.", Sets.newHashSet(4L), index.findMembers("ducdon"));
+    assertEquals("Ensure the company name is indexed.", Sets.newHashSet(4L), index.findMembers("acme inc"));
+    assertEquals("Ensure the membership is found.", Sets.newHashSet(3L), index.findMemberships("donald"));
+  }
+
+  /**
+   * Test the indexPerson method re-indexes every member the person belongs to.
+   */
+  @Test
+  public void testIndexPerson() {
+    Person person = new Person();
+    person.setPersonUID(15L);
+    person.setLastName("Smith");
+    person.setFirstName("Regular");
+
+    index.indexPerson(person);
+
+    assertEquals("Ensure the old last name is no longer indexed.", Sets.newHashSet(2L, 3L), index.findMembers("doright"));
+    assertEquals("Ensure the new last name is indexed.", Sets.newHashSet(6L, 7L), index.findMembers("smith"));
+  }
+
+  /**
+   * Test the indexPerson method ignores a person that isn't a member.
+   */
+  @Test
+  public void testIndexPerson_NotMember() {
+    Person person = new Person();
+    person.setPersonUID(1L);
+    person.setLastName("Gaskill");
+    person.setFirstName("Craig");
+
+    index.indexPerson(person);
+
+    assertTrue("Ensure the person is not indexed.", index.findMembers("gaskill").isEmpty());
+  }
+
+  /**
+   * Test the rebuild method picks up the names changed directly within the database.
+   */
+  @Test
+  public void testRebuild() {
+    new JdbcTemplate(dataSource).update(
+        "UPDATE person SET name_last = 'Smith', name_last_key = 'SMITH' WHERE person_id = 15");
+    assertTrue("Ensure the change isn't indexed yet.", index.findMembers("smith").isEmpty());
+
+    index.rebuild();
+
+    assertEquals("Ensure the new last name is indexed.", Sets.newHashSet(6L, 7L), index.findMembers("smith"));
+  }
+}
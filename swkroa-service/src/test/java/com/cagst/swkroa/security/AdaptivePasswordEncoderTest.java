@@ -0,0 +1,100 @@
+package com.cagst.swkroa.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test class for the AdaptivePasswordEncoder class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class AdaptivePasswordEncoderTest {
+  /**
+   * Test the encode / matches methods.
+   */
+  @Test
+  public void testEncodeMatches() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(4);
+
+    String encoded = encoder.encode("password1");
+    assertTrue("Ensure the password was hashed with the strength.", encoded.startsWith("$2a$04$"));
+    assertTrue("Ensure the password matches.", encoder.matches("password1", encoded));
+    assertFalse("Ensure another password doesn't match.", encoder.matches("password2", encoded));
+  }
+
+  /**
+   * Test the matches method with a password hashed using another strength.
+   */
+  @Test
+  public void testMatches_OtherStrength() {
+    String encoded = new AdaptivePasswordEncoder(5).encode("password1");
+
+    assertTrue("Ensure the password matches.", new AdaptivePasswordEncoder(4).matches("password1", encoded));
+  }
+
+  /**
+   * Test the upgradeEncoding method.
+   */
+  @Test
+  public void testUpgradeEncoding() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5);
+
+    assertFalse("Ensure a hash of the same strength isn't upgraded.", encoder.upgradeEncoding(encoder.encode("password1")));
+    assertTrue("Ensure a weaker hash is upgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(4).encode("password1")));
+    assertFalse("Ensure a stronger hash isn't downgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(6).encode("password1")));
+    assertFalse("Ensure a non-BCrypt password isn't upgraded.", encoder.upgradeEncoding("password1"));
+    assertFalse("Ensure a missing password isn't upgraded.", encoder.upgradeEncoding(null));
+  }
+
+  /**
+   * Test the upgradeEncoding method with a minimum strength and a tolerance.
+   */
+  @Test
+  public void testUpgradeEncoding_Tolerance() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(6, 5, 1);
+
+    assertFalse("Ensure a slightly weaker hash isn't upgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(5).encode("password1")));
+    assertFalse("Ensure a slightly stronger hash isn't upgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(7).encode("password1")));
+    assertTrue("Ensure a hash below the minimum is upgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(4).encode("password1")));
+    assertFalse("Ensure a much stronger hash isn't downgraded.", encoder.upgradeEncoding(new AdaptivePasswordEncoder(8).encode("password1")));
+    assertTrue("Ensure a hash weaker than the tolerance is upgraded.", new AdaptivePasswordEncoder(7, 5, 1).upgradeEncoding(new AdaptivePasswordEncoder(5).encode("password1")));
+  }
+
+  /**
+   * Test the upgradeEncoding method keeps a hash made with a higher strength than the calibrated one (the defaults of
+   * a minimum strength of 10 and a tolerance of 1).
+   */
+  @Test
+  public void testUpgradeEncoding_Stronger() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(10, 10, 1);
+
+    String encoded = new AdaptivePasswordEncoder(12).encode("password1");
+    assertTrue("Ensure the password was hashed with a cost of 12.", encoded.startsWith("$2a$12$"));
+    assertFalse("Ensure a cost 12 hash isn't re-encoded.", encoder.upgradeEncoding(encoded));
+    assertTrue("Ensure the password still matches.", encoder.matches("password1", encoded));
+  }
+
+  /**
+   * Test the calibrate method stays within the strength bounds.
+   */
+  @Test
+  public void testCalibrate() {
+    assertEquals("Ensure the minimum strength is used for an unreachable target.", 4, AdaptivePasswordEncoder.calibrate(0L, 4, 6));
+    assertEquals("Ensure the maximum strength is used for a generous target.", 6, AdaptivePasswordEncoder.calibrate(60000L, 4, 6));
+    assertEquals("Ensure the encoder uses the calibrated strength.", 5, AdaptivePasswordEncoder.calibrated(60000L, 4, 5, 1).getStrength());
+  }
+
+  /**
+   * Test the constructor with an invalid strength.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidStrength() {
+    new AdaptivePasswordEncoder(3);
+  }
+}
@@ -0,0 +1,137 @@
+package com.cagst.swkroa.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Test class for the PasswordHashingServiceImpl class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class PasswordHashingServiceImplTest {
+  private PasswordHashingServiceImpl service;
+
+  @After
+  public void tearDown() {
+    service.shutdown();
+  }
+
+  /**
+   * Test the encode / matches methods.
+   */
+  @Test
+  public void testEncodeMatches() {
+    service = new PasswordHashingServiceImpl(new AdaptivePasswordEncoder(4), 0, 4);
+
+    String encoded = service.encode("password1");
+    assertTrue("Ensure the password matches.", service.matches("password1", encoded));
+    assertFalse("Ensure another password doesn't match.", service.matches("password2", encoded));
+
+    PasswordHashingStatistics stats = service.getStatistics();
+    assertEquals("Ensure every hash was recorded.", 3, stats.getHashCount());
+    assertEquals("Ensure nothing was rejected.", 0, stats.getRejectedCount());
+    assertEquals("Ensure nothing is waiting.", 0, stats.getQueueDepth());
+  }
+
+  /**
+   * Test the encodeAll method.
+   */
+  @Test
+  public void testEncodeAll() {
+    service = new PasswordHashingServiceImpl(new AdaptivePasswordEncoder(4), 2, 4);
+
+    List<String> encoded = service.encodeAll(Arrays.asList("answer1", "answer2", "answer3"));
+    assertEquals("Ensure every answer was encoded.", 3, encoded.size());
+    assertTrue("Ensure the answers are in order.", service.matches("answer1", encoded.get(0)));
+    assertTrue("Ensure the answers are in order.", service.matches("answer2", encoded.get(1)));
+    assertTrue("Ensure the answers are in order.", service.matches("answer3", encoded.get(2)));
+  }
+
+  /**
+   * Test the encode method being rejected when too many passwords are waiting to be hashed.
+   */
+  @Test
+  public void testEncode_Rejected() throws Exception {
+    CountDownLatch hashing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    service = new PasswordHashingServiceImpl(new BlockingPasswordEncoder(hashing, release), 1, 1);
+
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      // the first password occupies the only thread, the second one the only spot in the queue
+      Future<String> first = callers.submit(() -> service.encode("password1"));
+      assertTrue("Ensure the first password is being hashed.", hashing.await(5, TimeUnit.SECONDS));
+
+      Future<String> second = callers.submit(() -> service.encode("password2"));
+      while (service.getStatistics().getQueueDepth() == 0) {
+        Thread.sleep(1);
+      }
+
+      try {
+        service.encode("password3");
+        fail("Ensure the third password is rejected.");
+      } catch (PasswordHashingRejectedException ex) {
+        assertTrue("Ensure a retry hint is given.", ex.getRetryAfterSeconds() >= 1);
+      }
+
+      release.countDown();
+      assertEquals("Ensure the first password was hashed.", "password1", first.get(5, TimeUnit.SECONDS));
+      assertEquals("Ensure the second password was hashed.", "password2", second.get(5, TimeUnit.SECONDS));
+
+      PasswordHashingStatistics stats = service.getStatistics();
+      assertEquals("Ensure the rejection was recorded.", 1, stats.getRejectedCount());
+      assertEquals("Ensure the hashes were recorded.", 2, stats.getHashCount());
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  /**
+   * A {@link PasswordEncoder} that doesn't hash until it is released.
+   */
+  private static final class BlockingPasswordEncoder implements PasswordEncoder {
+    private final CountDownLatch hashing;
+    private final CountDownLatch release;
+
+    private BlockingPasswordEncoder(final CountDownLatch hashing, final CountDownLatch release) {
+      this.hashing = hashing;
+      this.release = release;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+      hashing.countDown();
+
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
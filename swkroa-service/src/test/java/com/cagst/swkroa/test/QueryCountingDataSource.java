@@ -0,0 +1,81 @@
+package com.cagst.swkroa.test;
+
+import javax.sql.DataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A {@link DataSource} that counts the number of statements prepared / created against the underlying data source.
+ * Used to pin the number of round-trips a repository or service method makes to the database.
+ *
+ * @author Craig Gaskill
+ */
+public final class QueryCountingDataSource extends DelegatingDataSource {
+  private final AtomicInteger count = new AtomicInteger();
+
+  /**
+   * Primary Constructor used to create an instance of <i>QueryCountingDataSource</i>.
+   *
+   * @param dataSource
+   *     The {@link DataSource} to count statements against.
+   */
+  public QueryCountingDataSource(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  /**
+   * @return The number of statements that have been prepared / created since the last reset.
+   */
+  public int getCount() {
+    return count.get();
+  }
+
+  /**
+   * Resets the number of statements that have been prepared / created back to zero.
+   */
+  public void reset() {
+    count.set(0);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(super.getConnection(username, password));
+  }
+
+  private Connection countingConnection(Connection connection) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (isStatementFactory(method)) {
+        count.incrementAndGet();
+      }
+
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getTargetException();
+      }
+    };
+
+    return (Connection) Proxy.newProxyInstance(
+        getClass().getClassLoader(),
+        new Class[]{Connection.class},
+        handler);
+  }
+
+  private static boolean isStatementFactory(Method method) {
+    String name = method.getName();
+    return "prepareStatement".equals(name) || "createStatement".equals(name) || "prepareCall".equals(name);
+  }
+}
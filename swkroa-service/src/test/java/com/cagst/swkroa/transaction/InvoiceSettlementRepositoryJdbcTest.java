@@ -0,0 +1,143 @@
+package com.cagst.swkroa.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Test class for the {@link InvoiceSettlementRepositoryJdbc} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class InvoiceSettlementRepositoryJdbcTest extends BaseTestRepository {
+  private static final String GET_OPEN = "SELECT open_ind FROM invoice_settlement WHERE transaction_id = ?";
+
+  private InvoiceSettlementRepositoryJdbc repo;
+  private TransactionRepositoryJdbc transactionRepo;
+  private JdbcTemplate jdbcTemplate;
+
+  private final CodeValue typePayment = CodeValue.builder()
+      .setCodeValueUID(2L)
+      .setDisplay("Payment")
+      .setMeaning("PAYMENT")
+      .build();
+
+  @Before
+  public void setUp() {
+    DataSource dataSource = createTestDataSource();
+
+    repo = new InvoiceSettlementRepositoryJdbc(dataSource);
+    repo.setStatementDialect(StatementDialect.HSQLDB);
+
+    transactionRepo = new TransactionRepositoryJdbc(dataSource, mock(CodeValueRepository.class),
+        new MembershipBalanceRepositoryJdbc(dataSource), repo);
+    transactionRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  /**
+   * Test the getInvoicesWithStaleSettlement method against a consistent index.
+   */
+  @Test
+  public void testGetInvoicesWithStaleSettlement_Consistent() {
+    List<Long> stale = repo.getInvoicesWithStaleSettlement();
+    assertTrue("Ensure the index is consistent.", stale.isEmpty());
+  }
+
+  /**
+   * Test the getInvoicesWithStaleSettlement method after the index has drifted and refreshing it.
+   */
+  @Test
+  public void testGetInvoicesWithStaleSettlement_Stale() {
+    jdbcTemplate.update("UPDATE invoice_settlement SET paid_amount = 90, open_ind = 0 WHERE transaction_id = 1");
+    jdbcTemplate.update("DELETE FROM invoice_settlement WHERE transaction_id = 4");
+
+    List<Long> stale = repo.getInvoicesWithStaleSettlement();
+    assertEquals("Ensure we found the stale invoices.", Arrays.asList(1L, 4L), stale);
+
+    repo.refreshSettlements(stale);
+
+    assertTrue("Ensure the index is consistent.", repo.getInvoicesWithStaleSettlement().isEmpty());
+    assertTrue("Ensure the invoice was reopened.", jdbcTemplate.queryForObject(GET_OPEN, Boolean.class, 1L));
+  }
+
+  /**
+   * Test the refreshSettlements method with no invoices.
+   */
+  @Test
+  public void testRefreshSettlements_Empty() {
+    repo.refreshSettlements(Collections.emptyList());
+
+    assertTrue("Ensure the index is consistent.", repo.getInvoicesWithStaleSettlement().isEmpty());
+  }
+
+  /**
+   * Test the rebuildSettlements method.
+   */
+  @Test
+  public void testRebuildSettlements() {
+    jdbcTemplate.update("DELETE FROM invoice_settlement");
+
+    int cnt = repo.rebuildSettlements();
+    assertEquals("Ensure every invoice was written to the index.", 4, cnt);
+    assertTrue("Ensure the index is consistent.", repo.getInvoicesWithStaleSettlement().isEmpty());
+  }
+
+  /**
+   * Test that saving a payment against an invoice keeps the index in step.
+   */
+  @Test
+  public void testSaveTransaction_RefreshesSettlement() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    Transaction payment = new Transaction();
+    payment.setTransactionDate(new DateTime());
+    payment.setTransactionType(TransactionType.PAYMENT);
+    payment.setMembershipUID(1L);
+
+    TransactionEntry entry = new TransactionEntry();
+    entry.setTransactionEntryAmount(new BigDecimal(50));
+    entry.setTransactionEntryType(typePayment);
+    entry.setRelatedTransactionUID(1L);
+    entry.setTransaction(payment);
+
+    payment.addEntry(entry);
+
+    transactionRepo.saveTransaction(payment, user);
+
+    List<UnpaidInvoice> unpaid = transactionRepo.getUnpaidInvoices();
+    assertEquals("Ensure the partially paid invoice is still unpaid.", 2, unpaid.size());
+    assertEquals("Ensure the invoices are in the order they were made.", 1L, unpaid.get(0).getTransactionUID());
+    assertEquals("Ensure the payment was applied to the invoice.", 50.00,
+        unpaid.get(0).getAmountPaid().doubleValue(), 0.001);
+
+    entry.setTransactionEntryAmount(new BigDecimal(90));
+    transactionRepo.saveTransaction(payment, user);
+
+    assertFalse("Ensure the invoice was settled.", jdbcTemplate.queryForObject(GET_OPEN, Boolean.class, 1L));
+    assertEquals("Ensure the settled invoice is no longer unpaid.", 1, transactionRepo.getUnpaidInvoices().size());
+    assertTrue("Ensure the index is consistent.", repo.getInvoicesWithStaleSettlement().isEmpty());
+  }
+}
@@ -0,0 +1,136 @@
+package com.cagst.swkroa.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.cagst.swkroa.codevalue.CodeValue;
+import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.internal.StatementDialect;
+import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.user.User;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Test class for the {@link MembershipBalanceRepositoryJdbc} class.
+ *
+ * @author Craig Gaskill
+ */
+@RunWith(JUnit4.class)
+public class MembershipBalanceRepositoryJdbcTest extends BaseTestRepository {
+  private static final String GET_BALANCE = "SELECT balance FROM membership_balance WHERE membership_id = ?";
+
+  private MembershipBalanceRepositoryJdbc repo;
+  private TransactionRepositoryJdbc transactionRepo;
+  private JdbcTemplate jdbcTemplate;
+
+  private final CodeValue typePayment = CodeValue.builder()
+      .setCodeValueUID(2L)
+      .setDisplay("Payment")
+      .setMeaning("PAYMENT")
+      .build();
+
+  @Before
+  public void setUp() {
+    DataSource dataSource = createTestDataSource();
+
+    repo = new MembershipBalanceRepositoryJdbc(dataSource);
+    repo.setStatementDialect(StatementDialect.HSQLDB);
+
+    transactionRepo = new TransactionRepositoryJdbc(dataSource, mock(CodeValueRepository.class), repo,
+        new InvoiceSettlementRepositoryJdbc(dataSource));
+    transactionRepo.setStatementDialect(StatementDialect.HSQLDB);
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  /**
+   * Test the getMembershipsWithStaleBalance method against a consistent ledger.
+   */
+  @Test
+  public void testGetMembershipsWithStaleBalance_Consistent() {
+    List<Long> stale = repo.getMembershipsWithStaleBalance();
+    assertTrue("Ensure the ledger is consistent.", stale.isEmpty());
+  }
+
+  /**
+   * Test the getMembershipsWithStaleBalance method after the ledger has drifted and refreshing it.
+   */
+  @Test
+  public void testGetMembershipsWithStaleBalance_Stale() {
+    jdbcTemplate.update("UPDATE membership_balance SET balance = 5 WHERE membership_id = 1");
+    jdbcTemplate.update("DELETE FROM membership_balance WHERE membership_id = 4");
+
+    List<Long> stale = repo.getMembershipsWithStaleBalance();
+    assertEquals("Ensure we found the stale memberships.", Arrays.asList(1L, 4L), stale);
+
+    repo.refreshBalances(stale);
+
+    assertTrue("Ensure the ledger is consistent.", repo.getMembershipsWithStaleBalance().isEmpty());
+    assertEquals("Ensure the balance was recalculated.", 0,
+        new BigDecimal(-90).compareTo(jdbcTemplate.queryForObject(GET_BALANCE, BigDecimal.class, 1L)));
+  }
+
+  /**
+   * Test the refreshBalances method with no memberships.
+   */
+  @Test
+  public void testRefreshBalances_Empty() {
+    repo.refreshBalances(Collections.emptyList());
+
+    assertTrue("Ensure the ledger is consistent.", repo.getMembershipsWithStaleBalance().isEmpty());
+  }
+
+  /**
+   * Test the rebuildBalances method.
+   */
+  @Test
+  public void testRebuildBalances() {
+    jdbcTemplate.update("DELETE FROM membership_balance");
+
+    int cnt = repo.rebuildBalances();
+    assertEquals("Ensure every membership was written to the ledger.", 6, cnt);
+    assertTrue("Ensure the ledger is consistent.", repo.getMembershipsWithStaleBalance().isEmpty());
+    assertNull("Ensure a membership without transactions has no balance.",
+        jdbcTemplate.queryForObject(GET_BALANCE, BigDecimal.class, 6L));
+  }
+
+  /**
+   * Test that saving a Transaction keeps the ledger in step.
+   */
+  @Test
+  public void testSaveTransaction_RefreshesBalance() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    Transaction payment = new Transaction();
+    payment.setTransactionDate(new DateTime());
+    payment.setTransactionType(TransactionType.PAYMENT);
+    payment.setMembershipUID(1L);
+
+    TransactionEntry entry = new TransactionEntry();
+    entry.setTransactionEntryAmount(new BigDecimal(90));
+    entry.setTransactionEntryType(typePayment);
+    entry.setTransaction(payment);
+
+    payment.addEntry(entry);
+
+    transactionRepo.saveTransaction(payment, user);
+
+    assertEquals("Ensure the balance reflects the payment.", 0,
+        BigDecimal.ZERO.compareTo(jdbcTemplate.queryForObject(GET_BALANCE, BigDecimal.class, 1L)));
+    assertTrue("Ensure the ledger is consistent.", repo.getMembershipsWithStaleBalance().isEmpty());
+  }
+}
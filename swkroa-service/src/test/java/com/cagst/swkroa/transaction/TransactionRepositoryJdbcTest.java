@@ -7,7 +7,10 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.cagst.swkroa.codevalue.CodeValue;
@@ -15,6 +18,7 @@ import com.cagst.swkroa.codevalue.CodeValueRepository;
 import com.cagst.swkroa.deposit.Deposit;
 import com.cagst.swkroa.deposit.DepositTransaction;
 import com.cagst.swkroa.test.BaseTestRepository;
+import com.cagst.swkroa.test.QueryCountingDataSource;
 import com.cagst.swkroa.user.User;
 import org.joda.time.DateTime;
 import org.junit.Before;
@@ -60,7 +64,10 @@ public class TransactionRepositoryJdbcTest extends BaseTestRepository {
     when(codeValueRepo.getCodeValueByUID(2L)).thenReturn(typePayment);
     when(codeValueRepo.getCodeValueByUID(3L)).thenReturn(typeSpecial);
 
-    repo = new TransactionRepositoryJdbc(createTestDataSource(), codeValueRepo);
+    DataSource dataSource = createTestDataSource();
+
+    repo = new TransactionRepositoryJdbc(dataSource, codeValueRepo, new MembershipBalanceRepositoryJdbc(dataSource),
+        new InvoiceSettlementRepositoryJdbc(dataSource));
   }
 
   /**
@@ -215,6 +222,46 @@ public class TransactionRepositoryJdbcTest extends BaseTestRepository {
     assertEquals("Ensure we found the correct number of transactions.", 3, transactions2.size());
   }
 
+  /**
+   * Test the saveTransaction method writes the entries of a new Transaction as a single batch.
+   */
+  @Test
+  public void testSaveTransaction_Insert_Batched() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    QueryCountingDataSource dataSource = new QueryCountingDataSource(createTestDataSource());
+    TransactionRepositoryJdbc countingRepo = new TransactionRepositoryJdbc(
+        dataSource, mock(CodeValueRepository.class), new MembershipBalanceRepositoryJdbc(dataSource),
+        new InvoiceSettlementRepositoryJdbc(dataSource));
+
+    Transaction newTrans = new Transaction();
+    newTrans.setTransactionDate(new DateTime());
+    newTrans.setTransactionType(TransactionType.INVOICE);
+    newTrans.setMembershipUID(2L);
+
+    for (int idx = 0; idx < 10; idx++) {
+      TransactionEntry newEntry = new TransactionEntry();
+      newEntry.setTransactionEntryAmount(new BigDecimal(5));
+      newEntry.setTransactionEntryType(typeDues);
+      newEntry.setTransaction(newTrans);
+
+      newTrans.addEntry(newEntry);
+    }
+
+    countingRepo.saveTransaction(newTrans, user);
+
+    // the transaction, the batch of entries, and the refresh of the membership balance and invoice settlement
+    // (lock / delete / insert each)
+    assertEquals("Ensure the transaction was inserted with 8 statements.", 8, dataSource.getCount());
+    for (TransactionEntry entry : newTrans.getTransactionEntries()) {
+      assertTrue("Ensure the entry has a valid ID.", entry.getTransactionEntryUID() > 0L);
+    }
+
+    Transaction savedTrans = repo.getTransactionByUID(newTrans.getTransactionUID());
+    assertEquals("Ensure all of the entries were saved.", -50.00, savedTrans.getTransactionAmount().doubleValue(), 0.001);
+  }
+
   /**
    * Test the saveTransaction method by updating a Transaction
    */
@@ -262,4 +309,99 @@ public class TransactionRepositoryJdbcTest extends BaseTestRepository {
 
     repo.saveTransaction(trans, user);
   }
+
+  /**
+   * Test the saveTransactions method by inserting Transactions for several memberships in a single batch.
+   */
+  @Test
+  public void testSaveTransactions_Insert() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    List<Transaction> newTransactions = new ArrayList<>();
+    for (long membershipUID = 1L; membershipUID <= 3L; membershipUID++) {
+      Transaction newTrans = new Transaction();
+      newTrans.setTransactionDate(new DateTime());
+      newTrans.setTransactionType(TransactionType.INVOICE);
+      newTrans.setMembershipUID(membershipUID);
+
+      for (int idx = 0; idx < 2; idx++) {
+        TransactionEntry newEntry = new TransactionEntry();
+        newEntry.setTransactionEntryAmount(new BigDecimal(25));
+        newEntry.setTransactionEntryType(typeDues);
+        newEntry.setTransaction(newTrans);
+
+        newTrans.addEntry(newEntry);
+      }
+
+      newTransactions.add(newTrans);
+    }
+
+    int count = repo.getTransactionsForMembership(2L).size();
+
+    List<Transaction> insertedTransactions = repo.saveTransactions(newTransactions, user);
+    assertEquals("Ensure we have all of the transactions.", 3, insertedTransactions.size());
+    for (Transaction insertedTrans : insertedTransactions) {
+      assertTrue("Ensure the transaction has a valid ID.", insertedTrans.getTransactionUID() > 0L);
+      for (TransactionEntry entry : insertedTrans.getTransactionEntries()) {
+        assertTrue("Ensure the entry has a valid ID.", entry.getTransactionEntryUID() > 0L);
+      }
+    }
+
+    List<Transaction> transactions = repo.getTransactionsForMembership(2L);
+    assertEquals("Ensure we found the correct number of transactions.", count + 1, transactions.size());
+
+    Transaction savedTrans = repo.getTransactionByUID(insertedTransactions.get(1).getTransactionUID());
+    assertEquals("Ensure the invoice entries are negative.", -50.00, savedTrans.getTransactionAmount().doubleValue(), 0.001);
+  }
+
+  /**
+   * Test the saveTransactions method with a Transaction that has no entries.
+   */
+  @Test(expected = IncorrectResultSizeDataAccessException.class)
+  public void testSaveTransactions_NoEntries() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    Transaction newTrans = new Transaction();
+    newTrans.setTransactionDate(new DateTime());
+    newTrans.setTransactionType(TransactionType.INVOICE);
+    newTrans.setMembershipUID(2L);
+
+    repo.saveTransactions(Collections.singletonList(newTrans), user);
+  }
+
+  /**
+   * Test the saveTransactionsForMembership method only writing the transactions that have been modified.
+   */
+  @Test
+  public void testSaveTransactionsForMembership() {
+    User user = new User();
+    user.setUserUID(1L);
+
+    List<Transaction> transactions = repo.getTransactionsForMembership(2L);
+    assertEquals("Ensure nothing was written.", 0, repo.saveTransactionsForMembership(2L, transactions, user));
+
+    Transaction modifiedTrans = null;
+    for (Transaction trans : transactions) {
+      for (TransactionEntry entry : trans.getTransactionEntries()) {
+        if (entry.getTransactionEntryAmount().compareTo(BigDecimal.valueOf(-20.00)) == 0) {
+          entry.setTransactionEntryAmount(new BigDecimal(-35));
+          modifiedTrans = trans;
+        }
+      }
+    }
+
+    assertNotNull("Ensure a transaction was modified.", modifiedTrans);
+    assertEquals("Ensure only the modified transaction was written.", 1,
+        repo.saveTransactionsForMembership(2L, transactions, user));
+
+    for (Transaction trans : repo.getTransactionsForMembership(2L)) {
+      if (trans.getTransactionUID() == modifiedTrans.getTransactionUID()) {
+        assertEquals("Ensure it has been updated.", 1, trans.getTransactionUpdateCount());
+      } else {
+        assertEquals("Ensure it hasn't been updated.", 0, trans.getTransactionUpdateCount());
+      }
+    }
+  }
 }
@@ -79,6 +79,24 @@ public class UserRepositoryJdbcTest extends BaseTestRepository {
     assertNull("Ensure we don't have a last sign-in ip.", user.getLastSigninIp());
   }
 
+  /**
+   * Tests the getUserByUsername and finding the User along with its roles.
+   */
+  @Test
+  public void testGetUserByUsername_WithRoles() {
+    Optional<User> checkUser = repo.getUserByUsername("temp");
+    assertTrue("Ensure user was found.", checkUser.isPresent());
+
+    User user = checkUser.get();
+    assertEquals("Ensure we found the correct user (check username).", "temp", user.getUsername());
+    assertEquals("Ensure we found the roles for the user.", 1, user.getRoles().size());
+    assertEquals("Ensure we found the correct role.", "STAFF", user.getRoles().get(0).getRoleKey());
+
+    Optional<User> checkUser2 = repo.getUserByUsername("cgaskill");
+    assertTrue("Ensure user was found.", checkUser2.isPresent());
+    assertTrue("Ensure a user without roles is found without roles.", checkUser2.get().getRoles().isEmpty());
+  }
+
   /**
    * Tests the getUserByUID and not finding the user.
    */
@@ -369,6 +387,38 @@ public class UserRepositoryJdbcTest extends BaseTestRepository {
     repo.changeUserPassword(user1, StringUtils.EMPTY, null);
   }
 
+  /**
+   * Tests the rehashUserPassword method.
+   */
+  @Test
+  public void testRehashUserPassword() {
+    User user1 = repo.getUserByUsername("temp").get();
+    assertEquals("Ensure we found the correct user (check password).", "password1", user1.getPassword());
+
+    User user2 = repo.rehashUserPassword(user1, "rehashed1");
+    assertEquals("Ensure the password was re-hashed.", "rehashed1", user2.getPassword());
+    assertTrue("Ensure the password is still temporary.", user2.isPasswordTemporary());
+
+    User user3 = repo.getUserByUsername("temp").get();
+    assertEquals("Ensure the re-hashed password was saved.", "rehashed1", user3.getPassword());
+    assertTrue("Ensure the password is still temporary.", user3.isPasswordTemporary());
+  }
+
+  /**
+   * Tests the rehashUserPassword method when the password was changed since the user was retrieved.
+   */
+  @Test
+  public void testRehashUserPassword_ChangedPassword() {
+    User user1 = repo.getUserByUsername("temp").get();
+    User user2 = repo.getUserByUsername("temp").get();
+
+    repo.changeUserPassword(user1, "newPassword", "message");
+
+    User user3 = repo.rehashUserPassword(user2, "rehashed1");
+    assertEquals("Ensure the password wasn't re-hashed.", "password1", user3.getPassword());
+    assertEquals("Ensure the changed password was kept.", "newPassword", repo.getUserByUsername("temp").get().getPassword());
+  }
+
   /**
    * Tests the resetUserPassword method.
    */
@@ -0,0 +1,2 @@
+SELECT statement_id
+  FROM statement
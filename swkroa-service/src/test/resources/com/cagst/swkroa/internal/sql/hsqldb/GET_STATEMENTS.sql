@@ -0,0 +1,3 @@
+SELECT statement_id
+  FROM statement
+ LIMIT 1
@@ -9,6 +9,8 @@ DROP TABLE IF EXISTS job_detail;
 DROP TABLE IF EXISTS job;
 DROP TABLE IF EXISTS deposit_transaction;
 DROP TABLE IF EXISTS deposit;
+DROP TABLE IF EXISTS invoice_settlement;
+DROP TABLE IF EXISTS membership_balance;
 DROP TABLE IF EXISTS transaction_entry;
 DROP TABLE IF EXISTS transaction;
 DROP TABLE IF EXISTS member;
@@ -296,6 +298,25 @@ CREATE TABLE transaction_entry (
   CONSTRAINT transaction_entry_fk2 FOREIGN KEY (related_transaction_id) REFERENCES transaction (transaction_id)
 );
 
+CREATE TABLE membership_balance (
+  membership_id             BIGINT NOT NULL PRIMARY KEY,
+  balance                   NUMERIC(10, 2) NULL,
+  last_payment_dt           DATE NULL,
+  updt_dt_tm                DATETIME NOT NULL,
+  CONSTRAINT membership_balance_fk1 FOREIGN KEY (membership_id) REFERENCES membership (membership_id)
+);
+
+CREATE TABLE invoice_settlement (
+  transaction_id            BIGINT NOT NULL PRIMARY KEY,
+  membership_id             BIGINT NOT NULL,
+  invoice_amount            NUMERIC(10, 2) NOT NULL,
+  paid_amount               NUMERIC(10, 2) NOT NULL,
+  open_ind                  BOOLEAN NOT NULL,
+  updt_dt_tm                DATETIME NOT NULL,
+  CONSTRAINT invoice_settlement_fk1 FOREIGN KEY (transaction_id) REFERENCES transaction (transaction_id),
+  CONSTRAINT invoice_settlement_fk2 FOREIGN KEY (membership_id) REFERENCES membership (membership_id)
+);
+
 CREATE TABLE deposit (
   deposit_id             BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) PRIMARY KEY,
   deposit_ref            VARCHAR(25) NOT NULL,
@@ -348,6 +369,9 @@ CREATE TABLE job (
   job_name               VARCHAR(100) NOT NULL,
   job_type               VARCHAR(25) NOT NULL,
   job_status             VARCHAR(25) NOT NULL,
+  job_params             VARCHAR(4000) NULL,
+  lease_owner            VARCHAR(100) NULL,
+  lease_expire_dt_tm     DATETIME NULL,
   active_ind             BOOLEAN DEFAULT 1 NOT NULL,
   create_dt_tm           DATETIME NOT NULL,
   create_id              BIGINT NOT NULL,
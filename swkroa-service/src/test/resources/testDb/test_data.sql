@@ -153,6 +153,16 @@ INSERT INTO deposit_transaction (deposit_id, transaction_id, create_dt_tm, creat
 INSERT INTO deposit (deposit_id, deposit_ref, deposit_dt, deposit_amount, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (2, 'REF2', '2014-01-15', 90, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0);
 INSERT INTO deposit_transaction (deposit_id, transaction_id, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (2, 3, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0);
 
+INSERT INTO membership_balance (membership_id, balance, last_payment_dt, updt_dt_tm) VALUES (1, -90, NULL, CURRENT_TIMESTAMP);
+INSERT INTO membership_balance (membership_id, balance, last_payment_dt, updt_dt_tm) VALUES (2, 0, '2014-04-01', CURRENT_TIMESTAMP);
+INSERT INTO membership_balance (membership_id, balance, last_payment_dt, updt_dt_tm) VALUES (3, -100, NULL, CURRENT_TIMESTAMP);
+INSERT INTO membership_balance (membership_id, balance, last_payment_dt, updt_dt_tm) VALUES (4, 10, '2014-04-01', CURRENT_TIMESTAMP);
+
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm) VALUES (1, 1, -90, 0, 1, CURRENT_TIMESTAMP);
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm) VALUES (2, 2, -90, 0, 1, CURRENT_TIMESTAMP);
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm) VALUES (4, 3, -100, 0, 1, CURRENT_TIMESTAMP);
+INSERT INTO invoice_settlement (transaction_id, membership_id, invoice_amount, paid_amount, open_ind, updt_dt_tm) VALUES (5, 4, -90, 0, 1, CURRENT_TIMESTAMP);
+
 INSERT INTO job (job_id, job_name, job_type, job_status, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (1, 'Membership 2014-2015 Renewal', 'RENEWAL', 'SUCCEEDED', CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0);
 INSERT INTO job (job_id, job_name, job_type, job_status, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (2, 'Membership 2015-2016 Renewal', 'RENEWAL', 'FAILED', CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0);
 INSERT INTO job (job_id, job_name, job_type, job_status, create_dt_tm, create_id, updt_dt_tm, updt_id) VALUES (3, 'Membership 2015-2016 Renewal', 'RENEWAL', 'SUCCEEDED', CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP, 0);
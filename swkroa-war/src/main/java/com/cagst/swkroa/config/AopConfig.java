@@ -3,7 +3,7 @@ package com.cagst.swkroa.config;
 import javax.inject.Inject;
 
 import com.cagst.swkroa.aop.AuditableAnnotationAspect;
-import com.cagst.swkroa.audit.AuditEventRepository;
+import com.cagst.swkroa.audit.AuditEventWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -18,7 +18,7 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 public class AopConfig {
   @Bean
   @Inject
-  public AuditableAnnotationAspect getAuditableAspect(AuditEventRepository auditRepository) {
-    return new AuditableAnnotationAspect(auditRepository);
+  public AuditableAnnotationAspect getAuditableAspect(AuditEventWriter auditWriter) {
+    return new AuditableAnnotationAspect(auditWriter);
   }
 }
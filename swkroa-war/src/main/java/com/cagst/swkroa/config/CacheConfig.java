@@ -1,5 +1,10 @@
 package com.cagst.swkroa.config;
 
+import javax.cache.Caching;
+import java.net.URISyntaxException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.jcache.JCacheCacheManager;
@@ -9,13 +14,37 @@ import org.springframework.context.annotation.Configuration;
 /**
  * Configuration class for the system's Caching framework.
  *
+ * The caches (and their sizes) are defined in <i>ehcache.xml</i> and accessed through the JCache (JSR-107) API.
+ * Statistics and management are enabled for every cache, so the hits, misses and evictions of each cache are
+ * available as the <i>javax.cache:type=CacheStatistics</i> MBeans.
+ *
  * @author Craig Gaskill
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CacheConfig.class);
+
+  private static final String CACHE_CONFIG = "/ehcache.xml";
+
+  @Bean(name = "jcacheManager", destroyMethod = "close")
+  public javax.cache.CacheManager getJCacheManager() throws URISyntaxException {
+    javax.cache.CacheManager cacheManager = Caching.getCachingProvider().getCacheManager(
+        getClass().getResource(CACHE_CONFIG).toURI(),
+        getClass().getClassLoader());
+
+    for (String cacheName : cacheManager.getCacheNames()) {
+      cacheManager.enableStatistics(cacheName, true);
+      cacheManager.enableManagement(cacheName, true);
+    }
+
+    LOGGER.info("Configured caches {}", cacheManager.getCacheNames());
+
+    return cacheManager;
+  }
+
   @Bean(name = "cacheManager")
-  public CacheManager getCacheManager() {
-    return new JCacheCacheManager();
+  public CacheManager getCacheManager(javax.cache.CacheManager jcacheManager) {
+    return new JCacheCacheManager(jcacheManager);
   }
 }
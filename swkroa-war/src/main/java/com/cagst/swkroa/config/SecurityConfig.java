@@ -3,9 +3,14 @@ package com.cagst.swkroa.config;
 import javax.inject.Inject;
 import javax.servlet.Filter;
 
+import com.cagst.swkroa.security.AdaptivePasswordEncoder;
 import com.cagst.swkroa.security.ForceChangePasswordFilter;
+import com.cagst.swkroa.security.PasswordHashingService;
+import com.cagst.swkroa.security.PasswordHashingServiceImpl;
+import com.cagst.swkroa.security.RehashingAuthenticationProvider;
 import com.cagst.swkroa.security.SigninSuccessHandler;
 import com.cagst.swkroa.user.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationEventPublisher;
@@ -16,8 +21,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
@@ -29,18 +32,48 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(jsr250Enabled = true)
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
-  private static final int STRENGTH = 12;
+  @Value("${swkroa.password.hash.target.ms:100}")
+  private long passwordHashTarget;
+
+  @Value("${swkroa.password.hash.min.strength:10}")
+  private int passwordHashMinStrength;
+
+  @Value("${swkroa.password.hash.max.strength:16}")
+  private int passwordHashMaxStrength;
+
+  @Value("${swkroa.password.hash.strength:0}")
+  private int passwordHashStrength;
+
+  @Value("${swkroa.password.hash.tolerance:1}")
+  private int passwordHashTolerance;
+
+  @Value("${swkroa.password.hash.threads:0}")
+  private int passwordHashThreads;
+
+  @Value("${swkroa.password.hash.queue.capacity:64}")
+  private int passwordHashQueueCapacity;
 
   private SigninSuccessHandler signinSuccessHandler;
 
   @Bean
-  public PasswordEncoder getPasswordEncoder() {
-    return new BCryptPasswordEncoder(STRENGTH);
+  public AdaptivePasswordEncoder getAdaptivePasswordEncoder() {
+    if (passwordHashStrength > 0) {
+      return new AdaptivePasswordEncoder(passwordHashStrength, passwordHashMinStrength, passwordHashTolerance);
+    }
+
+    return AdaptivePasswordEncoder.calibrated(
+        passwordHashTarget, passwordHashMinStrength, passwordHashMaxStrength, passwordHashTolerance);
+  }
+
+  @Bean
+  public PasswordHashingService getPasswordEncoder() {
+    return new PasswordHashingServiceImpl(getAdaptivePasswordEncoder(), passwordHashThreads, passwordHashQueueCapacity);
   }
 
   @Inject
   public void configureGlobal(AuthenticationManagerBuilder auth, UserService userService) throws Exception {
-    auth.userDetailsService(userService).passwordEncoder(getPasswordEncoder());
+    auth.authenticationProvider(
+        new RehashingAuthenticationProvider(userService, getPasswordEncoder(), getAdaptivePasswordEncoder()));
     auth.authenticationEventPublisher(getAuthenticationEventPublisher());
 
     signinSuccessHandler = new SigninSuccessHandler(userService);
@@ -3,7 +3,6 @@ package com.cagst.swkroa.controller.api;
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
-import java.util.Collections;
 import java.util.List;
 
 import com.cagst.swkroa.codevalue.CodeSet;
@@ -51,10 +50,7 @@ public class CodeSetApiController {
   public List<CodeSet> getActiveCodeSets() {
     LOGGER.info("Received request to retrieve active codesets.");
 
-    List<CodeSet> codeSets = codeValueRepo.getActiveCodeSets();
-    Collections.sort(codeSets);
-
-    return codeSets;
+    return codeValueRepo.getActiveCodeSets();
   }
 
   /**
@@ -69,10 +65,7 @@ public class CodeSetApiController {
   public List<CodeValue> getCodeValuesForCodeSet(@PathVariable CodeSetType codeSetType) {
     LOGGER.info("Received request to retrieve codevalues for codeset [{}].", codeSetType);
 
-    List<CodeValue> codeValues = codeValueRepo.getCodeValuesForCodeSetByType(codeSetType);
-    Collections.sort(codeValues);
-
-    return codeValues;
+    return codeValueRepo.getCodeValuesForCodeSetByType(codeSetType);
   }
 
   /**
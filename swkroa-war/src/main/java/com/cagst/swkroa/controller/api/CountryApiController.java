@@ -1,7 +1,6 @@
 package com.cagst.swkroa.controller.api;
 
 import javax.inject.Inject;
-import java.util.Comparator;
 import java.util.List;
 
 import com.cagst.swkroa.country.Country;
@@ -40,10 +39,7 @@ public class CountryApiController {
   public List<Country> getCountries() {
     LOGGER.info("Received request to retrieve countries.");
 
-    List<Country> countries = countryRepo.getActiveCountries();
-    countries.sort(Comparator.comparing(Country::getCountryName));
-
-    return countries;
+    return countryRepo.getActiveCountries();
   }
 
   /**
@@ -55,10 +51,7 @@ public class CountryApiController {
   public List<State> getStates() {
     LOGGER.info("Received request to retrieve states");
 
-    List<State> states = countryRepo.getActiveStates();
-    states.sort(Comparator.comparing(State::getStateName));
-
-    return states;
+    return countryRepo.getActiveStates();
   }
 
   /**
@@ -73,9 +66,6 @@ public class CountryApiController {
   public List<State> getStates(@PathVariable("countryCode") String countryCode) {
     LOGGER.info("Received request to retrieve states for [{}]", countryCode);
 
-    List<State> states = countryRepo.getActiveStatesForCountry(countryCode);
-    states.sort(Comparator.comparing(State::getStateName));
-
-    return states;
+    return countryRepo.getActiveStatesForCountry(countryCode);
   }
 }
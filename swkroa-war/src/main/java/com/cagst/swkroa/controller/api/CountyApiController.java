@@ -1,7 +1,6 @@
 package com.cagst.swkroa.controller.api;
 
 import javax.inject.Inject;
-import java.util.Collections;
 import java.util.List;
 
 import com.cagst.swkroa.country.CountryRepository;
@@ -38,9 +37,6 @@ public final class CountyApiController {
   public List<County> getActiveCounties() {
     LOGGER.info("Received request to retrieve active counties.");
 
-    List<County> counties = countryRepo.getActiveCounties();
-    Collections.sort(counties);
-
-    return counties;
+    return countryRepo.getActiveCounties();
   }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.cagst.swkroa.job.Job;
 import com.cagst.swkroa.job.JobRepository;
+import com.cagst.swkroa.job.JobService;
 import com.cagst.swkroa.job.JobType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,10 +27,12 @@ public class JobApiController {
   private static final Logger LOGGER = LoggerFactory.getLogger(JobApiController.class);
 
   private final JobRepository jobRepo;
+  private final JobService jobService;
 
   @Inject
-  public JobApiController(JobRepository jobRepo) {
+  public JobApiController(JobRepository jobRepo, JobService jobService) {
     this.jobRepo = jobRepo;
+    this.jobService = jobService;
   }
 
   @RequestMapping(value = "/pending/{jobType}", method = RequestMethod.GET)
@@ -38,4 +41,36 @@ public class JobApiController {
 
     return jobRepo.getPendingJobsForType(jobType);
   }
+
+  @RequestMapping(value = "/balances/verify", method = RequestMethod.POST)
+  @RolesAllowed("ROLE_ADMIN")
+  public List<Long> verifyMembershipBalances() {
+    LOGGER.info("Received request to verify the membership balance ledger.");
+
+    return jobService.verifyMembershipBalances();
+  }
+
+  @RequestMapping(value = "/balances/rebuild", method = RequestMethod.POST)
+  @RolesAllowed("ROLE_ADMIN")
+  public int rebuildMembershipBalances() {
+    LOGGER.info("Received request to rebuild the membership balance ledger.");
+
+    return jobService.rebuildMembershipBalances();
+  }
+
+  @RequestMapping(value = "/settlements/verify", method = RequestMethod.POST)
+  @RolesAllowed("ROLE_ADMIN")
+  public List<Long> verifyInvoiceSettlements() {
+    LOGGER.info("Received request to verify the invoice settlement index.");
+
+    return jobService.verifyInvoiceSettlements();
+  }
+
+  @RequestMapping(value = "/settlements/rebuild", method = RequestMethod.POST)
+  @RolesAllowed("ROLE_ADMIN")
+  public int rebuildInvoiceSettlements() {
+    LOGGER.info("Received request to rebuild the invoice settlement index.");
+
+    return jobService.rebuildInvoiceSettlements();
+  }
 }
@@ -2,7 +2,6 @@ package com.cagst.swkroa.controller.api;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
-import java.util.Collections;
 import java.util.List;
 
 import com.cagst.swkroa.member.MemberType;
@@ -43,20 +42,14 @@ public class MemberTypeApiController {
   public List<MemberType> getActiveMemberTypes() {
     LOGGER.info("Received request to retrieve active member types.");
 
-    List<MemberType> types = memberTypeRepository.getActiveMemberTypes();
-    Collections.sort(types);
-
-    return types;
+    return memberTypeRepository.getActiveMemberTypes();
   }
 
   @RequestMapping(value = "/{memberTypeId}", method = RequestMethod.GET)
   public List<MemberType> getMemberTypes(final @PathVariable("memberTypeId") long memberTypeId) {
     LOGGER.info("Received request to retrieve all active member types for member type [{}]", memberTypeId);
 
-    List<MemberType> types = memberTypeRepository.getActiveMemberTypesForMemberType(memberTypeId);
-    types.sort((MemberType rhs, MemberType lhs) -> rhs.getBeginEffectiveDate().compareTo(rhs.getBeginEffectiveDate()));
-
-    return types;
+    return memberTypeRepository.getActiveMemberTypesForMemberType(memberTypeId);
   }
 
   /**
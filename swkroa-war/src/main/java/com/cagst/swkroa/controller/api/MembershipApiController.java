@@ -2,6 +2,9 @@ package com.cagst.swkroa.controller.api;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -9,10 +12,10 @@ import java.util.List;
 import com.cagst.swkroa.LoadingPolicy;
 import com.cagst.swkroa.codevalue.CodeSetType;
 import com.cagst.swkroa.codevalue.CodeValueRepository;
+import com.cagst.swkroa.exception.BadRequestException;
 import com.cagst.swkroa.exception.ResourceNotFoundException;
 import com.cagst.swkroa.job.Job;
 import com.cagst.swkroa.job.JobDetail;
-import com.cagst.swkroa.job.JobRepository;
 import com.cagst.swkroa.job.JobStatus;
 import com.cagst.swkroa.job.JobType;
 import com.cagst.swkroa.member.Member;
@@ -22,12 +25,16 @@ import com.cagst.swkroa.member.MemberTypeRepository;
 import com.cagst.swkroa.member.Membership;
 import com.cagst.swkroa.member.MembershipBalance;
 import com.cagst.swkroa.member.MembershipCounty;
+import com.cagst.swkroa.member.MembershipCursor;
 import com.cagst.swkroa.member.MembershipService;
 import com.cagst.swkroa.member.Status;
 import com.cagst.swkroa.model.BillingRunModel;
 import com.cagst.swkroa.model.CloseMembershipsModel;
+import com.cagst.swkroa.model.ListModel;
 import com.cagst.swkroa.person.Person;
 import com.cagst.swkroa.web.util.WebAppUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +45,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -58,23 +66,25 @@ import org.springframework.web.util.UriComponents;
 public final class MembershipApiController {
   private static final Logger LOGGER = LoggerFactory.getLogger(MembershipApiController.class);
 
+  private static final int MAX_PAGE_SIZE = 500;
+
+  // configured the same as the ObjectMapper Spring MVC uses to write responses
+  private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
   private final CodeValueRepository codeValueRepo;
   private final MembershipService membershipService;
   private final MemberRepository memberRepo;
   private final MemberTypeRepository memberTypeRepo;
-  private final JobRepository jobRepo;
 
   @Inject
   public MembershipApiController(CodeValueRepository codeValueRepo,
                                  MembershipService membershipService,
                                  MemberRepository memberRepo,
-                                 MemberTypeRepository memberTypeRepo,
-                                 JobRepository jobRepo) {
+                                 MemberTypeRepository memberTypeRepo) {
     this.codeValueRepo = codeValueRepo;
     this.membershipService = membershipService;
     this.memberRepo = memberRepo;
     this.memberTypeRepo = memberTypeRepo;
-    this.jobRepo = jobRepo;
   }
 
   /**
@@ -112,6 +122,78 @@ public final class MembershipApiController {
     return memberships;
   }
 
+  /**
+   * Handles the request and retrieves a page of the Memberships within the system, ordered by name.
+   *
+   * The Memberships are written to the response as they are read from the database, in the form of a
+   * {@link ListModel} whose <i>cursor</i> is used to request the next page.
+   *
+   * @param limit
+   *     The maximum number of Memberships to retrieve.
+   * @param cursor
+   *     The cursor returned with the previous page, if any.
+   * @param status
+   *     The status of the Memberships to retrieve.
+   * @param balance
+   *     The balance group of the Memberships to retrieve.
+   * @param response
+   *     The {@link HttpServletResponse} to write the Memberships to.
+   */
+  @RequestMapping(method = RequestMethod.GET, params = "limit")
+  public void getMemberships(@RequestParam(value = "limit") int limit,
+                             @RequestParam(value = "cursor", required = false) String cursor,
+                             @RequestParam(value = "status", required = false) String status,
+                             @RequestParam(value = "balance", required = false) String balance,
+                             HttpServletResponse response) throws IOException {
+
+    LOGGER.info("Received request to retrieve [{}] memberships after [{}] using status [{}], and balance [{}]",
+        limit, cursor, status, balance);
+
+    if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+      throw new BadRequestException("The 'limit' must be between 1 and " + MAX_PAGE_SIZE + ".");
+    }
+
+    MembershipCursor after;
+    try {
+      after = StringUtils.isNotBlank(cursor) ? MembershipCursor.decode(cursor) : null;
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("The 'cursor' [" + cursor + "] is not recognized.", ex);
+    }
+
+    Status newStatus = StringUtils.isNotBlank(status) ? Status.valueOf(status) : Status.ACTIVE;
+    MembershipBalance newBalance = StringUtils.isNotBlank(balance) ? MembershipBalance.valueOf(balance) : MembershipBalance.ALL;
+
+    response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+
+    try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(response.getOutputStream())) {
+      // if retrieving the memberships fails part-way through, closing the generator mustn't complete the JSON,
+      // otherwise the client would see a (truncated) last page rather than the failure
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("items");
+
+      MembershipCursor next;
+      try {
+        next = membershipService.getMemberships(newStatus, newBalance, after, limit, membership -> {
+          try {
+            generator.writeObject(membership);
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      } catch (UncheckedIOException ex) {
+        throw ex.getCause();
+      }
+
+      generator.writeEndArray();
+      if (next != null) {
+        generator.writeStringField("cursor", next.encode());
+      }
+      generator.writeEndObject();
+    }
+  }
+
   /**
    * Handles the request and retrieves the {@link Membership} associated with the specified membership ID.
    *
@@ -274,8 +356,6 @@ public final class MembershipApiController {
     job.setJobStatus(JobStatus.SUBMITTED);
     job.setJobDetails(jobDetails);
 
-    jobRepo.saveJob(job, WebAppUtils.getUser());
-
     membershipService.renewMemberships(
         billingMemberships.getTransactionDate(),
         billingMemberships.getTransactionDescription(),
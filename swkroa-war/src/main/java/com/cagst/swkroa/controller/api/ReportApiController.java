@@ -0,0 +1,39 @@
+package com.cagst.swkroa.controller.api;
+
+import javax.annotation.security.RolesAllowed;
+import javax.inject.Inject;
+import java.util.Map;
+
+import com.cagst.swkroa.report.ReportService;
+import com.cagst.swkroa.report.ReportStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Handles and retrieves information about the reports of the system depending upon the URI template.
+ *
+ * @author Craig Gaskill
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RolesAllowed("ROLE_ADMIN")
+public class ReportApiController {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportApiController.class);
+
+  private final ReportService reportService;
+
+  @Inject
+  public ReportApiController(ReportService reportService) {
+    this.reportService = reportService;
+  }
+
+  @RequestMapping(value = "/statistics", method = RequestMethod.GET)
+  public Map<String, ReportStatistics> getReportStatistics() {
+    LOGGER.info("Received request to retrieve the report statistics.");
+
+    return reportService.getStatistics();
+  }
+}
@@ -1,5 +1,6 @@
 package com.cagst.swkroa.controller.api;
 
+import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
@@ -8,6 +9,8 @@ import java.util.List;
 
 import com.cagst.swkroa.exception.BadRequestException;
 import com.cagst.swkroa.exception.ResourceNotFoundException;
+import com.cagst.swkroa.security.PasswordHashingService;
+import com.cagst.swkroa.security.PasswordHashingStatistics;
 import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.user.UserService;
 import com.cagst.swkroa.user.UsernameTakenException;
@@ -45,10 +48,26 @@ public final class UserApiController {
   private static final String ACTION_RESETPWD = "resetpwd";
 
   private final UserService userService;
+  private final PasswordHashingService passwordHashingService;
 
   @Inject
-  public UserApiController(UserService userService) {
+  public UserApiController(UserService userService, PasswordHashingService passwordHashingService) {
     this.userService = userService;
+    this.passwordHashingService = passwordHashingService;
+  }
+
+  /**
+   * Handles the request and retrieves the statistics of hashing / checking user passwords (such as how long hashing a
+   * password takes, how long passwords wait to be hashed, and how many have been rejected).
+   *
+   * @return A JSON representation of the {@link PasswordHashingStatistics}.
+   */
+  @RequestMapping(value = "/api/users/hashing/statistics", method = RequestMethod.GET)
+  @RolesAllowed("ROLE_ADMIN")
+  public PasswordHashingStatistics getPasswordHashingStatistics() {
+    LOGGER.info("Received request to retrieve the password hashing statistics.");
+
+    return passwordHashingService.getStatistics();
   }
   /**
    * Handles the request and retrieves the active {@link User Users} within the system.
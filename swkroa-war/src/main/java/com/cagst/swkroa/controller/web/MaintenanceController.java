@@ -2,7 +2,9 @@ package com.cagst.swkroa.controller.web;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Date;
 
 import com.cagst.swkroa.codevalue.CodeSetType;
@@ -15,11 +17,6 @@ import com.cagst.swkroa.web.util.WebAppUtils;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.InvalidMediaTypeException;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -89,31 +86,16 @@ public class MaintenanceController {
    *
    * @param documentId
    *    A {@link long} that uniquely identifies the Document to retrieve.
-   *
-   * @return A {@link ResponseEntity} that contains the document for display.
+   * @param response
+   *    The {@link HttpServletResponse} to stream the document to.
    */
   @RequestMapping(value = "documents/{documentId}", method = RequestMethod.GET)
-  public ResponseEntity<byte[]> viewDocument(@PathVariable("documentId") long documentId) {
-    LOGGER.info("Received request to view the document [{}]", documentId);
-
-    Document document = documentRepository.getDocumentByUID(documentId);
-    if (document == null) {
-      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-    }
-
-    MediaType mediaType;
-    try {
-      mediaType = MediaType.parseMediaType(document.getDocumentFormat());
-    } catch (InvalidMediaTypeException ex) {
-      LOGGER.warn("Unable to parse document format [{}] as media type.", document.getDocumentFormat());
+  public void viewDocument(@PathVariable("documentId") long documentId, HttpServletResponse response)
+      throws IOException {
 
-      mediaType = MediaType.ALL;
-    }
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(mediaType);
+    LOGGER.info("Received request to view the document [{}]", documentId);
 
-    return new ResponseEntity<>(document.getDocumentContents(), headers, HttpStatus.OK);
+    WebAppUtils.writeDocument(documentRepository, documentId, response);
   }
 
   /**
@@ -137,17 +119,16 @@ public class MaintenanceController {
     CodeValue documentType = codeValueRepository.getCodeValueByUID(documentTypeUID);
 
     boolean uploadSucceeded = true;
-    try {
+    try (InputStream content = uploadFile.getInputStream()) {
       Document uploadDocument = new Document();
       uploadDocument.setDocumentDescription(documentDescription);
       uploadDocument.setDocumentType(documentType);
       uploadDocument.setDocumentName(uploadFile.getOriginalFilename());
       uploadDocument.setDocumentFormat(uploadFile.getContentType());
-      uploadDocument.setDocumentContents(uploadFile.getBytes());
       uploadDocument.setBeginEffectiveDate(new DateTime(beginDate));
       uploadDocument.setEndEffectiveDate(endDate != null ? new DateTime(endDate) : null);
 
-      documentRepository.saveDocument(uploadDocument, WebAppUtils.getUser());
+      documentRepository.saveDocument(uploadDocument, content, uploadFile.getSize(), WebAppUtils.getUser());
     } catch (IOException ex) {
       LOGGER.error("Unable to upload file [{}]", uploadFile.getName());
       uploadSucceeded = false;
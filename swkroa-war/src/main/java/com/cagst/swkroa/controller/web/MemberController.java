@@ -2,6 +2,8 @@ package com.cagst.swkroa.controller.web;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -16,11 +18,6 @@ import com.cagst.swkroa.user.User;
 import com.cagst.swkroa.web.util.WebAppUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.InvalidMediaTypeException;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -122,31 +119,16 @@ public class MemberController {
    *
    * @param documentId
    *    A {@link long} that uniquely identifies the Document to retrieve.
-   *
-   * @return A {@link ResponseEntity} that contains the document for display.
+   * @param response
+   *    The {@link HttpServletResponse} to stream the document to.
    */
   @RequestMapping(value = "/documents/{documentId}", method = RequestMethod.GET)
-  public ResponseEntity<byte[]> viewDocument(@PathVariable("documentId") long documentId) {
-    LOGGER.info("Received request to view the document [{}]", documentId);
-
-    Document document = documentRepository.getDocumentByUID(documentId);
-    if (document == null) {
-      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-    }
+  public void viewDocument(@PathVariable("documentId") long documentId, HttpServletResponse response)
+      throws IOException {
 
-    MediaType mediaType;
-    try {
-      mediaType = MediaType.parseMediaType(document.getDocumentFormat());
-    } catch (InvalidMediaTypeException ex) {
-      LOGGER.warn("Unable to parse document format [{}] as media type.", document.getDocumentFormat());
-
-      mediaType = MediaType.ALL;
-    }
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(mediaType);
+    LOGGER.info("Received request to view the document [{}]", documentId);
 
-    return new ResponseEntity<>(document.getDocumentContents(), headers, HttpStatus.OK);
+    WebAppUtils.writeDocument(documentRepository, documentId, response);
   }
 
 }
@@ -3,7 +3,6 @@ package com.cagst.swkroa.controller.web;
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
-import javax.sql.DataSource;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Date;
@@ -11,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.cagst.swkroa.report.JasperReportsViewFactory;
+import com.cagst.swkroa.report.ReportService;
 import com.cagst.swkroa.report.jasper.JasperReportLoader;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -21,7 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
-import org.springframework.web.servlet.view.jasperreports.AbstractJasperReportsView;
+import org.springframework.web.servlet.View;
 
 /**
  * Handles and retrieves the Report pages depending on the URI template.
@@ -34,11 +34,11 @@ import org.springframework.web.servlet.view.jasperreports.AbstractJasperReportsV
 public class ReportController {
   private static final Logger LOGGER = LoggerFactory.getLogger(ReportController.class);
 
-  private DataSource dataSource;
+  private final ReportService reportService;
 
   @Inject
-  public ReportController(DataSource dataSource) {
-    this.dataSource = dataSource;
+  public ReportController(ReportService reportService) {
+    this.reportService = reportService;
   }
 
   /**
@@ -392,9 +392,8 @@ public class ReportController {
                                              String format,
                                              String filename) {
 
-    AbstractJasperReportsView view = JasperReportsViewFactory.getJasperReportsView(
-        request,
-        dataSource,
+    View view = JasperReportsViewFactory.getJasperReportsView(
+        reportService,
         reportUrl,
         format,
         filename);
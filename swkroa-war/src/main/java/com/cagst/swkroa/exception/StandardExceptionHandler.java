@@ -1,9 +1,11 @@
 package com.cagst.swkroa.exception;
 
 import com.cagst.swkroa.model.ErrorEntity;
+import com.cagst.swkroa.security.PasswordHashingRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -35,6 +37,18 @@ public class StandardExceptionHandler extends ResponseEntityExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.CONFLICT);
   }
 
+  @ExceptionHandler(PasswordHashingRejectedException.class)
+  protected ResponseEntity<ErrorEntity> handlePasswordHashingRejected(final PasswordHashingRejectedException ex,
+                                                                      final WebRequest request) {
+
+    ErrorEntity error = new ErrorEntity(HttpStatus.SERVICE_UNAVAILABLE.toString(), ex.getLocalizedMessage());
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+    return new ResponseEntity<>(error, headers, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   @ExceptionHandler(Exception.class)
   protected ResponseEntity<ErrorEntity> handleInternalException(final RuntimeException ex, final WebRequest request) {
     ErrorEntity error = new ErrorEntity(HttpStatus.INTERNAL_SERVER_ERROR.toString(), ex.getLocalizedMessage());
@@ -2,18 +2,28 @@ package com.cagst.swkroa.model;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * A model that contains information contained in a list with a total count of all possible items.
  *
+ * A list retrieved a page at a time using keyset pagination carries the (opaque) cursor of the next page instead.
+ *
  * @author Craig Gaskill
  */
 public class ListModel<T> {
   private List<T> items;
   private long totalCount;
+  private String cursor;
 
   public ListModel(final List<T> items, final long totalCount) {
+    this(items, totalCount, null);
+  }
+
+  public ListModel(final List<T> items, final long totalCount, final String cursor) {
     this.items = items;
     this.totalCount = totalCount;
+    this.cursor = cursor;
   }
 
   public List<T> getItems() {
@@ -23,4 +33,12 @@ public class ListModel<T> {
   public long getTotalItemCount() {
     return totalCount;
   }
+
+  /**
+   * @return The cursor used to retrieve the next page of items, {@code null} if there are no more items.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public String getCursor() {
+    return cursor;
+  }
 }
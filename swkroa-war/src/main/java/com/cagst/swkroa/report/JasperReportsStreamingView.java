@@ -0,0 +1,83 @@
+package com.cagst.swkroa.report;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Properties;
+
+import net.sf.jasperreports.engine.JRParameter;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.servlet.view.AbstractView;
+
+/**
+ * A {@link org.springframework.web.servlet.View} that fills a report using the {@link ReportService} and writes
+ * the export straight to the servlet output stream as it is generated.
+ *
+ * Unlike the Spring Jasper views the exported report is not buffered in memory first, so the response has no
+ * Content-Length and is sent chunked.
+ *
+ * @author Craig Gaskill
+ */
+public final class JasperReportsStreamingView extends AbstractView {
+  private final ReportService reportService;
+  private final String template;
+  private final ReportFormat format;
+
+  private Properties headers = new Properties();
+
+  /**
+   * Primary Constructor used to create an instance of <i>JasperReportsStreamingView</i>.
+   *
+   * @param reportService
+   *    The {@link ReportService} used to fill and export the report.
+   * @param template
+   *    A {@link String} that represents the location on the classpath of the Jasper Report to use.
+   * @param format
+   *    The {@link ReportFormat} to export the report as.
+   */
+  public JasperReportsStreamingView(final ReportService reportService,
+                                    final String template,
+                                    final ReportFormat format) {
+
+    this.reportService = reportService;
+    this.template = template;
+    this.format = format;
+
+    setContentType(format.getMediaType().toString());
+  }
+
+  /**
+   * Specifies the HTTP headers (such as Content-Disposition) to add to the response.
+   *
+   * @param headers
+   *    The {@link Properties} that define the headers to add to the response.
+   */
+  public void setHeaders(final Properties headers) {
+    this.headers = headers;
+  }
+
+  @Override
+  protected boolean generatesDownloadContent() {
+    return true;
+  }
+
+  @Override
+  protected void renderMergedOutputModel(Map<String, Object> model,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) throws Exception {
+
+    if (!model.containsKey(JRParameter.REPORT_LOCALE)) {
+      model.put(JRParameter.REPORT_LOCALE, RequestContextUtils.getLocale(request));
+    }
+
+    for (String name : headers.stringPropertyNames()) {
+      response.setHeader(name, headers.getProperty(name));
+    }
+
+    response.setContentType(getContentType());
+
+    ServletOutputStream output = response.getOutputStream();
+    reportService.exportReport(template, format, model, output);
+  }
+}
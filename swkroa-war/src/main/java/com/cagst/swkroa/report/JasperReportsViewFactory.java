@@ -1,16 +1,12 @@
 package com.cagst.swkroa.report;
 
-import javax.servlet.http.HttpServletRequest;
-import javax.sql.DataSource;
 import java.util.Properties;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
-import org.springframework.web.context.WebApplicationContext;
-import org.springframework.web.context.support.WebApplicationContextUtils;
-import org.springframework.web.servlet.view.jasperreports.AbstractJasperReportsView;
+import org.springframework.web.servlet.View;
 
 /**
  * Factory that will return a ...
@@ -28,14 +24,12 @@ public class JasperReportsViewFactory {
   public static final String REPORT_FORMAT_PDF = "pdf";
   public static final String REPORT_FORMAT_CSV = "csv";
 
-  public static AbstractJasperReportsView getJasperReportsView(final HttpServletRequest request,
-                                                               final DataSource dataSource,
-                                                               final String reportUrl,
-                                                               final String reportFormat,
-                                                               final String reportFilename) {
+  public static View getJasperReportsView(final ReportService reportService,
+                                          final String reportUrl,
+                                          final String reportFormat,
+                                          final String reportFilename) {
 
-    Assert.notNull(request, "Assertion Failed - argument [request] cannot be null");
-    Assert.notNull(dataSource, "Assertion Failed - argument [dataSource] cannot be null");
+    Assert.notNull(reportService, "Assertion Failed - argument [reportService] cannot be null");
     Assert.hasText(reportUrl, "Assertion Failed - argument [reportUrl] cannot be null or empty");
 
     String format = StringUtils.isEmpty(reportFilename) ? REPORT_FORMAT_PDF : reportFormat;
@@ -45,21 +39,16 @@ public class JasperReportsViewFactory {
     availableHeaders.put("csv", "inline; filename=" + reportFilename + ".csv");
     availableHeaders.put("pdf", "inline; filename=" + reportFilename + ".pdf");
 
-    AbstractJasperReportsView view;
+    JasperReportsStreamingView view;
     if (REPORT_FORMAT_PDF.equals(format)) {
-      view = new JasperReportsPdfClasspathView(reportUrl);
+      view = new JasperReportsStreamingView(reportService, reportUrl, ReportFormat.PDF);
     } else if (REPORT_FORMAT_CSV.equals(format)) {
-      view = new JasperReportsCsvClasspathView(reportUrl);
+      view = new JasperReportsStreamingView(reportService, reportUrl, ReportFormat.CSV);
     } else {
       LOGGER.error("Unsupported report format [{}]", format);
       return null;
     }
 
-    WebApplicationContext appCtx = WebApplicationContextUtils.getWebApplicationContext(request.getSession().getServletContext());
-
-    view.setJdbcDataSource(dataSource);
-    view.setApplicationContext(appCtx);
-
     if (StringUtils.isNotBlank(reportFormat)) {
       Properties headers = new Properties();
       headers.put(HEADER_CONTENT_DISPOSITION, availableHeaders.get(format));
@@ -0,0 +1,79 @@
+package com.cagst.swkroa.security;
+
+import com.cagst.swkroa.user.User;
+import com.cagst.swkroa.user.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authenticates users against the {@link UserService} and, once a user has been authenticated, transparently re-hashes
+ * their password if it was hashed using a different work factor than the {@link AdaptivePasswordEncoder} currently
+ * uses (the raw password is only at hand while signing in).
+ *
+ * Passwords are checked by the {@link PasswordHashingService}, if it is too busy to check the password the sign-in
+ * fails (as an authentication service failure) rather than waiting.
+ *
+ * @author Craig Gaskill
+ */
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+  private static final Logger LOGGER = LoggerFactory.getLogger(RehashingAuthenticationProvider.class);
+
+  private final UserService userService;
+  private final AdaptivePasswordEncoder adaptiveEncoder;
+
+  /**
+   * Primary Constructor used to create an instance of <i>RehashingAuthenticationProvider</i>.
+   *
+   * @param userService
+   *     The {@link UserService} to use to retrieve / update {@link User Users}.
+   * @param passwordEncoder
+   *     The {@link PasswordHashingService} to use to check user passwords.
+   * @param adaptiveEncoder
+   *     The {@link AdaptivePasswordEncoder} used (by the PasswordHashingService) to hash user passwords, to determine
+   *     whether a password needs to be re-hashed.
+   */
+  public RehashingAuthenticationProvider(final UserService userService,
+                                         final PasswordHashingService passwordEncoder,
+                                         final AdaptivePasswordEncoder adaptiveEncoder) {
+
+    this.userService = userService;
+    this.adaptiveEncoder = adaptiveEncoder;
+
+    setUserDetailsService(userService);
+    setPasswordEncoder(passwordEncoder);
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+    try {
+      return super.authenticate(authentication);
+    } catch (PasswordHashingRejectedException ex) {
+      throw new AuthenticationServiceException(ex.getMessage(), ex);
+    }
+  }
+
+  @Override
+  protected Authentication createSuccessAuthentication(Object principal,
+                                                       Authentication authentication,
+                                                       UserDetails user) {
+
+    if (user instanceof User && authentication.getCredentials() != null
+        && adaptiveEncoder.upgradeEncoding(user.getPassword())) {
+
+      try {
+        userService.rehashPassword((User) user, authentication.getCredentials().toString());
+      } catch (DataAccessException | PasswordHashingRejectedException ex) {
+        // the user has been authenticated, failing to re-hash their password shouldn't prevent them from signing in
+        LOGGER.warn("Unable to re-hash the password for user [{}]: {}", user.getUsername(), ex.getMessage());
+      }
+    }
+
+    return super.createSuccessAuthentication(principal, authentication, user);
+  }
+}
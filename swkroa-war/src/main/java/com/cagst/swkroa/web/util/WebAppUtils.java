@@ -4,10 +4,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
+import com.cagst.swkroa.document.Document;
+import com.cagst.swkroa.document.DocumentRepository;
 import com.cagst.swkroa.user.User;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -91,4 +95,42 @@ public final class WebAppUtils {
 
     response.sendRedirect(response.encodeRedirectURL(redirectTo));
   }
+
+  /**
+   * Will write the specified {@link Document} to the response, streaming its content directly from the
+   * {@link DocumentRepository} rather than holding it in memory.
+   *
+   * @param documentRepository
+   *     The {@link DocumentRepository} to retrieve the Document from.
+   * @param documentId
+   *     A {@link long} that uniquely identifies the Document to write.
+   * @param response
+   *     The current {@link HttpServletResponse}.
+   *
+   * @throws IOException
+   */
+  public static void writeDocument(DocumentRepository documentRepository, long documentId,
+                                   HttpServletResponse response) throws IOException {
+
+    Document document = documentRepository.getDocumentByUID(documentId);
+    if (document == null) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    MediaType mediaType;
+    try {
+      mediaType = MediaType.parseMediaType(document.getDocumentFormat());
+    } catch (InvalidMediaTypeException ex) {
+      LOGGER.warn("Unable to parse document format [{}] as media type.", document.getDocumentFormat());
+
+      mediaType = MediaType.ALL;
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(mediaType.toString());
+
+    documentRepository.streamDocumentContent(document, response.getOutputStream());
+    response.flushBuffer();
+  }
 }
@@ -1,6 +1,10 @@
 package com.cagst.swkroa.controller.api;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,11 +15,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.function.Consumer;
 
 import com.cagst.swkroa.LoadingPolicy;
 import com.cagst.swkroa.member.Membership;
+import com.cagst.swkroa.member.MembershipBalance;
 import com.cagst.swkroa.member.MembershipService;
+import com.cagst.swkroa.member.Status;
 import com.cagst.swkroa.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -25,9 +34,11 @@ import org.junit.runners.JUnit4;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -105,4 +116,36 @@ public class MembershipApiControllerTest {
 
     verify(membershipService, times(1)).saveMembership(membership, user);
   }
+
+  /**
+   * Test the getMemberships GET method (a page at a time) failing part-way through a page, the response must not be
+   * a complete (valid) page.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testGetMemberships_Paged_Failed() throws Exception {
+    Membership membership = new Membership();
+    membership.setMembershipUID(123);
+
+    when(membershipService.getMemberships(eq(Status.ACTIVE), eq(MembershipBalance.ALL), any(), anyInt(), any()))
+        .thenAnswer(invocation -> {
+          ((Consumer<Membership>) invocation.getArguments()[4]).accept(membership);
+          throw new DataAccessResourceFailureException("connection lost");
+        });
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      membershipController.getMemberships(10, null, null, null, response);
+      fail("Ensure the failure reaches the client.");
+    } catch (DataAccessResourceFailureException ex) {
+      assertEquals("Ensure it is the failure.", "connection lost", ex.getMessage());
+    }
+
+    try {
+      new ObjectMapper().readTree(response.getContentAsString());
+      fail("Ensure the page wasn't completed.");
+    } catch (JsonProcessingException ex) {
+      // expected, the JSON is incomplete
+    }
+  }
 }